@@ -0,0 +1,151 @@
+package com.jaiPatel.aisearch.UI;
+
+import com.jaiPatel.aisearch.graph.GraphView;
+import com.jaiPatel.aisearch.graph.Node;
+import javafx.application.Platform;
+
+import java.util.Arrays;
+
+/**
+ * Base class of the visualizers that keeps the search state of every node by node id.
+ * <p>
+ * Two byte arrays hold the state last shown and the state to show next.
+ * {@link #setNodeState(int, byte)} only records the new state and queues the node if it is not
+ * queued yet. {@link #flush()} passes each queued node whose state really changed to
+ * {@link #applyState(int, byte, byte)}, so a node touched several times between flushes is
+ * redrawn at most once. Subclasses only draw the state of a node.
+ */
+public abstract class AbstractSearchVisualizer implements SearchVisualizer {
+    /** The graph shown by the visualizer. */
+    protected final GraphView graph;
+
+    /** State currently shown per node id; FX thread only. */
+    private final byte[] shownState;
+    /** State to show at the next {@link #flush()} per node id; FX thread only. */
+    private final byte[] nodeState;
+    /** Whether a node id is in {@link #dirty}. */
+    private final boolean[] queued;
+    /** Ids of the nodes whose state may have changed since the last flush. */
+    private final int[] dirty;
+    private int dirtyCount;
+
+    /**
+     * Creates the state arrays for every node of a graph.
+     *
+     * @param graph The graph to visualize
+     */
+    protected AbstractSearchVisualizer(GraphView graph) {
+        this.graph = graph;
+        int n = graph.nodeCount();
+        this.shownState = new byte[n];
+        this.nodeState = new byte[n];
+        this.queued = new boolean[n];
+        this.dirty = new int[n];
+    }
+
+    /**
+     * Draws the new state of a node. Called by {@link #flush()} on the FX thread for each node
+     * whose state changed since the last flush.
+     *
+     * @param id       The node id
+     * @param oldState The state shown until now
+     * @param state    The state to show
+     */
+    protected abstract void applyState(int id, byte oldState, byte state);
+
+    /**
+     * Called at the end of every {@link #flush()}, after the changed nodes were applied. Does
+     * nothing by default.
+     *
+     * @param changed The number of nodes whose state changed
+     */
+    protected void flushed(int changed) {
+    }
+
+    @Override
+    public final void setNodeState(int id, byte state) {
+        nodeState[id] = state;
+        if (!queued[id]) {
+            queued[id] = true;
+            dirty[dirtyCount++] = id;
+        }
+    }
+
+    @Override
+    public final void setNodeState(Node node, byte state) {
+        int id = graph.idOf(node);
+        if (id >= 0) setNodeState(id, state);
+    }
+
+    @Override
+    public final byte getNodeState(int id) {
+        return nodeState[id];
+    }
+
+    /**
+     * Returns the state a node is currently shown with.
+     *
+     * @param id The node id
+     * @return The node state as of the last {@link #flush()}
+     */
+    protected final byte shownState(int id) {
+        return shownState[id];
+    }
+
+    /**
+     * Sets every node back to {@link #NONE}, as after a search reset. Touches every node once;
+     * nodes that already have no state are not redrawn. Must be called on the FX thread.
+     */
+    @Override
+    public final void clearNodeStates() {
+        for (int id = 0; id < nodeState.length; id++) {
+            if (nodeState[id] != NONE) setNodeState(id, NONE);
+        }
+    }
+
+    /**
+     * Applies the states that changed since the last flush. Nodes that were changed and changed
+     * back are skipped. Must be called on the FX thread.
+     *
+     * @return The number of nodes whose state changed
+     */
+    @Override
+    public final int flush() {
+        int changed = 0;
+        for (int i = 0; i < dirtyCount; i++) {
+            int id = dirty[i];
+            queued[id] = false;
+            byte state = nodeState[id];
+            byte old = shownState[id];
+            if (state == old) continue;
+            shownState[id] = state;
+            applyState(id, old, state);
+            changed++;
+        }
+        dirtyCount = 0;
+        flushed(changed);
+        return changed;
+    }
+
+    /**
+     * Sets the shown and pending state of every node to {@link #NONE} without drawing anything and
+     * drops the queued nodes. Used by {@link #resetGraph()}, which redraws the whole view. Must be
+     * called on the FX thread.
+     */
+    protected final void resetStates() {
+        Arrays.fill(nodeState, NONE);
+        Arrays.fill(shownState, NONE);
+        Arrays.fill(queued, false);
+        dirtyCount = 0;
+    }
+
+    /**
+     * Runs an action on the FX thread: right away if called on it, later otherwise.
+     *
+     * @param action The action to run
+     */
+    protected static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) action.run();
+        else Platform.runLater(action);
+    }
+}
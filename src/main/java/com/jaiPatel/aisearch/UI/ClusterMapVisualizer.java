@@ -0,0 +1,331 @@
+package com.jaiPatel.aisearch.UI;
+
+import com.jaiPatel.aisearch.graph.GraphView;
+import com.jaiPatel.aisearch.graph.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Draws large general graphs, such as imported road networks, at a level of detail that follows
+ * the zoom, without a force-directed layout.
+ * <p>
+ * Nodes are placed at their geographic position and grouped by a {@link NodeQuadtree}. A redraw
+ * walks the quadtree from the root and skips cells outside the view. A cell that is smaller than
+ * {@value #CLUSTER_PX} pixels on screen is drawn as one cluster. Its color is a heat map of
+ * the fraction of its nodes that are explored or on the frontier. Larger cells are refined into
+ * their children, down to leaves, whose nodes and edges are drawn individually. The cost of a
+ * redraw is therefore bounded by the number of visible clusters and leaves, not by the size of the
+ * graph. The current node, the goal and the solution path are drawn on top at every zoom level.
+ * <p>
+ * Node states are tracked by {@link AbstractSearchVisualizer} and applied by {@link #flush()} once
+ * per frame, like in the other visualizers. Applying a state updates the cluster counts along the path to the quadtree
+ * root. The view zooms with the mouse wheel around the cursor, pans by dragging, and fits the whole
+ * graph on a double click.
+ */
+public class ClusterMapVisualizer extends AbstractSearchVisualizer {
+    /** Cells smaller than this on screen, in pixels, are drawn as one cluster. */
+    public static final double CLUSTER_PX = 40;
+
+    private static final double NODE_RADIUS = 3;
+    private static final double MAX_ZOOM_FACTOR = 1e6;
+    private static final Color BACKGROUND = Color.WHITE;
+    private static final Color EDGE = Color.LIGHTGRAY;
+    private static final Color UNTOUCHED_COLOR = Color.CORNFLOWERBLUE;
+    private static final Color EXPLORED_COLOR = Color.LIGHTGREEN;
+    private static final Color FRONTIER_COLOR = Color.YELLOW;
+    /** Node color per node state. */
+    private static final Color[] STATE_COLORS = {
+            UNTOUCHED_COLOR, FRONTIER_COLOR, EXPLORED_COLOR, Color.ORANGE, Color.RED, Color.GREY, Color.PURPLE
+    };
+
+    /** Spatial clusters with search-state counts. */
+    private final NodeQuadtree tree;
+
+    /** Nodes drawn on top at every zoom level, or -1. */
+    private int currentId = -1, goalId = -1;
+    /** Node ids of the highlighted path, or null. */
+    private int[] pathIds;
+
+    // created by getView(); null when used without a view
+    private Canvas canvas;
+    private Pane pane;
+
+    /** Pixels per coordinate unit and the position at the top-left corner of the view. */
+    private double scale = Double.NaN, left, top;
+    private double dragX, dragY;
+
+    // redraw scratch
+    private final int[] stack = new int[3 * NodeQuadtree.MAX_DEPTH + 4];
+    private int[] leaves = new int[256];
+    private final int[] neighborIds;
+    private final double[] neighborCosts;
+
+    /**
+     * Constructs a visualizer for a graph with node coordinates.
+     *
+     * @param graph The graph to visualize; see {@link #supports(GraphView)}
+     * @throws IllegalArgumentException If the nodes have no usable coordinates
+     */
+    public ClusterMapVisualizer(GraphView graph) {
+        super(requireCoordinates(graph));
+        this.tree = new NodeQuadtree(graph);
+        neighborIds = new int[graph.maxDegree()];
+        neighborCosts = new double[neighborIds.length];
+    }
+
+    /**
+     * Checks whether the nodes of a graph can be placed by their coordinates, i.e. whether they
+     * do not all share one position.
+     *
+     * @param graph The graph to check
+     * @return True if the graph can be drawn as a map
+     */
+    public static boolean supports(GraphView graph) {
+        int n = graph.nodeCount();
+        for (int id = 1; id < n; id++) {
+            if (graph.getX(id) != graph.getX(0) || graph.getY(id) != graph.getY(0)) return true;
+        }
+        return false;
+    }
+
+    private static GraphView requireCoordinates(GraphView graph) {
+        if (!supports(graph)) {
+            throw new IllegalArgumentException("Graph nodes have no coordinates to place them by");
+        }
+        return graph;
+    }
+
+    @Override
+    public Pane getView() {
+        if (pane != null) return pane;
+        canvas = new Canvas();
+        pane = new Pane(canvas);
+        pane.setMinSize(600, 600);
+        canvas.widthProperty().bind(pane.widthProperty());
+        canvas.heightProperty().bind(pane.heightProperty());
+        canvas.widthProperty().addListener((obs, ov, nv) -> redraw());
+        canvas.heightProperty().addListener((obs, ov, nv) -> redraw());
+
+        pane.setOnScroll(e -> zoom(Math.pow(1.0015, e.getDeltaY()), e.getX(), e.getY()));
+        pane.setOnMousePressed(e -> {
+            dragX = e.getX();
+            dragY = e.getY();
+        });
+        pane.setOnMouseDragged(e -> {
+            if (Double.isNaN(scale)) return;
+            left -= (e.getX() - dragX) / scale;
+            top += (e.getY() - dragY) / scale;
+            dragX = e.getX();
+            dragY = e.getY();
+            redraw();
+        });
+        pane.setOnMouseClicked(e -> {
+            if (e.getClickCount() == 2) {
+                scale = Double.NaN;
+                redraw();
+            }
+        });
+        return pane;
+    }
+
+    /**
+     * Zooms the view, keeping the given screen point in place.
+     *
+     * @param factor  Zoom factor, above 1 to zoom in
+     * @param screenX Screen x-coordinate of the fixed point
+     * @param screenY Screen y-coordinate of the fixed point
+     */
+    public void zoom(double factor, double screenX, double screenY) {
+        if (Double.isNaN(scale)) return;
+        double fit = fitScale();
+        double newScale = Math.max(fit / 2, Math.min(fit * MAX_ZOOM_FACTOR, scale * factor));
+        left += screenX / scale - screenX / newScale;
+        top -= screenY / scale - screenY / newScale;
+        scale = newScale;
+        redraw();
+    }
+
+    /** Scale at which the whole graph fits the view. */
+    private double fitScale() {
+        double side = tree.size[0];
+        return Math.min(canvas.getWidth(), canvas.getHeight()) / side;
+    }
+
+    private double screenX(double x) {
+        return (x - left) * scale;
+    }
+
+    private double screenY(double y) {
+        return (top - y) * scale;
+    }
+
+    /**
+     * Redraws the view: clusters and individual nodes for the visible part of the graph, then
+     * the path, the current node and the goal.
+     *
+     * @return The number of clusters and nodes drawn
+     */
+    public int redraw() {
+        if (canvas == null) return 0;
+        double w = canvas.getWidth(), h = canvas.getHeight();
+        if (w <= 0 || h <= 0) return 0;
+        if (Double.isNaN(scale)) {
+            scale = fitScale();
+            double side = tree.size[0];
+            left = tree.minX[0] + side / 2 - w / 2 / scale;
+            top = tree.minY[0] + side / 2 + h / 2 / scale;
+        }
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, w, h); // also drops the commands of earlier redraws not yet rendered
+        gc.setFill(BACKGROUND);
+        gc.fillRect(0, 0, w, h);
+
+        // visible area in coordinates
+        double x0 = left, x1 = left + w / scale, y1 = top, y0 = top - h / scale;
+        int drawn = 0, leafCount = 0, sp = 0;
+        stack[sp++] = 0;
+        while (sp > 0) {
+            int c = stack[--sp];
+            int count = tree.count(c);
+            double side = tree.size[c];
+            if (count == 0 || tree.minX[c] > x1 || tree.minX[c] + side < x0
+                    || tree.minY[c] > y1 || tree.minY[c] + side < y0) {
+                continue;
+            }
+            if (side * scale < CLUSTER_PX && count > 1) {
+                drawCluster(gc, c);
+                drawn++;
+            } else if (tree.firstChild[c] < 0) {
+                if (leafCount == leaves.length) leaves = Arrays.copyOf(leaves, leafCount * 2);
+                leaves[leafCount++] = c;
+            } else {
+                for (int q = 3; q >= 0; q--) stack[sp++] = tree.firstChild[c] + q;
+            }
+        }
+
+        // refined leaves: edges first, then nodes on top
+        gc.setStroke(EDGE);
+        gc.setLineWidth(1);
+        for (int i = 0; i < leafCount; i++) {
+            int c = leaves[i];
+            for (int k = tree.start[c]; k < tree.end[c]; k++) {
+                int id = tree.order[k];
+                double sx = screenX(tree.px[id]), sy = screenY(tree.py[id]);
+                for (int e = 0, degree = graph.neighbors(id, neighborIds, neighborCosts); e < degree; e++) {
+                    int to = neighborIds[e];
+                    gc.strokeLine(sx, sy, screenX(tree.px[to]), screenY(tree.py[to]));
+                }
+            }
+        }
+        for (int i = 0; i < leafCount; i++) {
+            int c = leaves[i];
+            for (int k = tree.start[c]; k < tree.end[c]; k++) {
+                int id = tree.order[k];
+                drawNode(gc, id, STATE_COLORS[shownState(id)], NODE_RADIUS);
+                drawn++;
+            }
+        }
+
+        // overlays
+        if (pathIds != null && pathIds.length > 1) {
+            gc.setStroke(Color.PURPLE);
+            gc.setLineWidth(3);
+            gc.beginPath();
+            gc.moveTo(screenX(tree.px[pathIds[0]]), screenY(tree.py[pathIds[0]]));
+            for (int i = 1; i < pathIds.length; i++) {
+                gc.lineTo(screenX(tree.px[pathIds[i]]), screenY(tree.py[pathIds[i]]));
+            }
+            gc.stroke();
+        }
+        if (currentId >= 0) drawNode(gc, currentId, Color.ORANGE, 2 * NODE_RADIUS);
+        if (goalId >= 0) drawNode(gc, goalId, Color.RED, 2 * NODE_RADIUS);
+        return drawn;
+    }
+
+    /** Draws a cluster at its centroid, sized by node count and colored by search-state heat. */
+    private void drawCluster(GraphicsContext gc, int c) {
+        int count = tree.count(c);
+        double explored = (double) tree.explored[c] / count, frontier = (double) tree.frontier[c] / count;
+        double untouched = Math.max(0, 1 - explored - frontier);
+        gc.setFill(Color.color(
+                mix(untouched, UNTOUCHED_COLOR.getRed(), explored, EXPLORED_COLOR.getRed(), frontier, FRONTIER_COLOR.getRed()),
+                mix(untouched, UNTOUCHED_COLOR.getGreen(), explored, EXPLORED_COLOR.getGreen(), frontier, FRONTIER_COLOR.getGreen()),
+                mix(untouched, UNTOUCHED_COLOR.getBlue(), explored, EXPLORED_COLOR.getBlue(), frontier, FRONTIER_COLOR.getBlue())));
+        double r = Math.min(CLUSTER_PX / 2, NODE_RADIUS + 1.5 * Math.log(count) / Math.log(2));
+        double sx = screenX(tree.cx[c]), sy = screenY(tree.cy[c]);
+        gc.fillOval(sx - r, sy - r, 2 * r, 2 * r);
+    }
+
+    private static double mix(double w1, double c1, double w2, double c2, double w3, double c3) {
+        return Math.min(1, w1 * c1 + w2 * c2 + w3 * c3);
+    }
+
+    private void drawNode(GraphicsContext gc, int id, Color color, double r) {
+        gc.setFill(color);
+        gc.fillOval(screenX(tree.px[id]) - r, screenY(tree.py[id]) - r, 2 * r, 2 * r);
+    }
+
+    @Override
+    public void resetGraph() {
+        runOnFxThread(() -> {
+            resetStates();
+            currentId = goalId = -1;
+            pathIds = null;
+            tree.clearCounts();
+            redraw();
+        });
+    }
+
+    /**
+     * Moves a node whose state changed between the cluster counts and tracks the current node and
+     * the goal. Called by {@link #flush()} on the FX thread.
+     */
+    @Override
+    protected void applyState(int id, byte oldState, byte state) {
+        tree.move(id, category(oldState), category(state));
+        if (state == CURRENT) currentId = id;
+        else if (currentId == id) currentId = -1;
+        if (state == GOAL) goalId = id;
+        else if (goalId == id) goalId = -1;
+    }
+
+    /** Redraws the view if a node changed. */
+    @Override
+    protected void flushed(int changed) {
+        if (changed > 0) redraw();
+    }
+
+    private static int category(byte state) {
+        return switch (state) {
+            case VISITED, CURRENT, PATH -> NodeQuadtree.EXPLORED;
+            case FRONTIER -> NodeQuadtree.FRONTIER;
+            default -> NodeQuadtree.OTHER;
+        };
+    }
+
+    @Override
+    public void highlightPath(List<Node> path) {
+        if (path == null || path.size() < 2) return;
+        runOnFxThread(() -> {
+            int[] ids = new int[path.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = graph.idOf(path.get(i));
+                setNodeState(ids[i], PATH);
+            }
+            setNodeState(ids[ids.length - 1], GOAL);
+            pathIds = ids;
+            if (flush() == 0) redraw();
+        });
+    }
+
+    @Override
+    public void dispose() {
+        pane = null;
+        canvas = null;
+    }
+}
@@ -0,0 +1,191 @@
+package com.jaiPatel.aisearch.UI;
+
+import com.jaiPatel.aisearch.graph.GraphView;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Screen positions of the nodes of a graph, computed by a force-directed layout and cached on disk.
+ * <p>
+ * A layout is keyed by the {@link GraphView#fingerprint() fingerprint} of the graph's node names
+ * and edges, so reopening the same dataset or regenerating a graph with the same parameters finds
+ * the layout again. Layouts are stored in a cache directory, one file per fingerprint, and a file
+ * is only applied to a graph with the same node count and fingerprint. The default directory is
+ * {@code layout-cache} in the working directory and can be changed with the
+ * {@code aisearch.layoutCache} system property.
+ */
+public final class GraphLayout {
+
+    /** File header, "LAY1". */
+    private static final int MAGIC = 0x4C415931;
+
+    private final int nodeCount;
+    private final long fingerprint;
+    /** Position per node id. */
+    private final float[] xs, ys;
+
+    private GraphLayout(int nodeCount, long fingerprint, float[] xs, float[] ys) {
+        this.nodeCount = nodeCount;
+        this.fingerprint = fingerprint;
+        this.xs = xs;
+        this.ys = ys;
+    }
+
+    /**
+     * Creates a layout for a graph from node positions.
+     *
+     * @param graph The graph the positions belong to
+     * @param xs    X-coordinate per node id
+     * @param ys    Y-coordinate per node id
+     * @return The layout
+     * @throws IllegalArgumentException If the arrays do not have one entry per node
+     */
+    public static GraphLayout of(GraphView graph, float[] xs, float[] ys) {
+        if (xs.length != graph.nodeCount() || ys.length != graph.nodeCount()) {
+            throw new IllegalArgumentException("Layout needs one position per node");
+        }
+        return new GraphLayout(graph.nodeCount(), graph.fingerprint(), xs, ys);
+    }
+
+    /**
+     * Returns the x-coordinate of a node.
+     *
+     * @param id The node id
+     * @return The x-coordinate
+     */
+    public double x(int id) {
+        return xs[id];
+    }
+
+    /**
+     * Returns the y-coordinate of a node.
+     *
+     * @param id The node id
+     * @return The y-coordinate
+     */
+    public double y(int id) {
+        return ys[id];
+    }
+
+    /**
+     * Checks whether this layout was computed for a graph with the same nodes and edges.
+     *
+     * @param graph The graph to check
+     * @return True if the layout's positions apply to the graph
+     */
+    public boolean isBuiltFor(GraphView graph) {
+        return graph.nodeCount() == nodeCount && graph.fingerprint() == fingerprint;
+    }
+
+    // === cache ===
+
+    /**
+     * Returns the default cache directory.
+     *
+     * @return The directory named by the {@code aisearch.layoutCache} property, or {@code layout-cache}
+     */
+    public static Path defaultCacheDir() {
+        return Path.of(System.getProperty("aisearch.layoutCache", "layout-cache"));
+    }
+
+    /**
+     * Returns the cache file for a graph.
+     *
+     * @param cacheDir The cache directory
+     * @param graph    The graph
+     * @return The file its layout is stored in
+     */
+    public static Path cacheFile(Path cacheDir, GraphView graph) {
+        return cacheDir.resolve(String.format("%016x.layout", graph.fingerprint()));
+    }
+
+    /**
+     * Loads the cached layout of a graph.
+     *
+     * @param cacheDir The cache directory
+     * @param graph    The graph
+     * @return The layout, or null if none is cached or the cache file cannot be used
+     */
+    public static GraphLayout load(Path cacheDir, GraphView graph) {
+        try {
+            return read(cacheFile(cacheDir, graph), graph);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.err.println("⚠️ Ignoring layout cache: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stores this layout in a cache directory, creating the directory if needed. The file is
+     * written under a temporary name and then moved into place, so readers never see a partial file.
+     *
+     * @param cacheDir The cache directory
+     * @return The cache file
+     * @throws IOException If writing fails
+     */
+    public Path save(Path cacheDir) throws IOException {
+        Files.createDirectories(cacheDir);
+        Path file = cacheDir.resolve(String.format("%016x.layout", fingerprint));
+        Path tmp = Files.createTempFile(cacheDir, "layout", ".tmp");
+        try {
+            write(tmp);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return file;
+    }
+
+    // === persistence ===
+
+    /**
+     * Writes this layout to a file.
+     *
+     * @param file The file to write
+     * @throws IOException If writing fails
+     */
+    public void write(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Integer.BYTES + Long.BYTES + 8 * nodeCount);
+        buffer.putInt(MAGIC).putInt(nodeCount).putLong(fingerprint);
+        buffer.asFloatBuffer().put(xs).put(ys);
+        Files.write(file, buffer.array());
+    }
+
+    /**
+     * Reads a layout written by {@link #write} and checks that it belongs to the given graph.
+     *
+     * @param file  The file to read
+     * @param graph The graph the layout will be used on
+     * @return The layout
+     * @throws IOException If reading fails, the file is not a layout, or it was computed for another graph
+     */
+    public static GraphLayout read(Path file, GraphView graph) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a layout file: " + file);
+            }
+            int nodeCount = buffer.getInt();
+            long fingerprint = buffer.getLong();
+            float[] xs = new float[nodeCount];
+            float[] ys = new float[nodeCount];
+            buffer.asFloatBuffer().get(xs).get(ys);
+
+            GraphLayout layout = new GraphLayout(nodeCount, fingerprint, xs, ys);
+            if (!layout.isBuiltFor(graph)) {
+                throw new IOException("Layout " + file + " was computed for a different graph");
+            }
+            return layout;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Truncated layout file: " + file, e);
+        }
+    }
+}
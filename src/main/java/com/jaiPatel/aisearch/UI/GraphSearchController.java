@@ -9,14 +9,12 @@ import com.jaiPatel.aisearch.graph.GraphLoaderSet1;
 import com.jaiPatel.aisearch.graph.GraphLoaderSet2;
 import com.jaiPatel.aisearch.graph.Node;
 import com.jaiPatel.aisearch.heuristics.*;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.BorderPane;
-import javafx.util.Duration;
-import org.graphstream.ui.fx_viewer.FxViewPanel;
+import javafx.scene.layout.Region;
 
 import java.nio.file.Paths;
 import java.util.Objects;
@@ -25,17 +23,37 @@ public class GraphSearchController {
 
     private Graph graph;
     private SearchAlgorithm algorithm;
-    private GraphStreamVisualizer visualizer;
+    private SearchVisualizer visualizer;
+
+    /** Graphs with more nodes than this are drawn on a canvas instead of with GraphStream. */
+    private static final int CANVAS_MIN_NODES = 2_500;
 
     private final SearchControlsPanel controls = new SearchControlsPanel();
-    private Timeline timeline;
+
+    /** Time per frame spent applying search steps, leaving the rest of a 60 Hz frame for rendering. */
+    private static final long FRAME_BUDGET_NANOS = 8_000_000;
+
+    // Search running on a background thread, drained into the view once per frame
+    private AnimationTimer animation;
+    private boolean animating;
+    private boolean skipToEnd;
+    /** A Step click waiting for the search thread to buffer its step; applied by the frame loop. */
+    private boolean stepPending;
+    private Thread searchThread;
+    private CancellationToken cancellation;
+    private SearchObserverImpl observer;
+    private boolean playbackDone;
+
+    // Shared so landmark tables are only rebuilt when the graph changes
+    private final LandmarkHeuristic landmarkHeuristic = new LandmarkHeuristic();
 
     /**
      * Creates and returns the main UI for graph search visualization and control.
      * <p>
      * Sets up the graph visualizer, control panel, and event handlers for all UI controls.
      * Wires up algorithm selection, start/goal node pickers, play/pause/step/restart buttons,
-     * graph generation, and batch benchmark execution. Also configures the timeline for animation speed.
+     * graph generation, and batch benchmark execution. Also configures the animation timer that
+     * shows the search steps frame by frame.
      *
      * @param graph            The initial graph to visualize and search
      * @param defaultAlgorithm The default search algorithm to use
@@ -44,7 +62,7 @@ public class GraphSearchController {
     public BorderPane createUI(Graph graph, SearchAlgorithm defaultAlgorithm) {
         this.graph = graph;
         this.algorithm = defaultAlgorithm;
-        this.visualizer = new GraphStreamVisualizer(graph);
+        this.visualizer = createVisualizer(graph);
 
         BorderPane root = new BorderPane();
         root.setCenter(visualizer.getView());
@@ -59,27 +77,33 @@ public class GraphSearchController {
         // buttons
         controls.playButton.setOnAction(e -> {
             if (!ensureStartGoal()) return;
-            if (timeline == null || timeline.getStatus() == Timeline.Status.STOPPED) {
-                startSearch();
-            }
-            timeline.play();
+            if (observer == null || playbackDone) startSearch();
+            skipToEnd = false;
+            stepPending = false;
+            startAnimation();
         });
 
-        controls.pauseButton.setOnAction(e -> {
-            if (timeline != null) timeline.pause();
-        });
+        controls.pauseButton.setOnAction(e -> stopAnimation());
 
         controls.stepButton.setOnAction(e -> {
             if (!ensureStartGoal()) return;
-            if (timeline == null || timeline.getStatus() == Timeline.Status.STOPPED) {
-                startSearch();
-                timeline.pause();
-            }
-            runStep();
+            stopAnimation();
+            if (observer == null || playbackDone) startSearch();
+            // never wait on the FX thread: the frame loop applies the step once it is buffered
+            stepPending = true;
+            startAnimation();
+        });
+
+        controls.skipButton.setOnAction(e -> {
+            if (!ensureStartGoal()) return;
+            if (observer == null || playbackDone) startSearch();
+            skipToEnd = true;
+            stepPending = false;
+            startAnimation();
         });
 
         controls.restartButton.setOnAction(e -> {
-            if (timeline != null) timeline.stop();
+            stopSearch();
             visualizer.resetGraph();
             controls.resetMetrics();
         });
@@ -91,8 +115,8 @@ public class GraphSearchController {
         controls.runBenchmarkButton.setOnAction(e -> {runBatchBenchmark();
         });
 
-        // speed slider
-        setupTimeline();
+        // frame loop; the speed slider is read every frame
+        setupAnimation();
 
         // heuristic dropdown enabled only for A*/Best-First
         selectAlgorithm();
@@ -100,19 +124,39 @@ public class GraphSearchController {
         return root;
     }
 
-    private void setupTimeline() {
-        timeline = new Timeline();
-        timeline.setCycleCount(Timeline.INDEFINITE);
+    private void setupAnimation() {
+        animation = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (stepPending) {
+                    if (observer == null || observer.stepOnce()) {
+                        playbackDone = observer != null && observer.isFinished();
+                        stopAnimation();
+                    }
+                    return;
+                }
+                int steps = skipToEnd ? Integer.MAX_VALUE : controls.stepsPerFrame();
+                if (observer == null || observer.drain(steps, FRAME_BUDGET_NANOS)) {
+                    playbackDone = observer != null;
+                    stopAnimation();
+                }
+            }
+        };
+    }
 
-        KeyFrame frame = new KeyFrame(Duration.millis(controls.speedSlider.getValue()), e -> runStep());
-        timeline.getKeyFrames().setAll(frame);
+    private void startAnimation() {
+        if (!animating) {
+            animating = true;
+            animation.start();
+        }
+    }
 
-        controls.speedSlider.valueProperty().addListener((obs, ov, nv) -> {
-            boolean running = timeline.getStatus() == Timeline.Status.RUNNING;
-            timeline.stop();
-            timeline.getKeyFrames().setAll(new KeyFrame(Duration.millis(nv.doubleValue()), e -> runStep()));
-            if (running) timeline.play();
-        });
+    private void stopAnimation() {
+        stepPending = false;
+        if (animating) {
+            animating = false;
+            animation.stop();
+        }
     }
 
     private void selectAlgorithm() {
@@ -138,6 +182,22 @@ public class GraphSearchController {
                 controls.heuristicBox.setDisable(false);
                 algorithm = new AStarSearch(getSelectedHeuristic());
             }
+            case "Bidirectional Dijkstra" -> {
+                algorithm = new BidirectionalDijkstra();
+                controls.heuristicBox.setDisable(true);
+            }
+            case "Bidirectional A*" -> {
+                controls.heuristicBox.setDisable(false);
+                algorithm = new BidirectionalAStar(getSelectedHeuristic());
+            }
+            case "Jump Point Search" -> {
+                controls.heuristicBox.setDisable(false);
+                algorithm = new JumpPointSearch(getSelectedHeuristic());
+            }
+            case "Contraction Hierarchies" -> {
+                algorithm = new ContractionHierarchySearch();
+                controls.heuristicBox.setDisable(true);
+            }
             default -> showAlert("Unknown algorithm: " + sel);
         }
     }
@@ -146,32 +206,72 @@ public class GraphSearchController {
         return switch (controls.heuristicBox.getValue()) {
             case "Manhattan" -> new ManhattanHeuristic();
             case "Chebyshev" -> new ChebyshevHeuristic();
+            case "Landmarks (ALT)" -> landmarkHeuristic;
             case "Zero (Uninformed)" -> new ZeroHeuristic();
             case "Euclidean" -> new EuclideanHeuristic();
             default -> new EuclideanHeuristic();
         };
     }
 
+    /**
+     * Starts the selected search on a background thread. The thread runs the search as fast as the
+     * observer's bounded buffer allows; the animation timer shows the buffered steps.
+     */
     private void startSearch() {
+        stopSearch();
         Node start = graph.getNode(controls.startBox.getValue());
         Node goal  = graph.getNode(controls.goalBox.getValue());
 
         visualizer.resetGraph();
         controls.statusLabel.setText("Search running...");
 
-        SearchObserverImpl observer = new SearchObserverImpl(visualizer, controls, goal);
-        algorithm.initialize(graph, start, goal, observer);
+        SearchAlgorithm search = algorithm;
+        SearchObserverImpl searchObserver = new SearchObserverImpl(visualizer, controls, goal);
+        cancellation = new CancellationToken();
+        search.setCancellationToken(cancellation);
+        observer = searchObserver;
+        playbackDone = false;
+
+        searchThread = new Thread(() -> {
+            try {
+                search.initialize(graph, start, goal, searchObserver);
+                while (search.step()) {
+                    // steps are delivered to the observer's buffer
+                }
+            } catch (RuntimeException ex) {
+                searchObserver.fail(ex.getMessage());
+                Platform.runLater(() -> {
+                    if (observer != searchObserver) return;
+                    // shows the error in the status label
+                    searchObserver.drain(0, 0);
+                    playbackDone = true;
+                    stopAnimation();
+                });
+                showAlert("Search failed: " + ex.getMessage());
+            }
+        }, "search");
+        searchThread.setDaemon(true);
+        searchThread.start();
     }
 
-    private void runStep() {
-        if (algorithm == null || algorithm.isFinished()) {
-            if (timeline != null) timeline.stop();
-            return;
-        }
-        boolean more = algorithm.step();
-        if (!more || algorithm.isFinished()) {
-            if (timeline != null) timeline.stop();
+    /**
+     * Stops the animation and the running search, if any, and waits for the search thread to
+     * exit so the algorithm can be reused.
+     */
+    private void stopSearch() {
+        stopAnimation();
+        if (cancellation != null) cancellation.cancel();
+        if (observer != null) observer.close();
+        if (searchThread != null) {
+            try {
+                searchThread.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
         }
+        searchThread = null;
+        cancellation = null;
+        observer = null;
     }
 
     private boolean ensureStartGoal() {
@@ -183,7 +283,7 @@ public class GraphSearchController {
     }
 
     private void updateGraph(Graph newGraph, BorderPane root) {
-        if (timeline != null) timeline.stop();
+        stopSearch();
 
         // Dispose old visualizer if it exists
         if (this.visualizer != null) {
@@ -194,8 +294,8 @@ public class GraphSearchController {
 
         // Create a new visualizer and view
         this.graph = newGraph;
-        this.visualizer = new GraphStreamVisualizer(graph);
-        FxViewPanel newView = visualizer.getView();
+        this.visualizer = createVisualizer(graph);
+        Region newView = visualizer.getView();
         root.setCenter(newView);
 
         // ✅ Force layout and refresh
@@ -214,6 +314,19 @@ public class GraphSearchController {
 
 
 
+    /**
+     * Chooses the visualizer for a graph: large grids are painted into a pixel buffer, other large
+     * graphs with coordinates are drawn as level-of-detail clusters, everything else is drawn by
+     * GraphStream.
+     */
+    private static SearchVisualizer createVisualizer(Graph graph) {
+        if (graph.nodeCount() > CANVAS_MIN_NODES) {
+            if (GridCanvasVisualizer.supports(graph)) return new GridCanvasVisualizer(graph);
+            if (ClusterMapVisualizer.supports(graph)) return new ClusterMapVisualizer(graph);
+        }
+        return new GraphStreamVisualizer(graph);
+    }
+
     private void refreshNodePickers() {
         var names = graph.getNodes().stream().map(Node::getName).toList();
         controls.startBox.getItems().setAll(names);
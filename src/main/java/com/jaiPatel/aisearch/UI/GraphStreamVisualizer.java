@@ -1,12 +1,23 @@
 package com.jaiPatel.aisearch.UI;
 
 import com.jaiPatel.aisearch.graph.*;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.application.Platform;
+import javafx.util.Duration;
 import org.graphstream.graph.implementations.SingleGraph;
+import org.graphstream.stream.GraphReplay;
 import org.graphstream.ui.fx_viewer.FxViewer;
 import org.graphstream.ui.fx_viewer.FxViewPanel;
+import org.graphstream.ui.graphicGraph.GraphPosLengthUtils;
+import org.graphstream.ui.graphicGraph.GraphicGraph;
+import org.graphstream.ui.graphicGraph.GraphicNode;
+import org.graphstream.ui.layout.Layout;
 import org.graphstream.ui.layout.springbox.implementations.LinLog;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -14,8 +25,22 @@ import java.util.List;
  * <p>
  * Handles node and edge setup, style configuration, and dynamic updates for search visualization.
  * Supports both grid and general graphs, and provides methods for step-by-step updates and path highlighting.
+ * <p>
+ * GraphStream nodes are held in an array indexed by the graph's int node ids. Node states are
+ * tracked by {@link AbstractSearchVisualizer}; {@link #flush()} restyles the changed nodes once per
+ * frame, so frame time depends on how many nodes changed, not on how many nodes have been explored.
+ * <p>
+ * Graphs without usable screen coordinates are laid out with LinLog. A finished layout is stored in
+ * the {@link GraphLayout} cache and reused the next time the same graph is shown, with the
+ * auto-layout disabled; {@link #computeLayout(int)} fills the cache without a viewer.
  */
-public class GraphStreamVisualizer {
+public class GraphStreamVisualizer extends AbstractSearchVisualizer {
+    /** Longest time a live layout may run before its current positions are cached anyway. */
+    private static final long LIVE_LAYOUT_NANOS = 30_000_000_000L;
+
+    /** Style class per node state. */
+    private static final String[] STATE_CLASSES = {null, "frontier", "visited", "current", "goal", "blocked", "path"};
+
     /** The AI search graph to visualize. */
     private final Graph aiGraph;
     /** The underlying GraphStream graph object. */
@@ -25,6 +50,14 @@ public class GraphStreamVisualizer {
     /** The JavaFX view panel displaying the graph. */
     private FxViewPanel viewPanel;
 
+    /** Layout cache directory, or null to always run the layout. */
+    private Path layoutCache = GraphLayout.defaultCacheDir();
+    /** Polls a live layout until it can be cached. */
+    private Timeline layoutWatch;
+
+    /** GraphStream node per node id. */
+    private final org.graphstream.graph.Node[] gsNodes;
+
     /**
      * Constructs a GraphStreamVisualizer for the given AI search graph.
      * Sets up nodes, edges, and styles for visualization.
@@ -32,8 +65,10 @@ public class GraphStreamVisualizer {
      * @param aiGraph The graph to visualize
      */
     public GraphStreamVisualizer(Graph aiGraph) {
+        super(aiGraph);
         this.aiGraph = aiGraph;
         this.gsGraph = new SingleGraph("AI Search Graph");
+        this.gsNodes = new org.graphstream.graph.Node[aiGraph.nodeCount()];
         setupNodesAndEdges();
         setupStyles();
     }
@@ -43,9 +78,11 @@ public class GraphStreamVisualizer {
      * Sets node labels and edge labels for visualization.
      */
     private void setupNodesAndEdges() {
-        for (Node n : aiGraph.getNodes()) {
+        for (int id = 0; id < gsNodes.length; id++) {
+            Node n = aiGraph.getNode(id);
             org.graphstream.graph.Node gsNode = gsGraph.addNode(n.getName());
             gsNode.setAttribute("ui.label", n.getName());
+            gsNodes[id] = gsNode;
         }
 
         for (Node from : aiGraph.getNodes()) {
@@ -65,8 +102,10 @@ public class GraphStreamVisualizer {
      * Resets all node and edge styles before a new search run.
      * Sets default colors and removes any previous class attributes.
      */
+    @Override
     public void resetGraph() {
-        Platform.runLater(() -> {
+        runOnFxThread(() -> {
+            resetStates();
             for (org.graphstream.graph.Node node : gsGraph) {
                 node.setAttribute("ui.style", "fill-color: cornflowerblue;");
                 node.removeAttribute("ui.class");
@@ -86,107 +125,175 @@ public class GraphStreamVisualizer {
                         "node.visited { fill-color: lightgreen; }" +
                         "node.blocked { fill-color: grey; }" +
                         "node.goal { fill-color: red; }" +
+                        "node.path { fill-color: purple; }" +
                         "edge.path { fill-color: purple; size: 3px; }" +
                         "edge { fill-color: grey; text-size: 12px; }"
         );
     }
 
     /** Create a stable view panel */
+    @Override
     public FxViewPanel getView() {
-        if (viewer != null) {
-            try {
-                viewer.close();
-                System.out.println("🗑 Disposed previous GraphStream viewer");
-            } catch (Exception ignored) {}
-        }
+        if (viewPanel != null) return viewPanel;
         viewer = new FxViewer(gsGraph, FxViewer.ThreadingModel.GRAPH_IN_GUI_THREAD);
         viewPanel = (FxViewPanel) viewer.addDefaultView(false);
         viewPanel.setMinSize(600, 600);
 
-        boolean isGridGraph = aiGraph.getNodes().stream().anyMatch(n -> n.getX() >= 0 && n.getY() >= 0);
-
-        if (isGridGraph) {
+        if (!usesAutoLayout()) {
             viewer.disableAutoLayout();
 
             double spacing = 60;  // pixels between nodes
             double margin = 50;   // margin from window edges
 
-            for (Node n : aiGraph.getNodes()) {
-                org.graphstream.graph.Node gsNode = gsGraph.getNode(n.getName());
-                if (gsNode != null) {
-                    double x = margin + n.getX() * spacing;
-                    double y = margin + n.getY() * spacing;
-                    gsNode.setAttribute("xyz", x, -y, 0);
-                }
+            for (int id = 0; id < gsNodes.length; id++) {
+                Node n = aiGraph.getNode(id);
+                double x = margin + n.getX() * spacing;
+                double y = margin + n.getY() * spacing;
+                gsNodes[id].setAttribute("xyz", x, -y, 0);
             }
         } else {
-            var layout = new LinLog();
-            layout.setQuality(0.7);
-            layout.setGravityFactor(0.9);
-            viewer.enableAutoLayout(layout);
+            GraphLayout cached = layoutCache == null ? null : GraphLayout.load(layoutCache, aiGraph);
+            if (cached != null) {
+                viewer.disableAutoLayout();
+                applyLayout(cached);
+                System.out.println("📐 Layout loaded from cache.");
+            } else {
+                Layout layout = newLayout();
+                viewer.enableAutoLayout(layout);
+                if (layoutCache != null) cacheWhenStable(layout);
+            }
         }
 
         return viewPanel;
     }
 
+    /**
+     * Checks whether nodes are placed by a force-directed layout rather than by their coordinates.
+     *
+     * @return True if the graph has no usable screen coordinates
+     */
+    public boolean usesAutoLayout() {
+        return aiGraph.getNodes().stream().noneMatch(n -> n.getX() >= 0 && n.getY() >= 0);
+    }
 
+    /**
+     * Sets the directory of the layout cache.
+     *
+     * @param cacheDir The cache directory, or null to disable the cache
+     */
+    public void setLayoutCache(Path cacheDir) {
+        this.layoutCache = cacheDir;
+    }
 
-    /** Step-by-step visualization updates */
-    public void updateNodeStates(List<Node> frontier, List<Node> visited, Node current, Node goal, List<Node> blocked) {
-        Platform.runLater(() -> {
-            // Reset node styles
-            for (org.graphstream.graph.Node gsNode : gsGraph)
-                gsNode.removeAttribute("ui.class");
-
-            // Reset edge styles (don't color them during step updates)
-            for (org.graphstream.graph.Edge gsEdge : gsGraph.edges().toArray(org.graphstream.graph.Edge[]::new))
-                gsEdge.removeAttribute("ui.class");
-
-            // Color node groups
-            if (visited != null) {
-                visited.forEach(n -> {
-                    org.graphstream.graph.Node node = gsGraph.getNode(n.getName());
-                    if (node != null) node.setAttribute("ui.class", "visited");
-                });
-            }
+    private static LinLog newLayout() {
+        var layout = new LinLog();
+        layout.setQuality(0.7);
+        layout.setGravityFactor(0.9);
+        return layout;
+    }
 
-            if (frontier != null) {
-                frontier.forEach(n -> {
-                    org.graphstream.graph.Node node = gsGraph.getNode(n.getName());
-                    if (node != null) node.setAttribute("ui.class", "frontier");
-                });
-            }
+    private void applyLayout(GraphLayout layout) {
+        for (int id = 0; id < gsNodes.length; id++) {
+            gsNodes[id].setAttribute("xyz", layout.x(id), layout.y(id), 0);
+        }
+    }
 
-            if (current != null) {
-                org.graphstream.graph.Node node = gsGraph.getNode(current.getName());
-                if (node != null) node.setAttribute("ui.class", "current");
+    /**
+     * Waits for the live layout to stabilize (or to run for {@link #LIVE_LAYOUT_NANOS}), then stops
+     * it and stores the positions shown by the viewer in the cache.
+     */
+    private void cacheWhenStable(Layout layout) {
+        long started = System.nanoTime();
+        layoutWatch = new Timeline(new KeyFrame(Duration.millis(500), e -> {
+            boolean stable = layout.getStabilization() >= layout.getStabilizationLimit();
+            if (!stable && System.nanoTime() - started < LIVE_LAYOUT_NANOS) return;
+            layoutWatch.stop();
+            GraphLayout shown = viewerLayout();
+            if (shown == null) return;
+            viewer.disableAutoLayout();
+            applyLayout(shown);
+            try {
+                Path file = shown.save(layoutCache);
+                System.out.println("📐 Layout cached in " + file);
+            } catch (IOException ex) {
+                System.err.println("⚠️ Could not cache layout: " + ex.getMessage());
             }
+        }));
+        layoutWatch.setCycleCount(Animation.INDEFINITE);
+        layoutWatch.play();
+    }
 
-            if (goal != null) {
-                org.graphstream.graph.Node node = gsGraph.getNode(goal.getName());
-                if (node != null) node.setAttribute("ui.class", "goal");
-            }
+    /** Reads the node positions from the viewer's graphic graph, or returns null if a node is missing. */
+    private GraphLayout viewerLayout() {
+        GraphicGraph shown = viewer.getGraphicGraph();
+        float[] xs = new float[gsNodes.length], ys = new float[gsNodes.length];
+        for (int id = 0; id < gsNodes.length; id++) {
+            if (!(shown.getNode(gsNodes[id].getId()) instanceof GraphicNode node)) return null;
+            xs[id] = (float) node.getX();
+            ys[id] = (float) node.getY();
+        }
+        return GraphLayout.of(aiGraph, xs, ys);
+    }
 
-            if (blocked != null) {
-                blocked.forEach(n -> {
-                    org.graphstream.graph.Node node = gsGraph.getNode(n.getName());
-                    if (node != null) node.setAttribute("ui.class", "blocked");
-                });
-            }
+    /**
+     * Runs the same LinLog layout as {@link #getView()} without a viewer until it stabilizes,
+     * applies the positions to the graph and returns them. Used to precompute the layout cache.
+     *
+     * @param maxSteps Upper bound on layout iterations
+     * @return The computed layout
+     */
+    public GraphLayout computeLayout(int maxSteps) {
+        Layout layout = newLayout();
+        layout.addAttributeSink(gsGraph);
+        GraphReplay replay = new GraphReplay(gsGraph.getId());
+        replay.addSink(layout);
+        replay.replay(gsGraph);
+        replay.removeSink(layout);
+        for (int step = 0; step < maxSteps && layout.getStabilization() < layout.getStabilizationLimit(); step++) {
+            layout.compute();
+        }
+        layout.removeAttributeSink(gsGraph);
+
+        float[] xs = new float[gsNodes.length], ys = new float[gsNodes.length];
+        for (int id = 0; id < gsNodes.length; id++) {
+            double[] xyz = GraphPosLengthUtils.nodePosition(gsNodes[id]);
+            xs[id] = (float) xyz[0];
+            ys[id] = (float) xyz[1];
+        }
+        return GraphLayout.of(aiGraph, xs, ys);
+    }
+
+    /** Step-by-step visualization updates */
+    public void updateNodeStates(List<Node> frontier, List<Node> visited, Node current, Node goal, List<Node> blocked) {
+        Platform.runLater(() -> {
+            clearNodeStates();
+            if (visited != null) visited.forEach(n -> setNodeState(n, VISITED));
+            if (frontier != null) frontier.forEach(n -> setNodeState(n, FRONTIER));
+            if (current != null) setNodeState(current, CURRENT);
+            if (goal != null) setNodeState(goal, GOAL);
+            if (blocked != null) blocked.forEach(n -> setNodeState(n, BLOCKED));
+            flush();
         });
     }
 
+    /** Restyles a node whose state changed. Called by {@link #flush()} on the FX thread. */
+    @Override
+    protected void applyState(int id, byte oldState, byte state) {
+        if (state == NONE) gsNodes[id].removeAttribute("ui.class");
+        else gsNodes[id].setAttribute("ui.class", STATE_CLASSES[state]);
+    }
+
     /** Highlight final optimal path after search finishes */
+    @Override
     public void highlightPath(List<Node> path) {
         System.out.println("Highlighting path: " + path);
         if (path == null || path.size() < 2) return;
 
         Platform.runLater(() -> {
             // Keep start/goal nodes distinctly colored
-            org.graphstream.graph.Node start = gsGraph.getNode(path.getFirst().getName());
-            org.graphstream.graph.Node goal = gsGraph.getNode(path.getLast().getName());
-            if (start != null) start.setAttribute("ui.class", "visited");
-            if (goal != null) goal.setAttribute("ui.class", "goal");
+            setNodeState(path.getFirst(), VISITED);
+            setNodeState(path.getLast(), GOAL);
+            flush();
 
             // Highlight only the final path edges
             for (int i = 0; i < path.size() - 1; i++) {
@@ -227,7 +334,9 @@ public class GraphStreamVisualizer {
                     0);
         }
     }
+    @Override
     public void dispose() {
+        if (layoutWatch != null) layoutWatch.stop();
         try {
             if (viewer != null) {
                 viewer.close();
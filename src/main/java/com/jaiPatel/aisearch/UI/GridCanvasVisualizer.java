@@ -0,0 +1,282 @@
+package com.jaiPatel.aisearch.UI;
+
+import com.jaiPatel.aisearch.graph.GraphView;
+import com.jaiPatel.aisearch.graph.GridGraph;
+import com.jaiPatel.aisearch.graph.Node;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+
+import java.nio.IntBuffer;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Visualizes a grid graph as an image with one pixel per cell, for grids too large for GraphStream.
+ * <p>
+ * Cell colors are written into an {@code int[]} of ARGB pixels that backs a {@link PixelBuffer}
+ * and the {@link WritableImage} shown by an {@link ImageView}. Node states are tracked by
+ * {@link AbstractSearchVisualizer} and applied by {@link #flush()} once per frame; a flush
+ * writes the pixels of the changed cells and uploads only the rectangle that contains them, so the
+ * cost of a frame depends on the number of changed cells, not on the size of the grid.
+ * <p>
+ * The view zooms with the mouse wheel around the cursor and pans by dragging. Only the visible
+ * part of the image is drawn, scaled without smoothing so cells stay sharp.
+ */
+public class GridCanvasVisualizer extends AbstractSearchVisualizer {
+    /** Largest grid, in cells, that the visualizer accepts. */
+    public static final int MAX_CELLS = 1 << 24;
+
+    /** Cell color per node state (opaque ARGB); open cells without a state are white. */
+    private static final int[] STATE_COLORS = {
+            0xFFFFFFFF, // none
+            0xFFFFFF00, // frontier: yellow
+            0xFF90EE90, // visited: light green
+            0xFFFFA500, // current: orange
+            0xFFFF0000, // goal: red
+            0xFF808080, // blocked: grey
+            0xFF800080  // path: purple
+    };
+    private static final double MAX_ZOOM = 64;
+
+    /** Grid width and height in cells. */
+    private final int width, height;
+    /** Cell index per node id, or null if ids are cell indices (row-major). */
+    private final int[] cellOf;
+
+    /** ARGB color per cell, backing the image. */
+    private final int[] pixels;
+    /** Bounds of the cells redrawn since the last upload; FX thread only. */
+    private int minX, minY, maxX = -1, maxY = -1;
+
+    // created by getView(); null when used without a view
+    private PixelBuffer<IntBuffer> pixelBuffer;
+    private ImageView imageView;
+    private Pane pane;
+
+    /** Pixels per cell and the cell at the top-left corner of the view. */
+    private double zoom = Double.NaN, offsetX, offsetY;
+    private double dragX, dragY;
+
+    /**
+     * Constructs a visualizer for a grid graph.
+     *
+     * @param graph The grid to visualize; see {@link #supports(GraphView)}
+     * @throws IllegalArgumentException If the graph is not a supported grid
+     */
+    public GridCanvasVisualizer(GraphView graph) {
+        super(requireGrid(graph));
+        int n = graph.nodeCount();
+        if (graph instanceof GridGraph grid) {
+            width = grid.width();
+            height = grid.height();
+            cellOf = null;
+        } else {
+            int maxX = 0, maxY = 0;
+            for (int id = 0; id < n; id++) {
+                maxX = Math.max(maxX, (int) graph.getX(id));
+                maxY = Math.max(maxY, (int) graph.getY(id));
+            }
+            width = maxX + 1;
+            height = maxY + 1;
+            cellOf = new int[n];
+            for (int id = 0; id < n; id++) {
+                cellOf[id] = (int) graph.getY(id) * width + (int) graph.getX(id);
+            }
+        }
+        pixels = new int[width * height];
+        for (int id = 0; id < n; id++) pixels[cell(id)] = color(id, NONE);
+    }
+
+    /**
+     * Checks whether a graph can be drawn as a grid: every node must sit on its own cell with
+     * non-negative integer coordinates, the nodes must fill at least half of the cells, and the grid
+     * must have at most {@link #MAX_CELLS} cells.
+     *
+     * @param graph The graph to check
+     * @return True if the graph is a supported grid
+     */
+    public static boolean supports(GraphView graph) {
+        if (graph instanceof GridGraph grid) return (long) grid.width() * grid.height() <= MAX_CELLS;
+        int n = graph.nodeCount();
+        if (n == 0) return false;
+        long maxX = 0, maxY = 0;
+        for (int id = 0; id < n; id++) {
+            double x = graph.getX(id), y = graph.getY(id);
+            if (x < 0 || y < 0 || x != Math.rint(x) || y != Math.rint(y)) return false;
+            maxX = Math.max(maxX, (long) x);
+            maxY = Math.max(maxY, (long) y);
+        }
+        long cells = (maxX + 1) * (maxY + 1);
+        if (cells > MAX_CELLS || 2L * n < cells) return false;
+        BitSet used = new BitSet();
+        for (int id = 0; id < n; id++) {
+            int cell = (int) (graph.getY(id) * (maxX + 1) + graph.getX(id));
+            if (used.get(cell)) return false;
+            used.set(cell);
+        }
+        return true;
+    }
+
+    private static GraphView requireGrid(GraphView graph) {
+        if (!supports(graph)) {
+            throw new IllegalArgumentException("Not a grid graph of at most " + MAX_CELLS + " cells");
+        }
+        return graph;
+    }
+
+    private int cell(int id) {
+        return cellOf == null ? id : cellOf[id];
+    }
+
+    private int color(int id, byte state) {
+        if (state == NONE && graph.isBlocked(id)) return STATE_COLORS[BLOCKED];
+        return STATE_COLORS[state];
+    }
+
+    @Override
+    public Pane getView() {
+        if (pane != null) return pane;
+        pixelBuffer = new PixelBuffer<>(width, height, IntBuffer.wrap(pixels), PixelFormat.getIntArgbPreInstance());
+        imageView = new ImageView(new WritableImage(pixelBuffer));
+        imageView.setSmooth(false);
+        imageView.setPreserveRatio(false);
+
+        pane = new Pane(imageView);
+        pane.setMinSize(600, 600);
+        Rectangle clip = new Rectangle();
+        clip.widthProperty().bind(pane.widthProperty());
+        clip.heightProperty().bind(pane.heightProperty());
+        pane.setClip(clip);
+        pane.widthProperty().addListener((obs, ov, nv) -> layoutImage());
+        pane.heightProperty().addListener((obs, ov, nv) -> layoutImage());
+
+        // zoom around the cursor
+        pane.setOnScroll(e -> {
+            if (Double.isNaN(zoom)) return;
+            double factor = Math.pow(1.0015, e.getDeltaY());
+            double newZoom = Math.max(minZoom(), Math.min(MAX_ZOOM, zoom * factor));
+            offsetX += e.getX() / zoom - e.getX() / newZoom;
+            offsetY += e.getY() / zoom - e.getY() / newZoom;
+            zoom = newZoom;
+            layoutImage();
+        });
+        // pan by dragging
+        pane.setOnMousePressed(e -> {
+            dragX = e.getX();
+            dragY = e.getY();
+        });
+        pane.setOnMouseDragged(e -> {
+            if (Double.isNaN(zoom)) return;
+            offsetX -= (e.getX() - dragX) / zoom;
+            offsetY -= (e.getY() - dragY) / zoom;
+            dragX = e.getX();
+            dragY = e.getY();
+            layoutImage();
+        });
+        // double click fits the whole grid
+        pane.setOnMouseClicked(e -> {
+            if (e.getClickCount() == 2) {
+                zoom = Double.NaN;
+                layoutImage();
+            }
+        });
+        return pane;
+    }
+
+    /** Zoom at which the whole grid fits the view. */
+    private double minZoom() {
+        return Math.min(pane.getWidth() / width, pane.getHeight() / height);
+    }
+
+    /** Shows the part of the image that is visible at the current zoom and offset. */
+    private void layoutImage() {
+        double w = pane.getWidth(), h = pane.getHeight();
+        if (w <= 0 || h <= 0) return;
+        if (Double.isNaN(zoom)) {
+            zoom = minZoom();
+            offsetX = (width - w / zoom) / 2;
+            offsetY = (height - h / zoom) / 2;
+        }
+        // visible cells, clipped to the image
+        double x0 = Math.max(0, offsetX), y0 = Math.max(0, offsetY);
+        double x1 = Math.min(width, offsetX + w / zoom), y1 = Math.min(height, offsetY + h / zoom);
+        if (x1 <= x0 || y1 <= y0) {
+            imageView.setVisible(false);
+            return;
+        }
+        imageView.setVisible(true);
+        imageView.setViewport(new Rectangle2D(x0, y0, x1 - x0, y1 - y0));
+        imageView.setFitWidth((x1 - x0) * zoom);
+        imageView.setFitHeight((y1 - y0) * zoom);
+        imageView.relocate((x0 - offsetX) * zoom, (y0 - offsetY) * zoom);
+    }
+
+    @Override
+    public void resetGraph() {
+        runOnFxThread(() -> {
+            resetStates();
+            for (int id = 0, n = graph.nodeCount(); id < n; id++) pixels[cell(id)] = color(id, NONE);
+            if (pixelBuffer != null) pixelBuffer.updateBuffer(b -> null);
+        });
+    }
+
+    /** Writes the pixel of a cell whose state changed. Called by {@link #flush()} on the FX thread. */
+    @Override
+    protected void applyState(int id, byte oldState, byte state) {
+        int cell = cell(id);
+        pixels[cell] = color(id, state);
+        int y = cell / width, x = cell - y * width;
+        if (maxX < 0) {
+            minX = maxX = x;
+            minY = maxY = y;
+        } else {
+            minX = Math.min(minX, x);
+            maxX = Math.max(maxX, x);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+        }
+    }
+
+    /** Uploads the rectangle that contains the cells redrawn by the flush. */
+    @Override
+    protected void flushed(int changed) {
+        if (maxX < 0) return;
+        if (pixelBuffer != null) {
+            Rectangle2D redrawn = new Rectangle2D(minX, minY, maxX - minX + 1, maxY - minY + 1);
+            pixelBuffer.updateBuffer(b -> redrawn);
+        }
+        maxX = maxY = -1;
+    }
+
+    /**
+     * Returns the ARGB pixels of the grid, one per cell in row-major order. The array is shared,
+     * not copied.
+     *
+     * @return The pixels
+     */
+    public int[] pixels() {
+        return pixels;
+    }
+
+    @Override
+    public void highlightPath(List<Node> path) {
+        if (path == null || path.size() < 2) return;
+        runOnFxThread(() -> {
+            for (Node n : path) setNodeState(n, PATH);
+            setNodeState(path.getLast(), GOAL);
+            flush();
+        });
+    }
+
+    @Override
+    public void dispose() {
+        pane = null;
+        imageView = null;
+        pixelBuffer = null;
+    }
+}
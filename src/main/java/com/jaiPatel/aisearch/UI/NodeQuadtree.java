@@ -0,0 +1,193 @@
+package com.jaiPatel.aisearch.UI;
+
+import com.jaiPatel.aisearch.graph.GraphView;
+
+import java.util.Arrays;
+
+/**
+ * Point quadtree over the positions of a graph's nodes, used to draw large graphs as clusters.
+ * <p>
+ * Node x-coordinates are latitudes and y-coordinates longitudes, as the graph loaders store them,
+ * so a node is placed at {@code (lon, lat)}: east to the right and north up. Every cell is a square
+ * that owns a contiguous range of {@link #order}, the node ids sorted into quadtree order, and
+ * splits into four children until it holds at most {@value #LEAF_SIZE} nodes. Cells are stored in
+ * parallel arrays; the four children of a cell are consecutive.
+ * <p>
+ * Each cell also counts its explored and frontier nodes. {@link #move} updates the counts along the
+ * path from a node's leaf to the root, so keeping them current costs O(depth) per state change.
+ */
+final class NodeQuadtree {
+
+    /** Maximum number of nodes in a leaf, unless the depth limit is reached first. */
+    static final int LEAF_SIZE = 32;
+    /** Maximum depth; nodes sharing a position end up in one leaf. */
+    static final int MAX_DEPTH = 24;
+
+    /** Node category for the cell counts. */
+    static final int OTHER = 0, EXPLORED = 1, FRONTIER = 2;
+
+    /** Position per node id. */
+    final double[] px, py;
+    /** Node ids in quadtree order. */
+    final int[] order;
+    /** Leaf cell per node id. */
+    final int[] leafOf;
+
+    /** Number of cells. */
+    int cellCount;
+    /** Lower-left corner and side length per cell. */
+    double[] minX, minY, size;
+    /** Centroid of the nodes per cell. */
+    double[] cx, cy;
+    /** Range of {@link #order} per cell. */
+    int[] start, end;
+    /** First of the four children per cell, or -1 for leaves. */
+    int[] firstChild;
+    /** Parent per cell, -1 for the root. */
+    int[] parent;
+    /** Number of explored and frontier nodes per cell. */
+    int[] explored, frontier;
+
+    /**
+     * Builds the quadtree over all nodes of a graph.
+     *
+     * @param graph The graph
+     */
+    NodeQuadtree(GraphView graph) {
+        int n = graph.nodeCount();
+        px = new double[n];
+        py = new double[n];
+        order = new int[n];
+        leafOf = new int[n];
+        double x0 = Double.POSITIVE_INFINITY, y0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY;
+        for (int id = 0; id < n; id++) {
+            px[id] = graph.getY(id);
+            py[id] = graph.getX(id);
+            order[id] = id;
+            x0 = Math.min(x0, px[id]);
+            x1 = Math.max(x1, px[id]);
+            y0 = Math.min(y0, py[id]);
+            y1 = Math.max(y1, py[id]);
+        }
+        if (n == 0) x0 = y0 = x1 = y1 = 0;
+
+        int capacity = Math.max(16, n / LEAF_SIZE * 2);
+        minX = new double[capacity];
+        minY = new double[capacity];
+        size = new double[capacity];
+        cx = new double[capacity];
+        cy = new double[capacity];
+        start = new int[capacity];
+        end = new int[capacity];
+        firstChild = new int[capacity];
+        parent = new int[capacity];
+
+        double side = Math.max(Math.max(x1 - x0, y1 - y0), 1e-9);
+        addCell(-1, x0, y0, side, 0, n);
+        build(0, 0, new int[n]);
+        explored = new int[cellCount];
+        frontier = new int[cellCount];
+    }
+
+    private int addCell(int parentCell, double x, double y, double side, int from, int to) {
+        if (cellCount == minX.length) {
+            int capacity = cellCount * 2;
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            size = Arrays.copyOf(size, capacity);
+            cx = Arrays.copyOf(cx, capacity);
+            cy = Arrays.copyOf(cy, capacity);
+            start = Arrays.copyOf(start, capacity);
+            end = Arrays.copyOf(end, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+        }
+        int c = cellCount++;
+        minX[c] = x;
+        minY[c] = y;
+        size[c] = side;
+        start[c] = from;
+        end[c] = to;
+        firstChild[c] = -1;
+        parent[c] = parentCell;
+        double sx = 0, sy = 0;
+        for (int i = from; i < to; i++) {
+            sx += px[order[i]];
+            sy += py[order[i]];
+        }
+        int count = to - from;
+        cx[c] = count == 0 ? x + side / 2 : sx / count;
+        cy[c] = count == 0 ? y + side / 2 : sy / count;
+        return c;
+    }
+
+    /** Splits a cell into quadrants, recursively, sorting its range of {@link #order} by quadrant. */
+    private void build(int c, int depth, int[] scratch) {
+        int from = start[c], to = end[c];
+        if (to - from <= LEAF_SIZE || depth == MAX_DEPTH) {
+            for (int i = from; i < to; i++) leafOf[order[i]] = c;
+            return;
+        }
+        double half = size[c] / 2, midX = minX[c] + half, midY = minY[c] + half;
+        int[] bounds = new int[5];
+        for (int i = from; i < to; i++) bounds[quadrant(order[i], midX, midY) + 1]++;
+        bounds[0] = from;
+        for (int q = 1; q <= 4; q++) bounds[q] += bounds[q - 1];
+        int[] fill = Arrays.copyOf(bounds, 4);
+        for (int i = from; i < to; i++) {
+            int id = order[i];
+            scratch[fill[quadrant(id, midX, midY)]++] = id;
+        }
+        System.arraycopy(scratch, from, order, from, to - from);
+
+        int first = cellCount;
+        for (int q = 0; q < 4; q++) {
+            addCell(c, (q & 1) == 0 ? minX[c] : midX, (q & 2) == 0 ? minY[c] : midY, half,
+                    bounds[q], bounds[q + 1]);
+        }
+        firstChild[c] = first;
+        for (int q = 0; q < 4; q++) {
+            if (end[first + q] > start[first + q]) build(first + q, depth + 1, scratch);
+        }
+    }
+
+    private int quadrant(int id, double midX, double midY) {
+        return (px[id] >= midX ? 1 : 0) | (py[id] >= midY ? 2 : 0);
+    }
+
+    /**
+     * Returns the number of nodes in a cell.
+     *
+     * @param c The cell
+     * @return Node count
+     */
+    int count(int c) {
+        return end[c] - start[c];
+    }
+
+    /**
+     * Moves a node from one category to another in the counts of its cells.
+     *
+     * @param id   The node id
+     * @param from Old category
+     * @param to   New category
+     */
+    void move(int id, int from, int to) {
+        if (from == to) return;
+        for (int c = leafOf[id]; c >= 0; c = parent[c]) {
+            if (from == EXPLORED) explored[c]--;
+            else if (from == FRONTIER) frontier[c]--;
+            if (to == EXPLORED) explored[c]++;
+            else if (to == FRONTIER) frontier[c]++;
+        }
+    }
+
+    /**
+     * Resets all counts to zero.
+     */
+    void clearCounts() {
+        Arrays.fill(explored, 0);
+        Arrays.fill(frontier, 0);
+    }
+}
@@ -32,10 +32,14 @@ public class SearchControlsPanel {
     public final Button stepButton = new Button("Step");
     /** Button to restart the search visualization. */
     public final Button restartButton = new Button("Restart");
+    /** Button to show the rest of the search at once. */
+    public final Button skipButton = new Button("Skip to End");
     /** Button to generate a new random or grid graph. */
     public final Button generateGraphButton = new Button("Generate Random/Grid Graph");
-    /** Slider to control the speed of the search animation (ms per step). */
-    public final Slider speedSlider = new Slider(100, 2000, 500);
+    /** Slider to control the speed of the search animation, as log2 of the steps shown per frame. */
+    public final Slider speedSlider = new Slider(0, 12, 0);
+    /** Label showing the number of steps shown per frame. */
+    private final Label speedLabel = new Label("Speed: 1 step/frame");
     /** Label displaying the current status of the search. */
     public final Label statusLabel = new Label("Ready");
     /** ListView showing the current frontier (open list) nodes. */
@@ -70,13 +74,20 @@ public class SearchControlsPanel {
      * @return ScrollPane containing the assembled controls panel
      */
     public ScrollPane build() {
+        speedSlider.setMajorTickUnit(1);
+        speedSlider.setSnapToTicks(true);
+        speedSlider.valueProperty().addListener((obs, ov, nv) ->
+                speedLabel.setText("Speed: " + stepsPerFrame() + (stepsPerFrame() == 1 ? " step/frame" : " steps/frame")));
+
         // algorithm & heuristic defaults
-        algorithmBox.getItems().addAll("BFS", "DFS", "IDDFS", "Best-First Search", "A*");
+        algorithmBox.getItems().addAll("BFS", "DFS", "IDDFS", "Best-First Search", "A*",
+                "Bidirectional Dijkstra", "Bidirectional A*", "Contraction Hierarchies",
+                "Jump Point Search");
         algorithmBox.setValue("BFS");
 
-        heuristicBox.getItems().addAll("Euclidean", "Manhattan", "Chebyshev", "Zero (Uninformed)");
+        heuristicBox.getItems().addAll("Euclidean", "Manhattan", "Chebyshev", "Landmarks (ALT)", "Zero (Uninformed)");
         heuristicBox.setValue("Euclidean");
-        heuristicBox.setDisable(true); // only for A* / Best-First
+        heuristicBox.setDisable(true); // only for informed searches
 
         // open list ui
         Label openListLabel = new Label("Frontier (Open List)");
@@ -116,8 +127,9 @@ public class SearchControlsPanel {
                 new Label("Goal Node:"), goalBox,
                 new Label("Algorithm:"), algorithmBox,
                 new Label("Heuristic:"), heuristicBox,
-                new Label("Speed (ms/step):"), speedSlider,
+                speedLabel, speedSlider,
                 new HBox(8, playButton, pauseButton, stepButton, restartButton),
+                skipButton,
                 generateGraphButton,
                 statusLabel,
                 openListPanel,
@@ -134,6 +146,15 @@ public class SearchControlsPanel {
         return scroller;
     }
 
+    /**
+     * Returns the number of search steps to show per animation frame, selected by the speed slider.
+     *
+     * @return Steps per frame, a power of two from 1 to 4096
+     */
+    public int stepsPerFrame() {
+        return 1 << (int) Math.round(speedSlider.getValue());
+    }
+
     private VBox boxed(javafx.scene.Node... children) {
         VBox box = new VBox(6, children);
         box.setStyle("-fx-border-color: lightgray; -fx-border-width: 1px; -fx-padding: 10px;");
@@ -1,27 +1,69 @@
 package com.jaiPatel.aisearch.UI;
 
 import com.jaiPatel.aisearch.algorithms.SearchObserver;
+import com.jaiPatel.aisearch.algorithms.SearchStep;
 import com.jaiPatel.aisearch.graph.Node;
-import javafx.application.Platform;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of SearchObserver for live UI updates in the AI Search Visualizer.
  * <p>
- * Updates the graph visualization and control panel metrics in response to search algorithm events.
- * Handles step-by-step updates and final result display, including path highlighting and metrics.
+ * The search runs on a background thread and this observer only buffers its steps in a bounded
+ * queue of {@value #BUFFER_STEPS} steps; when the queue is full the search thread waits, so a
+ * paused animation also pauses the search. Once per animation frame the FX thread calls
+ * {@link #drain(int, long)}, which applies the next buffered steps to a model of the search state and
+ * then updates the graph view, the open list and the metrics once for all of them. Node states are
+ * set by id in the visualizer's state array and flushed once per frame, so a node touched by
+ * several steps in the same frame is restyled at most once and rendering cost follows the frame
+ * rate and the number of distinct changed nodes, not the number of expansions.
+ * <p>
+ * The open list panel mirrors the frontier in a set ordered by frontier key and shows its
+ * {@value #OPEN_LIST_ROWS} best entries.
  */
 public class SearchObserverImpl implements SearchObserver {
 
+    /** Number of steps buffered before the search thread waits for the animation. */
+    static final int BUFFER_STEPS = 4096;
+
+    /** Number of frontier entries shown in the open list panel. */
+    private static final int OPEN_LIST_ROWS = 100;
+
+    /** Final metrics reported by the search thread; {@code error} is null unless the search failed. */
+    private record Finish(List<Node> path, int nodesExpanded, double totalCost, int solutionDepth,
+                          long elapsedTimeMs, long memoryBytes, String error) {
+    }
+
     /** Visualizer for updating the graph display. */
-    private final GraphStreamVisualizer visualizer;
+    private final SearchVisualizer visualizer;
     /** Control panel for updating metrics and UI controls. */
     private final SearchControlsPanel controls;
     /** The goal node for the current search. */
     private final Node goal;
 
+    // Written by the search thread, read by the FX thread
+    private final ArrayBlockingQueue<SearchStep> steps = new ArrayBlockingQueue<>(BUFFER_STEPS);
+    private volatile Finish finish;
+    private volatile boolean closed;
+
+    // Frontier mirror: key per node id, NaN when not on the frontier; FX thread only
+    private double[] keys = new double[0];
+    private final TreeSet<Integer> open = new TreeSet<>((a, b) -> {
+        int c = Double.compare(keys[a], keys[b]);
+        return c != 0 ? c : Integer.compare(a, b);
+    });
+
+    // FX thread only
+    private int lastCurrent = -1;
+    private SearchStep lastStep, lastExpansion;
+    private boolean finishShown;
+
     /**
      * Constructs a SearchObserverImpl for UI updates.
      *
@@ -29,66 +71,31 @@ public class SearchObserverImpl implements SearchObserver {
      * @param controls   The control panel for metrics and controls
      * @param goal       The goal node for the search
      */
-    public SearchObserverImpl(GraphStreamVisualizer visualizer, SearchControlsPanel controls, Node goal) {
+    public SearchObserverImpl(SearchVisualizer visualizer, SearchControlsPanel controls, Node goal) {
         this.visualizer = visualizer;
         this.controls = controls;
         this.goal = goal;
     }
 
     /**
-     * Called on each search step to update the UI.
-     * <p>
-     * Updates node states, frontier list, and live metrics (nodes expanded, path cost, depth, heuristic values).
+     * Buffers a search step, waiting while the buffer is full. Called on the search thread.
      *
-     * @param current       The current node being expanded
-     * @param frontier      The current frontier (open list)
-     * @param explored      The set of explored nodes
-     * @param nodesExpanded Number of nodes expanded so far
-     * @param pathCost      Cost from start to current node
-     * @param solutionDepth Depth of the current node
-     * @param g             Cost from start to current node
-     * @param h             Heuristic estimate to goal
-     * @param f             Total estimated cost (g + h)
+     * @param step The changes made in the step
      */
     @Override
-    public void onStep(Node current,
-                       Collection<Node> frontier,
-                       Collection<Node> explored,
-                       int nodesExpanded,
-                       double pathCost,
-                       int solutionDepth,
-                       double g,
-                       double h,
-                       double f) {
-        Platform.runLater(() -> {
-            visualizer.updateNodeStates(
-                    frontier == null ? List.of() : List.copyOf(frontier),
-                    explored == null ? List.of() : List.copyOf(explored),
-                    current,
-                    goal,
-                    null
-            );
-
-            // open list ordering
-            controls.openListView.getItems().setAll(
-                    frontier == null ? List.of() :
-                            frontier.stream().map(Node::getName).toList()
-            );
-
-            // live metrics
-            controls.nodesExpandedLabel.setText("Nodes Expanded: " + nodesExpanded);
-            controls.pathCostLabel.setText(String.format("Path Cost: %.2f", pathCost));
-            controls.depthLabel.setText("Solution Depth: " + solutionDepth);
-
-            // heuristic display (works for uninformed too; will show g/h/f as given by algorithm)
-            controls.heuristicLabel.setText(String.format("Heuristic (current): g=%.2f, h=%.2f, f=%.2f", g, h, f));
-        });
+    public void onStep(SearchStep step) {
+        try {
+            while (!closed) {
+                if (steps.offer(step, 50, TimeUnit.MILLISECONDS)) return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
-     * Called when the search finishes to update the UI with final results.
-     * <p>
-     * Highlights the final path and updates all metrics (nodes expanded, cost, depth, runtime, memory).
+     * Records the final results, shown once every buffered step has been drawn. Called on the
+     * search thread.
      *
      * @param path               The solution path
      * @param totalNodesExpanded Total nodes expanded during the search
@@ -108,16 +115,167 @@ public class SearchObserverImpl implements SearchObserver {
                          int solutionDepth,
                          long elapsedTimeMs,
                          long memoryBytes) {
-        Platform.runLater(() -> {
-            visualizer.highlightPath(path);
-            controls.statusLabel.setText("✅ Search complete!");
+        finish = new Finish(path, totalNodesExpanded, totalCost, solutionDepth, elapsedTimeMs, memoryBytes, null);
+    }
+
+    /**
+     * Marks the search as finished without a result after it threw, discarding the steps it
+     * buffered. The next {@link #drain(int, long)} or {@link #stepOnce()} shows the error and
+     * returns true. Called on the search thread.
+     *
+     * @param message Description of the failure shown in the status label
+     */
+    public void fail(String message) {
+        steps.clear();
+        finish = new Finish(List.of(), 0, 0, 0, 0, 0, message);
+    }
+
+    /**
+     * Discards the buffered steps and releases a search thread waiting for buffer space. Steps
+     * reported afterwards are dropped.
+     */
+    public void close() {
+        closed = true;
+        steps.clear();
+    }
+
+    /**
+     * Applies up to the given number of buffered steps and redraws once. Called on the FX thread,
+     * once per animation frame. Stops early when the buffer is empty or the frame budget is spent,
+     * so skipping ahead with a very large step count keeps the UI responsive.
+     *
+     * @param maxSteps    Maximum number of steps to apply
+     * @param budgetNanos Time that may be spent applying steps
+     * @return True once the search has finished and all of its steps and results are shown
+     */
+    public boolean drain(int maxSteps, long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        int applied = 0;
+        SearchStep step;
+        while (applied < maxSteps && (step = steps.poll()) != null) {
+            apply(step);
+            if (++applied % 256 == 0 && System.nanoTime() - deadline > 0) break;
+        }
+        if (applied > 0) render();
+        return checkFinished();
+    }
 
-            controls.nodesExpandedLabel.setText("Nodes Expanded: " + totalNodesExpanded);
-            controls.pathCostLabel.setText(String.format("Path Cost: %.2f", totalCost));
-            controls.depthLabel.setText("Solution Depth: " + solutionDepth);
-            controls.timeLabel.setText("Runtime: " + elapsedTimeMs + " ms");
-            controls.memoryLabel.setText(String.format("Memory: %.2f KB", memoryBytes / 1024.0));
-        });
+    /**
+     * Applies and draws the next buffered step without waiting for the search thread. Called on
+     * the FX thread.
+     *
+     * @return True if a step was drawn, or if the search has finished and every step is shown;
+     * false if the search thread has not buffered the next step yet
+     */
+    public boolean stepOnce() {
+        SearchStep step = steps.poll();
+        if (step == null) return checkFinished();
+        apply(step);
+        render();
+        checkFinished();
+        return true;
+    }
+
+    /**
+     * Returns whether the final results are shown.
+     *
+     * @return True once the search has finished and all of its steps and results are shown
+     */
+    public boolean isFinished() {
+        return finishShown;
+    }
+
+    /** Shows the final results once the search has finished and every buffered step is drawn. */
+    private boolean checkFinished() {
+        // read the result first: it is published after the last step was buffered
+        Finish done = finish;
+        if (done != null && steps.isEmpty() && !finishShown) {
+            showFinish(done);
+        }
+        return finishShown;
+    }
+
+    /** Applies one step to the frontier mirror and the pending node styles. */
+    private void apply(SearchStep step) {
+        if (step.isReset()) {
+            open.clear();
+            Arrays.fill(keys, Double.NaN);
+            visualizer.clearNodeStates();
+            lastCurrent = -1;
+        }
+        for (int id : step.removedIds()) {
+            if (id < keys.length && !Double.isNaN(keys[id])) {
+                open.remove(id);
+                keys[id] = Double.NaN;
+            }
+        }
+        int[] changed = step.changedIds();
+        double[] f = step.changedF();
+        for (int i = 0; i < changed.length; i++) {
+            int id = changed[i];
+            if (id >= keys.length) {
+                int length = keys.length;
+                keys = Arrays.copyOf(keys, Math.max(id + 1, 2 * length));
+                Arrays.fill(keys, length, keys.length, Double.NaN);
+            }
+            if (!Double.isNaN(keys[id])) open.remove(id);
+            keys[id] = f[i];
+            open.add(id);
+        }
+
+        lastStep = step;
+        if (lastCurrent >= 0) visualizer.setNodeState(lastCurrent, SearchVisualizer.VISITED);
+        for (int id : step.addedIds()) visualizer.setNodeState(id, SearchVisualizer.FRONTIER);
+        int current = step.expandedId();
+        if (current >= 0) {
+            visualizer.setNodeState(current, SearchVisualizer.CURRENT);
+            lastCurrent = current;
+            lastExpansion = step;
+        }
+    }
+
+    /** Pushes the changes of the current frame to the view, the open list and the metrics. */
+    private void render() {
+        if (goal != null) visualizer.setNodeState(goal, SearchVisualizer.GOAL);
+        visualizer.flush();
+
+        List<String> rows = new ArrayList<>(Math.min(open.size(), OPEN_LIST_ROWS));
+        Iterator<Integer> it = open.iterator();
+        while (rows.size() < OPEN_LIST_ROWS && it.hasNext()) {
+            int id = it.next();
+            rows.add(String.format("%s  (%.2f)", lastStep.node(id).getName(), keys[id]));
+        }
+        controls.openListView.getItems().setAll(rows);
+
+        SearchStep step = lastExpansion;
+        if (step == null) return;
+
+        // live metrics
+        controls.nodesExpandedLabel.setText("Nodes Expanded: " + step.nodesExpanded());
+        controls.pathCostLabel.setText(String.format("Path Cost: %.2f", step.pathCost()));
+        controls.depthLabel.setText("Solution Depth: " + step.solutionDepth());
+
+        // heuristic display (works for uninformed too; will show g/h/f as given by algorithm)
+        controls.heuristicLabel.setText(String.format("Heuristic (current): g=%.2f, h=%.2f, f=%.2f",
+                step.g(), step.h(), step.f()));
+    }
+
+    /**
+     * Highlights the final path and updates all metrics (nodes expanded, cost, depth, runtime, memory).
+     */
+    private void showFinish(Finish done) {
+        finishShown = true;
+        if (done.error() != null) {
+            controls.statusLabel.setText("❌ Search failed: " + done.error());
+            return;
+        }
+        visualizer.highlightPath(done.path());
+        controls.statusLabel.setText("✅ Search complete!");
 
+        controls.nodesExpandedLabel.setText("Nodes Expanded: " + done.nodesExpanded());
+        controls.pathCostLabel.setText(String.format("Path Cost: %.2f", done.totalCost()));
+        controls.depthLabel.setText("Solution Depth: " + done.solutionDepth());
+        controls.timeLabel.setText("Runtime: " + done.elapsedTimeMs() + " ms");
+        controls.memoryLabel.setText(String.format("Memory: %.2f KB", done.memoryBytes() / 1024.0));
     }
 }
@@ -0,0 +1,90 @@
+package com.jaiPatel.aisearch.UI;
+
+import com.jaiPatel.aisearch.graph.Node;
+import javafx.scene.layout.Region;
+
+import java.util.List;
+
+/**
+ * View that shows a graph and the state of a search on it.
+ * <p>
+ * Every node has a search state, set by node id with {@link #setNodeState(int, byte)}. New states
+ * are only recorded; {@link #flush()} shows the nodes that changed since the last flush. All
+ * methods except {@link #resetGraph()} and {@link #highlightPath(List)} must be called on the FX
+ * thread.
+ */
+public interface SearchVisualizer {
+    /** Node state without search information. */
+    byte NONE = 0;
+    /** Node state of frontier (open list) nodes. */
+    byte FRONTIER = 1;
+    /** Node state of explored nodes. */
+    byte VISITED = 2;
+    /** Node state of the node being expanded. */
+    byte CURRENT = 3;
+    /** Node state of the goal node. */
+    byte GOAL = 4;
+    /** Node state of blocked grid cells. */
+    byte BLOCKED = 5;
+    /** Node state of nodes on the solution path. */
+    byte PATH = 6;
+
+    /**
+     * Returns the JavaFX node displaying the graph.
+     * @return The view
+     */
+    Region getView();
+
+    /**
+     * Clears all search states and highlights before a new search run.
+     */
+    void resetGraph();
+
+    /**
+     * Sets the state of a node, shown at the next {@link #flush()}.
+     *
+     * @param id    The node id
+     * @param state One of the node state constants of this interface
+     */
+    void setNodeState(int id, byte state);
+
+    /**
+     * Sets the state of a node, shown at the next {@link #flush()}.
+     *
+     * @param node  The node; ignored if it is not part of the graph
+     * @param state The new state
+     */
+    void setNodeState(Node node, byte state);
+
+    /**
+     * Returns the state a node will have after the next {@link #flush()}.
+     *
+     * @param id The node id
+     * @return The node state
+     */
+    byte getNodeState(int id);
+
+    /**
+     * Sets every node back to {@link #NONE}, as after a search reset.
+     */
+    void clearNodeStates();
+
+    /**
+     * Shows the nodes whose state changed since the last flush.
+     *
+     * @return The number of nodes redrawn
+     */
+    int flush();
+
+    /**
+     * Highlights the solution path after the search finished.
+     *
+     * @param path The path from start to goal
+     */
+    void highlightPath(List<Node> path);
+
+    /**
+     * Releases the resources of the view.
+     */
+    void dispose();
+}
@@ -7,44 +7,20 @@ import java.util.*;
 /**
  * A* Search with full heuristic tracking (g, h, f) and observer updates.
  * Implements the A* search algorithm for pathfinding and graph traversal.
+ * <p>
+ * Heuristic values are computed at most once per node per query and memoized in the
+ * workspace; the open list is ordered by the cached f-value.
  */
 public class AStarSearch extends AbstractSearchAlgorithm {
 
     // The heuristic used to estimate the cost to the goal
     private final Heuristic heuristic;
 
-    // The graph to search
-    private Graph graph;
+    // Frontier (open list) keyed by cached f = g + h, re-sifted when g improves
+    private final IndexedMinHeap frontier = new IndexedMinHeap(0);
 
-    // The start and goal nodes
-    private Node start, goal;
-
-    // Observer to notify during the search
-    private SearchObserver observer;
-
-    // Priority queue for the frontier (open list)
-    private PriorityQueue<Node> frontier;
-
-    // Set of nodes in the frontier
-    private Set<Node> frontierSet;
-
-    // Set of explored (visited) nodes
-    private Set<Node> explored;
-
-    // Map of nodes to their parent nodes
-    private Map<Node, Node> parentMap;
-
-    // Maps for g, h, and f scores of nodes
-    private Map<Node, Double> gScores, hScores, fScores;
-
-    // Flags to track initialization and completion
-    private boolean initialized = false, finished = false;
-
-    // Tracks the number of nodes generated and the maximum frontier size
-    private int nodesGenerated = 0, maxFrontierSize = 0;
-
-    // Tracks the start time and memory usage before the search
-    private long startTime, beforeMem;
+    // Observer views over the frontier and explored set
+    private Collection<Node> frontierView, exploredView;
 
     /**
      * Constructs an AStarSearch instance with the given heuristic.
@@ -53,6 +29,13 @@ public class AStarSearch extends AbstractSearchAlgorithm {
      */
     public AStarSearch(Heuristic heuristic) { this.heuristic = heuristic; }
 
+    /**
+     * Returns the heuristic this search uses.
+     * @return The heuristic
+     */
+    @Override
+    public Heuristic getHeuristic() { return heuristic; }
+
     /**
      * Initializes the A* search algorithm with the given graph, start and goal nodes, and observer.
      *
@@ -62,130 +45,91 @@ public class AStarSearch extends AbstractSearchAlgorithm {
      * @param observer The observer to notify during the search
      */
     @Override
-    public void initialize(Graph graph, Node start, Node goal, SearchObserver observer) {
-        this.graph = graph;
-        this.start = start;
-        this.goal = goal;
-        this.observer = observer;
-
-        parentMap = new HashMap<>();
-        gScores = new HashMap<>();
-        hScores = new HashMap<>();
-        fScores = new HashMap<>();
-
-        explored = new HashSet<>();
-        frontierSet = new HashSet<>();
-
-        frontier = new PriorityQueue<>(Comparator.comparingDouble(
-                n -> gScores.getOrDefault(n, Double.POSITIVE_INFINITY)
-                        + heuristic.estimate(n, goal)));
-
-        parentMap.put(start, null);
-        gScores.put(start, 0.0);
-        hScores.put(start, heuristic.estimate(start, goal));
-        fScores.put(start, hScores.get(start));
-        frontier.add(start);
-        frontierSet.add(start);
+    public void initialize(GraphView graph, Node start, Node goal, SearchObserver observer) {
+        prepare(graph, start, goal, observer);
+
+        frontier.ensureCapacity(snapshot.nodeCount());
+        frontier.clear();
+        workspace.reach(startId, 0.0, -1);
+        frontier.add(startId, estimate(heuristic, startId));
+
+        frontierView = new NodeView(snapshot, frontier);
+        exploredView = exploredView();
 
         nodesGenerated = 1;
-        nodesExpanded = 0;
         maxFrontierSize = 1;
-        startTime = System.nanoTime();
-        beforeMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-        initialized = true;
-        finished = false;
     }
 
     /**
-     * Performs a single step of the A* search algorithm.
+     * Expands the next node of the A* search.
      *
      * @return True if there are more steps remaining, false if the search is finished
      */
     @Override
-    public boolean step() {
-        if (!initialized || finished || frontier.isEmpty()) return false;
+    protected boolean advance() {
+        if (!initialized || finished) return false;
+        if (frontier.isEmpty()) {
+            finishNoPath();
+            return false;
+        }
 
-        Node current = frontier.poll();
-        frontierSet.remove(current);
-        explored.add(current);
+        int current = frontier.poll();
+        workspace.markExplored(current);
         nodesExpanded++;
 
-        double g = gScores.getOrDefault(current, 0.0);
-        double h = heuristic.estimate(current, goal);
-        double f = g + h;
-        hScores.put(current, h);
-        fScores.put(current, f);
-
-        notifyObserver(observer, current, frontier, explored, nodesExpanded, explored.size(), g, h, f);
+        double g = workspace.g(current);
+        if (recording) {
+            double h = estimate(heuristic, current);
+            notifyObserver(current, frontierView, exploredView,
+                    nodesExpanded, workspace.exploredCount(), g, h, g + h);
+        }
 
-        if (current.equals(goal)) {
+        if (current == goalId) {
             finishSearch();
             return false;
         }
 
-        for (var edge : graph.getNeighbors(current)) {
-            Node neighbor = edge.getTo();
-            double tentativeG = g + edge.getCost();
-            if (!gScores.containsKey(neighbor) || tentativeG < gScores.get(neighbor)) {
-                gScores.put(neighbor, tentativeG);
-                hScores.put(neighbor, heuristic.estimate(neighbor, goal));
-                fScores.put(neighbor, tentativeG + hScores.get(neighbor));
-                parentMap.put(neighbor, current);
-
-                if (!frontierSet.contains(neighbor)) {
-                    frontier.add(neighbor);
-                    frontierSet.add(neighbor);
-                    nodesGenerated++;
-                }
+        for (int i = 0, degree = neighbors(current); i < degree; i++) {
+            int neighbor = neighborIds[i];
+            double tentativeG = g + neighborCosts[i];
+            if (tentativeG < workspace.g(neighbor)) {
+                workspace.reach(neighbor, tentativeG, current);
+
+                // Re-sift nodes already on the frontier; (re)open everything else
+                double fNeighbor = tentativeG + estimate(heuristic, neighbor);
+                boolean added = frontier.addOrDecrease(neighbor, fNeighbor);
+                if (added) nodesGenerated++;
+                if (recording) recordFrontier(neighbor, added, tentativeG, fNeighbor);
             }
         }
 
         maxFrontierSize = Math.max(maxFrontierSize, frontier.size());
-        return !frontier.isEmpty();
-    }
-
-    /**
-     * Completes the search and notifies the observer with the results.
-     */
-    private void finishSearch() {
-        finished = true;
-
-        List<Node> path = reconstructPath(parentMap, goal);
-        double totalCost = gScores.getOrDefault(goal, Double.POSITIVE_INFINITY);
-        int solutionDepth = path.size() - 1;
-
-        long endTime = System.nanoTime();
-        long afterMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-
-        long runtimeMs = (endTime - startTime) / 1_000_000;
-        long memoryBytes = afterMem - beforeMem;
-
-        if (observer != null) {
-            observer.onFinish(path, nodesExpanded, nodesGenerated, maxFrontierSize,
-                    totalCost, solutionDepth, runtimeMs, memoryBytes);
+        if (frontier.isEmpty()) {
+            finishNoPath();
+            return false;
         }
+        return true;
     }
 
     /**
      * Returns the heuristic value (h) for the given node.
      *
      * @param n The node to evaluate
-     * @return The heuristic value
+     * @return The heuristic value, or 0 if the node has not been reached
      */
-    public double getHeuristicValue(Node n) { return hScores.getOrDefault(n, 0.0); }
+    public double getHeuristicValue(Node n) {
+        int id = snapshot == null ? -1 : snapshot.idOf(n);
+        return id >= 0 ? workspace.heuristic(id) : 0.0;
+    }
 
     /**
      * Returns the total estimated cost (f) for the given node.
      *
      * @param n The node to evaluate
-     * @return The total estimated cost
-     */
-    public double getFValue(Node n) { return fScores.getOrDefault(n, 0.0); }
-
-    /**
-     * Checks if the search is finished.
-     *
-     * @return True if the search is finished, false otherwise
+     * @return The total estimated cost, or 0 if the node has not been reached
      */
-    @Override public boolean isFinished() { return finished || frontier.isEmpty(); }
-}
\ No newline at end of file
+    public double getFValue(Node n) {
+        int id = snapshot == null ? -1 : snapshot.idOf(n);
+        return id >= 0 && workspace.isSeen(id) ? workspace.g(id) + workspace.heuristic(id) : 0.0;
+    }
+}
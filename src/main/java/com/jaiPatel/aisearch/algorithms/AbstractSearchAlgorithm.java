@@ -1,39 +1,96 @@
 package com.jaiPatel.aisearch.algorithms;
 
         import com.jaiPatel.aisearch.graph.*;
+        import com.jaiPatel.aisearch.heuristics.Heuristic;
 
         import java.util.*;
 
         /**
          * Base class for all search algorithms.
          * Provides common functionality such as pause/resume/stop control,
-         * observer notifications, and step-based execution for visualization.
+         * search budgets, observer notifications, step-based execution for visualization,
+         * and a non-instrumented batch {@link #solve} loop.
+         * <p>
+         * Control and budgets are checked before every expansion, in both {@link #step()} and
+         * {@link #solve}: a paused search blocks until it is resumed or cancelled, and a cancelled
+         * search or one that runs out of its {@link SearchBudget} finishes with the matching
+         * {@link SearchOutcome} and an empty path.
          */
         public abstract class AbstractSearchAlgorithm implements SearchAlgorithm {
 
-            // Indicates whether the algorithm is paused
-            protected volatile boolean paused = false;
+            // Token set with setCancellationToken, or null to use a fresh token per search
+            private CancellationToken cancellation;
 
-            // Indicates whether the algorithm is stopped
-            protected volatile boolean stopped = false;
+            // Pause/cancel signal of the current search
+            protected volatile CancellationToken token = new CancellationToken();
+
+            // Limits of every search run by this instance
+            protected SearchBudget budget = SearchBudget.UNLIMITED;
+
+            // System.nanoTime() after which the current search exceeds its budget, if it has a timeout
+            protected long deadline;
+
+            // Expansions left until the clock is read again
+            private int clockCountdown;
 
             // Tracks the number of nodes expanded during the search
             protected int nodesExpanded = 0;
 
             /**
-             * Pauses the execution of the algorithm.
+             * Pauses the execution of the algorithm before its next expansion.
              */
-            public void pause() { paused = true; }
+            public void pause() { token.pause(); }
 
             /**
              * Resumes the execution of the algorithm.
              */
-            public void resume() { paused = false; }
+            public void resume() { token.resume(); }
+
+            /**
+             * Stops the execution of the algorithm; it finishes as {@link SearchOutcome#CANCELLED}
+             * before its next expansion.
+             */
+            public void stop() { token.cancel(); }
+
+            /**
+             * Sets the limits of every search run by this instance.
+             *
+             * @param budget The budget, or null for {@link SearchBudget#UNLIMITED}
+             */
+            @Override
+            public void setBudget(SearchBudget budget) {
+                this.budget = budget == null ? SearchBudget.UNLIMITED : budget;
+            }
+
+            /**
+             * Returns the limits of every search run by this instance.
+             *
+             * @return The search budget
+             */
+            @Override
+            public SearchBudget getBudget() { return budget; }
+
+            /**
+             * Shares a cancellation token with the searches run by this instance, so that other
+             * threads can pause or cancel them. Without a shared token, every search gets a fresh
+             * token that {@link #pause()}, {@link #resume()} and {@link #stop()} act on. It is
+             * replaced when a search finishes, so a call made before or during
+             * {@link #initialize} applies to the search being set up.
+             *
+             * @param token The token to use, or null for a fresh token per search
+             */
+            @Override
+            public void setCancellationToken(CancellationToken token) {
+                this.cancellation = token;
+                this.token = token != null ? token : new CancellationToken();
+            }
 
             /**
-             * Stops the execution of the algorithm.
+             * Returns the token of the current search, or of the next one once a search finished.
+             *
+             * @return The cancellation token
              */
-            public void stop() { stopped = true; }
+            public CancellationToken getCancellationToken() { return token; }
 
             // Tracks the number of nodes generated during the search
             protected int nodesGenerated = 0;
@@ -44,10 +101,43 @@ package com.jaiPatel.aisearch.algorithms;
             // Records the start time of the search
             protected long startTime = 0;
 
-            // Maps to store g, h, and f scores for nodes
-            protected Map<Node, Double> gScore = new HashMap<>();
-            protected Map<Node, Double> hScore = new HashMap<>();
-            protected Map<Node, Double> fScore = new HashMap<>();
+            // Memory usage recorded before the search
+            protected long beforeMem = 0;
+
+            // The graph being searched: the CSR snapshot of a Graph, or another GraphView
+            protected GraphView snapshot;
+
+            // Buffers receiving the neighbors of one node, sized to the graph's maximum degree
+            protected int[] neighborIds = new int[0];
+            protected double[] neighborCosts = new double[0];
+
+            // Per-query g-scores, parents and explored/frontier markers, reused between queries
+            protected SearchWorkspace workspace;
+
+            // The start and goal nodes and their dense ids in the snapshot
+            protected Node start, goal;
+            protected int startId = -1, goalId = -1;
+
+            // Observer to notify during the search
+            protected SearchObserver observer;
+
+            // Whether the current expansion records its changes: set by step() when an observer is attached
+            protected boolean recording = false;
+
+            // Changes made by the current step, delivered to the observer when the step ends
+            private final SearchStep.Recorder stepRecorder = new SearchStep.Recorder();
+
+            // Flags to track initialization and completion
+            protected boolean initialized = false, finished = false;
+
+            // Number of Heuristic.estimate calls made during the current query
+            protected int heuristicEvaluations = 0;
+
+            // Whether heuristic values are memoized per node for the duration of a query
+            protected boolean cacheHeuristics = true;
+
+            // Result of the last completed search, null while a search is running
+            protected SearchResult result;
 
             /**
              * Returns the number of nodes expanded during the search.
@@ -78,36 +168,79 @@ package com.jaiPatel.aisearch.algorithms;
             public long getStartTime() { return startTime; }
 
             /**
-             * Checks the control state (pause/stop) of the algorithm.
-             * If paused, the thread sleeps until resumed.
-             * If stopped, a RuntimeException is thrown to terminate the search.
+             * Returns the number of heuristic evaluations made during the search.
+             *
+             * @return Number of {@code Heuristic.estimate} calls
              */
-            protected void checkControl() {
-                while (paused) {
-                    try {
-                        Thread.sleep(100);
-                    } catch (InterruptedException ignored) {}
+            @Override
+            public int getHeuristicEvaluations() { return heuristicEvaluations; }
+
+            /**
+             * Enables or disables per-query heuristic memoization. Enabled by default;
+             * disabling it re-evaluates the heuristic on every relaxation and expansion,
+             * which is only useful for benchmarking the cache.
+             *
+             * @param enabled True to memoize heuristic values
+             */
+            public void setHeuristicCaching(boolean enabled) { cacheHeuristics = enabled; }
+
+            /**
+             * Checks the control state and the budget before an expansion. Blocks while the search
+             * is paused; if the search was cancelled or has used up its budget, finishes it with the
+             * matching outcome.
+             *
+             * @return True if the search may expand its next node
+             */
+            protected boolean checkControl() {
+                if (!initialized || finished) return false;
+                CancellationToken t = token;
+                if (t.isPaused() && !t.awaitResumed() || t.isCancelled()) {
+                    finishStopped(SearchOutcome.CANCELLED);
+                    return false;
                 }
-                if (stopped) {
-                    throw new RuntimeException("Search stopped");
+                if (nodesExpanded >= budget.maxExpansions() || overFrontierBudget(maxFrontierSize)
+                        || --clockCountdown <= 0 && isPastDeadline()) {
+                    finishStopped(SearchOutcome.BUDGET_EXCEEDED);
+                    return false;
                 }
+                return true;
+            }
+
+            /**
+             * Checks whether a frontier of the given size exceeds the frontier budget.
+             *
+             * @param frontierSize Number of open nodes
+             * @return True if the estimated frontier size is over budget
+             */
+            protected boolean overFrontierBudget(long frontierSize) {
+                return frontierSize > budget.maxFrontierBytes() / SearchBudget.FRONTIER_ENTRY_BYTES;
+            }
+
+            /**
+             * Reads the clock and checks whether the search has run past its timeout.
+             *
+             * @return True if the timeout has passed
+             */
+            protected boolean isPastDeadline() {
+                clockCountdown = SearchBudget.CLOCK_INTERVAL;
+                return budget.hasTimeout() && System.nanoTime() - deadline > 0;
             }
 
             /**
-             * Notifies the observer with the current state of the search.
+             * Records the expansion of the current step for the observer. The step is delivered
+             * to {@link SearchObserver#onStep(SearchStep)} when it ends, together with the frontier
+             * changes recorded through {@link #recordFrontier}.
              *
-             * @param observer       The observer to notify
-             * @param current        Current node being expanded
-             * @param frontier       Nodes in the frontier/open list
-             * @param explored       Nodes that have been explored/visited
+             * @param current        Id of the node being expanded
+             * @param frontier       Live view of the frontier/open list
+             * @param explored       Live view of the explored/visited nodes
              * @param pathCost       Cost from the start node to the current node
              * @param solutionDepth  Depth of the current node from the start
              * @param g              Cost from the start to the current node
              * @param h              Heuristic estimate to the goal
              * @param f              Total estimated cost (g + h)
              */
-            protected void notifyObserver(SearchObserver observer,
-                                          Node current,
+            protected void notifyObserver(int current,
                                           Collection<Node> frontier,
                                           Collection<Node> explored,
                                           double pathCost,
@@ -115,13 +248,39 @@ package com.jaiPatel.aisearch.algorithms;
                                           double g,
                                           double h,
                                           double f) {
-                nodesExpanded++;
-                if (observer != null) {
-                    observer.onStep(current, frontier, explored,
-                            nodesExpanded, pathCost, solutionDepth, g, h, f);
+                if (recording) {
+                    stepRecorder.expanded(current, frontier, explored, nodesExpanded, pathCost, solutionDepth, g, h, f);
                 }
             }
 
+            /**
+             * Records that a node was added to the frontier or had its score improved in the current
+             * step. Callers check {@link #recording} first, so batch searches pay nothing.
+             *
+             * @param id    The node id
+             * @param added True if the node was not on the frontier before
+             * @param g     The node's new cost from the start
+             * @param key   The node's new frontier key
+             */
+            protected void recordFrontier(int id, boolean added, double g, double key) {
+                stepRecorder.frontier(id, added, g, key);
+            }
+
+            /**
+             * Records that the search discarded its frontier and explored set in the current step.
+             */
+            protected void recordReset() {
+                stepRecorder.reset();
+            }
+
+            /** Delivers the changes recorded in the current step to the observer. */
+            private void dispatchStep() {
+                if (stepRecorder.isEmpty()) return;
+                SearchStep step = stepRecorder.build(snapshot);
+                stepRecorder.clear();
+                if (observer != null) observer.onStep(step);
+            }
+
             /**
              * Initializes the algorithm state before stepping begins.
              * Subclasses should override this method to set up specific state.
@@ -131,75 +290,242 @@ package com.jaiPatel.aisearch.algorithms;
              * @param goal     The goal node
              * @param observer The observer to notify during the search
              */
-            public void initialize(Graph graph, Node start, Node goal, SearchObserver observer) {
+            @Override
+            public void initialize(GraphView graph, Node start, Node goal, SearchObserver observer) {
                 // Default empty — each subclass overrides
             }
 
             /**
-             * Performs a single step of the algorithm.
+             * Resets the shared per-query state: resolves the start and goal ids, sizes the
+             * neighbor buffers, resets the workspace and clears all metrics.
+             * Subclasses call this at the beginning of {@link #initialize}.
+             *
+             * @param graph    The graph to search
+             * @param start    The start node
+             * @param goal     The goal node
+             * @param observer The observer to notify during the search
+             */
+            protected void prepare(GraphView graph, Node start, Node goal, SearchObserver observer) {
+                this.snapshot = graph;
+                this.start = start;
+                this.goal = goal;
+                this.observer = observer;
+
+                startId = snapshot.idOf(start);
+                goalId = snapshot.idOf(goal);
+                if (startId < 0) {
+                    throw new IllegalArgumentException("Start node is not part of the graph: " + start);
+                }
+                workspace = SearchWorkspace.reuse(workspace, snapshot.nodeCount());
+                ensureNeighborCapacity(snapshot.maxDegree());
+
+                nodesExpanded = 0;
+                nodesGenerated = 0;
+                maxFrontierSize = 0;
+                heuristicEvaluations = 0;
+                stepRecorder.clear();
+                startTime = System.nanoTime();
+                deadline = startTime + budget.timeoutNanos();
+                clockCountdown = SearchBudget.CLOCK_INTERVAL;
+                beforeMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+                initialized = true;
+                finished = false;
+                result = null;
+            }
+
+            /**
+             * Performs a single step of the algorithm and reports it to the observer.
              *
              * @return True if there are more steps remaining, false if finished
              */
             public boolean step() {
-                return false;
+                if (!checkControl()) return false;
+                recording = observer != null;
+                boolean more;
+                try {
+                    more = advance();
+                } finally {
+                    recording = false;
+                }
+                dispatchStep();
+                return more;
             }
 
+            /**
+             * Expands the next node of the search. Shared by the observed {@link #step()} path
+             * and the non-instrumented {@link #solve} loop; implementations report the expansion
+             * only while {@link #recording} is set.
+             *
+             * @return True if there are more steps remaining, false if finished
+             */
+            protected abstract boolean advance();
+
             /**
              * Checks whether the search has finished.
              *
              * @return True if the search is finished, false otherwise
              */
             public boolean isFinished() {
-                return stopped;
+                return finished;
             }
 
             /**
              * Solves the search problem in batch mode.
-             * This method is unsupported for incremental algorithms.
+             * <p>
+             * Runs the expansion loop without per-step observer callbacks or frontier/explored
+             * collection handoff; the observer, if any, only receives {@code onFinish}. The returned
+             * result's {@link SearchResult#getOutcome() outcome} tells whether the goal was found,
+             * is unreachable, or the search was cut short by its budget or a cancellation.
              *
              * @param graph    The graph to search
              * @param start    The start node
              * @param goal     The goal node
-             * @param observer The observer to notify during the search
+             * @param observer The observer to notify when the search finishes (may be null)
              * @return SearchResult containing the result of the search
-             * @throws UnsupportedOperationException Always thrown for incremental algorithms
              */
             @Override
-            public SearchResult solve(Graph graph, Node start, Node goal, SearchObserver observer) {
-                throw new UnsupportedOperationException(
-                        "Incremental algorithms should use initialize() and step() instead of solve()."
-                );
+            public SearchResult solve(GraphView graph, Node start, Node goal, SearchObserver observer) {
+                initialize(graph, start, goal, observer);
+                while (checkControl() && advance()) {
+                    // expansion loop
+                }
+                return result;
             }
 
             /**
-             * Calculates the total cost of a path in the graph.
+             * Grows the neighbor buffers to hold at least the given number of edges.
              *
-             * @param graph The graph containing the path
-             * @param path  The list of nodes representing the path
-             * @return The total cost of the path
+             * @param maxDegree Largest number of edges copied at once
              */
-            protected double calculatePathCost(Graph graph, List<Node> path) {
-                double cost = 0;
-                for (int i = 0; i < path.size() - 1; i++) {
-                    cost += graph.getEdgeWeight(path.get(i), path.get(i + 1));
+            protected void ensureNeighborCapacity(int maxDegree) {
+                if (neighborIds.length < maxDegree) {
+                    neighborIds = new int[maxDegree];
+                    neighborCosts = new double[maxDegree];
                 }
-                return cost;
             }
 
             /**
-             * Reconstructs the path from the start node to the goal node.
+             * Copies the outgoing edges of a node into {@link #neighborIds} and
+             * {@link #neighborCosts}.
              *
-             * @param parent A map of nodes to their parents
-             * @param goal   The goal node
+             * @param id The node id
+             * @return The number of edges copied
+             */
+            protected int neighbors(int id) {
+                return snapshot.neighbors(id, neighborIds, neighborCosts);
+            }
+
+            /**
+             * Returns the result of the last completed search.
+             *
+             * @return The search result, or null if no search has finished since the last initialize
+             */
+            @Override
+            public SearchResult getResult() { return result; }
+
+            /**
+             * Returns the heuristic estimate from a node to the goal, computing it at most once
+             * per node per query. The value is memoized in the workspace.
+             *
+             * @param heuristic The heuristic to evaluate
+             * @param id        The node id
+             * @return Estimated cost from the node to the goal
+             */
+            protected double estimate(Heuristic heuristic, int id) {
+                if (cacheHeuristics && workspace.hasHeuristic(id)) {
+                    return workspace.heuristic(id);
+                }
+                heuristicEvaluations++;
+                double h = goalId >= 0
+                        ? heuristic.estimate(snapshot, id, goalId)
+                        : heuristic.estimate(snapshot.getNode(id), goal);
+                workspace.storeHeuristic(id, h);
+                return h;
+            }
+
+            /**
+             * Completes a successful search: reconstructs the path to the goal from the workspace
+             * and notifies the observer with the final metrics.
+             */
+            protected void finishSearch() {
+                finishSearch(reconstructPath(goalId), workspace.g(goalId));
+            }
+
+            /**
+             * Completes a successful search with an explicitly assembled path, for algorithms whose
+             * solution is not a single parent chain in the workspace (e.g. bidirectional searches).
+             *
+             * @param path      The solution path from start to goal
+             * @param totalCost The cost of the path
+             */
+            protected void finishSearch(List<Node> path, double totalCost) {
+                complete(path, totalCost, path.size() - 1, SearchOutcome.FOUND);
+            }
+
+            /**
+             * Completes a search whose frontier was exhausted without reaching the goal.
+             */
+            protected void finishNoPath() {
+                complete(Collections.emptyList(), Double.POSITIVE_INFINITY, 0, SearchOutcome.NO_PATH);
+            }
+
+            /**
+             * Completes a search that was cancelled or ran out of budget before reaching the goal.
+             *
+             * @param outcome {@link SearchOutcome#CANCELLED} or {@link SearchOutcome#BUDGET_EXCEEDED}
+             */
+            protected void finishStopped(SearchOutcome outcome) {
+                complete(Collections.emptyList(), Double.POSITIVE_INFINITY, 0, outcome);
+            }
+
+            /** Records the result of the search and notifies the observer with the final metrics. */
+            private void complete(List<Node> path, double totalCost, int solutionDepth, SearchOutcome outcome) {
+                finished = true;
+                // the next search starts unpaused and uncancelled unless the token is shared
+                if (cancellation == null) token = new CancellationToken();
+                dispatchStep();
+
+                long endTime = System.nanoTime();
+                long afterMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+
+                long runtimeMs = (endTime - startTime) / 1_000_000;
+                long memoryBytes = afterMem - beforeMem;
+
+                result = new SearchResult(path, totalCost, nodesExpanded, nodesGenerated,
+                        workspace.exploredCount(), maxFrontierSize, solutionDepth, runtimeMs, memoryBytes, outcome);
+
+                if (observer != null) {
+                    observer.onFinish(path, nodesExpanded, nodesGenerated, maxFrontierSize,
+                            totalCost, solutionDepth, runtimeMs, memoryBytes);
+                }
+            }
+
+            /**
+             * Reconstructs the path from the start node to the given node by following the
+             * parent ids recorded in the workspace.
+             *
+             * @param target The id of the last node on the path
              * @return A list of nodes representing the reconstructed path
              */
-            protected List<Node> reconstructPath(Map<Node, Node> parent, Node goal) {
+            protected List<Node> reconstructPath(int target) {
                 List<Node> path = new ArrayList<>();
-                for (Node n = goal; n != null; n = parent.get(n)) {
-                    path.add(n);
+                for (int id = target; id >= 0; id = workspace.parent(id)) {
+                    path.add(snapshot.getNode(id));
                 }
                 Collections.reverse(path);
                 return path;
             }
 
-        }
\ No newline at end of file
+            /**
+             * Returns a live view of the nodes explored so far, in exploration order.
+             *
+             * @return Collection view over the workspace's explored set
+             */
+            protected Collection<Node> exploredView() {
+                return new NodeView(snapshot, new NodeView.Source() {
+                    @Override public int size() { return workspace.exploredCount(); }
+                    @Override public int idAt(int index) { return workspace.exploredAt(index); }
+                });
+            }
+
+        }
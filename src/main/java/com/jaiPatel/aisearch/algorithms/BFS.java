@@ -1,6 +1,6 @@
 package com.jaiPatel.aisearch.algorithms;
 
-import com.jaiPatel.aisearch.graph.Graph;
+import com.jaiPatel.aisearch.graph.GraphView;
 import com.jaiPatel.aisearch.graph.Node;
 
 import java.util.*;
@@ -8,35 +8,29 @@ import java.util.*;
 /**
  * Incremental Breadth-First Search (BFS) for live visualization.
  * Implements the BFS algorithm for pathfinding and graph traversal.
+ * <p>
+ * Runs on the graph's CSR snapshot; the frontier is a primitive FIFO of node ids and
+ * explored/parent state lives in the shared {@link SearchWorkspace}.
  */
 public class BFS extends AbstractSearchAlgorithm {
 
-    // Queue representing the frontier (open list)
-    private Queue<Node> frontier;
+    // FIFO of node ids representing the frontier; every node is enqueued at most once
+    private int[] queue = new int[0];
 
-    // Set of explored (visited) nodes
-    private Set<Node> explored;
+    // Read and write positions in the queue
+    private int head, tail;
 
-    // Map of nodes to their parent nodes
-    private Map<Node, Node> parentMap;
+    // Tracks the maximum combined size of frontier and explored set
+    private int maxFootprintSize = 0;
 
-    // The graph to search
-    private Graph graph;
+    // Live view of the queue contents handed to the observer
+    private final NodeView.Source frontierSource = new NodeView.Source() {
+        @Override public int size() { return tail - head; }
+        @Override public int idAt(int index) { return queue[head + index]; }
+    };
 
-    // The start and goal nodes
-    private Node start, goal;
-
-    // Observer to notify during the search
-    private SearchObserver observer;
-
-    // Flags to track initialization and completion
-    private boolean initialized = false, finished = false;
-
-    // Tracks the number of nodes generated and the maximum frontier size
-    private int nodesGenerated = 0, maxFrontierSize = 0, maxFootprintSize = 0;
-
-    // Tracks the start time and memory usage before the search
-    private long startTime, beforeMem;
+    // Observer views over the frontier and explored set
+    private Collection<Node> frontierView, exploredView;
 
     /**
      * Initializes the BFS algorithm with the given graph, start and goal nodes, and observer.
@@ -47,101 +41,71 @@ public class BFS extends AbstractSearchAlgorithm {
      * @param observer The observer to notify during the search
      */
     @Override
-    public void initialize(Graph graph, Node start, Node goal, SearchObserver observer) {
-        this.graph = graph;
-        this.start = start;
-        this.goal = goal;
-        this.observer = observer;
+    public void initialize(GraphView graph, Node start, Node goal, SearchObserver observer) {
+        prepare(graph, start, goal, observer);
+
+        if (queue.length < snapshot.nodeCount()) queue = new int[snapshot.nodeCount()];
+        head = 0;
+        tail = 0;
 
-        frontier = new LinkedList<>();
-        explored = new HashSet<>();
-        parentMap = new HashMap<>();
+        queue[tail++] = startId;
+        workspace.reach(startId, 0.0, -1);
 
-        frontier.add(start);
-        parentMap.put(start, null);
+        frontierView = new NodeView(snapshot, frontierSource);
+        exploredView = exploredView();
 
         nodesGenerated = 1;
-        nodesExpanded = 0;
         maxFrontierSize = 1;
-
-        startTime = System.nanoTime();
-        beforeMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-
-        initialized = true;
-        finished = false;
+        maxFootprintSize = 0;
     }
 
     /**
-     * Performs a single step of the BFS algorithm.
+     * Expands the next node of the BFS search.
      *
      * @return True if there are more steps remaining, false if the search is finished
      */
     @Override
-    public boolean step() {
-        if (!initialized || finished || frontier.isEmpty()) return false;
+    protected boolean advance() {
+        if (!initialized || finished) return false;
+        if (head == tail) {
+            finishNoPath();
+            return false;
+        }
 
-        Node current = frontier.poll();
-        explored.add(current);
+        int current = queue[head++];
+        workspace.markExplored(current);
         nodesExpanded++;
 
-        notifyObserver(observer, current, frontier, explored, 0, explored.size(), 0, 0, 0);
+        if (recording) {
+            notifyObserver(current, frontierView, exploredView,
+                    0, workspace.exploredCount(), 0, 0, 0);
+        }
 
-        if (current.equals(goal)) {
+        if (current == goalId) {
             finishSearch();
             return false;
         }
 
-        for (var edge : graph.getNeighbors(current)) {
-            Node neighbor = edge.getTo();
-            if (!explored.contains(neighbor) && !frontier.contains(neighbor)) {
-                frontier.add(neighbor);
-                parentMap.put(neighbor, current);
+        double g = workspace.g(current);
+        for (int i = 0, degree = neighbors(current); i < degree; i++) {
+            int neighbor = neighborIds[i];
+            // seen covers both the explored set and the frontier
+            if (!workspace.isSeen(neighbor)) {
+                double gNeighbor = g + neighborCosts[i];
+                workspace.reach(neighbor, gNeighbor, current);
+                queue[tail++] = neighbor;
                 nodesGenerated++;
+                if (recording) recordFrontier(neighbor, true, gNeighbor, gNeighbor);
             }
         }
 
-        maxFrontierSize = Math.max(maxFrontierSize, frontier.size());
-        maxFootprintSize = Math.max(maxFootprintSize, frontier.size() + explored.size());
-        return !frontier.isEmpty();
-    }
-
-    /**
-     * Completes the search and notifies the observer with the results.
-     */
-    private void finishSearch() {
-        finished = true;
-
-        List<Node> path = reconstructPath(parentMap, goal);
-        double totalCost = calculatePathCost(graph, path);
-        int solutionDepth = path.size() - 1;
-
-        long endTime = System.nanoTime();
-        long afterMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-
-        long runtimeMs = (endTime - startTime) / 1_000_000;
-        long memoryBytes = afterMem - beforeMem;
-
-        if (observer != null) {
-            observer.onFinish(
-                    path,
-                    nodesExpanded,
-                    nodesGenerated,
-                    maxFrontierSize,
-                    totalCost,
-                    solutionDepth,
-                    runtimeMs,
-                    memoryBytes
-            );
+        int frontierSize = tail - head;
+        maxFrontierSize = Math.max(maxFrontierSize, frontierSize);
+        maxFootprintSize = Math.max(maxFootprintSize, frontierSize + workspace.exploredCount());
+        if (frontierSize == 0) {
+            finishNoPath();
+            return false;
         }
+        return true;
     }
-
-    /**
-     * Checks if the search is finished.
-     *
-     * @return True if the search is finished, false otherwise
-     */
-    @Override
-    public boolean isFinished() {
-        return finished || frontier.isEmpty();
-    }
-}
\ No newline at end of file
+}
@@ -7,44 +7,20 @@ import java.util.*;
 /**
  * Greedy Best-First Search with heuristic tracking and observer updates.
  * Implements the Best-First Search algorithm for pathfinding and graph traversal.
+ * <p>
+ * Heuristic values are computed at most once per node per query and memoized in the
+ * workspace; the open list is ordered by the cached h-value.
  */
 public class BestFirstSearch extends AbstractSearchAlgorithm {
 
     // The heuristic used to estimate the cost to the goal
     private final Heuristic heuristic;
 
-    // The graph to search
-    private Graph graph;
+    // Frontier ordered by heuristic value
+    private final IndexedMinHeap frontier = new IndexedMinHeap(0);
 
-    // The start and goal nodes
-    private Node start, goal;
-
-    // Observer to notify during the search
-    private SearchObserver observer;
-
-    // Priority queue for the frontier (open list)
-    private PriorityQueue<Node> frontier;
-
-    // Set of nodes in the frontier
-    private Set<Node> frontierSet;
-
-    // Set of explored (visited) nodes
-    private Set<Node> explored;
-
-    // Map of nodes to their parent nodes
-    private Map<Node, Node> parentMap;
-
-    // Map for heuristic scores of nodes
-    private Map<Node, Double> hScores;
-
-    // Flags to track initialization and completion
-    private boolean initialized = false, finished = false;
-
-    // Tracks the number of nodes generated and the maximum frontier size
-    private int nodesGenerated = 0, maxFrontierSize = 0;
-
-    // Tracks the start time and memory usage before the search
-    private long startTime, beforeMem;
+    // Observer views over the frontier and explored set
+    private Collection<Node> frontierView, exploredView;
 
     /**
      * Constructs a BestFirstSearch instance with the given heuristic.
@@ -53,6 +29,13 @@ public class BestFirstSearch extends AbstractSearchAlgorithm {
      */
     public BestFirstSearch(Heuristic heuristic) { this.heuristic = heuristic; }
 
+    /**
+     * Returns the heuristic this search uses.
+     * @return The heuristic
+     */
+    @Override
+    public Heuristic getHeuristic() { return heuristic; }
+
     /**
      * Initializes the Best-First Search algorithm with the given graph, start and goal nodes, and observer.
      *
@@ -62,102 +45,78 @@ public class BestFirstSearch extends AbstractSearchAlgorithm {
      * @param observer The observer to notify during the search
      */
     @Override
-    public void initialize(Graph graph, Node start, Node goal, SearchObserver observer) {
-        this.graph = graph;
-        this.start = start;
-        this.goal = goal;
-        this.observer = observer;
-
-        hScores = new HashMap<>();
-        frontier = new PriorityQueue<>(Comparator.comparingDouble(n -> heuristic.estimate(n, goal)));
-        frontierSet = new HashSet<>();
-        explored = new HashSet<>();
-        parentMap = new HashMap<>();
-
-        frontier.add(start);
-        frontierSet.add(start);
-        parentMap.put(start, null);
-        hScores.put(start, heuristic.estimate(start, goal));
+    public void initialize(GraphView graph, Node start, Node goal, SearchObserver observer) {
+        prepare(graph, start, goal, observer);
+
+        frontier.ensureCapacity(snapshot.nodeCount());
+        frontier.clear();
+        frontier.add(startId, estimate(heuristic, startId));
+        workspace.reach(startId, 0.0, -1);
+
+        frontierView = new NodeView(snapshot, frontier);
+        exploredView = exploredView();
 
         nodesGenerated = 1;
-        nodesExpanded = 0;
         maxFrontierSize = 1;
-        startTime = System.nanoTime();
-        beforeMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-        initialized = true;
-        finished = false;
     }
 
     /**
-     * Performs a single step of the Best-First Search algorithm.
+     * Expands the next node of the Best-First search.
      *
      * @return True if there are more steps remaining, false if the search is finished
      */
     @Override
-    public boolean step() {
-        if (!initialized || finished || frontier.isEmpty()) return false;
+    protected boolean advance() {
+        if (!initialized || finished) return false;
+        if (frontier.isEmpty()) {
+            finishNoPath();
+            return false;
+        }
 
-        Node current = frontier.poll();
-        frontierSet.remove(current);
-        explored.add(current);
+        int current = frontier.poll();
+        workspace.markExplored(current);
         nodesExpanded++;
 
-        double h = heuristic.estimate(current, goal);
-        hScores.put(current, h);
-        notifyObserver(observer, current, frontier, explored, nodesExpanded, 0, 0, h, h);
+        if (recording) {
+            double h = estimate(heuristic, current);
+            notifyObserver(current, frontierView, exploredView,
+                    nodesExpanded, 0, 0, h, h);
+        }
 
-        if (current.equals(goal)) {
+        if (current == goalId) {
             finishSearch();
             return false;
         }
 
-        for (var edge : graph.getNeighbors(current)) {
-            Node neighbor = edge.getTo();
-            if (!explored.contains(neighbor) && !frontierSet.contains(neighbor)) {
-                frontier.add(neighbor);
-                frontierSet.add(neighbor);
-                parentMap.put(neighbor, current);
-                hScores.put(neighbor, heuristic.estimate(neighbor, goal));
+        double g = workspace.g(current);
+        for (int i = 0, degree = neighbors(current); i < degree; i++) {
+            int neighbor = neighborIds[i];
+            // seen covers both the explored set and the frontier
+            if (!workspace.isSeen(neighbor)) {
+                double gNeighbor = g + neighborCosts[i], h = estimate(heuristic, neighbor);
+                workspace.reach(neighbor, gNeighbor, current);
+                frontier.add(neighbor, h);
                 nodesGenerated++;
+                if (recording) recordFrontier(neighbor, true, gNeighbor, h);
             }
         }
 
         maxFrontierSize = Math.max(maxFrontierSize, frontier.size());
-        return !frontier.isEmpty();
-    }
-
-    /**
-     * Completes the search and notifies the observer with the results.
-     */
-    private void finishSearch() {
-        finished = true;
-        List<Node> path = reconstructPath(parentMap, goal);
-        double totalCost = calculatePathCost(graph, path);
-        int solutionDepth = path.size() - 1;
-
-        long endTime = System.nanoTime();
-        long afterMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-        long runtimeMs = (endTime - startTime) / 1_000_000;
-        long memoryBytes = afterMem - beforeMem;
-
-        if (observer != null) {
-            observer.onFinish(path, nodesExpanded, nodesGenerated, maxFrontierSize,
-                    totalCost, solutionDepth, runtimeMs, memoryBytes);
+        if (frontier.isEmpty()) {
+            finishNoPath();
+            return false;
         }
+        return true;
     }
 
     /**
      * Returns the heuristic value (h) for the given node.
      *
      * @param n The node to evaluate
-     * @return The heuristic value
+     * @return The heuristic value, or 0 if the node has not been reached
      */
-    public double getHeuristicValue(Node n) { return hScores.getOrDefault(n, 0.0); }
-
-    /**
-     * Checks if the search is finished.
-     *
-     * @return True if the search is finished, false otherwise
-     */
-    @Override public boolean isFinished() { return finished || frontier.isEmpty(); }
-}
\ No newline at end of file
+    public double getHeuristicValue(Node n) {
+        int id = snapshot == null ? -1 : snapshot.idOf(n);
+        return id >= 0 ? workspace.heuristic(id) : 0.0;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.heuristics.Heuristic;
+
+/**
+ * Bidirectional A* search with average potentials.
+ * <p>
+ * The forward potential of a node is {@code (h(v, goal) - h(start, v)) / 2} and the backward
+ * potential is its negation. {@code h(v, goal)} bounds the distance still to go forward and
+ * {@code h(start, v)} the distance from the start, which is what the backward search needs; on
+ * directed graphs these differ from {@code h(goal, v)} and {@code h(v, start)}, so the bounds are
+ * taken in the direction they are used. Both potentials are consistent whenever the heuristic is
+ * consistent, including asymmetric ones such as the landmark heuristic, so the bidirectional
+ * Dijkstra stopping criterion carries over unchanged and the returned path is optimal.
+ * Potentials are memoized per node for the duration of a query.
+ */
+public class BidirectionalAStar extends BidirectionalSearch {
+
+    // The heuristic used to estimate distances to the goal and from the start
+    private final Heuristic heuristic;
+
+    /**
+     * Constructs a BidirectionalAStar instance with the given heuristic.
+     *
+     * @param heuristic The heuristic function to use
+     */
+    public BidirectionalAStar(Heuristic heuristic) { this.heuristic = heuristic; }
+
+    /**
+     * Returns the heuristic this search uses.
+     * @return The heuristic
+     */
+    @Override
+    public Heuristic getHeuristic() { return heuristic; }
+
+    /**
+     * Returns the average forward potential of a node, computing it at most once per query.
+     *
+     * @param id The node id
+     * @return {@code (h(v, goal) - h(start, v)) / 2}
+     */
+    @Override
+    protected double potential(int id) {
+        if (cacheHeuristics && workspace.hasHeuristic(id)) {
+            return workspace.heuristic(id);
+        }
+        heuristicEvaluations += 2;
+        double toGoal = goalId >= 0
+                ? heuristic.estimate(snapshot, id, goalId)
+                : heuristic.estimate(snapshot.getNode(id), goal);
+        double fromStart = heuristic.estimate(snapshot, startId, id);
+        double p = (toGoal - fromStart) / 2.0;
+        workspace.storeHeuristic(id, p);
+        return p;
+    }
+}
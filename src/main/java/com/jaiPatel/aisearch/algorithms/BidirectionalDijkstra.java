@@ -0,0 +1,21 @@
+package com.jaiPatel.aisearch.algorithms;
+
+/**
+ * Bidirectional Dijkstra search.
+ * Grows uniform-cost balls from the start and the goal simultaneously and stops as soon as the
+ * sum of the two smallest open-list distances reaches the best meeting cost, which explores
+ * roughly half the area of a one-directional Dijkstra on road-like graphs.
+ */
+public class BidirectionalDijkstra extends BidirectionalSearch {
+
+    /**
+     * Dijkstra uses no potentials.
+     *
+     * @param id The node id
+     * @return Always 0
+     */
+    @Override
+    protected double potential(int id) {
+        return 0.0;
+    }
+}
@@ -0,0 +1,177 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.graph.*;
+
+import java.util.*;
+
+/**
+ * Common base for bidirectional shortest-path searches.
+ * <p>
+ * A forward search from the start node runs on the graph and a backward search from the goal
+ * node runs on its {@link GraphView#reverse() transpose}. Each step expands one node from the
+ * direction with the smaller open list. Both directions are ordered by
+ * {@code g + potential}, where the forward direction uses {@link #potential(int)} and the backward
+ * direction uses its negation; with zero potentials this is bidirectional Dijkstra, with
+ * consistent average potentials it is bidirectional A*.
+ * <p>
+ * The best meeting cost {@code mu} is updated whenever a relaxed node has a label from the other
+ * direction. Because forward and backward potentials sum to zero, the search may stop as soon as
+ * the two smallest open-list keys add up to at least {@code mu}.
+ * <p>
+ * The forward workspace holds forward labels and the combined explored set; backward labels are
+ * kept in a second workspace.
+ */
+public abstract class BidirectionalSearch extends AbstractSearchAlgorithm {
+
+    // Transposed graph used by the backward search
+    protected GraphView reverse;
+
+    // Backward g-scores and parents (parents point towards the goal)
+    protected SearchWorkspace backward;
+
+    // Open lists of both directions, keyed by g + potential and g - potential
+    private final IndexedMinHeap forwardOpen = new IndexedMinHeap(0);
+    private final IndexedMinHeap backwardOpen = new IndexedMinHeap(0);
+
+    // Best start-goal cost found so far and the node where it was found
+    private double bestCost;
+    private int meetingId;
+
+    // Live view over both open lists handed to the observer
+    private final NodeView.Source frontierSource = new NodeView.Source() {
+        @Override public int size() { return forwardOpen.size() + backwardOpen.size(); }
+        @Override public int idAt(int index) {
+            int forwardSize = forwardOpen.size();
+            return index < forwardSize ? forwardOpen.idAt(index) : backwardOpen.idAt(index - forwardSize);
+        }
+    };
+
+    // Observer views over the frontier and explored set
+    private Collection<Node> frontierView, exploredView;
+
+    /**
+     * Returns the forward potential of a node. The backward direction uses the negated value.
+     * Implementations must return consistent potentials for the stopping criterion to hold.
+     *
+     * @param id The node id
+     * @return The forward potential
+     */
+    protected abstract double potential(int id);
+
+    /**
+     * Initializes both search directions with the given graph, start and goal nodes, and observer.
+     *
+     * @param graph    The graph to search
+     * @param start    The start node
+     * @param goal     The goal node
+     * @param observer The observer to notify during the search
+     */
+    @Override
+    public void initialize(GraphView graph, Node start, Node goal, SearchObserver observer) {
+        prepare(graph, start, goal, observer);
+        reverse = snapshot.reverse();
+        ensureNeighborCapacity(reverse.maxDegree());
+        backward = SearchWorkspace.reuse(backward, snapshot.nodeCount());
+
+        forwardOpen.ensureCapacity(snapshot.nodeCount());
+        backwardOpen.ensureCapacity(snapshot.nodeCount());
+        forwardOpen.clear();
+        backwardOpen.clear();
+        bestCost = Double.POSITIVE_INFINITY;
+        meetingId = -1;
+
+        workspace.reach(startId, 0.0, -1);
+        forwardOpen.add(startId, potential(startId));
+        nodesGenerated = 1;
+
+        // An unknown goal leaves the backward open list empty, which ends the search without a path
+        if (goalId >= 0) {
+            backward.reach(goalId, 0.0, -1);
+            backwardOpen.add(goalId, -potential(goalId));
+            nodesGenerated++;
+            if (startId == goalId) {
+                bestCost = 0.0;
+                meetingId = startId;
+            }
+        }
+
+        frontierView = new NodeView(snapshot, frontierSource);
+        exploredView = exploredView();
+
+        maxFrontierSize = nodesGenerated;
+    }
+
+    /**
+     * Expands the next node from the direction with the smaller open list, or finishes the
+     * search once the stopping criterion holds.
+     *
+     * @return True if there are more steps remaining, false if the search is finished
+     */
+    @Override
+    protected boolean advance() {
+        if (!initialized || finished) return false;
+        if (forwardOpen.isEmpty() || backwardOpen.isEmpty()
+                || forwardOpen.peekKey() + backwardOpen.peekKey() >= bestCost) {
+            if (meetingId >= 0) {
+                finishSearch(meetingPath(), bestCost);
+            } else {
+                finishNoPath();
+            }
+            return false;
+        }
+
+        boolean forward = forwardOpen.size() <= backwardOpen.size();
+        IndexedMinHeap open = forward ? forwardOpen : backwardOpen;
+        SearchWorkspace own = forward ? workspace : backward;
+        SearchWorkspace other = forward ? backward : workspace;
+        GraphView edges = forward ? snapshot : reverse;
+        double sign = forward ? 1.0 : -1.0;
+
+        double key = open.peekKey();
+        int current = open.poll();
+        workspace.markExplored(current);
+        nodesExpanded++;
+
+        double g = own.g(current);
+        if (recording) {
+            double h = key - g;
+            notifyObserver(current, frontierView, exploredView,
+                    nodesExpanded, workspace.exploredCount(), g, h, key);
+        }
+
+        for (int i = 0, degree = edges.neighbors(current, neighborIds, neighborCosts); i < degree; i++) {
+            int neighbor = neighborIds[i];
+            double tentativeG = g + neighborCosts[i];
+            if (tentativeG < own.g(neighbor)) {
+                own.reach(neighbor, tentativeG, current);
+                double neighborKey = tentativeG + sign * potential(neighbor);
+                boolean added = open.addOrDecrease(neighbor, neighborKey);
+                if (added) nodesGenerated++;
+                if (recording) recordFrontier(neighbor, added, tentativeG, neighborKey);
+
+                double through = tentativeG + other.g(neighbor);
+                if (through < bestCost) {
+                    bestCost = through;
+                    meetingId = neighbor;
+                }
+            }
+        }
+
+        maxFrontierSize = Math.max(maxFrontierSize, forwardOpen.size() + backwardOpen.size());
+        return true;
+    }
+
+    /**
+     * Joins the forward parent chain from the start to the meeting node with the backward
+     * parent chain from the meeting node to the goal.
+     *
+     * @return The solution path from start to goal
+     */
+    private List<Node> meetingPath() {
+        List<Node> path = reconstructPath(meetingId);
+        for (int id = backward.parent(meetingId); id >= 0; id = backward.parent(id)) {
+            path.add(snapshot.getNode(id));
+        }
+        return path;
+    }
+}
@@ -0,0 +1,74 @@
+package com.jaiPatel.aisearch.algorithms;
+
+/**
+ * Pause and cancel signal shared between a running search and the threads controlling it.
+ * <p>
+ * The search polls {@link #isPaused()} and {@link #isCancelled()} (two volatile reads) before every
+ * expansion. While paused it blocks in {@link #awaitResumed()}, which returns as soon as another
+ * thread calls {@link #resume()} or {@link #cancel()}, instead of sleeping in a polling loop.
+ * Cancellation is permanent: a cancelled token stays cancelled, so one token can stop several
+ * searches at once, e.g. all queries of a batch.
+ */
+public final class CancellationToken {
+
+    private volatile boolean paused, cancelled;
+
+    /**
+     * Pauses the searches using this token before their next expansion.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Resumes paused searches.
+     */
+    public synchronized void resume() {
+        paused = false;
+        notifyAll();
+    }
+
+    /**
+     * Cancels the searches using this token, waking them if they are paused.
+     */
+    public synchronized void cancel() {
+        cancelled = true;
+        notifyAll();
+    }
+
+    /**
+     * Checks whether the token is paused.
+     *
+     * @return True if paused and not resumed since
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Checks whether the token was cancelled.
+     *
+     * @return True if cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Blocks while the token is paused and not cancelled. An interrupt ends the wait and is
+     * treated like a cancellation of the waiting search; the interrupt flag is restored.
+     *
+     * @return True if the search may continue, false if it was cancelled or interrupted
+     */
+    public synchronized boolean awaitResumed() {
+        while (paused && !cancelled) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return !cancelled;
+    }
+}
@@ -0,0 +1,794 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.graph.GraphView;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Contraction Hierarchy (CH) over a {@link GraphView}, for fast shortest-path queries on
+ * static road networks.
+ * <p>
+ * Preprocessing contracts the nodes one rank at a time. Contracting a node removes it from the
+ * remaining graph and adds a shortcut {@code u -> w} for every pair of neighbors whose shortest
+ * path ran through it, unless a local witness search finds a path that is no longer. Nodes are
+ * ordered by edge difference (shortcuts added minus edges removed), weighted against the number
+ * of already contracted neighbors so contraction spreads evenly over the graph. Each round
+ * contracts an independent set of nodes whose priority is lower than that of all their neighbors;
+ * the witness searches of a round run in parallel and avoid every node of the round, so
+ * contracting the set at once is as exact as contracting it one by one.
+ * <p>
+ * The result is stored as two CSR edge sets: upward edges {@code u -> w} with
+ * {@code rank(u) < rank(w)}, searched forward from the start, and downward edges
+ * {@code u -> w} with {@code rank(u) > rank(w)}, stored at {@code w} and searched backward from the
+ * goal. Every shortcut remembers the contracted node it bypasses, so query paths can be unpacked
+ * into original edges with {@link #unpack}. A hierarchy can be written to disk and read back for the
+ * same graph.
+ * <p>
+ * Witness searches keep their distances in hash maps that are cleared by bumping a stamp, so the
+ * memory of each worker's workspace follows the settle limit instead of the graph size. The edge
+ * lists of the remaining graph index their entries by node once they grow past
+ * {@value #INDEXED_EDGES} entries, so adding a shortcut to a hub does not scan all its edges.
+ */
+public final class ContractionHierarchy {
+
+    /** File format marker ("CHG1"). */
+    private static final int MAGIC = 0x43484731;
+
+    /** Maximum number of nodes settled by a witness search while contracting a node. */
+    private static final int CONTRACT_SETTLE_LIMIT = 500;
+    /** Maximum number of nodes settled by a witness search while estimating a priority. */
+    private static final int PRIORITY_SETTLE_LIMIT = 20;
+
+    /** Weight of the edge difference relative to the contracted-neighbors term in a priority. */
+    private static final int EDGE_DIFFERENCE_WEIGHT = 4;
+
+    /** Size above which an edge list of the remaining graph keeps a hash index of its nodes. */
+    private static final int INDEXED_EDGES = 8;
+
+    private final int nodeCount;
+    private final int originalEdgeCount;
+    private final long fingerprint;
+
+    /** Contraction order; lower ranks were contracted first. */
+    private final int[] rank;
+
+    /** Upward edges per source node: target, cost and bypassed node (-1 for original edges). */
+    private final int[] upOffsets, upTargets, upMiddles;
+    private final double[] upCosts;
+
+    /** Downward edges per target node: source, cost and bypassed node (-1 for original edges). */
+    private final int[] downOffsets, downSources, downMiddles;
+    private final double[] downCosts;
+
+    /** Snapshot this hierarchy was last verified against. */
+    private volatile GraphView verified;
+
+    private ContractionHierarchy(int nodeCount, int originalEdgeCount, long fingerprint, int[] rank,
+                                 int[] upOffsets, int[] upTargets, double[] upCosts, int[] upMiddles,
+                                 int[] downOffsets, int[] downSources, double[] downCosts, int[] downMiddles) {
+        this.nodeCount = nodeCount;
+        this.originalEdgeCount = originalEdgeCount;
+        this.fingerprint = fingerprint;
+        this.rank = rank;
+        this.upOffsets = upOffsets;
+        this.upTargets = upTargets;
+        this.upCosts = upCosts;
+        this.upMiddles = upMiddles;
+        this.downOffsets = downOffsets;
+        this.downSources = downSources;
+        this.downCosts = downCosts;
+        this.downMiddles = downMiddles;
+    }
+
+    /**
+     * Builds a contraction hierarchy for the given snapshot. Witness searches and priority updates
+     * run in parallel on the common fork-join pool.
+     *
+     * @param graph The snapshot to preprocess
+     * @return The contraction hierarchy
+     */
+    public static ContractionHierarchy build(GraphView graph) {
+        return build(graph, null);
+    }
+
+    /**
+     * Builds a contraction hierarchy for the given snapshot, checking a cancellation token between
+     * contraction rounds. While the token is paused the build waits.
+     *
+     * @param graph The snapshot to preprocess
+     * @param token The token to check, or null to build without interruption
+     * @return The contraction hierarchy
+     * @throws CancellationException If the token is cancelled before the build completes
+     */
+    public static ContractionHierarchy build(GraphView graph, CancellationToken token) {
+        ContractionHierarchy ch = new Builder(graph, token).build();
+        ch.verified = graph;
+        return ch;
+    }
+
+    // === queries ===
+
+    /**
+     * Checks whether this hierarchy was built for a snapshot with the same nodes and edges.
+     *
+     * @param graph The snapshot to check
+     * @return True if the hierarchy can answer queries on the snapshot
+     */
+    public boolean isBuiltFor(GraphView graph) {
+        if (graph == verified) return true;
+        boolean matches = graph.nodeCount() == nodeCount && graph.fingerprint() == fingerprint;
+        if (matches) verified = graph;
+        return matches;
+    }
+
+    /**
+     * Returns the number of nodes in the hierarchy.
+     * @return Node count
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the contraction rank of a node.
+     *
+     * @param id The node id
+     * @return Rank in {@code [0, nodeCount())}; higher ranks are more important
+     */
+    public int rank(int id) {
+        return rank[id];
+    }
+
+    /**
+     * Returns the number of shortcut edges added during preprocessing.
+     * @return Shortcut count
+     */
+    public int shortcutCount() {
+        int count = 0;
+        for (int m : upMiddles) if (m >= 0) count++;
+        for (int m : downMiddles) if (m >= 0) count++;
+        return count;
+    }
+
+    /** @return Inclusive start of the upward edge range of a node */
+    public int upStart(int id) { return upOffsets[id]; }
+
+    /** @return Exclusive end of the upward edge range of a node */
+    public int upEnd(int id) { return upOffsets[id + 1]; }
+
+    /** @return Target of an upward edge */
+    public int upTarget(int edge) { return upTargets[edge]; }
+
+    /** @return Cost of an upward edge */
+    public double upCost(int edge) { return upCosts[edge]; }
+
+    /** @return Inclusive start of the downward edge range ending at a node */
+    public int downStart(int id) { return downOffsets[id]; }
+
+    /** @return Exclusive end of the downward edge range ending at a node */
+    public int downEnd(int id) { return downOffsets[id + 1]; }
+
+    /** @return Source of a downward edge */
+    public int downSource(int edge) { return downSources[edge]; }
+
+    /** @return Cost of a downward edge */
+    public double downCost(int edge) { return downCosts[edge]; }
+
+    /**
+     * Unpacks the cheapest hierarchy edge {@code from -> to} into original graph edges. The nodes
+     * of the unpacked path after {@code from}, ending with {@code to}, are passed to the sink in
+     * order.
+     *
+     * @param from The source node id of the hierarchy edge
+     * @param to   The target node id of the hierarchy edge
+     * @param sink Receives the node ids of the unpacked path, excluding {@code from}
+     * @throws IllegalArgumentException If no hierarchy edge connects the two nodes
+     */
+    public void unpack(int from, int to, IntConsumer sink) {
+        int[] stack = new int[32];
+        int top = 0;
+        stack[top++] = from;
+        stack[top++] = to;
+        while (top > 0) {
+            int b = stack[--top];
+            int a = stack[--top];
+            int middle = middle(a, b);
+            if (middle < 0) {
+                sink.accept(b);
+                continue;
+            }
+            if (top + 4 > stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+            // Push the second half first so the first half is unpacked next
+            stack[top++] = middle;
+            stack[top++] = b;
+            stack[top++] = a;
+            stack[top++] = middle;
+        }
+    }
+
+    /**
+     * Returns the node bypassed by the cheapest hierarchy edge between two nodes.
+     *
+     * @return The bypassed node id, or -1 for an original edge
+     */
+    private int middle(int from, int to) {
+        int best = Integer.MIN_VALUE;
+        double bestCost = Double.POSITIVE_INFINITY;
+        if (rank[from] < rank[to]) {
+            for (int e = upOffsets[from], end = upOffsets[from + 1]; e < end; e++) {
+                if (upTargets[e] == to && upCosts[e] < bestCost) {
+                    bestCost = upCosts[e];
+                    best = upMiddles[e];
+                }
+            }
+        } else {
+            for (int e = downOffsets[to], end = downOffsets[to + 1]; e < end; e++) {
+                if (downSources[e] == from && downCosts[e] < bestCost) {
+                    bestCost = downCosts[e];
+                    best = downMiddles[e];
+                }
+            }
+        }
+        if (best == Integer.MIN_VALUE) {
+            throw new IllegalArgumentException("No hierarchy edge from " + from + " to " + to);
+        }
+        return best;
+    }
+
+    // === persistence ===
+
+    /**
+     * Writes this hierarchy to a file.
+     *
+     * @param file The file to write
+     * @throws IOException If writing fails
+     */
+    public void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(nodeCount);
+            out.writeInt(originalEdgeCount);
+            out.writeLong(fingerprint);
+            writeInts(out, rank);
+            writeInts(out, upOffsets);
+            writeInts(out, upTargets);
+            writeDoubles(out, upCosts);
+            writeInts(out, upMiddles);
+            writeInts(out, downOffsets);
+            writeInts(out, downSources);
+            writeDoubles(out, downCosts);
+            writeInts(out, downMiddles);
+        }
+    }
+
+    /**
+     * Reads a hierarchy written by {@link #write} and checks that it belongs to the given snapshot.
+     *
+     * @param file  The file to read
+     * @param graph The snapshot the hierarchy will be queried on
+     * @return The contraction hierarchy
+     * @throws IOException If reading fails, the file is not a hierarchy, or it was built for another graph
+     */
+    public static ContractionHierarchy read(Path file, GraphView graph) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a contraction hierarchy file: " + file);
+            }
+            int nodeCount = in.readInt();
+            int edgeCount = in.readInt();
+            long fingerprint = in.readLong();
+            ContractionHierarchy ch = new ContractionHierarchy(nodeCount, edgeCount, fingerprint,
+                    readInts(in), readInts(in), readInts(in), readDoubles(in), readInts(in),
+                    readInts(in), readInts(in), readDoubles(in), readInts(in));
+            if (!ch.isBuiltFor(graph)) {
+                throw new IOException("Contraction hierarchy " + file + " was built for a different graph");
+            }
+            return ch;
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int v : values) out.writeInt(v);
+    }
+
+    private static void writeDoubles(DataOutputStream out, double[] values) throws IOException {
+        out.writeInt(values.length);
+        for (double v : values) out.writeDouble(v);
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) values[i] = in.readInt();
+        return values;
+    }
+
+    private static double[] readDoubles(DataInputStream in) throws IOException {
+        double[] values = new double[in.readInt()];
+        for (int i = 0; i < values.length; i++) values[i] = in.readDouble();
+        return values;
+    }
+
+    // === preprocessing ===
+
+    /**
+     * Growable list of (node, cost, bypassed node) edge entries with at most one entry per node.
+     * Lists longer than {@link #INDEXED_EDGES} find entries through an open-addressing index from
+     * node to position.
+     */
+    private static final class EdgeList {
+        int[] nodes;
+        double[] costs;
+        int[] middles;
+        int size;
+
+        /** Position + 1 per hash slot, 0 for free slots; null while the list is short. */
+        private int[] index;
+
+        EdgeList(int capacity) {
+            nodes = new int[Math.max(capacity, 2)];
+            costs = new double[nodes.length];
+            middles = new int[nodes.length];
+        }
+
+        /** Adds an entry, or lowers the cost of an existing entry for the same node. */
+        void addOrImprove(int node, double cost, int middle) {
+            int i = find(node);
+            if (i >= 0) {
+                if (cost < costs[i]) {
+                    costs[i] = cost;
+                    middles[i] = middle;
+                }
+                return;
+            }
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                costs = Arrays.copyOf(costs, size * 2);
+                middles = Arrays.copyOf(middles, size * 2);
+            }
+            nodes[size] = node;
+            costs[size] = cost;
+            middles[size] = middle;
+            size++;
+            if (index != null && 2 * size <= index.length) {
+                index[freeSlot(node)] = size;
+            } else if (size > INDEXED_EDGES) {
+                rebuildIndex();
+            }
+        }
+
+        /** Removes the entry for the given node, if any. */
+        void remove(int node) {
+            int i = find(node);
+            if (i < 0) return;
+            if (index != null) unindex(node);
+            int last = --size;
+            if (i != last) {
+                nodes[i] = nodes[last];
+                costs[i] = costs[last];
+                middles[i] = middles[last];
+                if (index != null) index[slotOf(nodes[i])] = i + 1;
+            }
+        }
+
+        /** Returns the position of the entry for a node, or -1. */
+        private int find(int node) {
+            if (index == null) {
+                for (int i = 0; i < size; i++) if (nodes[i] == node) return i;
+                return -1;
+            }
+            int mask = index.length - 1;
+            for (int h = hash(node) & mask; index[h] != 0; h = (h + 1) & mask) {
+                if (nodes[index[h] - 1] == node) return index[h] - 1;
+            }
+            return -1;
+        }
+
+        /** Returns the hash slot holding an indexed node. */
+        private int slotOf(int node) {
+            int mask = index.length - 1;
+            int h = hash(node) & mask;
+            while (nodes[index[h] - 1] != node) h = (h + 1) & mask;
+            return h;
+        }
+
+        /** Returns the first free hash slot on a node's probe sequence. */
+        private int freeSlot(int node) {
+            int mask = index.length - 1;
+            int h = hash(node) & mask;
+            while (index[h] != 0) h = (h + 1) & mask;
+            return h;
+        }
+
+        /** Clears a node's hash slot, shifting later entries of the probe run back into the gap. */
+        private void unindex(int node) {
+            int mask = index.length - 1;
+            int gap = slotOf(node);
+            index[gap] = 0;
+            for (int h = (gap + 1) & mask; index[h] != 0; h = (h + 1) & mask) {
+                int home = hash(nodes[index[h] - 1]) & mask;
+                // the entry may move to the gap unless its home lies between the gap and its slot
+                if (((h - home) & mask) >= ((h - gap) & mask)) {
+                    index[gap] = index[h];
+                    index[h] = 0;
+                    gap = h;
+                }
+            }
+        }
+
+        /** Rebuilds the index at a size that keeps it at most half full. */
+        private void rebuildIndex() {
+            index = new int[Integer.highestOneBit(4 * size - 1)];
+            for (int i = 0; i < size; i++) index[freeSlot(nodes[i])] = i + 1;
+        }
+
+        private static int hash(int node) {
+            int h = node * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    /**
+     * Shortcuts found while contracting one node.
+     */
+    private static final class Shortcuts {
+        int[] from = new int[8], to = new int[8];
+        double[] costs = new double[8];
+        int size;
+
+        void add(int u, int w, double cost) {
+            if (size == from.length) {
+                from = Arrays.copyOf(from, size * 2);
+                to = Arrays.copyOf(to, size * 2);
+                costs = Arrays.copyOf(costs, size * 2);
+            }
+            from[size] = u;
+            to[size] = w;
+            costs[size] = cost;
+            size++;
+        }
+    }
+
+    /**
+     * Contracts all nodes of a snapshot in rounds of independent sets.
+     */
+    private static final class Builder {
+        private final GraphView graph;
+        private final CancellationToken token;
+        private final int n;
+        private int edgeCount;
+
+        // Remaining graph: outgoing and incoming edges among uncontracted nodes
+        private final EdgeList[] out, in;
+        // Final hierarchy edges, captured when a node is contracted
+        private final EdgeList[] up, down;
+
+        private final int[] rank;
+        private final int[] priority;
+        private final int[] contractedNeighbors;
+        private final boolean[] inRound;
+        private final boolean[] dirty;
+
+        // Idle witness search workspaces, borrowed by one worker thread at a time
+        private final ConcurrentLinkedQueue<Witness> witnesses = new ConcurrentLinkedQueue<>();
+
+        Builder(GraphView graph, CancellationToken token) {
+            this.graph = graph;
+            this.token = token;
+            this.n = graph.nodeCount();
+            out = new EdgeList[n];
+            in = new EdgeList[n];
+            up = new EdgeList[n];
+            down = new EdgeList[n];
+            rank = new int[n];
+            priority = new int[n];
+            contractedNeighbors = new int[n];
+            inRound = new boolean[n];
+            dirty = new boolean[n];
+
+            int[] targets = new int[graph.maxDegree()];
+            double[] costs = new double[targets.length];
+            int[] outDegree = new int[n], inDegree = new int[n];
+            for (int u = 0; u < n; u++) {
+                int degree = graph.neighbors(u, targets, costs);
+                outDegree[u] = degree;
+                edgeCount += degree;
+                for (int i = 0; i < degree; i++) inDegree[targets[i]]++;
+            }
+            for (int id = 0; id < n; id++) {
+                out[id] = new EdgeList(outDegree[id]);
+                in[id] = new EdgeList(inDegree[id]);
+            }
+            for (int u = 0; u < n; u++) {
+                for (int i = 0, degree = graph.neighbors(u, targets, costs); i < degree; i++) {
+                    int w = targets[i];
+                    if (w == u) continue; // self-loops never lie on a shortest path
+                    out[u].addOrImprove(w, costs[i], -1);
+                    in[w].addOrImprove(u, costs[i], -1);
+                }
+            }
+        }
+
+        ContractionHierarchy build() {
+            int[] remaining = IntStream.range(0, n).toArray();
+            updatePriorities(remaining);
+
+            int nextRank = 0;
+            while (remaining.length > 0) {
+                checkCancelled();
+                int[] round = IntStream.of(remaining).parallel().filter(this::isLocalMinimum).toArray();
+                for (int v : round) inRound[v] = true;
+
+                Shortcuts[] found = new Shortcuts[round.length];
+                IntStream.range(0, round.length).parallel().forEach(i -> {
+                    Witness witness = borrowWitness();
+                    found[i] = new Shortcuts();
+                    findShortcuts(round[i], witness, CONTRACT_SETTLE_LIMIT, found[i]);
+                    witnesses.add(witness);
+                });
+
+                for (int i = 0; i < round.length; i++) {
+                    contract(round[i], found[i]);
+                    rank[round[i]] = nextRank++;
+                }
+                for (int v : round) inRound[v] = false;
+
+                remaining = IntStream.of(remaining).filter(v -> up[v] == null).toArray();
+                int[] update = IntStream.of(remaining).filter(v -> dirty[v]).toArray();
+                for (int v : update) dirty[v] = false;
+                updatePriorities(update);
+            }
+            return toHierarchy();
+        }
+
+        /**
+         * Waits while the token is paused and aborts the build once it is cancelled.
+         *
+         * @throws CancellationException If the token was cancelled
+         */
+        private void checkCancelled() {
+            if (token != null && (token.isPaused() && !token.awaitResumed() || token.isCancelled())) {
+                throw new CancellationException("Contraction hierarchy build cancelled");
+            }
+        }
+
+        /** Recomputes the priorities of the given nodes in parallel. */
+        private void updatePriorities(int[] nodes) {
+            IntStream.of(nodes).parallel().forEach(v -> {
+                Witness witness = borrowWitness();
+                int shortcuts = findShortcuts(v, witness, PRIORITY_SETTLE_LIMIT, null);
+                int edgeDifference = shortcuts - out[v].size - in[v].size;
+                priority[v] = EDGE_DIFFERENCE_WEIGHT * edgeDifference + contractedNeighbors[v];
+                witnesses.add(witness);
+            });
+        }
+
+        /** Takes an idle witness workspace, creating one if all are in use. */
+        private Witness borrowWitness() {
+            Witness witness = witnesses.poll();
+            return witness != null ? witness : new Witness();
+        }
+
+        /** Strict total order on (priority, hashed id). */
+        private boolean precedes(int a, int b) {
+            if (priority[a] != priority[b]) return priority[a] < priority[b];
+            int ha = a * 0x9E3779B9, hb = b * 0x9E3779B9;
+            return ha != hb ? ha < hb : a < b;
+        }
+
+        /** True if a node precedes all its remaining neighbors. */
+        private boolean isLocalMinimum(int v) {
+            EdgeList o = out[v], i = in[v];
+            for (int k = 0; k < o.size; k++) if (!precedes(v, o.nodes[k])) return false;
+            for (int k = 0; k < i.size; k++) if (!precedes(v, i.nodes[k])) return false;
+            return true;
+        }
+
+        /**
+         * Finds the shortcuts needed to contract a node.
+         *
+         * @param v       The node to contract
+         * @param witness Witness search workspace of the calling thread
+         * @param limit   Maximum number of nodes settled per witness search
+         * @param sink    Receives the shortcuts, or null to only count them
+         * @return Number of shortcuts needed
+         */
+        private int findShortcuts(int v, Witness witness, int limit, Shortcuts sink) {
+            EdgeList ins = in[v], outs = out[v];
+            if (ins.size == 0 || outs.size == 0) return 0;
+
+            double maxOut = 0;
+            for (int j = 0; j < outs.size; j++) maxOut = Math.max(maxOut, outs.costs[j]);
+
+            int count = 0;
+            for (int i = 0; i < ins.size; i++) {
+                int u = ins.nodes[i];
+                double toV = ins.costs[i];
+                witness.run(u, v, outs, toV + maxOut, limit);
+                for (int j = 0; j < outs.size; j++) {
+                    int w = outs.nodes[j];
+                    if (w == u) continue;
+                    double via = toV + outs.costs[j];
+                    if (witness.distance(w) > via) {
+                        count++;
+                        if (sink != null) sink.add(u, w, via);
+                    }
+                }
+            }
+            return count;
+        }
+
+        /** Removes a node from the remaining graph, recording its edges and adding its shortcuts. */
+        private void contract(int v, Shortcuts shortcuts) {
+            // All remaining neighbors are contracted later, so v's edges point up the hierarchy
+            up[v] = out[v];
+            down[v] = in[v];
+            out[v] = null;
+            in[v] = null;
+
+            for (int k = 0; k < up[v].size; k++) {
+                int w = up[v].nodes[k];
+                in[w].remove(v);
+                contractedNeighbors[w]++;
+                dirty[w] = true;
+            }
+            for (int k = 0; k < down[v].size; k++) {
+                int u = down[v].nodes[k];
+                out[u].remove(v);
+                contractedNeighbors[u]++;
+                dirty[u] = true;
+            }
+            for (int s = 0; s < shortcuts.size; s++) {
+                int u = shortcuts.from[s], w = shortcuts.to[s];
+                out[u].addOrImprove(w, shortcuts.costs[s], v);
+                in[w].addOrImprove(u, shortcuts.costs[s], v);
+            }
+        }
+
+        /** Flattens the captured edge lists into CSR arrays. */
+        private ContractionHierarchy toHierarchy() {
+            int[] upOffsets = new int[n + 1], downOffsets = new int[n + 1];
+            for (int id = 0; id < n; id++) {
+                upOffsets[id + 1] = upOffsets[id] + up[id].size;
+                downOffsets[id + 1] = downOffsets[id] + down[id].size;
+            }
+            int[] upTargets = new int[upOffsets[n]], upMiddles = new int[upOffsets[n]];
+            double[] upCosts = new double[upOffsets[n]];
+            int[] downSources = new int[downOffsets[n]], downMiddles = new int[downOffsets[n]];
+            double[] downCosts = new double[downOffsets[n]];
+            for (int id = 0; id < n; id++) {
+                EdgeList u = up[id], d = down[id];
+                System.arraycopy(u.nodes, 0, upTargets, upOffsets[id], u.size);
+                System.arraycopy(u.costs, 0, upCosts, upOffsets[id], u.size);
+                System.arraycopy(u.middles, 0, upMiddles, upOffsets[id], u.size);
+                System.arraycopy(d.nodes, 0, downSources, downOffsets[id], d.size);
+                System.arraycopy(d.costs, 0, downCosts, downOffsets[id], d.size);
+                System.arraycopy(d.middles, 0, downMiddles, downOffsets[id], d.size);
+            }
+            return new ContractionHierarchy(n, edgeCount, graph.fingerprint(), rank,
+                    upOffsets, upTargets, upCosts, upMiddles,
+                    downOffsets, downSources, downCosts, downMiddles);
+        }
+
+        /**
+         * Bounded Dijkstra on the remaining graph that avoids the node being contracted and all
+         * other nodes of the current round. Reached nodes get consecutive local slots through a
+         * hash map from node id; bumping the stamp empties the map, so a search costs and keeps
+         * memory in proportion to the nodes it reaches, not to the graph size.
+         */
+        private final class Witness {
+            // Open-addressing map from node id to local slot; entries of older stamps are free
+            private int[] keys = new int[64], slots = new int[64], stamps = new int[64];
+            private int stamp;
+
+            // Distance per local slot, and the number of slots in use
+            private double[] dist = new double[32];
+            private int[] nodes = new int[32];
+            private boolean[] target = new boolean[32];
+            private int count;
+
+            // Open list over local slots
+            private final IndexedMinHeap open = new IndexedMinHeap(32);
+
+            /**
+             * Runs the search from a source until every target is settled, the cost bound is
+             * exceeded or the settle limit is reached.
+             */
+            void run(int source, int excluded, EdgeList targets, double maxCost, int settleLimit) {
+                open.clear();
+                count = 0;
+                if (++stamp == 0) {
+                    Arrays.fill(stamps, 0);
+                    stamp = 1;
+                }
+
+                int unsettledTargets = 0;
+                for (int k = 0; k < targets.size; k++) {
+                    int slot = slot(targets.nodes[k]);
+                    if (!target[slot]) {
+                        target[slot] = true;
+                        unsettledTargets++;
+                    }
+                }
+                int sourceSlot = slot(source);
+                dist[sourceSlot] = 0.0;
+                open.add(sourceSlot, 0.0);
+
+                int settled = 0;
+                while (!open.isEmpty() && open.peekKey() <= maxCost && settled++ < settleLimit) {
+                    double d = open.peekKey();
+                    int x = open.poll();
+                    if (target[x] && --unsettledTargets == 0) break;
+                    EdgeList edges = out[nodes[x]];
+                    for (int k = 0; k < edges.size; k++) {
+                        int y = edges.nodes[k];
+                        if (y == excluded || inRound[y]) continue;
+                        double nd = d + edges.costs[k];
+                        int ySlot = slot(y);
+                        if (nd < dist[ySlot]) {
+                            dist[ySlot] = nd;
+                            open.addOrDecrease(ySlot, nd);
+                        }
+                    }
+                }
+            }
+
+            /** Length of the best witness path found to a node; tentative paths are real paths too. */
+            double distance(int id) {
+                int mask = keys.length - 1;
+                for (int h = EdgeList.hash(id) & mask; stamps[h] == stamp; h = (h + 1) & mask) {
+                    if (keys[h] == id) return dist[slots[h]];
+                }
+                return Double.POSITIVE_INFINITY;
+            }
+
+            /** Returns the local slot of a node, adding it unreached if it has none yet. */
+            private int slot(int id) {
+                int mask = keys.length - 1;
+                int h = EdgeList.hash(id) & mask;
+                for (; stamps[h] == stamp; h = (h + 1) & mask) {
+                    if (keys[h] == id) return slots[h];
+                }
+                if (count == dist.length) {
+                    dist = Arrays.copyOf(dist, 2 * count);
+                    nodes = Arrays.copyOf(nodes, 2 * count);
+                    target = Arrays.copyOf(target, 2 * count);
+                    open.ensureCapacity(2 * count);
+                }
+                int slot = count++;
+                dist[slot] = Double.POSITIVE_INFINITY;
+                nodes[slot] = id;
+                target[slot] = false;
+                stamps[h] = stamp;
+                keys[h] = id;
+                slots[h] = slot;
+                if (2 * count > keys.length) grow();
+                return slot;
+            }
+
+            /** Doubles the map and re-adds the nodes of the current search. */
+            private void grow() {
+                int length = 2 * keys.length;
+                keys = new int[length];
+                slots = new int[length];
+                stamps = new int[length];
+                stamp = 1;
+                int mask = length - 1;
+                for (int slot = 0; slot < count; slot++) {
+                    int h = EdgeList.hash(nodes[slot]) & mask;
+                    while (stamps[h] == stamp) h = (h + 1) & mask;
+                    stamps[h] = stamp;
+                    keys[h] = nodes[slot];
+                    slots[h] = slot;
+                }
+            }
+        }
+    }
+}
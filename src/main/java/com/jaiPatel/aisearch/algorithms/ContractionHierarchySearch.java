@@ -0,0 +1,230 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.graph.*;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Shortest-path queries on a {@link ContractionHierarchy}.
+ * <p>
+ * A forward Dijkstra from the start relaxes only upward edges and a backward Dijkstra from the
+ * goal relaxes only downward edges, so both searches climb the hierarchy and meet at the most
+ * important node of the shortest path. Each direction stops once its smallest key reaches the best
+ * meeting cost; the query finishes when both have stopped. Nodes that a higher-ranked node reaches
+ * more cheaply are stalled instead of expanded. The path through the meeting node is then unpacked
+ * into original edges.
+ * <p>
+ * The hierarchy can be passed in (e.g. read from disk); otherwise it is built on the first query
+ * and rebuilt only when the graph changes. The build checks the search's cancellation token
+ * between contraction rounds, so stopping the search also stops a long preprocessing run.
+ */
+public class ContractionHierarchySearch extends AbstractSearchAlgorithm {
+
+    // Hierarchy used for queries; built lazily when absent or stale
+    private ContractionHierarchy hierarchy;
+
+    // Backward g-scores and parents (parents point towards the goal)
+    private SearchWorkspace backward;
+
+    // Open lists of both directions, keyed by distance
+    private final IndexedMinHeap forwardOpen = new IndexedMinHeap(0);
+    private final IndexedMinHeap backwardOpen = new IndexedMinHeap(0);
+
+    // Best start-goal cost found so far and the node where it was found
+    private double bestCost;
+    private int meetingId;
+
+    // Live view over both open lists handed to the observer
+    private final NodeView.Source frontierSource = new NodeView.Source() {
+        @Override public int size() { return forwardOpen.size() + backwardOpen.size(); }
+        @Override public int idAt(int index) {
+            int forwardSize = forwardOpen.size();
+            return index < forwardSize ? forwardOpen.idAt(index) : backwardOpen.idAt(index - forwardSize);
+        }
+    };
+
+    // Observer views over the frontier and explored set
+    private Collection<Node> frontierView, exploredView;
+
+    /**
+     * Constructs a search that builds its hierarchy on the first query.
+     */
+    public ContractionHierarchySearch() { }
+
+    /**
+     * Constructs a search on a precomputed hierarchy.
+     *
+     * @param hierarchy The contraction hierarchy of the graphs to be searched
+     */
+    public ContractionHierarchySearch(ContractionHierarchy hierarchy) { this.hierarchy = hierarchy; }
+
+    /**
+     * Returns the hierarchy used by the last query.
+     *
+     * @return The contraction hierarchy, or null before the first query
+     */
+    public ContractionHierarchy getHierarchy() { return hierarchy; }
+
+    /**
+     * Initializes both upward searches with the given graph, start and goal nodes, and observer.
+     * Builds the hierarchy first if none matches the graph. If the search is cancelled during the
+     * build, it finishes as {@link SearchOutcome#CANCELLED} on its first step.
+     *
+     * @param graph    The graph to search
+     * @param start    The start node
+     * @param goal     The goal node
+     * @param observer The observer to notify during the search
+     */
+    @Override
+    public void initialize(GraphView graph, Node start, Node goal, SearchObserver observer) {
+        if (hierarchy == null || !hierarchy.isBuiltFor(graph)) {
+            try {
+                hierarchy = ContractionHierarchy.build(graph, token);
+            } catch (CancellationException e) {
+                // the token stays cancelled, so checkControl() stops the search before advance()
+                hierarchy = null;
+            }
+        }
+
+        prepare(graph, start, goal, observer);
+        backward = SearchWorkspace.reuse(backward, snapshot.nodeCount());
+
+        forwardOpen.ensureCapacity(snapshot.nodeCount());
+        backwardOpen.ensureCapacity(snapshot.nodeCount());
+        forwardOpen.clear();
+        backwardOpen.clear();
+        bestCost = Double.POSITIVE_INFINITY;
+        meetingId = -1;
+
+        workspace.reach(startId, 0.0, -1);
+        forwardOpen.add(startId, 0.0);
+        nodesGenerated = 1;
+
+        // An unknown goal leaves the backward open list empty, which ends the search without a path
+        if (goalId >= 0) {
+            backward.reach(goalId, 0.0, -1);
+            backwardOpen.add(goalId, 0.0);
+            nodesGenerated++;
+            if (startId == goalId) {
+                bestCost = 0.0;
+                meetingId = startId;
+            }
+        }
+
+        frontierView = new NodeView(snapshot, frontierSource);
+        exploredView = exploredView();
+
+        maxFrontierSize = nodesGenerated;
+    }
+
+    /**
+     * Expands the next node of the direction with the smaller open list, or finishes the search
+     * once neither direction can improve the best meeting cost.
+     *
+     * @return True if there are more steps remaining, false if the search is finished
+     */
+    @Override
+    protected boolean advance() {
+        if (!initialized || finished) return false;
+
+        boolean forwardDone = forwardOpen.peekKey() >= bestCost;
+        boolean backwardDone = backwardOpen.peekKey() >= bestCost;
+        if (forwardDone && backwardDone) {
+            if (meetingId >= 0) {
+                finishSearch(meetingPath(), bestCost);
+            } else {
+                finishNoPath();
+            }
+            return false;
+        }
+
+        boolean forward = !forwardDone && (backwardDone || forwardOpen.size() <= backwardOpen.size());
+        IndexedMinHeap open = forward ? forwardOpen : backwardOpen;
+        SearchWorkspace own = forward ? workspace : backward;
+        SearchWorkspace other = forward ? backward : workspace;
+
+        int current = open.poll();
+        workspace.markExplored(current);
+        nodesExpanded++;
+
+        double g = own.g(current);
+        if (recording) {
+            notifyObserver(current, frontierView, exploredView,
+                    nodesExpanded, workspace.exploredCount(), g, 0, g);
+        }
+        if (isStalled(current, g, forward, own)) {
+            return true;
+        }
+
+        int begin = forward ? hierarchy.upStart(current) : hierarchy.downStart(current);
+        int end = forward ? hierarchy.upEnd(current) : hierarchy.downEnd(current);
+        for (int e = begin; e < end; e++) {
+            int neighbor = forward ? hierarchy.upTarget(e) : hierarchy.downSource(e);
+            double tentativeG = g + (forward ? hierarchy.upCost(e) : hierarchy.downCost(e));
+            if (tentativeG < own.g(neighbor)) {
+                own.reach(neighbor, tentativeG, current);
+                boolean added = open.addOrDecrease(neighbor, tentativeG);
+                if (added) nodesGenerated++;
+                if (recording) recordFrontier(neighbor, added, tentativeG, tentativeG);
+
+                double through = tentativeG + other.g(neighbor);
+                if (through < bestCost) {
+                    bestCost = through;
+                    meetingId = neighbor;
+                }
+            }
+        }
+
+        maxFrontierSize = Math.max(maxFrontierSize, forwardOpen.size() + backwardOpen.size());
+        return true;
+    }
+
+    /**
+     * Stall-on-demand: a node is reached sub-optimally if a higher-ranked node already reached by
+     * the same direction offers a cheaper way in. Its edges then cannot lie on a shortest up-down
+     * path, so it is not expanded.
+     *
+     * @param id      The polled node
+     * @param g       Its distance in the current direction
+     * @param forward Whether the node was polled by the forward search
+     * @param own     The workspace of the current direction
+     * @return True if the node should not be expanded
+     */
+    private boolean isStalled(int id, double g, boolean forward, SearchWorkspace own) {
+        if (forward) {
+            for (int e = hierarchy.downStart(id), end = hierarchy.downEnd(id); e < end; e++) {
+                if (own.g(hierarchy.downSource(e)) + hierarchy.downCost(e) < g) return true;
+            }
+        } else {
+            for (int e = hierarchy.upStart(id), end = hierarchy.upEnd(id); e < end; e++) {
+                if (own.g(hierarchy.upTarget(e)) + hierarchy.upCost(e) < g) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Unpacks the hierarchy path start -> meeting node -> goal into original graph nodes.
+     *
+     * @return The solution path from start to goal
+     */
+    private List<Node> meetingPath() {
+        int[] up = new int[16];
+        int count = 0;
+        for (int id = meetingId; id >= 0; id = workspace.parent(id)) {
+            if (count == up.length) up = Arrays.copyOf(up, count * 2);
+            up[count++] = id;
+        }
+
+        List<Node> path = new ArrayList<>();
+        path.add(start);
+        for (int i = count - 1; i > 0; i--) {
+            hierarchy.unpack(up[i], up[i - 1], id -> path.add(snapshot.getNode(id)));
+        }
+        for (int id = meetingId, next = backward.parent(id); next >= 0; id = next, next = backward.parent(id)) {
+            hierarchy.unpack(id, next, n -> path.add(snapshot.getNode(n)));
+        }
+        return path;
+    }
+}
@@ -6,35 +6,29 @@ import java.util.*;
 /**
  * Depth-First Search (DFS) for live visualization.
  * Implements the DFS algorithm for pathfinding and graph traversal.
+ * <p>
+ * Runs on the graph's CSR snapshot; the frontier is a primitive stack of node ids and
+ * explored/parent state lives in the shared {@link SearchWorkspace}.
  */
 public class DFS extends AbstractSearchAlgorithm {
 
-    // Stack representing the frontier (open list)
-    private Deque<Node> stack;
+    // Stack of node ids representing the frontier; every node is pushed at most once
+    private int[] stack = new int[0];
 
-    // Set of explored (visited) nodes
-    private Set<Node> explored;
+    // Number of entries on the stack
+    private int top;
 
-    // Map of nodes to their parent nodes
-    private Map<Node, Node> parentMap;
+    // Tracks the maximum combined size of frontier and explored set
+    private int maxFootprintSize = 0;
 
-    // The graph to search
-    private Graph graph;
+    // Live view of the stack contents (top first) handed to the observer
+    private final NodeView.Source frontierSource = new NodeView.Source() {
+        @Override public int size() { return top; }
+        @Override public int idAt(int index) { return stack[top - 1 - index]; }
+    };
 
-    // The start and goal nodes
-    private Node start, goal;
-
-    // Observer to notify during the search
-    private SearchObserver observer;
-
-    // Flags to track initialization and completion
-    private boolean initialized = false, finished = false;
-
-    // Tracks the number of nodes generated and the maximum frontier size
-    private int nodesGenerated = 0, maxFrontierSize = 0, maxFootprintSize = 0;
-
-    // Tracks the start time and memory usage before the search
-    private long startTime, beforeMem;
+    // Observer views over the frontier and explored set
+    private Collection<Node> frontierView, exploredView;
 
     /**
      * Initializes the DFS algorithm with the given graph, start and goal nodes, and observer.
@@ -45,107 +39,70 @@ public class DFS extends AbstractSearchAlgorithm {
      * @param observer The observer to notify during the search
      */
     @Override
-    public void initialize(Graph graph, Node start, Node goal, SearchObserver observer) {
-        this.graph = graph;
-        this.start = start;
-        this.goal = goal;
-        this.observer = observer;
+    public void initialize(GraphView graph, Node start, Node goal, SearchObserver observer) {
+        prepare(graph, start, goal, observer);
+
+        if (stack.length < snapshot.nodeCount()) stack = new int[snapshot.nodeCount()];
+        top = 0;
 
-        stack = new ArrayDeque<>();
-        explored = new HashSet<>();
-        parentMap = new HashMap<>();
+        stack[top++] = startId;
+        workspace.reach(startId, 0.0, -1);
 
-        stack.push(start);
-        parentMap.put(start, null);
+        frontierView = new NodeView(snapshot, frontierSource);
+        exploredView = exploredView();
 
         nodesGenerated = 1;
-        nodesExpanded = 0;
         maxFrontierSize = 1;
-
-        startTime = System.nanoTime();
-        beforeMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-
-        initialized = true;
-        finished = false;
+        maxFootprintSize = 0;
     }
 
     /**
-     * Performs a single step of the DFS algorithm.
+     * Expands the next node of the DFS search.
      *
      * @return True if there are more steps remaining, false if the search is finished
      */
     @Override
-    public boolean step() {
-        if (!initialized || finished || stack.isEmpty()) return false;
+    protected boolean advance() {
+        if (!initialized || finished) return false;
+        if (top == 0) {
+            finishNoPath();
+            return false;
+        }
 
-        Node current = stack.pop();
-        explored.add(current);
+        int current = stack[--top];
+        workspace.markExplored(current);
         nodesExpanded++;
 
-        notifyObserver(observer, current, stack, explored, 0, explored.size(), 0, 0, 0);
+        if (recording) {
+            notifyObserver(current, frontierView, exploredView,
+                    0, workspace.exploredCount(), 0, 0, 0);
+        }
 
-        if (current.equals(goal)) {
+        if (current == goalId) {
             finishSearch();
             return false;
         }
 
-        // Collect neighbors and reverse them to maintain DFS order
-        List<Node> neighbors = new ArrayList<>();
-        for (var edge : graph.getNeighbors(current)) {
-            neighbors.add(edge.getTo());
-        }
-        Collections.reverse(neighbors);
-
-        for (Node neighbor : neighbors) {
-            if (!explored.contains(neighbor) && !stack.contains(neighbor)) {
-                stack.push(neighbor);
-                parentMap.put(neighbor, current);
+        // Push neighbors last-to-first so the first neighbor is expanded next
+        double g = workspace.g(current);
+        for (int i = neighbors(current) - 1; i >= 0; i--) {
+            int neighbor = neighborIds[i];
+            // seen covers both the explored set and the stack
+            if (!workspace.isSeen(neighbor)) {
+                double gNeighbor = g + neighborCosts[i];
+                workspace.reach(neighbor, gNeighbor, current);
+                stack[top++] = neighbor;
                 nodesGenerated++;
+                if (recording) recordFrontier(neighbor, true, gNeighbor, gNeighbor);
             }
         }
 
-        maxFrontierSize = Math.max(maxFrontierSize, stack.size());
-        maxFootprintSize = Math.max(maxFootprintSize, stack.size() + explored.size());
-        return !stack.isEmpty();
-    }
-
-    /**
-     * Completes the search and notifies the observer with the results.
-     */
-    private void finishSearch() {
-        finished = true;
-
-        List<Node> path = reconstructPath(parentMap, goal);
-        double totalCost = calculatePathCost(graph, path);
-        int solutionDepth = path.size() - 1;
-
-        long endTime = System.nanoTime();
-        long afterMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-
-        long runtimeMs = (endTime - startTime) / 1_000_000;
-        long memoryBytes = afterMem - beforeMem;
-
-        if (observer != null) {
-            observer.onFinish(
-                    path,
-                    nodesExpanded,
-                    nodesGenerated,
-                    maxFrontierSize,
-                    totalCost,
-                    solutionDepth,
-                    runtimeMs,
-                    memoryBytes
-            );
+        maxFrontierSize = Math.max(maxFrontierSize, top);
+        maxFootprintSize = Math.max(maxFootprintSize, top + workspace.exploredCount());
+        if (top == 0) {
+            finishNoPath();
+            return false;
         }
+        return true;
     }
-
-    /**
-     * Checks if the search is finished.
-     *
-     * @return True if the search is finished, false otherwise
-     */
-    @Override
-    public boolean isFinished() {
-        return finished || stack.isEmpty();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,211 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.graph.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Shortest-path costs between every source and every target of two node lists.
+ * <p>
+ * Instead of one search per pair, {@link #compute} runs one Dijkstra sweep per source that stops
+ * as soon as the last of the targets is settled, so an N x M matrix costs N searches. Sources are
+ * processed in parallel on the common fork-join pool, each worker reusing its own
+ * {@link SearchWorkspace} and {@link IndexedMinHeap}. Costs are stored row-major in a single
+ * {@code double[]}, {@link Double#POSITIVE_INFINITY} for unreachable targets. Paths are optional:
+ * when requested, each cell keeps the node ids of its path.
+ */
+public final class DistanceMatrix {
+
+    private final List<Node> sources, targets;
+    private final double[] costs;
+    /** Node ids of the path of every cell, row-major, or null if paths were not requested. */
+    private final int[][] paths;
+    private final GraphView graph;
+
+    private DistanceMatrix(GraphView graph, List<Node> sources, List<Node> targets, double[] costs, int[][] paths) {
+        this.graph = graph;
+        this.sources = sources;
+        this.targets = targets;
+        this.costs = costs;
+        this.paths = paths;
+    }
+
+    /**
+     * Computes the matrix on the CSR snapshot of a {@link Graph}.
+     *
+     * @param graph     The graph to search
+     * @param sources   Row nodes
+     * @param targets   Column nodes
+     * @param withPaths True to keep the path of every cell
+     * @return The distance matrix
+     */
+    public static DistanceMatrix compute(Graph graph, List<Node> sources, List<Node> targets, boolean withPaths) {
+        return compute(graph.freeze(), sources, targets, withPaths);
+    }
+
+    /**
+     * Computes the shortest-path cost from every source to every target.
+     *
+     * @param graph     The graph to search; edge costs must be non-negative
+     * @param sources   Row nodes
+     * @param targets   Column nodes
+     * @param withPaths True to keep the path of every cell
+     * @return The distance matrix
+     * @throws IllegalArgumentException If a node is not part of the graph
+     */
+    public static DistanceMatrix compute(GraphView graph, List<Node> sources, List<Node> targets, boolean withPaths) {
+        int rows = sources.size(), columns = targets.size();
+        int[] sourceIds = ids(graph, sources);
+        int[] targetIds = ids(graph, targets);
+        if (columns == 0) {
+            // no targets: nothing to settle, so no source needs a sweep
+            return new DistanceMatrix(graph, List.copyOf(sources), List.copyOf(targets), new double[0],
+                    withPaths ? new int[0][] : null);
+        }
+
+        // distinct target nodes: slot per node id, column -> slot
+        int[] slotOf = new int[graph.nodeCount()];
+        Arrays.fill(slotOf, -1);
+        int[] columnSlot = new int[columns];
+        int distinct = 0;
+        for (int j = 0; j < columns; j++) {
+            int id = targetIds[j];
+            if (slotOf[id] < 0) slotOf[id] = distinct++;
+            columnSlot[j] = slotOf[id];
+        }
+        int targetCount = distinct;
+
+        double[] costs = new double[rows * columns];
+        int[][] paths = withPaths ? new int[rows * columns][] : null;
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.max(1, Math.min(rows, ForkJoinPool.getCommonPoolParallelism()));
+        IntStream.range(0, workers).parallel().forEach(w -> {
+            SearchWorkspace workspace = new SearchWorkspace(graph.nodeCount());
+            IndexedMinHeap frontier = new IndexedMinHeap(graph.nodeCount());
+            int[] neighborIds = new int[graph.maxDegree()];
+            double[] neighborCosts = new double[neighborIds.length];
+            double[] slotCosts = new double[targetCount];
+            for (int i; (i = next.getAndIncrement()) < rows; ) {
+                workspace.reset();
+                frontier.clear();
+                Arrays.fill(slotCosts, Double.POSITIVE_INFINITY);
+                sweep(graph, sourceIds[i], slotOf, targetCount, workspace, frontier,
+                        neighborIds, neighborCosts, slotCosts);
+                for (int j = 0; j < columns; j++) {
+                    costs[i * columns + j] = slotCosts[columnSlot[j]];
+                    if (paths != null) paths[i * columns + j] = path(workspace, targetIds[j]);
+                }
+            }
+        });
+        return new DistanceMatrix(graph, List.copyOf(sources), List.copyOf(targets), costs, paths);
+    }
+
+    /** Runs Dijkstra from one source until every target slot is settled or the component is exhausted. */
+    private static void sweep(GraphView graph, int source, int[] slotOf, int targetCount,
+                              SearchWorkspace workspace, IndexedMinHeap frontier,
+                              int[] neighborIds, double[] neighborCosts, double[] slotCosts) {
+        int remaining = targetCount;
+        workspace.reach(source, 0.0, -1);
+        frontier.add(source, 0.0);
+        while (!frontier.isEmpty()) {
+            int current = frontier.poll();
+            workspace.markExplored(current);
+            double g = workspace.g(current);
+            int slot = slotOf[current];
+            if (slot >= 0) {
+                slotCosts[slot] = g;
+                if (--remaining == 0) return;
+            }
+            for (int i = 0, degree = graph.neighbors(current, neighborIds, neighborCosts); i < degree; i++) {
+                int neighbor = neighborIds[i];
+                double tentative = g + neighborCosts[i];
+                if (tentative < workspace.g(neighbor)) {
+                    workspace.reach(neighbor, tentative, current);
+                    frontier.addOrDecrease(neighbor, tentative);
+                }
+            }
+        }
+    }
+
+    private static int[] path(SearchWorkspace workspace, int target) {
+        if (!workspace.isExplored(target)) return null;
+        int length = 0;
+        for (int id = target; id >= 0; id = workspace.parent(id)) length++;
+        int[] path = new int[length];
+        for (int id = target; id >= 0; id = workspace.parent(id)) path[--length] = id;
+        return path;
+    }
+
+    private static int[] ids(GraphView graph, List<Node> nodes) {
+        int[] ids = new int[nodes.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = graph.idOf(nodes.get(i));
+            if (ids[i] < 0) {
+                throw new IllegalArgumentException("Node is not part of the graph: " + nodes.get(i));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the number of rows (sources).
+     * @return Row count
+     */
+    public int rows() {
+        return sources.size();
+    }
+
+    /**
+     * Returns the number of columns (targets).
+     * @return Column count
+     */
+    public int columns() {
+        return targets.size();
+    }
+
+    /**
+     * Returns the shortest-path cost from a source to a target.
+     *
+     * @param row    Source index
+     * @param column Target index
+     * @return The cost, or {@link Double#POSITIVE_INFINITY} if the target is unreachable
+     */
+    public double cost(int row, int column) {
+        return costs[row * targets.size() + column];
+    }
+
+    /**
+     * Returns all costs, row-major: the cost from source {@code i} to target {@code j} is at
+     * index {@code i * columns() + j}. The array is shared, not copied.
+     *
+     * @return The cost matrix
+     */
+    public double[] costs() {
+        return costs;
+    }
+
+    /**
+     * Returns the shortest path from a source to a target.
+     *
+     * @param row    Source index
+     * @param column Target index
+     * @return The path from source to target, empty if the target is unreachable
+     * @throws IllegalStateException If the matrix was computed without paths
+     */
+    public List<Node> path(int row, int column) {
+        if (paths == null) {
+            throw new IllegalStateException("Distance matrix was computed without paths");
+        }
+        int[] ids = paths[row * targets.size() + column];
+        if (ids == null) return Collections.emptyList();
+        List<Node> path = new ArrayList<>(ids.length);
+        for (int id : ids) path.add(graph.getNode(id));
+        return path;
+    }
+}
@@ -0,0 +1,495 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.Heuristic;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hash-distributed parallel A* (HDA*).
+ * <p>
+ * Every node is owned by exactly one worker thread: node {@code id} belongs to worker
+ * {@code id % workers}, so consecutive ids (neighbors along a grid row, nodes loaded together) are
+ * spread over all workers. Each worker keeps a private open list of the nodes it owns, indexed by
+ * the owner-local slot {@code id / workers}, so the open lists of all workers together take O(n)
+ * memory regardless of the worker count. When a worker generates a node owned by another
+ * worker it buffers the (node, g, parent) triple and periodically hands the buffer to the owner's
+ * lock-free mailbox. Because only the owner ever reads or writes the g-score, parent and heuristic
+ * entries of a node, the shared {@link SearchWorkspace} needs no locking.
+ * <p>
+ * The goal's owner maintains the incumbent (best solution cost found so far). A worker is idle
+ * when its mailbox is empty and its open list holds no node with {@code f < incumbent}. The search
+ * terminates when all workers are idle and no message batch is in flight; an activity epoch
+ * guards this check against a worker waking up between the two reads. With an admissible
+ * heuristic the incumbent is then optimal.
+ * <p>
+ * The search runs to completion inside a single {@link #step()}; intermediate states are not
+ * reported to the observer. Expansion counts include re-expansions and the reported maximum
+ * frontier size is the sum of the per-worker peaks. Workers check the cancellation token and the
+ * budget after every round of {@value #EXPANSIONS_PER_ROUND} expansions, against the totals of all
+ * workers, so a budget can be overrun by up to one round per worker.
+ * <p>
+ * The worker threads belong to the instance and are reused by every query, so repeated queries
+ * do not pay for thread startup. They are started by the first query, end after
+ * {@value #IDLE_SECONDS} seconds without a query, and are released at once by {@link #close()}.
+ */
+public class HashDistributedAStar extends AbstractSearchAlgorithm implements AutoCloseable {
+
+    // Number of entries buffered per destination before a batch is sent
+    private static final int BATCH_SIZE = 256;
+
+    // Number of nodes expanded between mailbox checks
+    private static final int EXPANSIONS_PER_ROUND = 64;
+
+    // Seconds an idle worker thread waits for the next query before it ends
+    private static final int IDLE_SECONDS = 30;
+
+    // The heuristic used to estimate the cost to the goal
+    private final Heuristic heuristic;
+
+    // Number of worker threads
+    private final int workers;
+
+    // Worker threads, one per worker; created by the first query
+    private ThreadPoolExecutor executor;
+
+    // Best solution cost found so far; written only by the goal's owner
+    private volatile double incumbent;
+
+    // Set once termination is detected or a worker fails
+    private volatile boolean done;
+
+    // Number of idle workers, message batches sent but not yet consumed, and activity epoch
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong epoch = new AtomicLong();
+
+    // First failure raised by a worker, rethrown on the calling thread
+    private volatile Throwable failure;
+
+    // Expansions and open nodes of all workers as of their last completed round
+    private final AtomicLong expansions = new AtomicLong();
+    private final AtomicLong openNodes = new AtomicLong();
+
+    // Set when the token or the budget stops the workers before termination is detected
+    private volatile SearchOutcome stopOutcome;
+
+    /**
+     * Constructs an HDA* instance using one worker per available processor.
+     *
+     * @param heuristic The heuristic function to use
+     */
+    public HashDistributedAStar(Heuristic heuristic) {
+        this(heuristic, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an HDA* instance with the given number of worker threads.
+     *
+     * @param heuristic The heuristic function to use
+     * @param workers   Number of worker threads (at least 1)
+     */
+    public HashDistributedAStar(Heuristic heuristic, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Worker count must be at least 1: " + workers);
+        }
+        this.heuristic = heuristic;
+        this.workers = workers;
+    }
+
+    /**
+     * Returns the heuristic this search uses.
+     * @return The heuristic
+     */
+    @Override
+    public Heuristic getHeuristic() { return heuristic; }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return Worker count
+     */
+    public int getWorkers() { return workers; }
+
+    /**
+     * Starts the worker threads now rather than in the first query, e.g. before timing queries.
+     */
+    public void prestartWorkers() {
+        executor().prestartAllCoreThreads();
+    }
+
+    /**
+     * Stops the worker threads. A later query starts new ones.
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    /** Returns the worker threads, creating them if needed; all workers of a query run at once. */
+    private ThreadPoolExecutor executor() {
+        if (executor == null) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            executor = new ThreadPoolExecutor(workers, workers, IDLE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), task -> {
+                Thread t = new Thread(task, "hda-worker-" + threadIndex.getAndIncrement());
+                t.setDaemon(true);
+                return t;
+            });
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    /**
+     * Initializes the search with the given graph, start and goal nodes, and observer.
+     *
+     * @param graph    The graph to search
+     * @param start    The start node
+     * @param goal     The goal node
+     * @param observer The observer to notify when the search finishes
+     */
+    @Override
+    public void initialize(GraphView graph, Node start, Node goal, SearchObserver observer) {
+        prepare(graph, start, goal, observer);
+        incumbent = Double.POSITIVE_INFINITY;
+        done = false;
+        failure = null;
+        stopOutcome = null;
+        expansions.set(0);
+        openNodes.set(0);
+        idleWorkers.set(0);
+        inFlight.set(0);
+        epoch.set(0);
+    }
+
+    /**
+     * Runs the complete parallel search and finishes it; only the final result is reported.
+     *
+     * @return Always false, the search is finished after one call
+     */
+    @Override
+    protected boolean advance() {
+        if (!initialized || finished) return false;
+
+        Worker[] pool = new Worker[workers];
+        for (int i = 0; i < workers; i++) pool[i] = new Worker(i, pool);
+        pool[owner(startId)].seed(startId);
+
+        ThreadPoolExecutor threads = executor();
+        Future<?>[] running = new Future<?>[workers];
+        for (int i = 0; i < workers; i++) running[i] = threads.submit(pool[i]);
+        boolean interrupted = false;
+        for (Future<?> f : running) {
+            while (true) {
+                try {
+                    f.get();
+                    break;
+                } catch (InterruptedException e) {
+                    // Shut the workers down, but never leave them running behind the caller
+                    done = true;
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) failure = e.getCause();
+                    done = true;
+                    break;
+                }
+            }
+        }
+        if (failure != null) {
+            throw new IllegalStateException("HDA* worker failed", failure);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            if (stopOutcome == null) stopOutcome = SearchOutcome.CANCELLED;
+        }
+
+        // Waiting for the workers publishes all workspace writes to this thread
+        for (Worker w : pool) {
+            nodesExpanded += w.expanded;
+            nodesGenerated += w.generated;
+            maxFrontierSize += w.maxOpen;
+            heuristicEvaluations += w.evaluations;
+            for (int i = 0; i < w.expandedCount; i++) workspace.markExplored(w.expandedIds[i]);
+        }
+
+        if (stopOutcome != null) {
+            finishStopped(stopOutcome);
+        } else if (goalId >= 0 && incumbent < Double.POSITIVE_INFINITY) {
+            finishSearch(reconstructPath(goalId), incumbent);
+        } else {
+            finishNoPath();
+        }
+        return false;
+    }
+
+    /**
+     * Returns the worker that owns a node.
+     *
+     * @param id The node id
+     * @return Worker index in {@code [0, workers)}
+     */
+    private int owner(int id) {
+        return id % workers;
+    }
+
+    /**
+     * Returns the slot of a node in its owner's open list.
+     *
+     * @param id The node id
+     * @return Owner-local slot
+     */
+    private int slot(int id) {
+        return id / workers;
+    }
+
+    /**
+     * Checks for global termination: every worker idle, no batch in flight, and no worker
+     * woke up while the two counters were read.
+     */
+    private boolean terminated() {
+        long before = epoch.get();
+        return idleWorkers.get() == workers && inFlight.get() == 0 && epoch.get() == before;
+    }
+
+    /**
+     * A batch of (node, g, parent) triples sent to the owner of the nodes.
+     */
+    private static final class Batch {
+        final int[] ids = new int[BATCH_SIZE];
+        final double[] costs = new double[BATCH_SIZE];
+        final int[] parents = new int[BATCH_SIZE];
+        int size;
+    }
+
+    /**
+     * A worker thread owning the nodes that hash to its index.
+     */
+    private final class Worker implements Runnable {
+
+        private final int index;
+        private final Worker[] pool;
+
+        // Mailbox filled by other workers; only this worker polls it
+        private final ConcurrentLinkedQueue<Batch> mailbox = new ConcurrentLinkedQueue<>();
+
+        // Open list over the slots of owned nodes, keyed by f = g + h
+        private final IndexedMinHeap open = new IndexedMinHeap((snapshot.nodeCount() + workers - 1) / workers);
+
+        // Outgoing buffers per destination worker
+        private final Batch[] outgoing;
+
+        // Neighbors of the node being expanded; the inherited buffers are not shared between threads
+        private final int[] targets = new int[snapshot.maxDegree()];
+        private final double[] costs = new double[targets.length];
+
+        // Ids expanded by this worker, merged into the explored set after the search
+        private int[] expandedIds = new int[64];
+        private int expandedCount;
+
+        // Per-worker metrics
+        private int expanded, generated, maxOpen, evaluations;
+
+        // Expansions and open list size last added to the shared totals
+        private int reportedExpanded, reportedOpen;
+
+        Worker(int index, Worker[] pool) {
+            this.index = index;
+            this.pool = pool;
+            this.outgoing = new Batch[workers];
+        }
+
+        /** Places the start node on this worker's open list before the threads start. */
+        void seed(int id) {
+            relax(id, 0.0, -1);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!done) {
+                    drainMailbox();
+                    if (hasUsefulWork()) {
+                        expandRound();
+                        flush();
+                        if (!checkBudget()) break;
+                    } else {
+                        waitForWork();
+                    }
+                }
+            } catch (Throwable t) {
+                failure = t;
+                done = true;
+            }
+        }
+
+        /**
+         * Adds this round's work to the shared totals and checks the token and the budget; blocks
+         * while the token is paused. If the search must stop, stops all workers.
+         *
+         * @return True if the worker may continue
+         */
+        private boolean checkBudget() {
+            long total = expansions.addAndGet(expanded - reportedExpanded);
+            long openTotal = openNodes.addAndGet(open.size() - reportedOpen);
+            reportedExpanded = expanded;
+            reportedOpen = open.size();
+
+            CancellationToken t = token;
+            SearchOutcome outcome = null;
+            if (t.isPaused() && !t.awaitResumed() || t.isCancelled()) {
+                outcome = SearchOutcome.CANCELLED;
+            } else if (total >= budget.maxExpansions() || overFrontierBudget(openTotal)
+                    || budget.hasTimeout() && System.nanoTime() - deadline > 0) {
+                outcome = SearchOutcome.BUDGET_EXCEEDED;
+            }
+            if (outcome == null) return true;
+            if (stopOutcome == null) stopOutcome = outcome;
+            done = true;
+            return false;
+        }
+
+        /** True if the open list holds a node that could still improve the incumbent. */
+        private boolean hasUsefulWork() {
+            return !open.isEmpty() && open.peekKey() < incumbent;
+        }
+
+        /** Applies every batch currently in the mailbox. */
+        private void drainMailbox() {
+            Batch batch;
+            while ((batch = mailbox.poll()) != null) {
+                for (int i = 0; i < batch.size; i++) {
+                    relax(batch.ids[i], batch.costs[i], batch.parents[i]);
+                }
+                inFlight.decrementAndGet();
+            }
+        }
+
+        /** Expands up to {@link #EXPANSIONS_PER_ROUND} owned nodes. */
+        private void expandRound() {
+            for (int n = 0; n < EXPANSIONS_PER_ROUND && hasUsefulWork(); n++) {
+                int current = open.poll() * workers + index;
+                recordExpansion(current);
+
+                // The goal's cost is already recorded as the incumbent; nothing below it can help
+                if (current == goalId) continue;
+
+                double g = workspace.g(current);
+                for (int i = 0, degree = snapshot.neighbors(current, targets, costs); i < degree; i++) {
+                    int neighbor = targets[i];
+                    double tentativeG = g + costs[i];
+                    if (tentativeG >= incumbent) continue;
+
+                    int to = owner(neighbor);
+                    if (to == index) {
+                        relax(neighbor, tentativeG, current);
+                    } else {
+                        send(to, neighbor, tentativeG, current);
+                    }
+                }
+            }
+        }
+
+        /** Records a path to an owned node if it improves the node's g-score. */
+        private void relax(int id, double g, int parentId) {
+            if (g >= workspace.g(id)) return;
+            workspace.reach(id, g, parentId);
+
+            double f = g + estimate(id);
+            if (id == goalId && g < incumbent) {
+                incumbent = g;
+            }
+            if (f < incumbent && open.addOrDecrease(slot(id), f)) {
+                generated++;
+                maxOpen = Math.max(maxOpen, open.size());
+            }
+        }
+
+        /** Memoized heuristic of an owned node. */
+        private double estimate(int id) {
+            if (cacheHeuristics && workspace.hasHeuristic(id)) {
+                return workspace.heuristic(id);
+            }
+            evaluations++;
+            double h = goalId >= 0
+                    ? heuristic.estimate(snapshot, id, goalId)
+                    : heuristic.estimate(snapshot.getNode(id), goal);
+            workspace.storeHeuristic(id, h);
+            return h;
+        }
+
+        /** Buffers a generated node for its owner, sending the buffer when full. */
+        private void send(int to, int id, double g, int parentId) {
+            Batch batch = outgoing[to];
+            if (batch == null) {
+                batch = outgoing[to] = new Batch();
+            }
+            batch.ids[batch.size] = id;
+            batch.costs[batch.size] = g;
+            batch.parents[batch.size] = parentId;
+            if (++batch.size == BATCH_SIZE) {
+                post(to, batch);
+            }
+        }
+
+        /** Sends all partially filled buffers. */
+        private void flush() {
+            for (int to = 0; to < workers; to++) {
+                if (outgoing[to] != null && outgoing[to].size > 0) post(to, outgoing[to]);
+            }
+        }
+
+        /** Hands a batch to its owner; the in-flight count is raised before the batch is visible. */
+        private void post(int to, Batch batch) {
+            inFlight.incrementAndGet();
+            pool[to].mailbox.add(batch);
+            outgoing[to] = null;
+        }
+
+        /** Idles until mail arrives or global termination is detected. */
+        private void waitForWork() {
+            idleWorkers.incrementAndGet();
+            int spins = 0;
+            while (!done) {
+                if (!mailbox.isEmpty()) {
+                    // Leave the idle count before bumping the epoch, and both before consuming: a
+                    // termination check that read the epoch after the bump then also sees this
+                    // worker as busy, and one that read it before sees the epoch change
+                    idleWorkers.decrementAndGet();
+                    epoch.incrementAndGet();
+                    return;
+                }
+                if (terminated()) {
+                    done = true;
+                    return;
+                }
+                if (++spins < 100) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(20_000);
+                }
+            }
+        }
+
+        /** Adds an id to this worker's expansion log. */
+        private void recordExpansion(int id) {
+            expanded++;
+            if (expandedCount == expandedIds.length) {
+                expandedIds = Arrays.copyOf(expandedIds, expandedCount * 2);
+            }
+            expandedIds[expandedCount++] = id;
+        }
+    }
+}
@@ -13,58 +13,28 @@ import java.util.*;
  */
 public class IDDFS extends AbstractSearchAlgorithm {
 
-    /** The graph to search. */
-    private Graph graph;
-    /** The start node for the search. */
-    private Node start;
-    /** The goal node for the search. */
-    private Node goal;
-    /** Observer to notify during the search. */
-    private SearchObserver observer;
-
     /** Current depth limit for the search. */
     private int currentDepth = 0;
     /** Maximum allowed depth to prevent infinite loops. */
     private static final int MAX_DEPTH = 1000; // safety cap
-    /** Indicates if the search is finished. */
-    private boolean finished = false;
-    /** Indicates if the search has been initialized. */
-    private boolean initialized = false;
-
-    /** Stack for DFS, storing nodes and their depths. */
-    private Deque<NodeDepth> stack;
-    /** Map of nodes to their parent nodes for path reconstruction. */
-    private Map<Node, Node> parentMap;
-    /** Set of explored (visited) nodes. */
-    private Set<Node> explored;
+
+    /** Stack for DFS: node ids, their depths, the id they were pushed from and their path cost. */
+    private int[] stackIds = new int[16], stackDepths = new int[16], stackParents = new int[16];
+    private double[] stackCosts = new double[16];
+    /** Number of entries on the stack. */
+    private int top;
 
     // Metrics
-    /** Maximum size of the frontier during the search. */
-    private int maxFrontierSize = 0;
     /** Maximum combined size of frontier and explored set. */
     private int maxFootprintSize = 0;
-    /** Number of nodes generated during the search. */
-    private int nodesGenerated = 0;
-    /** Start time of the search (nanoseconds). */
-    private long startTime;
-    /** Memory usage before the search. */
-    private long beforeMem;
 
-    /**
-     * Helper structure for stack entries (node + depth).
-     */
-    private static class NodeDepth {
-        /** The node in the search. */
-        final Node node;
-        /** The depth of the node from the start. */
-        final int depth;
-        /**
-         * Constructs a NodeDepth instance.
-         * @param n The node.
-         * @param d The depth.
-         */
-        NodeDepth(Node n, int d) { node = n; depth = d; }
-    }
+    /** Live view of the stack contents (top first) handed to the observer. */
+    private final NodeView.Source frontierSource = new NodeView.Source() {
+        @Override public int size() { return top; }
+        @Override public int idAt(int index) { return stackIds[top - 1 - index]; }
+    };
+    /** Observer views over the frontier and explored set. */
+    private Collection<Node> frontierView, exploredView;
 
     /**
      * Initializes the IDDFS algorithm with the given graph, start and goal nodes, and observer.
@@ -74,20 +44,15 @@ public class IDDFS extends AbstractSearchAlgorithm {
      * @param observer The observer to notify during the search
      */
     @Override
-    public void initialize(Graph graph, Node start, Node goal, SearchObserver observer) {
-        this.graph = graph;
-        this.start = start;
-        this.goal = goal;
-        this.observer = observer;
+    public void initialize(GraphView graph, Node start, Node goal, SearchObserver observer) {
+        prepare(graph, start, goal, observer);
 
-        this.currentDepth = 0;
-        this.finished = false;
-        this.initialized = true;
+        frontierView = new NodeView(snapshot, frontierSource);
+        exploredView = exploredView();
+        maxFootprintSize = 0;
 
+        this.currentDepth = 0;
         startNewDepth(); // initialize first depth-limited search
-
-        startTime = System.nanoTime();
-        beforeMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
     }
 
     /**
@@ -95,7 +60,7 @@ public class IDDFS extends AbstractSearchAlgorithm {
      * Returns true while search should continue; false when complete.
      */
     @Override
-    public boolean step() {
+    protected boolean advance() {
         if (!initialized || finished) return false;
 
         // Safety cap
@@ -105,113 +70,97 @@ public class IDDFS extends AbstractSearchAlgorithm {
         }
 
         // If current depth search is exhausted, go deeper
-        if (stack.isEmpty()) {
+        if (top == 0) {
             currentDepth++;
             if (currentDepth > MAX_DEPTH) {
                 finishNoPath();
                 return false;
             }
             startNewDepth();
-            System.out.println("🔁 Increasing depth to " + currentDepth);
+            if (recording) System.out.println("🔁 Increasing depth to " + currentDepth);
             return true; // keep timeline running
         }
 
         // Pop from stack (DFS order)
-        NodeDepth nd = stack.pop();
-        Node current = nd.node;
-        explored.add(current);
+        int entry = --top;
+        int current = stackIds[entry];
+        int depth = stackDepths[entry];
+        // The first expansion in this iteration fixes the node's parent and cost
+        if (!workspace.isExplored(current)) {
+            workspace.reach(current, stackCosts[entry], stackParents[entry]);
+            workspace.markExplored(current);
+        }
         nodesExpanded++;
 
         // Notify UI (visualization)
-        notifyObserver(observer, current, extractFrontier(), explored, 0, explored.size(), 0, 0, 0);
+        if (recording) {
+            notifyObserver(current, frontierView, exploredView,
+                    0, workspace.exploredCount(), 0, 0, 0);
+        }
 
         // Goal check
-        if (current.equals(goal)) {
+        if (current == goalId) {
             finishSearch();
             return false;
         }
 
-        // Expand neighbors within current depth limit
-        if (nd.depth < currentDepth) {
-            List<Edge> neighbors = graph.getNeighbors(current);
-            // Reverse for consistent left-to-right DFS order (optional for UI)
-            Collections.reverse(neighbors);
-
-            for (Edge edge : neighbors) {
-                Node neighbor = edge.getTo();
-                if (!explored.contains(neighbor)) {
-                    stack.push(new NodeDepth(neighbor, nd.depth + 1));
-                    parentMap.put(neighbor, current);
+        // Expand neighbors within current depth limit, last-to-first for left-to-right DFS order
+        if (depth < currentDepth) {
+            double g = workspace.g(current);
+            for (int i = neighbors(current) - 1; i >= 0; i--) {
+                int neighbor = neighborIds[i];
+                if (!workspace.isExplored(neighbor)) {
+                    double gNeighbor = g + neighborCosts[i];
+                    push(neighbor, depth + 1, current, gNeighbor);
                     nodesGenerated++;
+                    if (recording) recordFrontier(neighbor, true, gNeighbor, gNeighbor);
                 }
             }
         }
 
-        maxFrontierSize = Math.max(maxFrontierSize, stack.size());
-        maxFootprintSize = Math.max(maxFootprintSize, stack.size() + explored.size());
+        maxFrontierSize = Math.max(maxFrontierSize, top);
+        maxFootprintSize = Math.max(maxFootprintSize, top + workspace.exploredCount());
         return true;
     }
 
     /** Prepares for a new depth-limited DFS iteration. */
     private void startNewDepth() {
-        stack = new ArrayDeque<>();
-        explored = new HashSet<>();
-        parentMap = new HashMap<>();
-        stack.push(new NodeDepth(start, 0));
-        parentMap.put(start, null);
-    }
-
-    /** Builds a list of nodes in the current frontier (for visualization). */
-    private List<Node> extractFrontier() {
-        List<Node> frontier = new ArrayList<>(stack.size());
-        for (NodeDepth nd : stack) frontier.add(nd.node);
-        return frontier;
-    }
-
-    /** Called when goal is found. */
-    private void finishSearch() {
-        finished = true;
-        List<Node> path = reconstructPath(parentMap, goal);
-        double totalCost = calculatePathCost(graph, path);
-        int solutionDepth = path.size() - 1;
-
-        long endTime = System.nanoTime();
-        long afterMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-        long runtimeMs = (endTime - startTime) / 1_000_000;
-        long memoryBytes = afterMem - beforeMem;
-
-        if (observer != null) {
-            observer.onFinish(
-                    path, nodesExpanded, nodesGenerated,
-                    maxFrontierSize, totalCost, solutionDepth,
-                    runtimeMs, memoryBytes
-            );
+        workspace.reset();
+        top = 0;
+        push(startId, 0, -1, 0.0);
+        if (recording) {
+            recordReset();
+            recordFrontier(startId, true, 0.0, 0.0);
         }
-
-        System.out.println("✅ IDDFS found goal at depth " + currentDepth + ".");
     }
 
-    /** Called when goal not found up to MAX_DEPTH. */
-    private void finishNoPath() {
-        finished = true;
-        long endTime = System.nanoTime();
-        long afterMem = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-        long runtimeMs = (endTime - startTime) / 1_000_000;
-        long memoryBytes = afterMem - beforeMem;
-
-        if (observer != null) {
-            observer.onFinish(
-                    Collections.emptyList(), nodesExpanded, nodesGenerated,
-                    maxFrontierSize, Double.POSITIVE_INFINITY, 0,
-                    runtimeMs, memoryBytes
-            );
+    /** Pushes a stack entry, growing the stack arrays when full. */
+    private void push(int id, int depth, int parent, double cost) {
+        if (top == stackIds.length) {
+            int capacity = top * 2;
+            stackIds = Arrays.copyOf(stackIds, capacity);
+            stackDepths = Arrays.copyOf(stackDepths, capacity);
+            stackParents = Arrays.copyOf(stackParents, capacity);
+            stackCosts = Arrays.copyOf(stackCosts, capacity);
         }
+        stackIds[top] = id;
+        stackDepths[top] = depth;
+        stackParents[top] = parent;
+        stackCosts[top] = cost;
+        top++;
+    }
 
-        System.out.println("⚠️ No path found (reached depth " + currentDepth + ").");
+    /** Called when goal is found. Only observed searches log; {@link #solve} stays silent. */
+    @Override
+    protected void finishSearch() {
+        super.finishSearch();
+        if (recording) System.out.println("✅ IDDFS found goal at depth " + currentDepth + ".");
     }
 
+    /** Called when goal not found up to MAX_DEPTH. Only observed searches log. */
     @Override
-    public boolean isFinished() {
-        return finished;
+    protected void finishNoPath() {
+        super.finishNoPath();
+        if (recording) System.out.println("⚠️ No path found (reached depth " + currentDepth + ").");
     }
 }
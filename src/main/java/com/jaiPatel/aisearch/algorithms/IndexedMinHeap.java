@@ -0,0 +1,217 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Indexed 4-ary min-heap over dense int node ids with primitive double keys.
+ * <p>
+ * Each id is in the heap at most once. The heap tracks the position of every id, so
+ * {@link #decreaseKey} re-sifts an entry in O(log n) when a cheaper path is found instead of
+ * leaving a stale entry behind. Keys are cached in the heap, so ordering never calls back into
+ * score maps or heuristics. A 4-ary layout halves the tree height compared to a binary heap and
+ * keeps the children of a node on the same cache line.
+ * <p>
+ * Used as the open list of A*, Best-First Search and the uniform-cost (Dijkstra) searches.
+ */
+public final class IndexedMinHeap implements NodeView.Source {
+
+    /** Branching factor of the heap. */
+    private static final int ARITY = 4;
+
+    /** Node ids in heap order. */
+    private int[] heap = new int[16];
+    /** Keys parallel to {@link #heap}. */
+    private double[] keys = new double[16];
+    /** Heap position of every id, or -1 when the id is not in the heap. */
+    private int[] pos = new int[0];
+    /** Number of entries in the heap. */
+    private int size;
+
+    /**
+     * Creates an empty heap for ids in {@code [0, capacity)}.
+     *
+     * @param capacity Number of distinct ids the heap can hold
+     */
+    public IndexedMinHeap(int capacity) {
+        ensureCapacity(capacity);
+    }
+
+    /**
+     * Grows the id range of the heap if needed.
+     *
+     * @param capacity Number of distinct ids the heap must be able to hold
+     */
+    public void ensureCapacity(int capacity) {
+        if (pos.length < capacity) {
+            int old = pos.length;
+            pos = Arrays.copyOf(pos, capacity);
+            Arrays.fill(pos, old, capacity, -1);
+        }
+    }
+
+    /**
+     * Removes all entries in O(size).
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    /**
+     * Returns the approximate heap footprint of the heap's arrays.
+     *
+     * @return Approximate size in bytes
+     */
+    public long arrayBytes() {
+        return 4L * heap.length + 8L * keys.length + 4L * pos.length;
+    }
+
+    /** @return True if the heap has no entries */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int idAt(int index) {
+        return heap[index];
+    }
+
+    /**
+     * Checks whether an id is in the heap.
+     *
+     * @param id The node id
+     * @return True if the id is in the heap
+     */
+    public boolean contains(int id) {
+        return pos[id] >= 0;
+    }
+
+    /**
+     * Returns the cached key of an id in the heap.
+     *
+     * @param id The node id
+     * @return The key, or {@link Double#POSITIVE_INFINITY} if the id is not in the heap
+     */
+    public double key(int id) {
+        int p = pos[id];
+        return p >= 0 ? keys[p] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the id with the smallest key without removing it.
+     *
+     * @return The node id
+     */
+    public int peek() {
+        return heap[0];
+    }
+
+    /**
+     * Returns the smallest key in the heap.
+     *
+     * @return The smallest key, or {@link Double#POSITIVE_INFINITY} if the heap is empty
+     */
+    public double peekKey() {
+        return size == 0 ? Double.POSITIVE_INFINITY : keys[0];
+    }
+
+    /**
+     * Adds an id that is not yet in the heap.
+     *
+     * @param id  The node id
+     * @param key The priority (lower is better)
+     */
+    public void add(int id, double key) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        siftUp(size++, id, key);
+    }
+
+    /**
+     * Lowers the key of an id already in the heap. Larger keys are ignored.
+     *
+     * @param id  The node id
+     * @param key The new priority
+     */
+    public void decreaseKey(int id, double key) {
+        int p = pos[id];
+        if (key < keys[p]) siftUp(p, id, key);
+    }
+
+    /**
+     * Adds an id, or lowers its key if it is already in the heap.
+     *
+     * @param id  The node id
+     * @param key The priority
+     * @return True if the id was newly added
+     */
+    public boolean addOrDecrease(int id, double key) {
+        if (pos[id] >= 0) {
+            decreaseKey(id, key);
+            return false;
+        }
+        add(id, key);
+        return true;
+    }
+
+    /**
+     * Removes and returns the id with the smallest key.
+     *
+     * @return The node id
+     */
+    public int poll() {
+        int top = heap[0];
+        pos[top] = -1;
+        int last = --size;
+        if (last > 0) siftDown(0, heap[last], keys[last]);
+        return top;
+    }
+
+    /** Moves an entry towards the root until its parent has a smaller or equal key. */
+    private void siftUp(int i, int id, double key) {
+        while (i > 0) {
+            int p = (i - 1) / ARITY;
+            double pk = keys[p];
+            if (pk <= key) break;
+            heap[i] = heap[p];
+            keys[i] = pk;
+            pos[heap[i]] = i;
+            i = p;
+        }
+        heap[i] = id;
+        keys[i] = key;
+        pos[id] = i;
+    }
+
+    /** Moves an entry towards the leaves until all its children have larger or equal keys. */
+    private void siftDown(int i, int id, double key) {
+        while (true) {
+            int first = i * ARITY + 1;
+            if (first >= size) break;
+            int best = first;
+            double bestKey = keys[first];
+            int end = Math.min(first + ARITY, size);
+            for (int c = first + 1; c < end; c++) {
+                if (keys[c] < bestKey) {
+                    best = c;
+                    bestKey = keys[c];
+                }
+            }
+            if (key <= bestKey) break;
+            heap[i] = heap[best];
+            keys[i] = bestKey;
+            pos[heap[i]] = i;
+            i = best;
+        }
+        heap[i] = id;
+        keys[i] = key;
+        pos[id] = i;
+    }
+}
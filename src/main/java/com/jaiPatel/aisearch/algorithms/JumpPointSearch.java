@@ -0,0 +1,282 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.util.*;
+
+/**
+ * Jump Point Search (Harabor and Grastien) for uniform-cost 8-connected grids.
+ * <p>
+ * JPS is A* with symmetry pruning: instead of adding every neighbor to the open list, it scans
+ * straight and diagonal lines from the current node and only stops at jump points, i.e. at the goal
+ * or at cells with a forced neighbor (a neighbor reachable optimally only through that cell
+ * because an obstacle blocks the symmetric alternatives). Only jump points enter the open list and
+ * each step expands one of them, so the observer sees the jump points. The path between
+ * consecutive jump points is a straight or diagonal line and is filled in when the search finishes.
+ * <p>
+ * Grid detection uses node coordinates and the {@code blocked} attribute (see
+ * {@link UniformGrid}). On any other graph the search expands every edge and behaves exactly
+ * like {@link AStarSearch}. The heuristic must be admissible on the grid, e.g. Euclidean or
+ * Chebyshev.
+ */
+public class JumpPointSearch extends AbstractSearchAlgorithm {
+
+    // Cost of a diagonal move on a uniform grid
+    private static final double DIAGONAL = Math.sqrt(2);
+
+    // The heuristic used to estimate the cost to the goal
+    private final Heuristic heuristic;
+
+    // Frontier (open list) of jump points keyed by cached f = g + h
+    private final IndexedMinHeap frontier = new IndexedMinHeap(0);
+
+    // Cell index of the current snapshot, or null if it is not a uniform grid
+    private UniformGrid grid;
+    private GraphView gridSnapshot;
+
+    // Grid coordinates of the goal, or -1 when it is not on the grid
+    private int goalX, goalY;
+
+    // Cells passed over by jump scans in the current query
+    private long cellsScanned;
+
+    // Observer views over the frontier and explored set
+    private Collection<Node> frontierView, exploredView;
+
+    /**
+     * Constructs a JumpPointSearch instance with the given heuristic.
+     *
+     * @param heuristic The heuristic function to use
+     */
+    public JumpPointSearch(Heuristic heuristic) { this.heuristic = heuristic; }
+
+    /**
+     * Returns the heuristic this search uses.
+     * @return The heuristic
+     */
+    @Override
+    public Heuristic getHeuristic() { return heuristic; }
+
+    /**
+     * Initializes the search with the given graph, start and goal nodes, and observer.
+     * Detects whether the graph is a uniform grid the first time a snapshot is searched.
+     *
+     * @param graph    The graph to search
+     * @param start    The start node
+     * @param goal     The goal node
+     * @param observer The observer to notify during the search
+     */
+    @Override
+    public void initialize(GraphView graph, Node start, Node goal, SearchObserver observer) {
+        prepare(graph, start, goal, observer);
+        if (snapshot != gridSnapshot) {
+            grid = UniformGrid.detect(snapshot);
+            gridSnapshot = snapshot;
+        }
+        goalX = grid != null && goalId >= 0 ? grid.x(snapshot, goalId) : -1;
+        goalY = grid != null && goalId >= 0 ? grid.y(snapshot, goalId) : -1;
+        cellsScanned = 0;
+
+        frontier.ensureCapacity(snapshot.nodeCount());
+        frontier.clear();
+        workspace.reach(startId, 0.0, -1);
+        frontier.add(startId, estimate(heuristic, startId));
+
+        frontierView = new NodeView(snapshot, frontier);
+        exploredView = exploredView();
+
+        nodesGenerated = 1;
+        maxFrontierSize = 1;
+    }
+
+    /**
+     * Checks whether the last initialized graph was recognized as a uniform grid.
+     *
+     * @return True if jump points are used, false if the search falls back to plain A*
+     */
+    public boolean isUsingJumpPoints() { return grid != null; }
+
+    /**
+     * Returns the number of cells passed over by jump scans in the current query; together with the
+     * expanded jump points this is the work JPS does instead of A* expansions.
+     *
+     * @return Scanned cell count
+     */
+    public long getCellsScanned() { return cellsScanned; }
+
+    /**
+     * Expands the next jump point, or the next node when the graph is not a uniform grid.
+     *
+     * @return True if there are more steps remaining, false if the search is finished
+     */
+    @Override
+    protected boolean advance() {
+        if (!initialized || finished) return false;
+        if (frontier.isEmpty()) {
+            finishNoPath();
+            return false;
+        }
+
+        int current = frontier.poll();
+        workspace.markExplored(current);
+        nodesExpanded++;
+
+        double g = workspace.g(current);
+        if (recording) {
+            double h = estimate(heuristic, current);
+            notifyObserver(current, frontierView, exploredView,
+                    nodesExpanded, workspace.exploredCount(), g, h, g + h);
+        }
+
+        if (current == goalId) {
+            if (grid != null) {
+                finishJumpPath();
+            } else {
+                finishSearch();
+            }
+            return false;
+        }
+
+        if (grid != null) {
+            expandJumpPoints(current, g);
+        } else {
+            for (int i = 0, degree = neighbors(current); i < degree; i++) {
+                relax(neighborIds[i], g + neighborCosts[i], current);
+            }
+        }
+
+        maxFrontierSize = Math.max(maxFrontierSize, frontier.size());
+        if (frontier.isEmpty()) {
+            finishNoPath();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records a path to a node if it improves the node's g-score and (re)opens it.
+     */
+    private void relax(int id, double tentativeG, int parentId) {
+        if (tentativeG < workspace.g(id)) {
+            workspace.reach(id, tentativeG, parentId);
+            double f = tentativeG + estimate(heuristic, id);
+            boolean added = frontier.addOrDecrease(id, f);
+            if (added) nodesGenerated++;
+            if (recording) recordFrontier(id, added, tentativeG, f);
+        }
+    }
+
+    /**
+     * Jumps in every direction that survives pruning, given the direction the jump point was
+     * entered from. The start node scans all eight directions, unless it is blocked and thus has
+     * no edges.
+     */
+    private void expandJumpPoints(int current, double g) {
+        int x = grid.x(snapshot, current), y = grid.y(snapshot, current);
+        if (!grid.isWalkable(x, y)) return;
+        int parent = workspace.parent(current);
+        if (parent < 0) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    if (dx != 0 || dy != 0) jumpFrom(current, g, x, y, dx, dy);
+                }
+            }
+            return;
+        }
+
+        int dx = Integer.signum(x - grid.x(snapshot, parent));
+        int dy = Integer.signum(y - grid.y(snapshot, parent));
+        if (dx != 0 && dy != 0) {
+            jumpFrom(current, g, x, y, dx, 0);
+            jumpFrom(current, g, x, y, 0, dy);
+            jumpFrom(current, g, x, y, dx, dy);
+            if (!grid.isWalkable(x - dx, y) && grid.isWalkable(x - dx, y + dy)) jumpFrom(current, g, x, y, -dx, dy);
+            if (!grid.isWalkable(x, y - dy) && grid.isWalkable(x + dx, y - dy)) jumpFrom(current, g, x, y, dx, -dy);
+        } else if (dx != 0) {
+            jumpFrom(current, g, x, y, dx, 0);
+            if (!grid.isWalkable(x, y + 1) && grid.isWalkable(x + dx, y + 1)) jumpFrom(current, g, x, y, dx, 1);
+            if (!grid.isWalkable(x, y - 1) && grid.isWalkable(x + dx, y - 1)) jumpFrom(current, g, x, y, dx, -1);
+        } else {
+            jumpFrom(current, g, x, y, 0, dy);
+            if (!grid.isWalkable(x + 1, y) && grid.isWalkable(x + 1, y + dy)) jumpFrom(current, g, x, y, 1, dy);
+            if (!grid.isWalkable(x - 1, y) && grid.isWalkable(x - 1, y + dy)) jumpFrom(current, g, x, y, -1, dy);
+        }
+    }
+
+    /**
+     * Scans from a jump point in one direction and relaxes the jump point found, if any.
+     */
+    private void jumpFrom(int current, double g, int x, int y, int dx, int dy) {
+        int next = jump(x, y, dx, dy);
+        if (next < 0) return;
+        int steps = Math.max(Math.abs(grid.x(snapshot, next) - x), Math.abs(grid.y(snapshot, next) - y));
+        relax(next, g + steps * (dx != 0 && dy != 0 ? DIAGONAL : 1.0), current);
+    }
+
+    /**
+     * Moves from a cell in one direction until a jump point is reached. Straight moves are
+     * scanned on the grid's bitsets; diagonal moves advance one cell at a time and probe both
+     * straight directions from every cell.
+     *
+     * @return The node id of the jump point, or -1 if the scan runs into an obstacle or the border
+     */
+    private int jump(int x, int y, int dx, int dy) {
+        if (dy == 0) {
+            int jx = grid.scanRow(x, y, dx, y == goalY ? goalX : -1);
+            if (jx < 0) return -1;
+            cellsScanned += Math.abs(jx - x);
+            return grid.nodeAt(jx, y);
+        }
+        if (dx == 0) {
+            int jy = grid.scanColumn(x, y, dy, x == goalX ? goalY : -1);
+            if (jy < 0) return -1;
+            cellsScanned += Math.abs(jy - y);
+            return grid.nodeAt(x, jy);
+        }
+
+        while (true) {
+            x += dx;
+            y += dy;
+            if (!grid.isWalkable(x, y)) return -1;
+            cellsScanned++;
+
+            int id = grid.nodeAt(x, y);
+            if (id == goalId) return id;
+            if ((!grid.isWalkable(x - dx, y) && grid.isWalkable(x - dx, y + dy))
+                    || (!grid.isWalkable(x, y - dy) && grid.isWalkable(x + dx, y - dy))) {
+                return id;
+            }
+            // A diagonal cell is a jump point if a straight scan from it finds one
+            if (jump(x, y, dx, 0) >= 0 || jump(x, y, 0, dy) >= 0) return id;
+        }
+    }
+
+    /**
+     * Completes the search by filling in the cells between consecutive jump points. The reported
+     * cost sums the straight and diagonal moves along the filled-in path, which the grid detection
+     * verified to match the graph's edge costs.
+     */
+    private void finishJumpPath() {
+        List<Node> jumpPoints = reconstructPath(goalId);
+        List<Node> path = new ArrayList<>();
+        path.add(start);
+        double cost = 0.0;
+        int previous = startId;
+        for (int i = 1; i < jumpPoints.size(); i++) {
+            int to = snapshot.idOf(jumpPoints.get(i));
+            int x = grid.x(snapshot, previous), y = grid.y(snapshot, previous);
+            int tx = grid.x(snapshot, to), ty = grid.y(snapshot, to);
+            int dx = Integer.signum(tx - x), dy = Integer.signum(ty - y);
+            while (x != tx || y != ty) {
+                x += dx;
+                y += dy;
+                int id = grid.nodeAt(x, y);
+                cost += dx != 0 && dy != 0 ? DIAGONAL : 1.0;
+                path.add(snapshot.getNode(id));
+                previous = id;
+            }
+        }
+        finishSearch(path, cost);
+    }
+}
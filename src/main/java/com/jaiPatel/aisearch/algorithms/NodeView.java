@@ -0,0 +1,71 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.graph.GraphView;
+import com.jaiPatel.aisearch.graph.Node;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only {@link java.util.Collection} of nodes backed by a sequence of node ids.
+ * <p>
+ * Used to hand frontier and explored sets to a {@link SearchObserver} without copying the
+ * primitive id arrays the algorithms work on. The view is live: it reflects the current
+ * contents of its source every time it is iterated.
+ */
+final class NodeView extends AbstractCollection<Node> {
+
+    /**
+     * A sequence of node ids.
+     */
+    interface Source {
+        /** @return Number of ids in the sequence */
+        int size();
+
+        /**
+         * @param index Position in the sequence
+         * @return The node id at that position
+         */
+        int idAt(int index);
+    }
+
+    /** Graph used to map ids back to nodes. */
+    private final GraphView graph;
+    /** The backing id sequence. */
+    private final Source source;
+
+    /**
+     * Creates a view over the given id sequence.
+     *
+     * @param graph  Graph used to resolve node ids
+     * @param source The backing id sequence
+     */
+    NodeView(GraphView graph, Source source) {
+        this.graph = graph;
+        this.source = source;
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public Iterator<Node> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < source.size();
+            }
+
+            @Override
+            public Node next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return graph.getNode(source.idAt(index++));
+            }
+        };
+    }
+}
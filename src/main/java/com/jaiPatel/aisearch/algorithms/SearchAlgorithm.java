@@ -1,6 +1,7 @@
 package com.jaiPatel.aisearch.algorithms;
 
 import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.Heuristic;
 
 /**
  * Interface for incremental search algorithms used in live visualization and benchmarking.
@@ -18,7 +19,20 @@ public interface SearchAlgorithm {
      * @param goal     The goal node
      * @param observer The observer to notify during the search
      */
-    void initialize(Graph graph, Node start, Node goal, SearchObserver observer);
+    void initialize(GraphView graph, Node start, Node goal, SearchObserver observer);
+
+    /**
+     * Initializes the algorithm on the CSR snapshot of a {@link Graph}, which is faster to search
+     * than the graph's hash maps and has the same node ids.
+     *
+     * @param graph    The graph to search
+     * @param start    The start node
+     * @param goal     The goal node
+     * @param observer The observer to notify during the search
+     */
+    default void initialize(Graph graph, Node start, Node goal, SearchObserver observer) {
+        initialize(graph.freeze(), start, goal, observer);
+    }
 
     /**
      * Performs one step of the algorithm.
@@ -44,7 +58,21 @@ public interface SearchAlgorithm {
      * @param observer The observer to notify during the search
      * @return SearchResult containing the result of the search
      */
-    SearchResult solve(Graph graph, Node start, Node goal, SearchObserver observer);
+    SearchResult solve(GraphView graph, Node start, Node goal, SearchObserver observer);
+
+    /**
+     * Fully solves the problem on the CSR snapshot of a {@link Graph}, which is faster to search
+     * than the graph's hash maps and has the same node ids.
+     *
+     * @param graph    The graph to search
+     * @param start    The start node
+     * @param goal     The goal node
+     * @param observer The observer to notify during the search
+     * @return SearchResult containing the result of the search
+     */
+    default SearchResult solve(Graph graph, Node start, Node goal, SearchObserver observer) {
+        return solve(graph.freeze(), start, goal, observer);
+    }
 
     /**
      * Returns the number of nodes expanded during the search.
@@ -73,4 +101,48 @@ public interface SearchAlgorithm {
      * @return Start time in milliseconds
      */
     default long getStartTime() { return 0L; }
+
+    /**
+     * Returns the number of heuristic evaluations made during the search.
+     *
+     * @return Number of heuristic calls, 0 for uninformed algorithms
+     */
+    default int getHeuristicEvaluations() { return 0; }
+
+    /**
+     * Returns the heuristic guiding the search.
+     *
+     * @return The heuristic, or null for uninformed algorithms
+     */
+    default Heuristic getHeuristic() { return null; }
+
+    /**
+     * Returns the result of the last completed search.
+     *
+     * @return The search result, or null if no search has finished
+     */
+    default SearchResult getResult() { return null; }
+
+    /**
+     * Sets the limits of the searches run by this algorithm (optional). Algorithms that do not
+     * support budgets ignore it.
+     *
+     * @param budget The budget, or null for {@link SearchBudget#UNLIMITED}
+     */
+    default void setBudget(SearchBudget budget) { }
+
+    /**
+     * Returns the limits of the searches run by this algorithm (optional).
+     *
+     * @return The budget; {@link SearchBudget#UNLIMITED} for algorithms that do not support budgets
+     */
+    default SearchBudget getBudget() { return SearchBudget.UNLIMITED; }
+
+    /**
+     * Shares a token through which other threads can pause or cancel the searches run by this
+     * algorithm (optional). Algorithms that do not support cancellation ignore it.
+     *
+     * @param token The token, or null for a fresh token per search
+     */
+    default void setCancellationToken(CancellationToken token) { }
 }
@@ -0,0 +1,88 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import java.time.Duration;
+
+/**
+ * Limits on the work a single search may do.
+ * <p>
+ * A search that reaches any limit before finding the goal ends with
+ * {@link SearchOutcome#BUDGET_EXCEEDED}. Expansions and frontier size are checked before every
+ * expansion; the clock is read only every {@value #CLOCK_INTERVAL} expansions, so a timeout can be
+ * overrun by that many expansions. The frontier size is estimated from the peak number of open
+ * nodes at {@value #FRONTIER_ENTRY_BYTES} bytes each, the size of an {@link IndexedMinHeap} entry.
+ * <p>
+ * Budgets are immutable; start from {@link #UNLIMITED} and narrow it with the {@code with}
+ * methods, e.g. {@code SearchBudget.UNLIMITED.withMaxExpansions(1_000_000).withTimeout(Duration.ofSeconds(5))}.
+ *
+ * @param maxExpansions    Maximum number of node expansions
+ * @param maxFrontierBytes Maximum estimated size of the frontier, in bytes
+ * @param timeoutNanos     Maximum wall-clock time from initialization, in nanoseconds
+ */
+public record SearchBudget(long maxExpansions, long maxFrontierBytes, long timeoutNanos) {
+
+    /** A budget without limits. */
+    public static final SearchBudget UNLIMITED = new SearchBudget(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+
+    /** Estimated bytes per open node: heap id, key and position. */
+    public static final int FRONTIER_ENTRY_BYTES = 16;
+
+    /** Number of expansions between two reads of the clock. */
+    public static final int CLOCK_INTERVAL = 64;
+
+    /**
+     * Validates the limits.
+     *
+     * @throws IllegalArgumentException If a limit is negative
+     */
+    public SearchBudget {
+        if (maxExpansions < 0 || maxFrontierBytes < 0 || timeoutNanos < 0) {
+            throw new IllegalArgumentException("Search budget limits must be non-negative");
+        }
+    }
+
+    /**
+     * Returns a copy of this budget with a maximum number of expansions.
+     *
+     * @param expansions Maximum number of node expansions
+     * @return The new budget
+     */
+    public SearchBudget withMaxExpansions(long expansions) {
+        return new SearchBudget(expansions, maxFrontierBytes, timeoutNanos);
+    }
+
+    /**
+     * Returns a copy of this budget with a maximum frontier size.
+     *
+     * @param bytes Maximum estimated size of the frontier, in bytes
+     * @return The new budget
+     */
+    public SearchBudget withMaxFrontierBytes(long bytes) {
+        return new SearchBudget(maxExpansions, bytes, timeoutNanos);
+    }
+
+    /**
+     * Returns a copy of this budget with a wall-clock limit, measured from the moment the search
+     * is initialized.
+     *
+     * @param timeout Maximum search time
+     * @return The new budget
+     */
+    public SearchBudget withTimeout(Duration timeout) {
+        long nanos;
+        try {
+            nanos = timeout.toNanos();
+        } catch (ArithmeticException e) {
+            nanos = Long.MAX_VALUE;
+        }
+        return new SearchBudget(maxExpansions, maxFrontierBytes, nanos);
+    }
+
+    /**
+     * Checks whether this budget has a wall-clock limit.
+     *
+     * @return True if a timeout is set
+     */
+    public boolean hasTimeout() {
+        return timeoutNanos != Long.MAX_VALUE;
+    }
+}
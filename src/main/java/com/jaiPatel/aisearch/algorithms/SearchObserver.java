@@ -6,21 +6,56 @@ import java.util.List;
 
 /**
  * Observer interface for step-by-step search visualization and metrics reporting.
+ * <p>
+ * Steps are reported as deltas through {@link #onStep(SearchStep)}. Observers written against the
+ * collection-based {@link #onStep(Node, Collection, Collection, int, double, int, double, double, double)}
+ * keep working: the default {@code onStep(SearchStep)} adapts every step that expands a node to
+ * that call, passing the live frontier and explored views.
  */
 public interface SearchObserver {
 
     /**
-     * Called at each step of the search algorithm.
+     * Called after each step of the search algorithm with the changes made in that step.
+     * <p>
+     * The default implementation adapts the step to the collection-based
+     * {@link #onStep(Node, Collection, Collection, int, double, int, double, double, double)};
+     * steps that expand no node are not forwarded.
+     *
+     * @param step The changes made in the step
+     */
+    default void onStep(SearchStep step) {
+        if (step.expandedId() < 0) return;
+        onStep(step.expanded(), step.frontier(), step.explored(), step.nodesExpanded(),
+                step.pathCost(), step.solutionDepth(), step.g(), step.h(), step.f());
+    }
+
+    /**
+     * Called at each step of the search algorithm with the whole frontier and explored set.
+     * <p>
+     * The collections are live views, so copying them costs O(n) per step; observers that
+     * track the search state should override {@link #onStep(SearchStep)} instead.
+     *
+     * @param current       The node being expanded
+     * @param frontier      Live view of the frontier
+     * @param explored      Live view of the explored set
+     * @param nodesExpanded Number of nodes expanded so far
+     * @param pathCost      Cost from the start node to the current node
+     * @param solutionDepth Depth of the current node from the start
+     * @param g             Cost from the start to the current node
+     * @param h             Heuristic estimate to the goal
+     * @param f             Total estimated cost (g + h)
      */
-    void onStep(Node current,
-                Collection<Node> frontier,
-                Collection<Node> explored,
-                int nodesExpanded,
-                double pathCost,
-                int solutionDepth,
-                double g,
-                double h,
-                double f);
+    default void onStep(Node current,
+                        Collection<Node> frontier,
+                        Collection<Node> explored,
+                        int nodesExpanded,
+                        double pathCost,
+                        int solutionDepth,
+                        double g,
+                        double h,
+                        double f) {
+        // Optional to override
+    }
 
     /**
      * Called once when the search completes (successfully or fails).
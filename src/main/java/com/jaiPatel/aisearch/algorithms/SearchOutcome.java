@@ -0,0 +1,15 @@
+package com.jaiPatel.aisearch.algorithms;
+
+/**
+ * How a search ended.
+ */
+public enum SearchOutcome {
+    /** The goal was reached; the result holds the path and its cost. */
+    FOUND,
+    /** The reachable part of the graph was exhausted without reaching the goal. */
+    NO_PATH,
+    /** The search ran out of its {@link SearchBudget} before reaching the goal. */
+    BUDGET_EXCEEDED,
+    /** The search was stopped through its {@link CancellationToken}. */
+    CANCELLED
+}
@@ -6,8 +6,9 @@ import java.util.List;
 /**
  * Represents the result of a search algorithm execution.
  * <p>
- * Contains the solution path, cost, and various search metrics such as nodes expanded/generated,
- * explored size, maximum frontier size, solution depth, runtime, and memory usage.
+ * Contains the outcome, the solution path, cost, and various search metrics such as nodes
+ * expanded/generated, explored size, maximum frontier size, solution depth, runtime, and memory usage.
+ * Searches that end without a path report an empty path and an infinite cost.
  */
 public class SearchResult {
     /** The path from start to goal as a list of nodes. */
@@ -28,6 +29,8 @@ public class SearchResult {
     private final long runtimeMillis;
     /** The memory usage of the search in bytes. */
     private final long memoryBytes;
+    /** How the search ended. */
+    private final SearchOutcome outcome;
 
     /**
      * Constructs a SearchResult with all relevant metrics.
@@ -45,6 +48,27 @@ public class SearchResult {
     public SearchResult(List<Node> path, double cost, int nodesExpanded, int nodesGenerated,
                         int exploredSize, int maxFrontierSize, int solutionDepth,
                         long runtimeMillis, long memoryBytes) {
+        this(path, cost, nodesExpanded, nodesGenerated, exploredSize, maxFrontierSize, solutionDepth,
+                runtimeMillis, memoryBytes, path.isEmpty() ? SearchOutcome.NO_PATH : SearchOutcome.FOUND);
+    }
+
+    /**
+     * Constructs a SearchResult with an explicit outcome.
+     *
+     * @param path            The solution path as a list of nodes
+     * @param cost            The total cost of the solution path
+     * @param nodesExpanded   The number of nodes expanded
+     * @param nodesGenerated  The number of nodes generated
+     * @param exploredSize    The number of nodes explored
+     * @param maxFrontierSize The maximum size of the frontier
+     * @param solutionDepth   The depth of the solution path
+     * @param runtimeMillis   The runtime in milliseconds
+     * @param memoryBytes     The memory usage in bytes
+     * @param outcome         How the search ended
+     */
+    public SearchResult(List<Node> path, double cost, int nodesExpanded, int nodesGenerated,
+                        int exploredSize, int maxFrontierSize, int solutionDepth,
+                        long runtimeMillis, long memoryBytes, SearchOutcome outcome) {
         this.path = path;
         this.cost = cost;
         this.nodesExpanded = nodesExpanded;
@@ -54,6 +78,15 @@ public class SearchResult {
         this.solutionDepth = solutionDepth;
         this.runtimeMillis = runtimeMillis;
         this.memoryBytes = memoryBytes;
+        this.outcome = outcome;
+    }
+
+    /**
+     * Returns how the search ended.
+     * @return The search outcome
+     */
+    public SearchOutcome getOutcome() {
+        return outcome;
     }
 
     /**
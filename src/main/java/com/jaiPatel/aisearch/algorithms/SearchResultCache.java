@@ -0,0 +1,476 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.Heuristic;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache of search results for repeated queries on the same graph.
+ * <p>
+ * Results are keyed on the graph instance and its {@link GraphView#version() version}, the start
+ * and goal ids, the algorithm class and the heuristic class. Algorithms of the same class with the
+ * same kind of heuristic are assumed to return equivalent results; searches with an observer are
+ * never cached, since a cached result replays no events. Once a query sees that a graph's version
+ * has changed, all entries for older versions of that graph are dropped.
+ * <p>
+ * Graphs are held only weakly, so the cache does not keep a replaced graph (and its CSR snapshot)
+ * alive. Once a graph has been garbage collected, its entries are dropped on the next miss.
+ * <p>
+ * Lookups are a lock-free hash-map read; accesses are recorded in a lossy ring buffer that is
+ * replayed into the eviction policy whenever a thread gets the policy lock without waiting.
+ * Eviction follows W-TinyLFU: new entries enter a small LRU window (1% of the capacity), and an
+ * entry leaving the window only replaces the least recently used entry of the main segmented LRU
+ * if a 4-bit count-min sketch (aged by halving) has seen it more often. Repeated queries are
+ * therefore not flushed by a burst of one-off ones. Capacity is counted either in entries or in
+ * weight, where an entry weighs one plus its path length.
+ * <p>
+ * The cache is thread-safe, but {@link SearchAlgorithm} instances are not: concurrent callers
+ * must pass their own algorithm instances.
+ */
+public final class SearchResultCache {
+
+    /**
+     * Cache counters.
+     *
+     * @param hits          Lookups answered from the cache
+     * @param misses        Lookups that ran the search
+     * @param evictions     Entries removed to stay within capacity
+     * @param invalidations Entries removed because their graph changed
+     * @param entries       Current number of entries
+     * @param weight        Current total weight
+     */
+    public record Stats(long hits, long misses, long evictions, long invalidations, int entries, long weight) {
+
+        /**
+         * Returns the fraction of lookups answered from the cache.
+         * @return Hit rate in {@code [0, 1]}, or 0 before the first lookup
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private record Key(GraphRef graph, long version, int start, int goal,
+                       Class<?> algorithm, Class<?> heuristic) {
+    }
+
+    /**
+     * Weak reference to a cached graph, equal to any other reference to the same live graph.
+     * Graphs compare by identity, since none of them overrides equals. The reference registered
+     * in {@link #graphs} is shared by all keys of its graph, so its entries can still be found by
+     * reference identity after the graph has been collected.
+     */
+    private static final class GraphRef extends WeakReference<GraphView> {
+        final int hash;
+        /** Latest version seen; written under the policy lock. */
+        volatile long version;
+
+        GraphRef(GraphView graph, ReferenceQueue<GraphView> queue) {
+            super(graph, queue);
+            hash = System.identityHashCode(graph);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (!(o instanceof GraphRef other)) return false;
+            GraphView graph = get();
+            return graph != null && graph == other.get();
+        }
+    }
+
+    private static final int WINDOW = 0, PROBATION = 1, PROTECTED = 2, REMOVED = 3;
+    /** Queue of an entry that is in the map but not yet linked into the policy. */
+    private static final int PENDING = 4;
+
+    /** Cached result plus its position in the eviction policy, guarded by the policy lock. */
+    private static final class Entry {
+        final Key key;
+        final SearchResult result;
+        final long weight;
+        int queue = PENDING;
+        Entry prev, next;
+
+        Entry(Key key, SearchResult result, long weight) {
+            this.key = key;
+            this.result = result;
+            this.weight = weight;
+        }
+    }
+
+    private static final int READ_BUFFER_SIZE = 128;
+    /** Replay the read buffer after this many reads (a power of two). */
+    private static final int DRAIN_INTERVAL = 32;
+
+    private final boolean weighByPath;
+    private final long maximum, windowMaximum, protectedMaximum;
+
+    private final ConcurrentHashMap<Key, Entry> map = new ConcurrentHashMap<>();
+    /** Registered reference per cached graph, mapped to itself. */
+    private final ConcurrentHashMap<GraphRef, GraphRef> graphs = new ConcurrentHashMap<>();
+    /** Receives the registered references of collected graphs. */
+    private final ReferenceQueue<GraphView> collected = new ReferenceQueue<>();
+
+    private final AtomicReferenceArray<Entry> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong reads = new AtomicLong();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    /** LRU lists, least recently used first: window, probation, protected. */
+    private final Entry[] heads = new Entry[3], tails = new Entry[3];
+    private final long[] queueWeights = new long[3];
+
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder();
+    private final AtomicLong evictions = new AtomicLong(), invalidations = new AtomicLong();
+
+    private SearchResultCache(long maximum, boolean weighByPath) {
+        if (maximum < 1) {
+            throw new IllegalArgumentException("Cache capacity must be at least 1: " + maximum);
+        }
+        this.maximum = maximum;
+        this.weighByPath = weighByPath;
+        windowMaximum = Math.max(1, maximum / 100);
+        protectedMaximum = (maximum - windowMaximum) * 8 / 10;
+        sketch = new FrequencySketch((int) Math.min(maximum, 1 << 24));
+    }
+
+    /**
+     * Creates a cache holding at most the given number of results.
+     *
+     * @param maxEntries Maximum number of entries
+     * @return The cache
+     */
+    public static SearchResultCache ofSize(int maxEntries) {
+        return new SearchResultCache(maxEntries, false);
+    }
+
+    /**
+     * Creates a cache bounded by the total weight of its results, where a result weighs one plus
+     * the number of nodes on its path, so long paths take more of the capacity.
+     *
+     * @param maxWeight Maximum total weight
+     * @return The cache
+     */
+    public static SearchResultCache ofWeight(long maxWeight) {
+        return new SearchResultCache(maxWeight, true);
+    }
+
+    /**
+     * Returns the cached result of a query on the CSR snapshot of a {@link Graph}, or runs the
+     * search and caches it. Entries are keyed on the graph itself, so a snapshot rebuilt after
+     * a change does not leave stale entries behind.
+     *
+     * @param algorithm The search to run on a miss
+     * @param graph     The graph to search
+     * @param start     The start node
+     * @param goal      The goal node
+     * @return The search result; its path must not be modified
+     */
+    public SearchResult solve(SearchAlgorithm algorithm, Graph graph, Node start, Node goal) {
+        return solve(algorithm, graph, graph.freeze(), start, goal);
+    }
+
+    /**
+     * Returns the cached result of a query, or runs the search and caches it. Searches that end
+     * with {@link SearchOutcome#BUDGET_EXCEEDED} or {@link SearchOutcome#CANCELLED} are not cached.
+     *
+     * @param algorithm The search to run on a miss
+     * @param graph     The graph to search
+     * @param start     The start node
+     * @param goal      The goal node
+     * @return The search result; its path must not be modified
+     */
+    public SearchResult solve(SearchAlgorithm algorithm, GraphView graph, Node start, Node goal) {
+        return solve(algorithm, graph, graph, start, goal);
+    }
+
+    private SearchResult solve(SearchAlgorithm algorithm, GraphView keyGraph, GraphView searched,
+                               Node start, Node goal) {
+        int startId = searched.idOf(start), goalId = searched.idOf(goal);
+        if (startId < 0 || goalId < 0) {
+            // let the algorithm report the unknown node
+            return algorithm.solve(searched, start, goal, null);
+        }
+        long version = keyGraph.version();
+        GraphRef ref = graphs.get(new GraphRef(keyGraph, null));
+        if (ref == null || ref.version != version) ref = onVersion(keyGraph, version);
+
+        Heuristic heuristic = algorithm.getHeuristic();
+        Key key = new Key(ref, version, startId, goalId, algorithm.getClass(),
+                heuristic == null ? null : heuristic.getClass());
+        Entry entry = map.get(key);
+        if (entry != null) {
+            hits.increment();
+            recordRead(entry);
+            return entry.result;
+        }
+
+        misses.increment();
+        SearchResult result = algorithm.solve(searched, start, goal, null);
+        SearchOutcome outcome = result.getOutcome();
+        if (outcome == SearchOutcome.BUDGET_EXCEEDED || outcome == SearchOutcome.CANCELLED) {
+            // an interrupted search says nothing about the query, so it is not cached
+            return result;
+        }
+        result = readOnly(result);
+        long weight = weighByPath && result.getPath() != null ? 1 + result.getPath().size() : 1;
+        Entry created = new Entry(key, result, weight);
+        Entry prior = map.putIfAbsent(key, created);
+        if (prior != null) return prior.result;
+
+        lock.lock();
+        try {
+            purgeCollected();
+            drainReads();
+            sketch.increment(key.hashCode());
+            append(WINDOW, created);
+            evict();
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+
+    /** Copies a result with an unmodifiable path, since cached results are shared. */
+    private static SearchResult readOnly(SearchResult r) {
+        if (r.getPath() == null) return r;
+        return new SearchResult(Collections.unmodifiableList(new ArrayList<>(r.getPath())), r.getCost(),
+                r.getNodesExpanded(), r.getNodesGenerated(), r.getExploredSize(), r.getMaxFrontierSize(),
+                r.getSolutionDepth(), r.getRuntimeMillis(), r.getMemoryBytes(), r.getOutcome());
+    }
+
+    /**
+     * Registers a graph or records its new version, dropping the entries of its older versions.
+     *
+     * @return The registered reference to the graph
+     */
+    private GraphRef onVersion(GraphView graph, long version) {
+        lock.lock();
+        try {
+            purgeCollected();
+            GraphRef ref = graphs.get(new GraphRef(graph, null));
+            if (ref == null) {
+                ref = new GraphRef(graph, collected);
+                ref.version = version;
+                graphs.put(ref, ref);
+            } else if (ref.version < version) {
+                ref.version = version;
+                removeIf(ref, version);
+            }
+            return ref;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Drops the entries of graphs that have been garbage collected. */
+    private void purgeCollected() {
+        for (Reference<? extends GraphView> r; (r = collected.poll()) != null; ) {
+            GraphRef ref = (GraphRef) r;
+            graphs.remove(ref);
+            removeIf(ref, Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Drops all entries for a graph, for example before discarding it, and forgets the graph.
+     *
+     * @param graph The graph whose results to drop
+     */
+    public void invalidate(GraphView graph) {
+        lock.lock();
+        try {
+            purgeCollected();
+            GraphRef ref = graphs.remove(new GraphRef(graph, null));
+            if (ref != null) removeIf(ref, Long.MAX_VALUE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Removes the entries of a graph older than the given version. */
+    private void removeIf(GraphRef graph, long version) {
+        for (int queue = WINDOW; queue <= PROTECTED; queue++) {
+            for (Entry e = heads[queue], next; e != null; e = next) {
+                next = e.next;
+                if (e.key.graph() == graph && e.key.version() < version) {
+                    remove(e);
+                    invalidations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the current counters.
+     * @return Hit, miss, eviction and invalidation counts and the current size
+     */
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(hits.sum(), misses.sum(), evictions.get(), invalidations.get(), map.size(),
+                    queueWeights[WINDOW] + queueWeights[PROBATION] + queueWeights[PROTECTED]);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // === eviction policy (all under the lock) ===
+
+    private void recordRead(Entry entry) {
+        long index = reads.getAndIncrement();
+        readBuffer.lazySet((int) (index & (READ_BUFFER_SIZE - 1)), entry);
+        if ((index & (DRAIN_INTERVAL - 1)) == DRAIN_INTERVAL - 1 && lock.tryLock()) {
+            try {
+                drainReads();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Replays buffered reads: bumps their frequency and moves them up their LRU lists. */
+    private void drainReads() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Entry e = readBuffer.getAndSet(i, null);
+            if (e == null || e.queue == REMOVED || e.queue == PENDING) continue;
+            sketch.increment(e.key.hashCode());
+            switch (e.queue) {
+                case WINDOW, PROTECTED -> {
+                    unlink(e);
+                    append(e.queue, e);
+                }
+                case PROBATION -> {
+                    unlink(e);
+                    append(PROTECTED, e);
+                    while (queueWeights[PROTECTED] > protectedMaximum && heads[PROTECTED] != e) {
+                        Entry demoted = heads[PROTECTED];
+                        unlink(demoted);
+                        append(PROBATION, demoted);
+                    }
+                }
+                default -> { }
+            }
+        }
+    }
+
+    private void evict() {
+        // entries leaving the window become candidates for the main segments
+        ArrayDeque<Entry> candidates = new ArrayDeque<>();
+        while (queueWeights[WINDOW] > windowMaximum && heads[WINDOW] != tails[WINDOW]) {
+            Entry candidate = heads[WINDOW];
+            unlink(candidate);
+            append(PROBATION, candidate);
+            candidates.add(candidate);
+        }
+        while (queueWeights[WINDOW] + queueWeights[PROBATION] + queueWeights[PROTECTED] > maximum) {
+            Entry victim = heads[PROBATION] != null ? heads[PROBATION]
+                    : heads[PROTECTED] != null ? heads[PROTECTED] : heads[WINDOW];
+            Entry candidate = candidates.poll();
+            while (candidate != null && candidate.queue != PROBATION) candidate = candidates.poll();
+            if (candidate != null && candidate != victim
+                    && sketch.frequency(candidate.key.hashCode()) <= sketch.frequency(victim.key.hashCode())) {
+                victim = candidate;
+            }
+            remove(victim);
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void remove(Entry e) {
+        unlink(e);
+        e.queue = REMOVED;
+        map.remove(e.key, e);
+    }
+
+    private void append(int queue, Entry e) {
+        e.queue = queue;
+        e.prev = tails[queue];
+        e.next = null;
+        if (tails[queue] == null) heads[queue] = e;
+        else tails[queue].next = e;
+        tails[queue] = e;
+        queueWeights[queue] += e.weight;
+    }
+
+    private void unlink(Entry e) {
+        int queue = e.queue;
+        if (e.prev == null) heads[queue] = e.next;
+        else e.prev.next = e.next;
+        if (e.next == null) tails[queue] = e.prev;
+        else e.next.prev = e.prev;
+        e.prev = e.next = null;
+        queueWeights[queue] -= e.weight;
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters, 16 per long, with four hash functions. All counters are
+     * halved after a sample of increments, so the sketch follows recent popularity.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            table = new long[Integer.highestOneBit(Math.max(16, capacity) - 1) << 1];
+            sampleSize = 10 * table.length;
+        }
+
+        int frequency(int hash) {
+            int frequency = 15;
+            for (int i = 0; i < 4; i++) {
+                int shift = counterShift(hash, i);
+                frequency = Math.min(frequency, (int) ((table[index(hash, i)] >>> shift) & 0xF));
+            }
+            return frequency;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = index(hash, i), shift = counterShift(hash, i);
+                if (((table[index] >>> shift) & 0xF) != 0xF) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                for (int i = 0; i < table.length; i++) table[i] = (table[i] >>> 1) & RESET_MASK;
+                additions /= 2;
+            }
+        }
+
+        private int index(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & (table.length - 1);
+        }
+
+        /** Bit offset of counter {@code i} in its word: each function uses a different nibble. */
+        private static int counterShift(int hash, int i) {
+            return ((((hash >>> 8) & 3) << 2) + i) << 2;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.graph.GraphView;
+import com.jaiPatel.aisearch.graph.Node;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * What changed during one step of a search, delivered to {@link SearchObserver#onStep(SearchStep)}.
+ * <p>
+ * Instead of the whole frontier and explored set, a step carries only the delta: the node that was
+ * expanded, the nodes added to and removed from the frontier, and the new scores of every node
+ * whose g-score was set or improved. An observer that applies these deltas to its own state does
+ * O(degree) work per step rather than O(frontier + explored). Nodes are identified by their dense
+ * ids in the searched graph; {@link #node(int)} maps an id back to its node.
+ * <p>
+ * The id arrays are copies owned by the step, so a step can be handed to another thread. The
+ * {@link #frontier()} and {@link #explored()} collections, on the other hand, are live views of the
+ * algorithm's state and are only meaningful during the callback; they exist for observers written
+ * against the collection-based {@code onStep}.
+ */
+public final class SearchStep {
+
+    private static final int[] NO_IDS = new int[0];
+    private static final double[] NO_SCORES = new double[0];
+
+    private final GraphView graph;
+    private final int expandedId;
+    private final boolean reset;
+    private final int[] added, removed, changed;
+    private final double[] changedG, changedF;
+    private final int nodesExpanded, solutionDepth;
+    private final double pathCost, g, h, f;
+    private final Collection<Node> frontier, explored;
+
+    private SearchStep(GraphView graph, Recorder r, Collection<Node> frontier, Collection<Node> explored) {
+        this.graph = graph;
+        this.expandedId = r.expandedId;
+        this.reset = r.reset;
+        this.added = r.addedCount == 0 ? NO_IDS : Arrays.copyOf(r.added, r.addedCount);
+        this.removed = r.removedCount == 0 ? NO_IDS : Arrays.copyOf(r.removed, r.removedCount);
+        this.changed = r.changedCount == 0 ? NO_IDS : Arrays.copyOf(r.changed, r.changedCount);
+        this.changedG = r.changedCount == 0 ? NO_SCORES : Arrays.copyOf(r.changedG, r.changedCount);
+        this.changedF = r.changedCount == 0 ? NO_SCORES : Arrays.copyOf(r.changedF, r.changedCount);
+        this.nodesExpanded = r.nodesExpanded;
+        this.solutionDepth = r.solutionDepth;
+        this.pathCost = r.pathCost;
+        this.g = r.g;
+        this.h = r.h;
+        this.f = r.f;
+        this.frontier = frontier;
+        this.explored = explored;
+    }
+
+    /**
+     * Returns the node with the given id in the searched graph.
+     *
+     * @param id The node id
+     * @return The node
+     */
+    public Node node(int id) {
+        return graph.getNode(id);
+    }
+
+    /**
+     * Returns the id of the node expanded in this step.
+     * @return The node id, or -1 if the step expanded no node
+     */
+    public int expandedId() {
+        return expandedId;
+    }
+
+    /**
+     * Returns the node expanded in this step.
+     * @return The node, or null if the step expanded no node
+     */
+    public Node expanded() {
+        return expandedId < 0 ? null : graph.getNode(expandedId);
+    }
+
+    /**
+     * Checks whether the search discarded its frontier and explored set before this step, as
+     * iterative deepening does when it starts a deeper iteration. Observers tracking the search
+     * state should clear it before applying the rest of the step.
+     *
+     * @return True if the search state was reset
+     */
+    public boolean isReset() {
+        return reset;
+    }
+
+    /**
+     * Returns the ids of the nodes added to the frontier in this step.
+     * @return The added ids; the array must not be modified
+     */
+    public int[] addedIds() {
+        return added;
+    }
+
+    /**
+     * Returns the ids of the nodes removed from the frontier in this step, including the
+     * expanded node.
+     *
+     * @return The removed ids; the array must not be modified
+     */
+    public int[] removedIds() {
+        return removed;
+    }
+
+    /**
+     * Returns the ids of the nodes whose scores were set or improved in this step: every added
+     * node and every frontier node whose g-score decreased.
+     *
+     * @return The ids, parallel to {@link #changedG()} and {@link #changedF()}; must not be modified
+     */
+    public int[] changedIds() {
+        return changed;
+    }
+
+    /**
+     * Returns the new g-scores of the nodes in {@link #changedIds()}.
+     * @return The g-scores; the array must not be modified
+     */
+    public double[] changedG() {
+        return changedG;
+    }
+
+    /**
+     * Returns the new frontier keys of the nodes in {@link #changedIds()}: f = g + h for A*,
+     * h for greedy best-first search and g for the uninformed searches.
+     *
+     * @return The frontier keys; the array must not be modified
+     */
+    public double[] changedF() {
+        return changedF;
+    }
+
+    /**
+     * Returns the nodes added to the frontier in this step.
+     * @return Read-only list of nodes
+     */
+    public List<Node> added() {
+        return nodes(added);
+    }
+
+    /**
+     * Returns the nodes removed from the frontier in this step.
+     * @return Read-only list of nodes
+     */
+    public List<Node> removed() {
+        return nodes(removed);
+    }
+
+    private List<Node> nodes(int[] ids) {
+        return new AbstractList<>() {
+            @Override public Node get(int index) { return graph.getNode(ids[index]); }
+            @Override public int size() { return ids.length; }
+        };
+    }
+
+    /**
+     * Returns the number of nodes expanded so far.
+     * @return Nodes expanded
+     */
+    public int nodesExpanded() {
+        return nodesExpanded;
+    }
+
+    /**
+     * Returns the path cost reported by the algorithm for this step.
+     * @return The path cost
+     */
+    public double pathCost() {
+        return pathCost;
+    }
+
+    /**
+     * Returns the solution depth reported by the algorithm for this step.
+     * @return The depth
+     */
+    public int solutionDepth() {
+        return solutionDepth;
+    }
+
+    /**
+     * Returns the cost from the start to the expanded node.
+     * @return The g-score
+     */
+    public double g() {
+        return g;
+    }
+
+    /**
+     * Returns the heuristic estimate from the expanded node to the goal.
+     * @return The h-score
+     */
+    public double h() {
+        return h;
+    }
+
+    /**
+     * Returns the total estimated cost through the expanded node.
+     * @return The f-score
+     */
+    public double f() {
+        return f;
+    }
+
+    /**
+     * Returns a live view of the whole frontier, valid only during the callback.
+     * @return The frontier, or null if the algorithm did not provide one
+     */
+    public Collection<Node> frontier() {
+        return frontier;
+    }
+
+    /**
+     * Returns a live view of the whole explored set, valid only during the callback.
+     * @return The explored set, or null if the algorithm did not provide one
+     */
+    public Collection<Node> explored() {
+        return explored;
+    }
+
+    /**
+     * Collects the changes of one step while the algorithm runs it. Reused across steps.
+     */
+    static final class Recorder {
+        private int expandedId = -1;
+        private boolean reset;
+        private int[] added = new int[16], removed = new int[4], changed = new int[16];
+        private double[] changedG = new double[16], changedF = new double[16];
+        private int addedCount, removedCount, changedCount;
+        private int nodesExpanded, solutionDepth;
+        private double pathCost, g, h, f;
+        private Collection<Node> frontier, explored;
+
+        /** True if nothing was recorded since the last {@link #clear()}. */
+        boolean isEmpty() {
+            return expandedId < 0 && !reset && addedCount == 0 && removedCount == 0 && changedCount == 0;
+        }
+
+        void expanded(int id, Collection<Node> frontier, Collection<Node> explored, int nodesExpanded,
+                      double pathCost, int solutionDepth, double g, double h, double f) {
+            this.expandedId = id;
+            this.frontier = frontier;
+            this.explored = explored;
+            this.nodesExpanded = nodesExpanded;
+            this.pathCost = pathCost;
+            this.solutionDepth = solutionDepth;
+            this.g = g;
+            this.h = h;
+            this.f = f;
+            if (id >= 0) removed(id);
+        }
+
+        void frontier(int id, boolean isNew, double g, double f) {
+            if (isNew) {
+                if (addedCount == added.length) added = Arrays.copyOf(added, addedCount * 2);
+                added[addedCount++] = id;
+            }
+            if (changedCount == changed.length) {
+                changed = Arrays.copyOf(changed, changedCount * 2);
+                changedG = Arrays.copyOf(changedG, changedCount * 2);
+                changedF = Arrays.copyOf(changedF, changedCount * 2);
+            }
+            changed[changedCount] = id;
+            changedG[changedCount] = g;
+            changedF[changedCount++] = f;
+        }
+
+        void removed(int id) {
+            if (removedCount == removed.length) removed = Arrays.copyOf(removed, removedCount * 2);
+            removed[removedCount++] = id;
+        }
+
+        void reset() {
+            // changes recorded before the reset belong to the discarded state
+            addedCount = removedCount = changedCount = 0;
+            reset = true;
+        }
+
+        SearchStep build(GraphView graph) {
+            return new SearchStep(graph, this, frontier, explored);
+        }
+
+        void clear() {
+            expandedId = -1;
+            reset = false;
+            addedCount = removedCount = changedCount = 0;
+            frontier = explored = null;
+        }
+    }
+}
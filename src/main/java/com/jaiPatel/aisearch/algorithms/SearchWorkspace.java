@@ -0,0 +1,209 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Reusable scratch space for a single search query, keyed by dense node id.
+ * <p>
+ * Holds g-scores, parent pointers, memoized heuristic values and the explored markers that the
+ * algorithms used to keep in {@code HashMap}s and {@code HashSet}s. Every entry is tagged with a generation stamp and
+ * is only considered valid when its stamp matches the current generation, so {@link #reset()}
+ * invalidates all entries in O(1) and no per-node objects are allocated while searching.
+ */
+public final class SearchWorkspace {
+
+    /** Current generation; entries stamped with another value are treated as unset. */
+    private int generation = 1;
+
+    /** Generation in which g and parent were last written. */
+    private final int[] seen;
+    /** Generation in which the node was expanded (explored set). */
+    private final int[] closed;
+
+    /** Best known cost from the start node. */
+    private final double[] g;
+    /** Parent node id on the best known path (-1 for the start node). */
+    private final int[] parent;
+
+    /** Generation in which the heuristic value was computed. */
+    private final int[] hStamp;
+    /** Memoized heuristic estimate to the current goal. */
+    private final double[] h;
+
+    /** Node ids in the order they were first explored. */
+    private final int[] exploredOrder;
+    /** Number of valid entries in {@link #exploredOrder}. */
+    private int exploredCount;
+
+    /**
+     * Creates a workspace able to hold the given number of nodes.
+     *
+     * @param capacity Number of node ids the workspace can address
+     */
+    public SearchWorkspace(int capacity) {
+        seen = new int[capacity];
+        closed = new int[capacity];
+        g = new double[capacity];
+        parent = new int[capacity];
+        hStamp = new int[capacity];
+        h = new double[capacity];
+        exploredOrder = new int[capacity];
+    }
+
+    /**
+     * Returns a reset workspace for a graph with the given node count, reusing the given one
+     * when it is large enough.
+     *
+     * @param workspace Existing workspace, may be null
+     * @param nodeCount Number of nodes in the graph to search
+     * @return A reset workspace with capacity for {@code nodeCount} nodes
+     */
+    public static SearchWorkspace reuse(SearchWorkspace workspace, int nodeCount) {
+        if (workspace == null || workspace.capacity() < nodeCount) {
+            return new SearchWorkspace(nodeCount);
+        }
+        workspace.reset();
+        return workspace;
+    }
+
+    /**
+     * Returns the number of node ids this workspace can address.
+     * @return Capacity in nodes
+     */
+    public int capacity() {
+        return seen.length;
+    }
+
+    /**
+     * Invalidates all entries in O(1) by advancing the generation.
+     */
+    public void reset() {
+        exploredCount = 0;
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(seen, 0);
+            Arrays.fill(closed, 0);
+            Arrays.fill(hStamp, 0);
+            generation = 1;
+        }
+    }
+
+    // === g-scores and parents ===
+
+    /**
+     * Checks whether a node has been reached in the current query.
+     *
+     * @param id The node id
+     * @return True if a g-score has been recorded for the node
+     */
+    public boolean isSeen(int id) {
+        return seen[id] == generation;
+    }
+
+    /**
+     * Returns the best known cost from the start node.
+     *
+     * @param id The node id
+     * @return The g-score, or {@link Double#POSITIVE_INFINITY} if the node has not been reached
+     */
+    public double g(int id) {
+        return seen[id] == generation ? g[id] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the parent of a node on its best known path.
+     *
+     * @param id The node id
+     * @return The parent id, or -1 for the start node and unreached nodes
+     */
+    public int parent(int id) {
+        return seen[id] == generation ? parent[id] : -1;
+    }
+
+    /**
+     * Records a (new or improved) path to a node.
+     *
+     * @param id       The node id
+     * @param cost     Cost from the start node
+     * @param parentId Parent node id, or -1 for the start node
+     */
+    public void reach(int id, double cost, int parentId) {
+        seen[id] = generation;
+        g[id] = cost;
+        parent[id] = parentId;
+    }
+
+    // === heuristic memo ===
+
+    /**
+     * Checks whether a heuristic value has been memoized for a node in the current query.
+     *
+     * @param id The node id
+     * @return True if {@link #heuristic(int)} holds a value for the node
+     */
+    public boolean hasHeuristic(int id) {
+        return hStamp[id] == generation;
+    }
+
+    /**
+     * Returns the memoized heuristic value of a node.
+     *
+     * @param id The node id
+     * @return The heuristic value, or 0 if none has been stored in the current query
+     */
+    public double heuristic(int id) {
+        return hStamp[id] == generation ? h[id] : 0.0;
+    }
+
+    /**
+     * Memoizes the heuristic value of a node for the current query.
+     *
+     * @param id    The node id
+     * @param value The heuristic estimate to the goal
+     */
+    public void storeHeuristic(int id, double value) {
+        hStamp[id] = generation;
+        h[id] = value;
+    }
+
+    // === explored set ===
+
+    /**
+     * Checks whether a node has been explored in the current query.
+     *
+     * @param id The node id
+     * @return True if the node has been explored
+     */
+    public boolean isExplored(int id) {
+        return closed[id] == generation;
+    }
+
+    /**
+     * Marks a node as explored. Nodes explored more than once are only recorded once.
+     *
+     * @param id The node id
+     */
+    public void markExplored(int id) {
+        if (closed[id] != generation) {
+            closed[id] = generation;
+            exploredOrder[exploredCount++] = id;
+        }
+    }
+
+    /**
+     * Returns the number of distinct nodes explored in the current query.
+     * @return Explored set size
+     */
+    public int exploredCount() {
+        return exploredCount;
+    }
+
+    /**
+     * Returns the i-th explored node in exploration order.
+     *
+     * @param index Position in exploration order
+     * @return The node id
+     */
+    public int exploredAt(int index) {
+        return exploredOrder[index];
+    }
+}
@@ -0,0 +1,278 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.Heuristic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resumable shortest-path trees for one-to-many queries from the same sources.
+ * <p>
+ * The first query from a source runs Dijkstra (or A*) and stops once the goal is settled, like a
+ * normal search, but keeps its distances, parent pointers, settled set and frontier. A later query
+ * from the same source whose goal is already settled is answered by walking the parent pointers;
+ * otherwise the search resumes from the saved frontier until that goal is settled. Every node is
+ * therefore settled at most once per source, and answering many goals costs about one Dijkstra
+ * that stops at the farthest of them.
+ * <p>
+ * With a heuristic the saved search is A*: settled distances are exact for any consistent
+ * heuristic, so when the goal changes the frontier is re-keyed with the new goal's estimates and
+ * the search continues. Re-keying costs one heuristic evaluation per frontier node, so plain
+ * Dijkstra is usually faster when consecutive goals differ.
+ * <p>
+ * Trees are keyed on the graph instance, its {@link GraphView#version() version} and the source.
+ * Each tree holds dense per-node arrays, and trees are evicted least recently used first once
+ * their total size exceeds the memory budget; the tree serving the current query is always kept.
+ * Trees for older versions of a graph are dropped as soon as a query sees the new version.
+ * Queries on different trees may run concurrently; queries on the same tree are serialized.
+ */
+public final class ShortestPathTrees {
+
+    /**
+     * Tree reuse counters.
+     *
+     * @param queries   Queries answered
+     * @param reused    Queries answered from an existing tree, with or without resuming it
+     * @param settled   Queries whose goal was already settled, answered without searching
+     * @param evictions Trees evicted to stay within the memory budget
+     * @param trees     Current number of trees
+     * @param bytes     Current estimated size of all trees
+     */
+    public record Stats(long queries, long reused, long settled, long evictions, int trees, long bytes) {
+    }
+
+    private record Key(GraphView graph, long version, int source) {
+        // graphs compare by identity, since none of them overrides equals
+    }
+
+    private final Heuristic heuristic;
+    private final long maxBytes;
+
+    /** Trees in access order, guarded by {@code this}. */
+    private final LinkedHashMap<Key, Tree> trees = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long queries, reused, settled, evictions;
+
+    /**
+     * Creates Dijkstra trees within the given memory budget.
+     *
+     * @param maxBytes Memory budget for all trees, in bytes
+     */
+    public ShortestPathTrees(long maxBytes) {
+        this(null, maxBytes);
+    }
+
+    /**
+     * Creates A* trees guided by a consistent heuristic, within the given memory budget.
+     *
+     * @param heuristic The heuristic, or null for Dijkstra
+     * @param maxBytes  Memory budget for all trees, in bytes
+     */
+    public ShortestPathTrees(Heuristic heuristic, long maxBytes) {
+        this.heuristic = heuristic;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Answers a query on the CSR snapshot of a {@link Graph}. Trees are keyed on the graph
+     * itself, so they are dropped when the graph changes.
+     *
+     * @param graph The graph to search
+     * @param start The source node
+     * @param goal  The goal node
+     * @return The search result; nodes expanded and generated count only this query's work
+     */
+    public SearchResult solve(Graph graph, Node start, Node goal) {
+        return solve(graph, graph.freeze(), start, goal);
+    }
+
+    /**
+     * Answers a query from the tree of its start node, creating or resuming the tree as needed.
+     *
+     * @param graph The graph to search
+     * @param start The source node
+     * @param goal  The goal node
+     * @return The search result; nodes expanded and generated count only this query's work
+     */
+    public SearchResult solve(GraphView graph, Node start, Node goal) {
+        return solve(graph, graph, start, goal);
+    }
+
+    private SearchResult solve(GraphView keyGraph, GraphView searched, Node start, Node goal) {
+        int source = searched.idOf(start), target = searched.idOf(goal);
+        if (source < 0 || target < 0) {
+            throw new IllegalArgumentException("Start or goal node is not part of the graph");
+        }
+        Key key = new Key(keyGraph, keyGraph.version(), source);
+        Tree tree;
+        synchronized (this) {
+            queries++;
+            tree = trees.get(key);
+            if (tree == null) {
+                dropStale(key);
+                tree = new Tree(searched, source);
+                trees.put(key, tree);
+                tree.accounted = tree.bytes;
+                bytes += tree.accounted;
+            } else {
+                reused++;
+            }
+        }
+
+        SearchResult result;
+        long size;
+        synchronized (tree) {
+            if (tree.isSettled(target)) {
+                synchronized (this) {
+                    settled++;
+                }
+            }
+            result = tree.extend(target, heuristic);
+            size = tree.bytes;
+        }
+
+        synchronized (this) {
+            if (trees.get(key) == tree) {
+                bytes += size - tree.accounted;
+                tree.accounted = size;
+            }
+            evict(tree);
+        }
+        return result;
+    }
+
+    /** Drops the trees of older versions of a graph. */
+    private void dropStale(Key key) {
+        for (Iterator<Map.Entry<Key, Tree>> it = trees.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Key, Tree> entry = it.next();
+            if (entry.getKey().graph() == key.graph() && entry.getKey().version() < key.version()) {
+                bytes -= entry.getValue().accounted;
+                it.remove();
+            }
+        }
+    }
+
+    /** Evicts least recently used trees until the budget is met, keeping the given one. */
+    private void evict(Tree keep) {
+        for (Iterator<Tree> it = trees.values().iterator(); bytes > maxBytes && it.hasNext(); ) {
+            Tree tree = it.next();
+            if (tree == keep) continue;
+            bytes -= tree.accounted;
+            it.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Returns the current counters.
+     * @return Query, reuse and eviction counts and the current size
+     */
+    public synchronized Stats stats() {
+        return new Stats(queries, reused, settled, evictions, trees.size(), bytes);
+    }
+
+    /**
+     * Drops all trees.
+     */
+    public synchronized void clear() {
+        trees.clear();
+        bytes = 0;
+    }
+
+    /** Saved Dijkstra/A* state of one source. */
+    private static final class Tree {
+        final GraphView graph;
+        final int source;
+        final double[] dist;
+        final int[] parent;
+        final long[] settledSet;
+        final IndexedMinHeap frontier;
+        final int[] targets;
+        final double[] costs;
+        int settledCount;
+        /** Goal the frontier keys were computed for, or -1 for Dijkstra keys. */
+        int keyedGoal = -1;
+        /** Estimated footprint in bytes, updated after every query. */
+        long bytes;
+        /** Footprint included in the total, guarded by the enclosing instance. */
+        long accounted;
+
+        Tree(GraphView graph, int source) {
+            this.graph = graph;
+            this.source = source;
+            int n = graph.nodeCount();
+            dist = new double[n];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            parent = new int[n];
+            settledSet = new long[(n + 63) >>> 6];
+            frontier = new IndexedMinHeap(n);
+            targets = new int[graph.maxDegree()];
+            costs = new double[targets.length];
+            dist[source] = 0;
+            parent[source] = -1;
+            frontier.add(source, 0);
+            updateBytes();
+        }
+
+        boolean isSettled(int id) {
+            return (settledSet[id >>> 6] & (1L << id)) != 0;
+        }
+
+        /** Resumes the search until the goal is settled or the frontier is exhausted. */
+        SearchResult extend(int goal, Heuristic heuristic) {
+            long t0 = System.nanoTime();
+            int expanded = 0, generated = 0;
+            if (!isSettled(goal)) {
+                if (heuristic != null && keyedGoal != goal) rekey(goal, heuristic);
+                while (!frontier.isEmpty()) {
+                    int current = frontier.poll();
+                    settledSet[current >>> 6] |= 1L << current;
+                    settledCount++;
+                    expanded++;
+                    for (int i = 0, degree = graph.neighbors(current, targets, costs); i < degree; i++) {
+                        int neighbor = targets[i];
+                        double d = dist[current] + costs[i];
+                        if (d < dist[neighbor] && !isSettled(neighbor)) {
+                            dist[neighbor] = d;
+                            parent[neighbor] = current;
+                            double key = heuristic == null ? d : d + heuristic.estimate(graph, neighbor, goal);
+                            if (frontier.addOrDecrease(neighbor, key)) generated++;
+                        }
+                    }
+                    if (current == goal) break;
+                }
+                updateBytes();
+            }
+            long runtimeMs = (System.nanoTime() - t0) / 1_000_000;
+
+            if (!isSettled(goal)) {
+                return new SearchResult(Collections.emptyList(), Double.POSITIVE_INFINITY, expanded, generated,
+                        settledCount, frontier.size(), 0, runtimeMs, bytes);
+            }
+            List<Node> path = new ArrayList<>();
+            for (int id = goal; id >= 0; id = parent[id]) path.add(graph.getNode(id));
+            Collections.reverse(path);
+            return new SearchResult(path, dist[goal], expanded, generated, settledCount,
+                    frontier.size(), path.size() - 1, runtimeMs, bytes);
+        }
+
+        /** Recomputes the frontier keys for a new goal. */
+        private void rekey(int goal, Heuristic heuristic) {
+            int[] open = new int[frontier.size()];
+            for (int i = 0; i < open.length; i++) open[i] = frontier.idAt(i);
+            frontier.clear();
+            for (int id : open) frontier.add(id, dist[id] + heuristic.estimate(graph, id, goal));
+            keyedGoal = goal;
+        }
+
+        private void updateBytes() {
+            bytes = 8L * dist.length + 4L * parent.length + 8L * settledSet.length + frontier.arrayBytes();
+        }
+    }
+}
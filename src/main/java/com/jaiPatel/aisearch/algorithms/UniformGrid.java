@@ -0,0 +1,265 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.graph.GraphView;
+import com.jaiPatel.aisearch.graph.GridGraph;
+
+import java.util.Arrays;
+
+/**
+ * Cell index of a graph that is an 8-connected grid with uniform costs.
+ * <p>
+ * A graph qualifies when every node sits on a distinct integer coordinate, blocked nodes have
+ * no edges, and every other node has exactly one edge to each unblocked node among its eight
+ * neighbors, costing 1 for straight and {@code sqrt(2)} for diagonal moves. This is the shape
+ * {@code GridGraphGenerator.generateGrid} produces with {@code diagonal=true, weighted=false}.
+ * Diagonal moves between two blocked cells are allowed, as in the generator. An unweighted,
+ * diagonal {@link GridGraph} qualifies without inspecting its edges, and its ids are computed from
+ * the cell coordinates instead of being stored per cell.
+ * <p>
+ * Walkability is stored twice as padded bitsets, once row by row and once column by column, so
+ * straight scans for jump points test 64 cells per word instead of one cell at a time.
+ */
+final class UniformGrid {
+
+    /** Tolerance when comparing edge costs to 1 and sqrt(2). */
+    private static final double COST_EPSILON = 1e-9;
+
+    private final int minX, minY, width, height;
+
+    /**
+     * Node id per cell ({@code y * width + x}), or -1 for cells without a node; null when every
+     * node id equals its cell index.
+     */
+    private final int[] cells;
+
+    /**
+     * Walkable cells, one bitset line per row ({@code rows}) and per column ({@code columns}).
+     * Lines and bit positions are shifted by one so the border around the grid reads as blocked,
+     * and every line ends with a spare word so scans can read one word ahead.
+     */
+    private final long[] rows, columns;
+    private final int rowWords, columnWords;
+
+    private UniformGrid(int minX, int minY, int width, int height, int[] cells) {
+        this.minX = minX;
+        this.minY = minY;
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+        this.rowWords = ((width + 1) >>> 6) + 2;
+        this.columnWords = ((height + 1) >>> 6) + 2;
+        this.rows = new long[(height + 2) * rowWords];
+        this.columns = new long[(width + 2) * columnWords];
+    }
+
+    /** Marks a cell walkable in both bitset layouts. */
+    private void setWalkable(int x, int y) {
+        rows[(y + 1) * rowWords + ((x + 1) >>> 6)] |= 1L << (x + 1);
+        columns[(x + 1) * columnWords + ((y + 1) >>> 6)] |= 1L << (y + 1);
+    }
+
+    /**
+     * Builds the cell index of a graph if it is a uniform 8-connected grid.
+     *
+     * @param graph The graph to inspect
+     * @return The grid, or null if the graph is not a uniform grid
+     */
+    static UniformGrid detect(GraphView graph) {
+        if (graph instanceof GridGraph grid) return detect(grid);
+        int n = graph.nodeCount();
+        if (n == 0) return null;
+
+        double minXd = Double.POSITIVE_INFINITY, minYd = Double.POSITIVE_INFINITY;
+        double maxXd = Double.NEGATIVE_INFINITY, maxYd = Double.NEGATIVE_INFINITY;
+        for (int id = 0; id < n; id++) {
+            double x = graph.getX(id), y = graph.getY(id);
+            if (x != Math.rint(x) || y != Math.rint(y)) return null;
+            minXd = Math.min(minXd, x);
+            minYd = Math.min(minYd, y);
+            maxXd = Math.max(maxXd, x);
+            maxYd = Math.max(maxYd, y);
+        }
+        // Reject sparse layouts whose cell array would dwarf the graph
+        double area = (maxXd - minXd + 1) * (maxYd - minYd + 1);
+        if (area > 4.0 * n + 64) return null;
+
+        int minX = (int) minXd, minY = (int) minYd;
+        int width = (int) (maxXd - minXd) + 1, height = (int) (maxYd - minYd) + 1;
+        int[] cells = new int[width * height];
+        Arrays.fill(cells, -1);
+        UniformGrid grid = new UniformGrid(minX, minY, width, height, cells);
+        for (int id = 0; id < n; id++) {
+            int x = grid.x(graph, id), y = grid.y(graph, id);
+            int cell = y * width + x;
+            if (cells[cell] >= 0) return null;
+            cells[cell] = id;
+            if (!graph.isBlocked(id)) grid.setWalkable(x, y);
+        }
+
+        double diagonal = Math.sqrt(2);
+        int[] targets = new int[graph.maxDegree()];
+        double[] costs = new double[targets.length];
+        for (int id = 0; id < n; id++) {
+            int x = grid.x(graph, id), y = grid.y(graph, id);
+            int degree = graph.neighbors(id, targets, costs);
+            if (graph.isBlocked(id)) {
+                if (degree != 0) return null;
+                continue;
+            }
+
+            int expected = 0;
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    if ((dx != 0 || dy != 0) && grid.isWalkable(x + dx, y + dy)) expected++;
+                }
+            }
+            if (degree != expected) return null;
+
+            int seen = 0;
+            for (int i = 0; i < degree; i++) {
+                int target = targets[i];
+                int dx = grid.x(graph, target) - x, dy = grid.y(graph, target) - y;
+                if (Math.abs(dx) > 1 || Math.abs(dy) > 1 || (dx == 0 && dy == 0)) return null;
+                if (!grid.isWalkable(x + dx, y + dy)) return null;
+
+                int bit = 1 << ((dy + 1) * 3 + dx + 1);
+                if ((seen & bit) != 0) return null;
+                seen |= bit;
+
+                double cost = dx != 0 && dy != 0 ? diagonal : 1.0;
+                if (Math.abs(costs[i] - cost) > COST_EPSILON) return null;
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Builds the cell index of an implicit grid, which has uniform costs when it is unweighted.
+     */
+    private static UniformGrid detect(GridGraph graph) {
+        if (!graph.isDiagonal() || graph.isWeighted()) return null;
+        int width = graph.width(), height = graph.height();
+        UniformGrid grid = new UniformGrid(0, 0, width, height, null);
+        for (int y = 0, id = 0; y < height; y++) {
+            for (int x = 0; x < width; x++, id++) {
+                if (!graph.isBlocked(id)) grid.setWalkable(x, y);
+            }
+        }
+        return grid;
+    }
+
+    /** Grid x coordinate of a node. */
+    int x(GraphView graph, int id) {
+        return (int) graph.getX(id) - minX;
+    }
+
+    /** Grid y coordinate of a node. */
+    int y(GraphView graph, int id) {
+        return (int) graph.getY(id) - minY;
+    }
+
+    /**
+     * Checks whether a cell exists and is not blocked.
+     *
+     * @param x Grid x coordinate, may lie outside the grid
+     * @param y Grid y coordinate, may lie outside the grid
+     * @return True if the cell can be entered
+     */
+    boolean isWalkable(int x, int y) {
+        if (x < -1 || y < -1 || x > width || y > height) return false;
+        return (rows[(y + 1) * rowWords + ((x + 1) >>> 6)] & (1L << (x + 1))) != 0;
+    }
+
+    /**
+     * Scans along row {@code y} from {@code x} in direction {@code dx} for the first cell with a
+     * forced neighbor (a blocked cell beside it whose next cell in the scan direction is walkable).
+     *
+     * @param x       Grid x coordinate of the walkable cell to scan from
+     * @param y       Grid y coordinate of the row
+     * @param dx      Scan direction, +1 or -1
+     * @param targetX X coordinate of a cell in this row at which to stop as well, or -1
+     * @return X coordinate of the jump point, or -1 if the scan runs into an obstacle or the border
+     */
+    int scanRow(int x, int y, int dx, int targetX) {
+        return scan(rows, rowWords, y + 1, x, dx, targetX);
+    }
+
+    /**
+     * Scans along column {@code x} from {@code y} in direction {@code dy}; the column counterpart
+     * of {@link #scanRow}.
+     *
+     * @param x       Grid x coordinate of the column
+     * @param y       Grid y coordinate of the walkable cell to scan from
+     * @param dy      Scan direction, +1 or -1
+     * @param targetY Y coordinate of a cell in this column at which to stop as well, or -1
+     * @return Y coordinate of the jump point, or -1 if the scan runs into an obstacle or the border
+     */
+    int scanColumn(int x, int y, int dy, int targetY) {
+        return scan(columns, columnWords, x + 1, y, dy, targetY);
+    }
+
+    /**
+     * Scans one bitset line word by word. A cell stops the scan if it is blocked or if a
+     * neighboring line is blocked beside it but walkable one cell further on.
+     *
+     * @param bits   Row or column bitsets
+     * @param words  Words per line
+     * @param line   Padded index of the scanned line; lines {@code line - 1} and {@code line + 1}
+     *               are its neighbors
+     * @param from   Unpadded coordinate to scan from (exclusive)
+     * @param dir    Scan direction, +1 or -1
+     * @param target Unpadded coordinate at which to stop as well, or -1
+     * @return Unpadded coordinate of the stop, or -1 for a dead end
+     */
+    private static int scan(long[] bits, int words, int line, int from, int dir, int target) {
+        int self = line * words, before = self - words, after = self + words;
+        int start = from + 1;
+        int stop;
+        if (dir > 0) {
+            int w = start >>> 6;
+            long mask = -1L << (start & 63) << 1;
+            while (true) {
+                long b = bits[before + w], a = bits[after + w];
+                long bNext = (b >>> 1) | (bits[before + w + 1] << 63);
+                long aNext = (a >>> 1) | (bits[after + w + 1] << 63);
+                long stops = ((~b & bNext) | (~a & aNext) | ~bits[self + w]) & mask;
+                if (stops != 0) {
+                    stop = (w << 6) + Long.numberOfTrailingZeros(stops);
+                    break;
+                }
+                w++;
+                mask = -1L;
+            }
+            if (target >= 0 && start < target + 1 && target + 1 < stop) return target;
+        } else {
+            int w = start >>> 6;
+            long mask = (1L << (start & 63)) - 1;
+            while (true) {
+                long b = bits[before + w], a = bits[after + w];
+                long bPrevious = (b << 1) | (w > 0 ? bits[before + w - 1] >>> 63 : 0);
+                long aPrevious = (a << 1) | (w > 0 ? bits[after + w - 1] >>> 63 : 0);
+                long stops = ((~b & bPrevious) | (~a & aPrevious) | ~bits[self + w]) & mask;
+                if (stops != 0) {
+                    stop = (w << 6) + 63 - Long.numberOfLeadingZeros(stops);
+                    break;
+                }
+                w--;
+                mask = -1L;
+            }
+            if (target >= 0 && stop < target + 1 && target + 1 < start) return target;
+        }
+        boolean walkable = (bits[self + (stop >>> 6)] & (1L << stop)) != 0;
+        return walkable ? stop - 1 : -1;
+    }
+
+    /**
+     * Returns the node at a cell.
+     *
+     * @param x Grid x coordinate inside the grid
+     * @param y Grid y coordinate inside the grid
+     * @return The node id, or -1 if the cell has no node
+     */
+    int nodeAt(int x, int y) {
+        return cells == null ? y * width + x : cells[y * width + x];
+    }
+}
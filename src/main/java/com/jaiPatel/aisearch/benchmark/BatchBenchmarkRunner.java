@@ -42,7 +42,10 @@ public class BatchBenchmarkRunner {
                 new DFS(),
                 new IDDFS(),
                 new BestFirstSearch(new EuclideanHeuristic()),
-                new AStarSearch(new EuclideanHeuristic())
+                new AStarSearch(new EuclideanHeuristic()),
+                new BidirectionalDijkstra(),
+                new BidirectionalAStar(new EuclideanHeuristic()),
+                new JumpPointSearch(new EuclideanHeuristic())
         );
 
         // --- Main benchmark loop ---
@@ -83,7 +86,8 @@ public class BatchBenchmarkRunner {
                             r.meanTimeMs(), r.stdTimeMs(),
                             r.meanMemKB(), r.stdMemKB(),
                             r.nodesExpanded(), r.nodesGenerated(),
-                            r.maxFrontier(), r.solutionDepth(), r.pathCost()
+                            r.maxFrontier(), r.solutionDepth(), r.pathCost(),
+                            r.heuristicCalls()
                     ));
                 }
             }
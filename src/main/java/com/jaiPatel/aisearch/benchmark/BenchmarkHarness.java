@@ -25,17 +25,23 @@ public class BenchmarkHarness {
      * @param maxFrontier    Maximum frontier size
      * @param solutionDepth  Solution path depth
      * @param pathCost       Solution path cost
+     * @param heuristicCalls Number of heuristic evaluations
      */
     public record Result(String algorithm, double meanTimeMs, double stdTimeMs,
                          double meanMemKB, double stdMemKB,
                          int nodesExpanded, int nodesGenerated,
-                         int maxFrontier, int solutionDepth, double pathCost) {}
+                         int maxFrontier, int solutionDepth, double pathCost,
+                         int heuristicCalls) {}
+
+    /** Budget of every benchmarked search: caps runaway searches at ten million expansions. */
+    public static final SearchBudget DEFAULT_BUDGET = SearchBudget.UNLIMITED.withMaxExpansions(10_000_000);
 
     /**
      * Runs the provided search algorithms on the given graph, collecting performance statistics.
      * <p>
      * For each algorithm, runs the search multiple times, measuring runtime and memory usage,
      * and aggregates metrics such as nodes expanded, generated, frontier size, solution depth, and path cost.
+     * The searches run on the graph's CSR snapshot.
      *
      * @param graph      The graph to search
      * @param start      The start node
@@ -47,52 +53,126 @@ public class BenchmarkHarness {
     public static List<Result> runBenchmarks(Graph graph, Node start, Node goal,
                                              List<? extends SearchAlgorithm> algorithms,
                                              int repeats) {
+        return runBenchmarks(graph.freeze(), start, goal, algorithms, repeats, false);
+    }
+
+    /**
+     * Runs the provided search algorithms on the CSR snapshot of the given graph using either the
+     * stepwise or the batch execution path.
+     *
+     * @param graph      The graph to search
+     * @param start      The start node
+     * @param goal       The goal node
+     * @param algorithms List of search algorithms to benchmark
+     * @param repeats    Number of times to repeat each algorithm
+     * @param useSolve   True to run {@code solve()}, false to step the algorithm
+     * @return List of Result objects containing aggregated statistics for each algorithm
+     */
+    public static List<Result> runBenchmarks(Graph graph, Node start, Node goal,
+                                             List<? extends SearchAlgorithm> algorithms,
+                                             int repeats, boolean useSolve) {
+        return runBenchmarks(graph.freeze(), start, goal, algorithms, repeats, useSolve);
+    }
+
+    /**
+     * Runs the provided search algorithms on any graph backend using either the stepwise or the
+     * batch execution path.
+     * <p>
+     * The stepwise path drives {@code initialize()}/{@code step()} exactly like the visualizer does;
+     * the batch path calls {@code solve()}, which skips per-step observer dispatch. The searches
+     * run under {@link #DEFAULT_BUDGET}; the algorithms' own budgets are restored afterwards.
+     *
+     * @param graph      The graph to search, e.g. a CSR snapshot, a {@link Graph} or a {@link GridGraph}
+     * @param start      The start node
+     * @param goal       The goal node
+     * @param algorithms List of search algorithms to benchmark
+     * @param repeats    Number of times to repeat each algorithm
+     * @param useSolve   True to run {@code solve()}, false to step the algorithm
+     * @return List of Result objects containing aggregated statistics for each algorithm
+     */
+    public static List<Result> runBenchmarks(GraphView graph, Node start, Node goal,
+                                             List<? extends SearchAlgorithm> algorithms,
+                                             int repeats, boolean useSolve) {
+        return runBenchmarks(graph, start, goal, algorithms, repeats, useSolve, DEFAULT_BUDGET);
+    }
+
+    /**
+     * Runs the provided search algorithms under the given budget, which is set on every algorithm
+     * for the duration of its runs; each algorithm's previous budget is restored afterwards. Runs
+     * that exceed the budget are reported and counted like searches without a path.
+     *
+     * @param graph      The graph to search
+     * @param start      The start node
+     * @param goal       The goal node
+     * @param algorithms List of search algorithms to benchmark
+     * @param repeats    Number of times to repeat each algorithm
+     * @param useSolve   True to run {@code solve()}, false to step the algorithm
+     * @param budget     Limits of every search
+     * @return List of Result objects containing aggregated statistics for each algorithm
+     */
+    public static List<Result> runBenchmarks(GraphView graph, Node start, Node goal,
+                                             List<? extends SearchAlgorithm> algorithms,
+                                             int repeats, boolean useSolve, SearchBudget budget) {
         List<Result> results = new ArrayList<>();
 
         for (SearchAlgorithm algo : algorithms) {
             System.out.println("Running " + algo.getClass().getSimpleName());
             List<Double> times = new ArrayList<>();
             List<Double> memories = new ArrayList<>();
-            int totalExpanded = 0, totalGenerated = 0, totalFrontier = 0, totalDepth = 0;
+            int totalExpanded = 0, totalGenerated = 0, totalFrontier = 0, totalDepth = 0, totalHeuristic = 0;
             double totalCost = 0.0;
 
-            for (int i = 0; i < repeats; i++) {
-                // --- initialize per-run observer ---
-                BenchmarkObserver observer = new BenchmarkObserver();
-                observer.start();
-
-                long startTime = System.nanoTime();
-
-                algo.initialize(graph, start, goal, observer);
-
-                int safetyCounter = 0; // avoid infinite loop if algorithm fails
-                while (!algo.isFinished() && safetyCounter++ < 10_000_000) {
-                    algo.step();
-                }
-
-                long endTime = System.nanoTime();
-
-                // --- stable timing & memory measurement ---
-                double runtimeMs = (endTime - startTime) / 1_000_000.0;
-                double memoryKB = observer.getMemoryKB();
-                if (memoryKB <= 0) {
-                    memoryKB = (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / 1024.0;
+            SearchBudget previousBudget = algo.getBudget();
+            algo.setBudget(budget);
+            try {
+                for (int i = 0; i < repeats; i++) {
+                    // --- initialize per-run observer ---
+                    BenchmarkObserver observer = new BenchmarkObserver();
+                    observer.start();
+
+                    long startTime = System.nanoTime();
+
+                    if (useSolve) {
+                        algo.solve(graph, start, goal, observer);
+                    } else {
+                        algo.initialize(graph, start, goal, observer);
+                        while (algo.step()) {
+                            // the budget ends runaway searches
+                        }
+                    }
+
+                    long endTime = System.nanoTime();
+
+                    SearchResult result = algo.getResult();
+                    if (result != null && result.getOutcome() == SearchOutcome.BUDGET_EXCEEDED) {
+                        System.out.println("  run " + (i + 1) + " exceeded its budget");
+                    }
+
+                    // --- stable timing & memory measurement ---
+                    double runtimeMs = (endTime - startTime) / 1_000_000.0;
+                    double memoryKB = observer.getMemoryKB();
+                    if (memoryKB <= 0) {
+                        memoryKB = (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / 1024.0;
+                    }
+
+
+                    if (Double.isNaN(runtimeMs) || runtimeMs < 0) runtimeMs = 0;
+                    if (Double.isNaN(memoryKB) || memoryKB < 0) memoryKB = 0;
+
+                    times.add(runtimeMs);
+                    memories.add(memoryKB);
+
+                    totalExpanded += observer.getNodesExpanded();
+                    totalGenerated += observer.getNodesGenerated();
+                    totalFrontier += observer.getMaxFrontier();
+                    totalDepth += observer.getSolutionDepth();
+                    totalHeuristic += algo.getHeuristicEvaluations();
+
+                    double cost = observer.getTotalCost();
+                    if (Double.isFinite(cost)) totalCost += cost;
                 }
-
-
-                if (Double.isNaN(runtimeMs) || runtimeMs < 0) runtimeMs = 0;
-                if (Double.isNaN(memoryKB) || memoryKB < 0) memoryKB = 0;
-
-                times.add(runtimeMs);
-                memories.add(memoryKB);
-
-                totalExpanded += observer.getNodesExpanded();
-                totalGenerated += observer.getNodesGenerated();
-                totalFrontier += observer.getMaxFrontier();
-                totalDepth += observer.getSolutionDepth();
-
-                double cost = observer.getTotalCost();
-                if (Double.isFinite(cost)) totalCost += cost;
+            } finally {
+                algo.setBudget(previousBudget);
             }
 
             results.add(new Result(
@@ -103,7 +183,8 @@ public class BenchmarkHarness {
                     totalGenerated / repeats,
                     totalFrontier / repeats,
                     totalDepth / repeats,
-                    totalCost / repeats
+                    totalCost / repeats,
+                    totalHeuristic / repeats
             ));
         }
         return results;
@@ -1,11 +1,11 @@
 package com.jaiPatel.aisearch.benchmark;
 
 import com.jaiPatel.aisearch.algorithms.SearchObserver;
+import com.jaiPatel.aisearch.algorithms.SearchStep;
 import com.jaiPatel.aisearch.graph.Node;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryUsage;
-import java.util.Collection;
 import java.util.List;
 
 /**
@@ -43,20 +43,13 @@ public class BenchmarkObserver implements SearchObserver {
     }
 
     /**
-     * Called on each search step. Not used for benchmarking, but required by the interface.
+     * Called after each search step. Not used for benchmarking; overridden so that steps are not
+     * adapted to the collection-based callback.
      *
-     * @param current        The current node being expanded
-     * @param frontier       The current frontier (open list)
-     * @param explored       The set of explored nodes
-     * @param nodesExpanded  Number of nodes expanded so far
-     * @param pathCost       Cost from start to current node
-     * @param solutionDepth  Depth of the current node
-     * @param g              Cost from start to current node
-     * @param h              Heuristic estimate to goal
-     * @param f              Total estimated cost (g + h)
+     * @param step The changes made in the step
      */
     @Override
-    public void onStep(Node current, Collection<Node> frontier, Collection<Node> explored, int nodesExpanded, double pathCost, int solutionDepth, double g, double h, double f) {
+    public void onStep(SearchStep step) {
         // Not used for batch benchmarking
     }
 
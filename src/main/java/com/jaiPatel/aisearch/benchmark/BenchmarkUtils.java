@@ -17,19 +17,20 @@ public class BenchmarkUtils {
      * Saves a list of benchmark results to a CSV file.
      * <p>
      * The CSV will contain columns for algorithm name, mean runtime, mean memory usage,
-     * nodes expanded/generated, maximum frontier size, solution depth, and path cost.
+     * nodes expanded/generated, maximum frontier size, solution depth, path cost, and heuristic calls.
      *
      * @param results  List of benchmark results to save
      * @param filename Name of the CSV file to write
      */
     public static void saveResultsToCSV(List<BenchmarkHarness.Result> results, String filename) {
         try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
-            pw.println("Algorithm,Time(ms),Memory(KB),NodesExpanded,NodesGenerated,FrontierMax,Depth,Cost");
+            pw.println("Algorithm,Time(ms),Memory(KB),NodesExpanded,NodesGenerated,FrontierMax,Depth,Cost,HeuristicCalls");
             for (var r : results) {
-                pw.printf("%s,%.2f,%.2f,%d,%d,%d,%d,%.2f%n",
+                pw.printf("%s,%.2f,%.2f,%d,%d,%d,%d,%.2f,%d%n",
                         r.algorithm(), r.meanTimeMs(), r.meanMemKB(),
                         r.nodesExpanded(), r.nodesGenerated(),
-                        r.maxFrontier(), r.solutionDepth(), r.pathCost());
+                        r.maxFrontier(), r.solutionDepth(), r.pathCost(),
+                        r.heuristicCalls());
             }
             System.out.println("✅ Results saved to " + filename);
         } catch (IOException e) {
@@ -0,0 +1,125 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Compares loading a graph from its source format with opening it as a {@link MappedGraph}.
+ * <p>
+ * The Kansas dataset (when present) is loaded with {@link GraphLoaderSet1} and written in the
+ * binary format; a large 8-connected {@link GridGraph} is written directly, so the file can be
+ * produced without materializing millions of nodes. For each graph the benchmark reports the
+ * source load (or generation) time, the write time, the file size and the time to
+ * {@link MappedGraph#open open} the file, then times a corner-to-corner A* query on the mapped
+ * graph and on the source graph and checks that both find the same cost. Results are printed and
+ * saved to {@code binary_graph_results.csv}; the graph files are deleted afterwards.
+ */
+public class BinaryGraphBenchmark {
+
+    private static final int WARMUP_RUNS = 2, TIMED_RUNS = 3;
+
+    /**
+     * Writes a graph, maps it back and compares A* on both.
+     *
+     * @param label  Dataset label
+     * @param source The graph as loaded from its source
+     * @param loadMs Time taken to load or generate the source graph
+     * @param start  Start node id
+     * @param goal   Goal node id
+     * @return Load, open and query results
+     * @throws IOException If the graph file cannot be written or read
+     */
+    public static List<BenchmarkHarness.Result> run(String label, GraphView source, double loadMs,
+                                                    int start, int goal) throws IOException {
+        System.out.println("\n=== " + label + " ===");
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        Path file = Files.createTempFile("graph", ".bin");
+        try {
+            long t0 = System.nanoTime();
+            MappedGraph.write(source, file);
+            double writeMs = (System.nanoTime() - t0) / 1e6;
+
+            t0 = System.nanoTime();
+            MappedGraph mapped = MappedGraph.open(file);
+            double openMs = (System.nanoTime() - t0) / 1e6;
+
+            System.out.printf("%d nodes, %d edges%n", mapped.nodeCount(), mapped.edgeCount());
+            System.out.printf("source load %.1f ms, write %.1f ms, file %.1f MB, open %.3f ms%n",
+                    loadMs, writeMs, Files.size(file) / 1e6, openMs);
+            results.add(timing(label + " - source load", loadMs, 0));
+            results.add(timing(label + " - write", writeMs, Files.size(file)));
+            results.add(timing(label + " - open", openMs, 0));
+
+            BenchmarkHarness.Result onSource = query(label + " - source", source, start, goal);
+            BenchmarkHarness.Result onMapped = query(label + " - mapped", mapped, start, goal);
+            if (onSource.pathCost() != onMapped.pathCost()) {
+                System.err.println("Cost mismatch: " + onSource.pathCost() + " vs " + onMapped.pathCost());
+            }
+            results.add(onSource);
+            results.add(onMapped);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        return results;
+    }
+
+    /** Records a load, write or open time, with the file size in place of memory. */
+    private static BenchmarkHarness.Result timing(String label, double ms, long bytes) {
+        return new BenchmarkHarness.Result(label, ms, 0, bytes / 1024.0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /** Times an A* query after JIT warm-up runs. */
+    private static BenchmarkHarness.Result query(String label, GraphView graph, int start, int goal) {
+        AStarSearch astar = new AStarSearch(new EuclideanHeuristic());
+        Node s = graph.getNode(start), g = graph.getNode(goal);
+        for (int i = 0; i < WARMUP_RUNS; i++) astar.solve(graph, s, g, null);
+        SearchResult r = null;
+        long t0 = System.nanoTime();
+        for (int i = 0; i < TIMED_RUNS; i++) r = astar.solve(graph, s, g, null);
+        double ms = (System.nanoTime() - t0) / 1e6 / TIMED_RUNS;
+        System.out.printf("%-32s A* %.1f ms, %d expanded, cost %.2f%n", label, ms, r.getNodesExpanded(), r.getCost());
+        return new BenchmarkHarness.Result(label + " (A*)", ms, 0, 0, 0,
+                r.getNodesExpanded(), r.getNodesGenerated(), r.getMaxFrontierSize(),
+                r.getSolutionDepth(), r.getCost(), astar.getHeuristicEvaluations());
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code binary_graph_results.csv}.
+     *
+     * @param args Optional grid size (defaults to 1400, about 10 million edges)
+     * @throws IOException If a dataset or graph file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1400;
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+
+        Path coordinates = Path.of("src/main/resources/coordinates.csv");
+        Path adjacencies = Path.of("src/main/resources/Adjacencies.txt");
+        if (Files.exists(coordinates) && Files.exists(adjacencies)) {
+            long t0 = System.nanoTime();
+            Graph kansas = GraphLoaderSet1.load(coordinates.toString(), adjacencies.toString());
+            double loadMs = (System.nanoTime() - t0) / 1e6;
+            CsrGraph csr = kansas.freeze();
+            results.addAll(run("Kansas", csr, loadMs, 0, csr.nodeCount() - 1));
+        }
+
+        GridGraph grid;
+        double generateMs;
+        long seed = 42;
+        do {
+            long t0 = System.nanoTime();
+            grid = GridGraph.generate(size, size, 0.2, true, false, seed++);
+            generateMs = (System.nanoTime() - t0) / 1e6;
+        } while (Double.isInfinite(new AStarSearch(new EuclideanHeuristic()).solve(grid,
+                grid.getNode(0), grid.getNode(grid.nodeCount() - 1), null).getCost()));
+        results.addAll(run(size + "x" + size + " grid", grid, generateMs, 0, grid.nodeCount() - 1));
+
+        BenchmarkUtils.saveResultsToCSV(results, "binary_graph_results.csv");
+    }
+}
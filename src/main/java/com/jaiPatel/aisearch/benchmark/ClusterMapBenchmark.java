@@ -0,0 +1,165 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.UI.ClusterMapVisualizer;
+import com.jaiPatel.aisearch.UI.SearchVisualizer;
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+import java.util.*;
+
+/**
+ * Measures the redraw cost of {@link ClusterMapVisualizer} on synthetic road networks.
+ * <p>
+ * A road network is approximated by a jittered lattice of intersections in latitude/longitude
+ * with 20% of the road segments removed. For each size the benchmark times building the quadtree,
+ * then redraws a 1200x800 view at increasing zoom levels around the center and reports the time
+ * and the number of clusters and nodes drawn. For comparison it times drawing every node as a dot.
+ * Finally it steps an A* search at 1024 steps per frame and times the per-frame state update and
+ * redraw. No window is shown, so the times cover issuing the drawing commands, not rasterizing
+ * them. Results are printed and saved to {@code cluster_map_results.csv}.
+ */
+public class ClusterMapBenchmark {
+
+    private static final double WIDTH = 1200, HEIGHT = 800;
+    private static final int REDRAWS = 20;
+    private static final int STEPS_PER_FRAME = 1024;
+
+    /** Builds a jittered lattice of side x side intersections spanning one degree. */
+    private static Graph roadNetwork(int side, long seed) {
+        Random rand = new Random(seed);
+        Graph graph = new Graph();
+        Node[] nodes = new Node[side * side];
+        double step = 1.0 / side;
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                double lat = 39.0 + (r + 0.8 * (rand.nextDouble() - 0.5)) * step;
+                double lon = -95.0 + (c + 0.8 * (rand.nextDouble() - 0.5)) * step;
+                nodes[r * side + c] = new Node("I" + (r * side + c), lat, lon);
+                graph.addNode(nodes[r * side + c]);
+            }
+        }
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                Node from = nodes[r * side + c];
+                if (c + 1 < side && rand.nextDouble() >= 0.2) road(graph, from, nodes[r * side + c + 1]);
+                if (r + 1 < side && rand.nextDouble() >= 0.2) road(graph, from, nodes[(r + 1) * side + c]);
+            }
+        }
+        return graph;
+    }
+
+    private static void road(Graph graph, Node a, Node b) {
+        double cost = Math.hypot(a.getX() - b.getX(), a.getY() - b.getY());
+        graph.addEdge(a, b, cost);
+        graph.addEdge(b, a, cost);
+    }
+
+    /** Applies step deltas to the visualizer and flushes once per frame. */
+    private static final class FrameObserver implements SearchObserver {
+        final SearchVisualizer visualizer;
+        double frameMs;
+        int frames, steps, lastCurrent = -1;
+
+        FrameObserver(SearchVisualizer visualizer) {
+            this.visualizer = visualizer;
+        }
+
+        @Override
+        public void onStep(SearchStep step) {
+            long t0 = System.nanoTime();
+            if (lastCurrent >= 0) visualizer.setNodeState(lastCurrent, SearchVisualizer.VISITED);
+            for (int id : step.addedIds()) visualizer.setNodeState(id, SearchVisualizer.FRONTIER);
+            if (step.expandedId() >= 0) {
+                lastCurrent = step.expandedId();
+                visualizer.setNodeState(lastCurrent, SearchVisualizer.CURRENT);
+            }
+            if (++steps % STEPS_PER_FRAME == 0) {
+                visualizer.flush();
+                frames++;
+            }
+            frameMs += (System.nanoTime() - t0) / 1e6;
+        }
+    }
+
+    /**
+     * Runs the benchmark on one network size.
+     *
+     * @param side Intersections per side
+     * @return Redraw results per zoom level, the all-nodes baseline and the search frames
+     */
+    public static List<BenchmarkHarness.Result> run(int side) {
+        Graph graph = roadNetwork(side, 42);
+        CsrGraph csr = graph.freeze();
+        String name = side * side + " nodes";
+        System.out.println("\n=== " + name + " ===");
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+
+        long t0 = System.nanoTime();
+        ClusterMapVisualizer visualizer = new ClusterMapVisualizer(csr);
+        System.out.printf("quadtree build %8.1f ms%n", (System.nanoTime() - t0) / 1e6);
+        Pane view = visualizer.getView();
+        view.resize(WIDTH, HEIGHT);
+
+        double zoom = 1;
+        for (double factor : new double[]{1, 8, 8, 8, 8}) {
+            visualizer.zoom(factor, WIDTH / 2, HEIGHT / 2);
+            zoom *= factor;
+            int drawn = visualizer.redraw();
+            t0 = System.nanoTime();
+            for (int i = 0; i < REDRAWS; i++) visualizer.redraw();
+            double ms = (System.nanoTime() - t0) / 1e6 / REDRAWS;
+            System.out.printf("zoom %6.0fx: redraw %7.3f ms, %6d clusters and nodes drawn%n", zoom, ms, drawn);
+            results.add(new BenchmarkHarness.Result(name + " - zoom " + (int) zoom + "x", ms, 0, 0, 0, drawn, 0, 0, 0, 0, 0));
+        }
+
+        // baseline: every node drawn individually
+        Canvas canvas = new Canvas(WIDTH, HEIGHT);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        t0 = System.nanoTime();
+        for (int i = 0; i < REDRAWS; i++) {
+            gc.clearRect(0, 0, WIDTH, HEIGHT);
+            gc.setFill(Color.CORNFLOWERBLUE);
+            for (int id = 0; id < csr.nodeCount(); id++) {
+                double x = (csr.getY(id) + 95.0) * HEIGHT, y = (40.0 - csr.getX(id)) * HEIGHT;
+                gc.fillOval(x - 3, y - 3, 6, 6);
+            }
+        }
+        double allMs = (System.nanoTime() - t0) / 1e6 / REDRAWS;
+        System.out.printf("all nodes:   redraw %7.3f ms, %6d nodes drawn%n", allMs, csr.nodeCount());
+        results.add(new BenchmarkHarness.Result(name + " - all nodes", allMs, 0, 0, 0, csr.nodeCount(), 0, 0, 0, 0, 0));
+
+        // search frames at the fitted zoom
+        visualizer.zoom(1 / zoom, WIDTH / 2, HEIGHT / 2);
+        FrameObserver observer = new FrameObserver(visualizer);
+        AStarSearch astar = new AStarSearch(new EuclideanHeuristic());
+        astar.initialize(csr, csr.getNode(0), csr.getNode(csr.nodeCount() - 1), observer);
+        while (astar.step()) {
+            // frames are timed by the observer
+        }
+        double perFrame = observer.frameMs / Math.max(1, observer.frames);
+        System.out.printf("search: %d frames of %d steps, %.3f ms/frame for states and redraw%n",
+                observer.frames, STEPS_PER_FRAME, perFrame);
+        results.add(new BenchmarkHarness.Result(name + " - search frame", perFrame, 0, 0, 0,
+                astar.getResult().getNodesExpanded(), 0, 0, 0, 0, 0));
+        return results;
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code cluster_map_results.csv}.
+     *
+     * @param args Optional lattice sides (defaults to 250 and 1000)
+     */
+    public static void main(String[] args) {
+        int[] sides = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{250, 1000};
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        for (int side : sides) results.addAll(run(side));
+        BenchmarkUtils.saveResultsToCSV(results, "cluster_map_results.csv");
+    }
+}
@@ -0,0 +1,138 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Measures Contraction Hierarchies preprocessing and query times against A* and Dijkstra.
+ * <p>
+ * For each graph the hierarchy is built once, written to disk and read back, and then the same
+ * random start/goal pairs are answered by every algorithm. Query costs are checked against
+ * Dijkstra (A* with the zero heuristic); any mismatch is reported. The Kansas road network is
+ * included when its data files are present, followed by weighted grids of the given sizes.
+ * Results are printed and saved to {@code contraction_hierarchy_results.csv}.
+ */
+public class ContractionHierarchyBenchmark {
+
+    /**
+     * Runs the benchmark on one graph.
+     *
+     * @param name    Label of the graph in the results
+     * @param graph   The graph to preprocess and query
+     * @param queries Number of random start/goal pairs
+     * @return Benchmark results: preprocessing, then one entry per query algorithm
+     * @throws IOException If the hierarchy cannot be written or read back
+     */
+    public static List<BenchmarkHarness.Result> run(String name, Graph graph, int queries) throws IOException {
+        CsrGraph csr = graph.freeze();
+        System.out.println("\n=== " + name + " (" + csr.nodeCount() + " nodes, " + csr.edgeCount() + " edges) ===");
+
+        long t0 = System.nanoTime();
+        ContractionHierarchy built = ContractionHierarchy.build(csr);
+        double buildMs = (System.nanoTime() - t0) / 1e6;
+
+        Path file = Files.createTempFile("hierarchy", ".ch");
+        ContractionHierarchy hierarchy;
+        double readMs;
+        try {
+            built.write(file);
+            t0 = System.nanoTime();
+            hierarchy = ContractionHierarchy.read(file, csr);
+            readMs = (System.nanoTime() - t0) / 1e6;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        System.out.printf("Preprocessing %.1f ms, %d shortcuts, reload %.1f ms%n",
+                buildMs, hierarchy.shortcutCount(), readMs);
+
+        Random rand = new Random(42);
+        List<Node> nodes = new ArrayList<>(graph.getNodes());
+        Node[][] pairs = new Node[queries][];
+        for (int i = 0; i < queries; i++) {
+            pairs[i] = new Node[]{nodes.get(rand.nextInt(nodes.size())), nodes.get(rand.nextInt(nodes.size()))};
+        }
+
+        List<AbstractSearchAlgorithm> algorithms = List.of(
+                new AStarSearch(new ZeroHeuristic()),
+                new AStarSearch(new EuclideanHeuristic()),
+                new BidirectionalDijkstra(),
+                new ContractionHierarchySearch(hierarchy)
+        );
+        List<String> labels = List.of("Dijkstra", "A* (Euclidean)", "Bidirectional Dijkstra", "Contraction Hierarchies");
+
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        results.add(new BenchmarkHarness.Result(name + " - CH preprocessing",
+                buildMs, 0, 0, 0, 0, hierarchy.shortcutCount(), 0, 0, 0, 0));
+
+        double[] reference = new double[queries];
+        for (int a = 0; a < algorithms.size(); a++) {
+            AbstractSearchAlgorithm algorithm = algorithms.get(a);
+            // warm up the JIT so the first queries are not penalized
+            for (int i = 0; i < Math.min(queries, 20); i++) {
+                algorithm.solve(graph, pairs[i][0], pairs[i][1], null);
+            }
+
+            double[] times = new double[queries];
+            long expanded = 0, generated = 0;
+            int mismatches = 0;
+            for (int i = 0; i < queries; i++) {
+                t0 = System.nanoTime();
+                SearchResult r = algorithm.solve(graph, pairs[i][0], pairs[i][1], null);
+                times[i] = (System.nanoTime() - t0) / 1e6;
+                expanded += r.getNodesExpanded();
+                generated += r.getNodesGenerated();
+
+                if (a == 0) {
+                    reference[i] = r.getCost();
+                } else if (labels.get(a).startsWith("A*")) {
+                    // Euclidean distance need not be admissible on every graph; only report it
+                } else if (Math.abs(r.getCost() - reference[i]) > 1e-6 * Math.max(1.0, reference[i])
+                        && !(Double.isInfinite(r.getCost()) && Double.isInfinite(reference[i]))) {
+                    mismatches++;
+                }
+            }
+
+            double mean = Arrays.stream(times).average().orElse(0);
+            double std = Math.sqrt(Arrays.stream(times).map(t -> (t - mean) * (t - mean)).average().orElse(0));
+            results.add(new BenchmarkHarness.Result(name + " - " + labels.get(a),
+                    mean, std, 0, 0,
+                    (int) (expanded / queries), (int) (generated / queries),
+                    0, 0, 0, 0));
+            System.out.printf("%-24s %.3f ms/query, %d expanded/query%s%n",
+                    labels.get(a), mean, expanded / queries,
+                    mismatches > 0 ? ", " + mismatches + " cost mismatches" : "");
+        }
+        return results;
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code contraction_hierarchy_results.csv}.
+     *
+     * @param args Optional grid sizes (defaults to 100 and 200)
+     * @throws IOException If a dataset cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{100, 200};
+        int queries = 200;
+
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        Path coordinates = Path.of("src/main/resources/coordinates.csv");
+        Path adjacencies = Path.of("src/main/resources/Adjacencies.txt");
+        if (Files.exists(coordinates) && Files.exists(adjacencies)) {
+            Graph kansas = GraphLoaderSet1.load(coordinates.toString(), adjacencies.toString());
+            results.addAll(run("Kansas", kansas, queries));
+        }
+        for (int size : sizes) {
+            Graph g = GridGraphGenerator.generateGrid(size, 0.2, true, true, 42);
+            results.addAll(run(size + "x" + size + " grid", g, queries));
+        }
+        BenchmarkUtils.saveResultsToCSV(results, "contraction_hierarchy_results.csv");
+    }
+}
@@ -0,0 +1,136 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures {@link DistanceMatrix} against one A* search per source/target pair.
+ * <p>
+ * The 100x100 matrix covers every pair of the KC Metro dataset, where all N x M searches are run
+ * and compared cell by cell. The dataset has only 100 cities, so the 1000x1000 matrix uses random
+ * open cells of a weighted 300x300 grid instead; there the per-pair baseline is timed on a random
+ * sample of {@value #SAMPLE} pairs and extrapolated to the full matrix, and the sampled cells are
+ * checked against the matrix. Results are printed and saved to {@code distance_matrix_results.csv}.
+ */
+public class DistanceMatrixBenchmark {
+
+    private static final int SAMPLE = 2_000;
+
+    /**
+     * Runs the comparison on one set of sources and targets.
+     *
+     * @param label   Dataset label
+     * @param graph   The graph to search
+     * @param sources Row nodes
+     * @param targets Column nodes
+     * @param sample  Number of random pairs to search individually, or 0 for all pairs
+     * @return Matrix and per-pair results
+     */
+    public static List<BenchmarkHarness.Result> run(String label, GraphView graph,
+                                                    List<Node> sources, List<Node> targets, int sample) {
+        int rows = sources.size(), columns = targets.size();
+        String name = label + " " + rows + "x" + columns;
+        System.out.println("\n=== " + name + " (" + graph.nodeCount() + " nodes, "
+                + ForkJoinPool.getCommonPoolParallelism() + " workers) ===");
+
+        DistanceMatrix.compute(graph, sources.subList(0, Math.min(rows, 10)), targets, false);
+        long t0 = System.nanoTime();
+        DistanceMatrix matrix = DistanceMatrix.compute(graph, sources, targets, false);
+        double matrixMs = (System.nanoTime() - t0) / 1e6;
+        t0 = System.nanoTime();
+        DistanceMatrix withPaths = DistanceMatrix.compute(graph, sources, targets, true);
+        double pathsMs = (System.nanoTime() - t0) / 1e6;
+
+        int pairs = sample > 0 ? sample : rows * columns;
+        Random rand = new Random(42);
+        AStarSearch astar = new AStarSearch(new EuclideanHeuristic());
+        int mismatches = 0;
+        long expanded = 0;
+        t0 = System.nanoTime();
+        for (int k = 0; k < pairs; k++) {
+            int i = sample > 0 ? rand.nextInt(rows) : k / columns;
+            int j = sample > 0 ? rand.nextInt(columns) : k % columns;
+            SearchResult r = astar.solve(graph, sources.get(i), targets.get(j), null);
+            expanded += r.getNodesExpanded();
+            if (!sameCost(r.getCost(), matrix.cost(i, j))
+                    || !sameCost(r.getCost(), pathCost(graph, withPaths.path(i, j)))) {
+                mismatches++;
+            }
+        }
+        double perPairMs = (System.nanoTime() - t0) / 1e6 * ((double) rows * columns / pairs);
+
+        System.out.printf("DistanceMatrix          %10.1f ms%n", matrixMs);
+        System.out.printf("DistanceMatrix + paths  %10.1f ms%n", pathsMs);
+        System.out.printf("A* per pair%s %10.1f ms  (%d pairs checked, %d mismatches)%n",
+                sample > 0 ? " (extrap.)" : "          ", perPairMs, pairs, mismatches);
+        System.out.printf("speedup %.1fx%n", perPairMs / matrixMs);
+
+        return List.of(
+                new BenchmarkHarness.Result(name + " - DistanceMatrix", matrixMs, 0, 0, 0, 0, 0, 0, 0, 0, 0),
+                new BenchmarkHarness.Result(name + " - DistanceMatrix with paths", pathsMs, 0, 0, 0, 0, 0, 0, 0, 0, 0),
+                new BenchmarkHarness.Result(name + " - A* per pair" + (sample > 0 ? " (extrapolated)" : ""),
+                        perPairMs, 0, 0, 0, (int) Math.min(Integer.MAX_VALUE, expanded), 0, 0, 0, mismatches, 0));
+    }
+
+    private static boolean sameCost(double a, double b) {
+        return a == b || Math.abs(a - b) <= 1e-9 * Math.max(Math.abs(a), Math.abs(b));
+    }
+
+    /** Sums the edge costs along a path, taking the cheapest edge between consecutive nodes. */
+    private static double pathCost(GraphView graph, List<Node> path) {
+        if (path.isEmpty()) return Double.POSITIVE_INFINITY;
+        int[] targets = new int[graph.maxDegree()];
+        double[] costs = new double[targets.length];
+        double total = 0;
+        for (int k = 1; k < path.size(); k++) {
+            int from = graph.idOf(path.get(k - 1)), to = graph.idOf(path.get(k));
+            double best = Double.POSITIVE_INFINITY;
+            for (int i = 0, degree = graph.neighbors(from, targets, costs); i < degree; i++) {
+                if (targets[i] == to) best = Math.min(best, costs[i]);
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    /** Picks distinct random open cells of a grid. */
+    private static List<Node> openCells(GridGraph grid, int count, Random rand) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        while (ids.size() < count) {
+            int id = rand.nextInt(grid.nodeCount());
+            if (!grid.isBlocked(id)) ids.add(id);
+        }
+        List<Node> nodes = new ArrayList<>();
+        for (int id : ids) nodes.add(grid.getNode(id));
+        return nodes;
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code distance_matrix_results.csv}. The
+     * per-pair row stores its cost mismatches in the path-cost column.
+     *
+     * @param args Unused
+     * @throws IOException If a dataset cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        Path metro = Path.of("src/main/resources/KC_Metro_100_Cities___Nodes.csv");
+        if (Files.exists(metro)) {
+            Graph graph = GraphLoaderSet2.load(metro.toString());
+            List<Node> cities = new ArrayList<>(graph.getNodes());
+            results.addAll(run("KC Metro", graph.freeze(), cities, cities, 0));
+        }
+
+        GridGraph grid = GridGraph.generate(300, 300, 0.2, true, true, 42);
+        Random rand = new Random(7);
+        results.addAll(run("300x300 grid", grid, openCells(grid, 1000, rand), openCells(grid, 1000, rand), SAMPLE));
+        BenchmarkUtils.saveResultsToCSV(results, "distance_matrix_results.csv");
+    }
+}
@@ -0,0 +1,109 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.util.*;
+
+/**
+ * Compares the three {@link GraphView} backends on the same grid.
+ * <p>
+ * An implicit {@link GridGraph} is generated and materialized as a {@link Graph}, whose
+ * {@link Graph#freeze() CSR snapshot} is the third backend; all three have the same node ids and
+ * edges. BFS, DFS, IDDFS, Greedy Best-First Search and A* then solve a corner-to-corner query on
+ * each backend, and the mean runtimes are printed and saved to {@code graph_backend_results.csv}.
+ * IDDFS is skipped above {@value #IDDFS_LIMIT} nodes per side, where it takes minutes.
+ */
+public class GraphBackendBenchmark {
+
+    /** Largest grid size on which IDDFS is run. */
+    private static final int IDDFS_LIMIT = 150;
+
+    /**
+     * Runs the comparison on one grid size.
+     *
+     * @param size    Grid size (nodes per side)
+     * @param repeats Number of runs per algorithm and backend
+     * @return Benchmark results, one per algorithm and backend
+     */
+    public static List<BenchmarkHarness.Result> run(int size, int repeats) {
+        GridGraph grid;
+        long seed = 42;
+        do {
+            grid = GridGraph.generate(size, size, 0.2, true, false, seed++);
+        } while (Double.isInfinite(new BFS().solve(grid, grid.getNode(0),
+                grid.getNode(grid.nodeCount() - 1), null).getCost()));
+        Graph graph = grid.toGraph();
+
+        Map<String, GraphView> backends = new LinkedHashMap<>();
+        backends.put("HashMap Graph", graph);
+        backends.put("CSR", graph.freeze());
+        backends.put("Implicit grid", grid);
+
+        List<String> labels = new ArrayList<>(List.of("BFS", "DFS", "Best-First", "A*"));
+        if (size <= IDDFS_LIMIT) labels.add("IDDFS");
+
+        System.out.println("\n=== " + size + "x" + size + " grid ===");
+        List<BenchmarkHarness.Result> allResults = new ArrayList<>();
+        Map<String, double[]> times = new LinkedHashMap<>();
+        for (Map.Entry<String, GraphView> backend : backends.entrySet()) {
+            GraphView view = backend.getValue();
+            Node start = view.getNode(0), goal = view.getNode(view.nodeCount() - 1);
+            List<AbstractSearchAlgorithm> algorithms = algorithms(size);
+
+            // warm up the JIT so the first backend is not penalized
+            BenchmarkHarness.runBenchmarks(view, start, goal, algorithms, 1, true);
+            List<BenchmarkHarness.Result> runResults =
+                    BenchmarkHarness.runBenchmarks(view, start, goal, algorithms, repeats, true);
+
+            double[] backendTimes = new double[runResults.size()];
+            for (int i = 0; i < runResults.size(); i++) {
+                BenchmarkHarness.Result r = runResults.get(i);
+                backendTimes[i] = r.meanTimeMs();
+                allResults.add(new BenchmarkHarness.Result(
+                        size + "x" + size + " - " + backend.getKey() + " - " + labels.get(i),
+                        r.meanTimeMs(), r.stdTimeMs(),
+                        r.meanMemKB(), r.stdMemKB(),
+                        r.nodesExpanded(), r.nodesGenerated(),
+                        r.maxFrontier(), r.solutionDepth(), r.pathCost(),
+                        r.heuristicCalls()
+                ));
+            }
+            times.put(backend.getKey(), backendTimes);
+        }
+
+        System.out.printf("%-12s", "");
+        for (String backend : times.keySet()) System.out.printf("%16s", backend);
+        System.out.println();
+        for (int i = 0; i < labels.size(); i++) {
+            System.out.printf("%-12s", labels.get(i));
+            for (double[] backendTimes : times.values()) System.out.printf("%13.2f ms", backendTimes[i]);
+            System.out.println();
+        }
+        return allResults;
+    }
+
+    /** Creates the algorithms in the order of the labels. */
+    private static List<AbstractSearchAlgorithm> algorithms(int size) {
+        List<AbstractSearchAlgorithm> algorithms = new ArrayList<>(List.of(
+                new BFS(), new DFS(),
+                new BestFirstSearch(new EuclideanHeuristic()), new AStarSearch(new EuclideanHeuristic())));
+        if (size <= IDDFS_LIMIT) algorithms.add(new IDDFS());
+        return algorithms;
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code graph_backend_results.csv}.
+     *
+     * @param args Optional grid sizes (defaults to 100 and 500)
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{100, 500};
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        for (int size : sizes) results.addAll(run(size, 5));
+        BenchmarkUtils.saveResultsToCSV(results, "graph_backend_results.csv");
+    }
+}
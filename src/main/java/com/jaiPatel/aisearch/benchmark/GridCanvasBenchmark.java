@@ -0,0 +1,102 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.UI.GridCanvasVisualizer;
+import com.jaiPatel.aisearch.UI.SearchVisualizer;
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.util.*;
+
+/**
+ * Measures the per-frame cost of drawing a search on a large grid with {@link GridCanvasVisualizer}.
+ * <p>
+ * A corner-to-corner Dijkstra search is stepped on a 2000x2000 grid with 20% obstacles, and every
+ * N steps form one frame in which the changed cells are written to the pixel buffer. For each
+ * steps-per-frame setting the benchmark reports the mean and worst time spent on the frame's
+ * node states and pixels, against the 16.7 ms of a 60 fps frame. No view is created, so the upload
+ * of the changed rectangle to the GPU is not included. Results are printed and saved to
+ * {@code grid_canvas_results.csv}.
+ */
+public class GridCanvasBenchmark {
+
+    private static final double FRAME_MS = 1000.0 / 60;
+
+    /** Applies step deltas to the visualizer and times every frame. */
+    private static final class FrameObserver implements SearchObserver {
+        final SearchVisualizer visualizer;
+        final int stepsPerFrame;
+        final List<Double> frameMs = new ArrayList<>();
+        int steps, lastCurrent = -1;
+        long frameNanos;
+
+        FrameObserver(SearchVisualizer visualizer, int stepsPerFrame) {
+            this.visualizer = visualizer;
+            this.stepsPerFrame = stepsPerFrame;
+        }
+
+        @Override
+        public void onStep(SearchStep step) {
+            long t0 = System.nanoTime();
+            if (lastCurrent >= 0) visualizer.setNodeState(lastCurrent, SearchVisualizer.VISITED);
+            for (int id : step.addedIds()) visualizer.setNodeState(id, SearchVisualizer.FRONTIER);
+            if (step.expandedId() >= 0) {
+                lastCurrent = step.expandedId();
+                visualizer.setNodeState(lastCurrent, SearchVisualizer.CURRENT);
+            }
+            if (++steps % stepsPerFrame == 0) {
+                visualizer.flush();
+                frameNanos += System.nanoTime() - t0;
+                frameMs.add(frameNanos / 1e6);
+                frameNanos = 0;
+            } else {
+                frameNanos += System.nanoTime() - t0;
+            }
+        }
+    }
+
+    /**
+     * Steps one search through the visualizer.
+     *
+     * @param grid          The grid to search
+     * @param stepsPerFrame Search steps drawn per frame
+     * @return The frame timing result
+     */
+    public static BenchmarkHarness.Result run(GridGraph grid, int stepsPerFrame) {
+        GridCanvasVisualizer visualizer = new GridCanvasVisualizer(grid);
+        FrameObserver observer = new FrameObserver(visualizer, stepsPerFrame);
+        AStarSearch dijkstra = new AStarSearch(new ZeroHeuristic());
+        long t0 = System.nanoTime();
+        dijkstra.initialize(grid, grid.getNode(0), grid.getNode(grid.nodeCount() - 1), observer);
+        while (dijkstra.step()) {
+            // frames are timed by the observer
+        }
+        double totalMs = (System.nanoTime() - t0) / 1e6;
+
+        double[] ms = observer.frameMs.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        double mean = Arrays.stream(ms).average().orElse(0);
+        double worst = ms.length == 0 ? 0 : ms[ms.length - 1];
+        double p99 = ms.length == 0 ? 0 : ms[(int) (0.99 * (ms.length - 1))];
+        double searchMs = (totalMs - Arrays.stream(ms).sum()) / Math.max(1, ms.length);
+        SearchResult r = dijkstra.getResult();
+        System.out.printf("%5d steps/frame: %6d frames, draw mean %.3f ms, p99 %.3f ms, max %.3f ms; search %.2f ms/frame (%.0f%% of a 60 fps frame)%n",
+                stepsPerFrame, ms.length, mean, p99, worst, searchMs, 100 * (mean + searchMs) / FRAME_MS);
+        return new BenchmarkHarness.Result(grid.width() + "x" + grid.height() + " - " + stepsPerFrame + " steps/frame",
+                mean, 0, 0, 0, r.getNodesExpanded(), r.getNodesGenerated(), r.getMaxFrontierSize(),
+                r.getSolutionDepth(), r.getCost(), 0);
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code grid_canvas_results.csv}.
+     *
+     * @param args Optional grid size (defaults to 2000)
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        GridGraph grid = GridGraph.generate(size, size, 0.2, false, false, 42);
+        System.out.println("=== " + size + "x" + size + " grid (" + grid.nodeCount() + " cells) ===");
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        for (int stepsPerFrame : new int[]{256, 1024, 4096}) results.add(run(grid, stepsPerFrame));
+        BenchmarkUtils.saveResultsToCSV(results, "grid_canvas_results.csv");
+    }
+}
@@ -0,0 +1,108 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.util.*;
+
+/**
+ * Compares the implicit {@link GridGraph} with grids materialized by {@link GridGraphGenerator}.
+ * <p>
+ * For each size, both backends generate an 8-connected unit-cost grid with 20% obstacles (with
+ * different random layouts; seeds are skipped until the corners of the implicit grid are
+ * connected, as {@link GridGraphGenerator} does). The benchmark reports the generation time, the
+ * memory held by the graph (the array footprint for {@link GridGraph}, the retained heap for the
+ * materialized grid), and the mean time of a corner-to-corner A* query with the Euclidean
+ * heuristic. Materialized grids above {@value #MATERIALIZE_LIMIT} nodes per side are skipped,
+ * since they do not fit a default heap. Results are printed and saved to
+ * {@code grid_graph_results.csv}.
+ */
+public class GridGraphBenchmark {
+
+    /** Largest grid size generated with {@link GridGraphGenerator}. */
+    private static final int MATERIALIZE_LIMIT = 1000;
+
+    private static final double DENSITY = 0.2;
+    private static final int WARMUP_RUNS = 2, TIMED_RUNS = 3;
+
+    /**
+     * Runs the comparison on one grid size.
+     *
+     * @param size Grid size (nodes per side)
+     * @return Build and query results per backend
+     */
+    public static List<BenchmarkHarness.Result> run(int size) {
+        System.out.println("\n=== " + size + "x" + size + " grid ===");
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        String prefix = size + "x" + size + " - ";
+
+        GridGraph implicit;
+        double buildMs;
+        long seed = 42;
+        do {
+            long t0 = System.nanoTime();
+            implicit = GridGraph.generate(size, size, DENSITY, true, false, seed++);
+            buildMs = (System.nanoTime() - t0) / 1e6;
+        } while (Double.isInfinite(new AStarSearch(new EuclideanHeuristic()).solve(implicit,
+                implicit.getNode(0), implicit.getNode(implicit.nodeCount() - 1), null).getCost()));
+        results.add(build(prefix + "GridGraph", buildMs, implicit.arrayBytes()));
+        results.add(query(prefix + "GridGraph", implicit,
+                implicit.getNode(0), implicit.getNode(implicit.nodeCount() - 1)));
+
+        if (size <= MATERIALIZE_LIMIT) {
+            long before = usedHeap();
+            long t0 = System.nanoTime();
+            Graph graph = GridGraphGenerator.generateGrid(size, DENSITY, true, false, 42);
+            buildMs = (System.nanoTime() - t0) / 1e6;
+            long bytes = usedHeap() - before;
+            results.add(build(prefix + "GridGraphGenerator", buildMs, bytes));
+            results.add(query(prefix + "GridGraphGenerator", graph.freeze(),
+                    graph.getNode("0,0"), graph.getNode((size - 1) + "," + (size - 1))));
+        }
+        return results;
+    }
+
+    /** Records the generation time and retained heap of one backend. */
+    private static BenchmarkHarness.Result build(String label, double buildMs, long bytes) {
+        System.out.printf("%-32s generated in %.1f ms, %.2f MB%n", label, buildMs, bytes / 1e6);
+        return new BenchmarkHarness.Result(label + " (build)", buildMs, 0, bytes / 1024.0, 0,
+                0, 0, 0, 0, 0, 0);
+    }
+
+    /** Times an A* query between two corners, after JIT warm-up runs. */
+    private static BenchmarkHarness.Result query(String label, GraphView graph, Node start, Node goal) {
+        AStarSearch astar = new AStarSearch(new EuclideanHeuristic());
+        for (int i = 0; i < WARMUP_RUNS; i++) astar.solve(graph, start, goal, null);
+        SearchResult r = null;
+        long t0 = System.nanoTime();
+        for (int i = 0; i < TIMED_RUNS; i++) r = astar.solve(graph, start, goal, null);
+        double ms = (System.nanoTime() - t0) / 1e6 / TIMED_RUNS;
+        System.out.printf("%-32s A* %.1f ms, %d expanded, cost %.2f%n", label, ms, r.getNodesExpanded(), r.getCost());
+        return new BenchmarkHarness.Result(label + " (A*)", ms, 0, 0, 0,
+                r.getNodesExpanded(), r.getNodesGenerated(), r.getMaxFrontierSize(),
+                r.getSolutionDepth(), r.getCost(), astar.getHeuristicEvaluations());
+    }
+
+    /** Returns the heap in use after a full collection. */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code grid_graph_results.csv}.
+     *
+     * @param args Optional grid sizes (defaults to 250, 500, 1000 and 4000)
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{250, 500, 1000, 4000};
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        for (int size : sizes) results.addAll(run(size));
+        BenchmarkUtils.saveResultsToCSV(results, "grid_graph_results.csv");
+    }
+}
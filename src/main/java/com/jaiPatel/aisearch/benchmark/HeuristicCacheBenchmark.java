@@ -0,0 +1,92 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.util.*;
+
+/**
+ * Measures the effect of per-query heuristic memoization in A* and Greedy Best-First Search.
+ * <p>
+ * Runs each informed algorithm on the same grid worlds with memoization enabled and disabled,
+ * and reports runtimes, the resulting speedup, and the number of heuristic evaluations.
+ */
+public class HeuristicCacheBenchmark {
+
+    /**
+     * Runs the memoization comparison on grids of increasing size.
+     *
+     * @param sizes   Grid sizes (nodes per side) to test
+     * @param repeats Number of runs per algorithm and mode
+     * @return Benchmark results, one per algorithm, mode and grid size
+     */
+    public static List<BenchmarkHarness.Result> run(int[] sizes, int repeats) {
+        List<BenchmarkHarness.Result> allResults = new ArrayList<>();
+
+        for (int size : sizes) {
+            Graph g = GridGraphGenerator.generateGrid(size, 0.2, true, false, 42);
+            Node start = g.getNode("0,0");
+            Node goal = g.getNode((size - 1) + "," + (size - 1));
+
+            System.out.println("\n=== " + size + "x" + size + " grid ===");
+            List<AbstractSearchAlgorithm> algorithms = List.of(
+                    withCaching(new AStarSearch(new EuclideanHeuristic()), true),
+                    withCaching(new AStarSearch(new EuclideanHeuristic()), false),
+                    withCaching(new BestFirstSearch(new EuclideanHeuristic()), true),
+                    withCaching(new BestFirstSearch(new EuclideanHeuristic()), false)
+            );
+            List<String> labels = List.of("A* (cached)", "A* (uncached)",
+                    "Best-First (cached)", "Best-First (uncached)");
+
+            // warm up the JIT so the first configuration is not penalized
+            BenchmarkHarness.runBenchmarks(g, start, goal, algorithms, 1);
+            List<BenchmarkHarness.Result> runResults =
+                    BenchmarkHarness.runBenchmarks(g, start, goal, algorithms, repeats);
+
+            for (int i = 0; i < runResults.size(); i++) {
+                BenchmarkHarness.Result r = runResults.get(i);
+                allResults.add(new BenchmarkHarness.Result(
+                        size + "x" + size + " - " + labels.get(i),
+                        r.meanTimeMs(), r.stdTimeMs(),
+                        r.meanMemKB(), r.stdMemKB(),
+                        r.nodesExpanded(), r.nodesGenerated(),
+                        r.maxFrontier(), r.solutionDepth(), r.pathCost(),
+                        r.heuristicCalls()
+                ));
+            }
+
+            for (int i = 0; i < runResults.size(); i += 2) {
+                BenchmarkHarness.Result cached = runResults.get(i);
+                BenchmarkHarness.Result uncached = runResults.get(i + 1);
+                double speedup = cached.meanTimeMs() > 0 ? uncached.meanTimeMs() / cached.meanTimeMs() : 0;
+                System.out.printf("%-12s time %.2f ms -> %.2f ms (speedup %.2fx), heuristic calls %d -> %d%n",
+                        labels.get(i).replace(" (cached)", ""),
+                        uncached.meanTimeMs(), cached.meanTimeMs(), speedup,
+                        uncached.heuristicCalls(), cached.heuristicCalls());
+            }
+        }
+        return allResults;
+    }
+
+    /**
+     * Configures heuristic memoization on an algorithm and returns it.
+     */
+    private static AbstractSearchAlgorithm withCaching(AbstractSearchAlgorithm algorithm, boolean enabled) {
+        algorithm.setHeuristicCaching(enabled);
+        return algorithm;
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code heuristic_cache_results.csv}.
+     *
+     * @param args Optional grid sizes (defaults to 50, 100 and 200)
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{50, 100, 200};
+        List<BenchmarkHarness.Result> results = run(sizes, 5);
+        BenchmarkUtils.saveResultsToCSV(results, "heuristic_cache_results.csv");
+    }
+}
@@ -0,0 +1,95 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.util.*;
+
+/**
+ * Compares Jump Point Search with A* on uniform-cost 8-connected grids.
+ * <p>
+ * For each grid size and obstacle density, both algorithms answer the same random start/goal
+ * pairs with the Euclidean heuristic. Nodes expanded, cells passed over by jump scans, and query
+ * times are printed and saved to {@code jump_point_results.csv}. JPS gains most on open grids; on
+ * cluttered grids almost every cell is a jump point and it can fall behind A*.
+ */
+public class JumpPointBenchmark {
+
+    /**
+     * Runs the comparison on one grid.
+     *
+     * @param size    Grid size (nodes per side)
+     * @param density Obstacle density
+     * @param queries Number of random start/goal pairs
+     * @return Benchmark results for A* and JPS
+     */
+    public static List<BenchmarkHarness.Result> run(int size, double density, int queries) {
+        Graph g = GridGraphGenerator.generateGrid(size, density, true, false, 42);
+        String name = size + "x" + size + " grid, " + (int) Math.round(density * 100) + "% obstacles";
+        System.out.println("\n=== " + name + " ===");
+
+        Random rand = new Random(42);
+        List<Node> nodes = new ArrayList<>(g.getNodes());
+        Node[][] pairs = new Node[queries][];
+        for (int i = 0; i < queries; i++) {
+            pairs[i] = new Node[]{nodes.get(rand.nextInt(nodes.size())), nodes.get(rand.nextInt(nodes.size()))};
+        }
+
+        AStarSearch astar = new AStarSearch(new EuclideanHeuristic());
+        JumpPointSearch jps = new JumpPointSearch(new EuclideanHeuristic());
+        List<AbstractSearchAlgorithm> algorithms = List.of(astar, jps);
+        List<String> labels = List.of("A*", "Jump Point Search");
+
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        long astarExpanded = 0;
+        for (int a = 0; a < algorithms.size(); a++) {
+            AbstractSearchAlgorithm algorithm = algorithms.get(a);
+            // warm up the JIT (and JPS grid detection) so the first queries are not penalized
+            for (int i = 0; i < Math.min(queries, 10); i++) {
+                algorithm.solve(g, pairs[i][0], pairs[i][1], null);
+            }
+
+            double totalMs = 0, totalCost = 0;
+            long expanded = 0, scanned = 0;
+            for (int i = 0; i < queries; i++) {
+                long t0 = System.nanoTime();
+                SearchResult r = algorithm.solve(g, pairs[i][0], pairs[i][1], null);
+                totalMs += (System.nanoTime() - t0) / 1e6;
+                expanded += r.getNodesExpanded();
+                if (Double.isFinite(r.getCost())) totalCost += r.getCost();
+                if (algorithm == jps) scanned += jps.getCellsScanned();
+            }
+            if (a == 0) astarExpanded = expanded;
+
+            results.add(new BenchmarkHarness.Result(name + " - " + labels.get(a),
+                    totalMs / queries, 0, 0, 0,
+                    (int) (expanded / queries), 0, 0, 0, totalCost / queries, 0));
+            String detail = algorithm == jps
+                    ? String.format(", %d cells scanned/query, expansions %.1fx below A*",
+                            scanned / queries, expanded > 0 ? (double) astarExpanded / expanded : 0.0)
+                    : "";
+            System.out.printf("%-18s %.3f ms/query, %d expanded/query%s%n",
+                    labels.get(a), totalMs / queries, expanded / queries, detail);
+        }
+        return results;
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code jump_point_results.csv}.
+     *
+     * @param args Optional grid sizes (defaults to 200 and 1000)
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{200, 1000};
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        for (int size : sizes) {
+            for (double density : new double[]{0.0, 0.01, 0.1, 0.3}) {
+                results.addAll(run(size, density, 50));
+            }
+        }
+        BenchmarkUtils.saveResultsToCSV(results, "jump_point_results.csv");
+    }
+}
@@ -0,0 +1,178 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Measures how much the landmark (ALT) heuristic reduces A* work compared to the Euclidean
+ * heuristic and to Dijkstra.
+ * <p>
+ * For each graph the landmark table is built once and reloaded from disk to show the warm-start
+ * cost; then the same random start/goal pairs are answered with every heuristic. Nodes expanded
+ * per query, the reduction relative to the Euclidean heuristic, and query times are printed and
+ * saved to {@code landmark_results.csv}. Both road datasets are included when their data files
+ * are present, followed by weighted grids of the given sizes and a random directed graph.
+ * <p>
+ * Landmark bounds are asymmetric on directed and weighted graphs, so the landmark searches,
+ * including bidirectional A*, are checked against the Dijkstra costs and mismatches are reported.
+ */
+public class LandmarkBenchmark {
+
+    /**
+     * Runs the benchmark on one graph.
+     *
+     * @param name          Label of the graph in the results
+     * @param graph         The graph to search
+     * @param landmarkCount Number of landmarks
+     * @param queries       Number of random start/goal pairs
+     * @return Benchmark results: preprocessing, then one entry per heuristic
+     * @throws IOException If the table cannot be written or read back
+     */
+    public static List<BenchmarkHarness.Result> run(String name, Graph graph, int landmarkCount, int queries)
+            throws IOException {
+        CsrGraph csr = graph.freeze();
+        System.out.println("\n=== " + name + " (" + csr.nodeCount() + " nodes, " + csr.edgeCount() + " edges) ===");
+
+        long t0 = System.nanoTime();
+        LandmarkTable built = LandmarkTable.build(csr, landmarkCount);
+        double buildMs = (System.nanoTime() - t0) / 1e6;
+
+        Path file = Files.createTempFile("landmarks", ".alt");
+        LandmarkTable table;
+        double readMs;
+        try {
+            built.write(file);
+            t0 = System.nanoTime();
+            table = LandmarkTable.read(file, csr);
+            readMs = (System.nanoTime() - t0) / 1e6;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        System.out.printf("%d landmarks: preprocessing %.1f ms, reload %.1f ms, %d KB%n",
+                table.landmarkCount(), buildMs, readMs, table.arrayBytes() / 1024);
+
+        Random rand = new Random(42);
+        List<Node> nodes = new ArrayList<>(graph.getNodes());
+        Node[][] pairs = new Node[queries][];
+        for (int i = 0; i < queries; i++) {
+            pairs[i] = new Node[]{nodes.get(rand.nextInt(nodes.size())), nodes.get(rand.nextInt(nodes.size()))};
+        }
+
+        List<String> labels = List.of("Dijkstra", "A* (Euclidean)", "A* (landmarks)", "BiA* (landmarks)");
+        List<SearchAlgorithm> algorithms = List.of(
+                new AStarSearch(new ZeroHeuristic()),
+                new AStarSearch(new EuclideanHeuristic()),
+                new AStarSearch(new LandmarkHeuristic(table)),
+                new BidirectionalAStar(new LandmarkHeuristic(table)));
+
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        results.add(new BenchmarkHarness.Result(name + " - ALT preprocessing",
+                buildMs, 0, table.arrayBytes() / 1024.0, 0, 0, 0, 0, 0, 0, 0));
+
+        double[] reference = new double[queries];
+        long euclideanExpanded = 0;
+        for (int a = 0; a < algorithms.size(); a++) {
+            SearchAlgorithm algorithm = algorithms.get(a);
+            // warm up the JIT so the first queries are not penalized
+            for (int i = 0; i < Math.min(queries, 20); i++) {
+                algorithm.solve(graph, pairs[i][0], pairs[i][1], null);
+            }
+
+            double totalMs = 0;
+            long expanded = 0, evaluations = 0;
+            int mismatches = 0;
+            for (int i = 0; i < queries; i++) {
+                t0 = System.nanoTime();
+                SearchResult r = algorithm.solve(graph, pairs[i][0], pairs[i][1], null);
+                totalMs += (System.nanoTime() - t0) / 1e6;
+                expanded += r.getNodesExpanded();
+                evaluations += algorithm.getHeuristicEvaluations();
+
+                if (a == 0) {
+                    reference[i] = r.getCost();
+                } else if (a >= 2 && Math.abs(r.getCost() - reference[i]) > 1e-6 * Math.max(1.0, reference[i])
+                        && !(Double.isInfinite(r.getCost()) && Double.isInfinite(reference[i]))) {
+                    mismatches++;
+                }
+            }
+            if (a == 1) euclideanExpanded = expanded;
+
+            results.add(new BenchmarkHarness.Result(name + " - " + labels.get(a),
+                    totalMs / queries, 0, 0, 0,
+                    (int) (expanded / queries), 0, 0, 0, 0,
+                    (int) (evaluations / queries)));
+            String reduction = a >= 2 && euclideanExpanded > 0
+                    ? String.format(" (%.1f%% fewer than Euclidean)", 100.0 * (1 - (double) expanded / euclideanExpanded))
+                    : "";
+            System.out.printf("%-16s %.3f ms/query, %d expanded/query%s%s%n",
+                    labels.get(a), totalMs / queries, expanded / queries, reduction,
+                    mismatches > 0 ? ", " + mismatches + " cost mismatches" : "");
+        }
+        return results;
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code landmark_results.csv}.
+     *
+     * @param args Optional grid sizes (defaults to 100 and 200)
+     * @throws IOException If a dataset cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{100, 200};
+        int landmarks = LandmarkHeuristic.DEFAULT_LANDMARKS;
+        int queries = 200;
+
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        Path coordinates = Path.of("src/main/resources/coordinates.csv");
+        Path adjacencies = Path.of("src/main/resources/Adjacencies.txt");
+        if (Files.exists(coordinates) && Files.exists(adjacencies)) {
+            Graph kansas = GraphLoaderSet1.load(coordinates.toString(), adjacencies.toString());
+            results.addAll(run("Kansas", kansas, landmarks, queries));
+        }
+        Path metro = Path.of("src/main/resources/KC_Metro_100_Cities___Nodes.csv");
+        if (Files.exists(metro)) {
+            results.addAll(run("KC Metro", GraphLoaderSet2.load(metro.toString()), landmarks, queries));
+        }
+        for (int size : sizes) {
+            Graph g = GridGraphGenerator.generateGrid(size, 0.2, true, true, 42);
+            results.addAll(run(size + "x" + size + " grid", g, landmarks, queries));
+        }
+        results.addAll(run("Directed random", directedGraph(2_000, 42), landmarks, queries));
+        BenchmarkUtils.saveResultsToCSV(results, "landmark_results.csv");
+    }
+
+    /**
+     * Generates a strongly connected random graph with one-way edges, so that {@code d(u, v)} and
+     * {@code d(v, u)} differ. A directed ring keeps every node reachable; each node gets three more
+     * outgoing edges to random nodes, with independent random weights.
+     *
+     * @param n    Number of nodes
+     * @param seed Random seed
+     * @return The graph
+     */
+    static Graph directedGraph(int n, long seed) {
+        Random rand = new Random(seed);
+        Graph graph = new Graph();
+        List<Node> nodes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Node node = new Node("D" + i, rand.nextInt(1000), rand.nextInt(1000));
+            graph.addNode(node);
+            nodes.add(node);
+        }
+        for (int i = 0; i < n; i++) {
+            graph.addEdge(nodes.get(i), nodes.get((i + 1) % n), 1 + rand.nextInt(100));
+            for (int j = 0; j < 3; j++) {
+                int to = rand.nextInt(n);
+                if (to != i) graph.addEdge(nodes.get(i), nodes.get(to), 1 + rand.nextInt(100));
+            }
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,155 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.graph.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Compares {@link StreamingGraphLoader} with {@link GraphLoaderSet1} and {@link GraphLoaderSet2}
+ * on synthetic datasets.
+ * <p>
+ * For each size, random cities in the Kansas bounding box are written in both dataset formats,
+ * each city with two roads to nearby cities (one JSON connection object per road in Set 2). Both
+ * loaders then read the files, and the benchmark reports the load time, the rows read per second
+ * and the peak heap. The original loaders print a line per row; their output is discarded so the
+ * parsing itself is timed, and they are skipped above {@value #ORIGINAL_LIMIT} cities. Results are
+ * printed and saved to {@code loader_results.csv}, with the row count in the nodes-expanded column
+ * and the peak heap as memory; the dataset files are deleted afterwards.
+ */
+public class LoaderBenchmark {
+
+    /** Largest dataset loaded with the original loaders. */
+    private static final int ORIGINAL_LIMIT = 100_000;
+
+    /**
+     * Runs the comparison on one dataset size.
+     *
+     * @param cities Number of cities
+     * @return Load results per format and loader
+     * @throws IOException If the dataset files cannot be written or read
+     */
+    public static List<BenchmarkHarness.Result> run(int cities) throws IOException {
+        System.out.println("\n=== " + cities + " cities ===");
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        Path dir = Files.createTempDirectory("loader");
+        Path coordinates = dir.resolve("coordinates.csv");
+        Path adjacencies = dir.resolve("adjacencies.txt");
+        Path set2 = dir.resolve("nodes.csv");
+        try {
+            writeDatasets(cities, coordinates, adjacencies, set2);
+            long set1Rows = 3L * cities, set2Rows = cities;
+
+            if (cities <= ORIGINAL_LIMIT) {
+                resetPeakHeap();
+                long t0 = System.nanoTime();
+                quietly(() -> GraphLoaderSet1.load(coordinates.toString(), adjacencies.toString()));
+                results.add(report(cities + " - Set 1 - GraphLoaderSet1", set1Rows,
+                        (System.nanoTime() - t0) / 1e6, peakHeap()));
+            }
+            resetPeakHeap();
+            StreamingGraphLoader.Result r = StreamingGraphLoader.loadSet1(coordinates, adjacencies);
+            results.add(report(cities + " - Set 1 - StreamingGraphLoader", r.rows(), r.millis(), r.peakHeapBytes()));
+
+            if (cities <= ORIGINAL_LIMIT) {
+                resetPeakHeap();
+                long t0 = System.nanoTime();
+                quietly(() -> GraphLoaderSet2.load(set2.toString()));
+                results.add(report(cities + " - Set 2 - GraphLoaderSet2", set2Rows,
+                        (System.nanoTime() - t0) / 1e6, peakHeap()));
+            }
+            resetPeakHeap();
+            r = StreamingGraphLoader.loadSet2(set2);
+            results.add(report(cities + " - Set 2 - StreamingGraphLoader", r.rows(), r.millis(), r.peakHeapBytes()));
+        } finally {
+            Files.deleteIfExists(coordinates);
+            Files.deleteIfExists(adjacencies);
+            Files.deleteIfExists(set2);
+            Files.deleteIfExists(dir);
+        }
+        return results;
+    }
+
+    /** Writes the same random cities and roads in both dataset formats. */
+    private static void writeDatasets(int cities, Path coordinates, Path adjacencies, Path set2) throws IOException {
+        Random rand = new Random(42);
+        try (BufferedWriter c = Files.newBufferedWriter(coordinates);
+             BufferedWriter a = Files.newBufferedWriter(adjacencies);
+             BufferedWriter s = Files.newBufferedWriter(set2)) {
+            s.write("city,lat,lon,connections\n");
+            for (int i = 0; i < cities; i++) {
+                String lat = String.format(Locale.ROOT, "%.7f", 37.0 + 3.0 * rand.nextDouble());
+                String lon = String.format(Locale.ROOT, "%.7f", -102.0 + 7.4 * rand.nextDouble());
+                int to1 = (i + 1 + rand.nextInt(20)) % cities, to2 = (i + 1 + rand.nextInt(20)) % cities;
+                c.write("City_" + i + "," + lat + "," + lon + "\n");
+                a.write("City_" + i + " City_" + to1 + "\n");
+                a.write("City_" + i + " City_" + to2 + "\n");
+                s.write("\"City " + i + ", KS\"," + lat + "," + lon
+                        + ",\"[{\"\"to\"\": \"\"City " + to1 + ", KS\"\", \"\"road\"\": \"\"US-" + (i % 400) + "\"\"}, "
+                        + "{\"\"to\"\": \"\"City " + to2 + ", KS\"\", \"\"road\"\": \"\"K-" + (i % 90) + "\"\"}]\"\n");
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Load {
+        void run() throws IOException;
+    }
+
+    /** Runs a load with standard output discarded. */
+    private static void quietly(Load load) throws IOException {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            load.run();
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    private static BenchmarkHarness.Result report(String label, long rows, double ms, long peakHeapBytes) {
+        System.out.printf("%-40s %9.1f ms %12.0f rows/s   peak heap %8.1f MB%n",
+                label, ms, rows / (ms / 1000.0), peakHeapBytes / 1e6);
+        return new BenchmarkHarness.Result(label, ms, 0, peakHeapBytes / 1024.0, 0,
+                (int) rows, 0, 0, 0, 0, 0);
+    }
+
+    /** Collects the previous run's garbage and restarts peak tracking. */
+    private static void resetPeakHeap() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peak += pool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code loader_results.csv}.
+     *
+     * @param args Optional city counts (defaults to 10,000, 100,000 and 1,000,000)
+     * @throws IOException If the dataset files cannot be written or read
+     */
+    public static void main(String[] args) throws IOException {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{10_000, 100_000, 1_000_000};
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        for (int size : sizes) results.addAll(run(size));
+        BenchmarkUtils.saveResultsToCSV(results, "loader_results.csv");
+    }
+}
@@ -0,0 +1,129 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.util.*;
+
+/**
+ * Measures the cost of observing a stepwise search with collection-based and delta-based observers.
+ * <p>
+ * A corner-to-corner Dijkstra search on a grid is stepped to completion, once with an observer that
+ * copies the frontier and explored set on every step (what the UI observer used to do) and once
+ * with an observer that applies each {@link SearchStep} to its own per-node state and a frontier
+ * ordered by key (what the UI observer does now). The copying observer does O(n) work per step and
+ * O(n²) per search, so it only runs up to {@value #COPY_LIMIT} nodes; the delta observer runs up
+ * to about 100k nodes. Results are printed and saved to {@code observer_results.csv}.
+ */
+public class ObserverBenchmark {
+
+    private static final int COPY_LIMIT = 40_000;
+
+    /** Copies the frontier and explored collections on every step. */
+    private static final class CopyingObserver implements SearchObserver {
+        long copied;
+
+        @Override
+        public void onStep(Node current, Collection<Node> frontier, Collection<Node> explored,
+                           int nodesExpanded, double pathCost, int solutionDepth, double g, double h, double f) {
+            copied += List.copyOf(frontier).size() + List.copyOf(explored).size();
+        }
+    }
+
+    /** Mirrors node states and the frontier order from the step deltas. */
+    private static final class DeltaObserver implements SearchObserver {
+        final byte[] state;
+        final double[] keys;
+        final TreeSet<Integer> open;
+        long applied;
+
+        DeltaObserver(int nodeCount) {
+            state = new byte[nodeCount];
+            keys = new double[nodeCount];
+            open = new TreeSet<>((a, b) -> {
+                int c = Double.compare(keys[a], keys[b]);
+                return c != 0 ? c : Integer.compare(a, b);
+            });
+        }
+
+        @Override
+        public void onStep(SearchStep step) {
+            if (step.isReset()) {
+                Arrays.fill(state, (byte) 0);
+                open.clear();
+            }
+            for (int id : step.removedIds()) {
+                if (state[id] == 1) open.remove(id);
+                state[id] = 2;
+            }
+            int[] changed = step.changedIds();
+            double[] f = step.changedF();
+            for (int i = 0; i < changed.length; i++) {
+                int id = changed[i];
+                if (state[id] == 1) open.remove(id);
+                keys[id] = f[i];
+                state[id] = 1;
+                open.add(id);
+            }
+            applied += step.removedIds().length + changed.length;
+        }
+    }
+
+    /**
+     * Runs both observers on one grid size.
+     *
+     * @param size Grid size (nodes per side)
+     * @return One result per observer that ran
+     */
+    public static List<BenchmarkHarness.Result> run(int size) {
+        GridGraph grid = GridGraph.generate(size, size, 0.0, false, false, 42);
+        Node start = grid.getNode(0), goal = grid.getNode(grid.nodeCount() - 1);
+        System.out.println("\n=== " + size + "x" + size + " grid (" + grid.nodeCount() + " nodes) ===");
+
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        AStarSearch dijkstra = new AStarSearch(new ZeroHeuristic());
+        if (grid.nodeCount() <= COPY_LIMIT) {
+            CopyingObserver copying = new CopyingObserver();
+            double ms = stepToEnd(dijkstra, grid, start, goal, copying);
+            System.out.printf("copying observer %10.1f ms  (%d nodes copied)%n", ms, copying.copied);
+            results.add(result(size, "copying observer", ms, dijkstra));
+        }
+        DeltaObserver delta = new DeltaObserver(grid.nodeCount());
+        double ms = stepToEnd(dijkstra, grid, start, goal, delta);
+        System.out.printf("delta observer   %10.1f ms  (%d changes applied)%n", ms, delta.applied);
+        results.add(result(size, "delta observer", ms, dijkstra));
+        return results;
+    }
+
+    private static double stepToEnd(SearchAlgorithm algorithm, GraphView graph, Node start, Node goal,
+                                    SearchObserver observer) {
+        long t0 = System.nanoTime();
+        algorithm.initialize(graph, start, goal, observer);
+        while (algorithm.step()) {
+            // observe every step
+        }
+        return (System.nanoTime() - t0) / 1e6;
+    }
+
+    private static BenchmarkHarness.Result result(int size, String label, double ms, SearchAlgorithm algorithm) {
+        SearchResult r = algorithm.getResult();
+        return new BenchmarkHarness.Result(size + "x" + size + " - " + label, ms, 0, 0, 0,
+                r.getNodesExpanded(), r.getNodesGenerated(), r.getMaxFrontierSize(), r.getSolutionDepth(),
+                r.getCost(), 0);
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code observer_results.csv}.
+     *
+     * @param args Optional grid sizes (defaults to 50, 100, 200 and 316)
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{50, 100, 200, 316};
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        for (int size : sizes) results.addAll(run(size));
+        BenchmarkUtils.saveResultsToCSV(results, "observer_results.csv");
+    }
+}
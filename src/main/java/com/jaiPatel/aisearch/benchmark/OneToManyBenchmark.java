@@ -0,0 +1,111 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.util.*;
+
+/**
+ * Measures one-to-many queries from a single depot with and without {@link ShortestPathTrees}.
+ * <p>
+ * On a weighted 8-connected grid, queries go from one corner to {@value #GOALS} random reachable
+ * goals. The benchmark times the whole batch with a fresh A* search per goal, with a resumable
+ * Dijkstra tree and with a resumable A* tree, and compares the batches with one Dijkstra that
+ * settles the depot's entire component, the lower bound the trees should approach. Every cost is
+ * checked against the per-goal A* answer. Results are printed and saved to
+ * {@code one_to_many_results.csv}.
+ */
+public class OneToManyBenchmark {
+
+    private static final int GOALS = 1_000;
+    /** Memory budget of the trees; large enough for one tree per depot. */
+    private static final long TREE_BUDGET = 256L << 20;
+
+    /**
+     * Runs the comparison on one grid size.
+     *
+     * @param size Grid size (nodes per side)
+     * @return One result per strategy
+     */
+    public static List<BenchmarkHarness.Result> run(int size) {
+        System.out.println("\n=== " + size + "x" + size + " weighted grid, " + GOALS + " goals ===");
+        GridGraph grid = GridGraph.generate(size, size, 0.2, true, true, 42);
+        Node depot = grid.getNode(0);
+
+        // full Dijkstra from the depot: the blocked goal is never reached, so the component is exhausted
+        int blocked = 0;
+        while (!grid.isBlocked(blocked)) blocked++;
+        AStarSearch dijkstra = new AStarSearch(new ZeroHeuristic());
+        dijkstra.solve(grid, depot, grid.getNode(blocked), null);
+        long t0 = System.nanoTime();
+        SearchResult full = dijkstra.solve(grid, depot, grid.getNode(blocked), null);
+        double fullMs = (System.nanoTime() - t0) / 1e6;
+
+        Random rand = new Random(42);
+        List<Node> goals = new ArrayList<>();
+        AStarSearch astar = new AStarSearch(new EuclideanHeuristic());
+        while (goals.size() < GOALS) {
+            Node goal = grid.getNode(rand.nextInt(grid.nodeCount()));
+            if (!grid.isBlocked(grid.idOf(goal))
+                    && !Double.isInfinite(astar.solve(grid, depot, goal, null).getCost())) goals.add(goal);
+        }
+
+        double[] expected = new double[GOALS];
+        long expanded = 0;
+        t0 = System.nanoTime();
+        for (int i = 0; i < GOALS; i++) {
+            SearchResult r = astar.solve(grid, depot, goals.get(i), null);
+            expected[i] = r.getCost();
+            expanded += r.getNodesExpanded();
+        }
+        double astarMs = (System.nanoTime() - t0) / 1e6;
+
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        results.add(report(size, "Full Dijkstra (1 query)", fullMs, full.getNodesExpanded(), 0));
+        results.add(report(size, "A* per goal", astarMs, expanded, 0));
+        results.add(trees(size, "Dijkstra tree", new ShortestPathTrees(TREE_BUDGET), grid, depot, goals, expected));
+        results.add(trees(size, "A* tree", new ShortestPathTrees(new EuclideanHeuristic(), TREE_BUDGET),
+                grid, depot, goals, expected));
+        return results;
+    }
+
+    /** Times the batch of goals through resumable trees. */
+    private static BenchmarkHarness.Result trees(int size, String label, ShortestPathTrees trees,
+                                                 GridGraph grid, Node depot, List<Node> goals, double[] expected) {
+        long expanded = 0;
+        int mismatches = 0;
+        long t0 = System.nanoTime();
+        for (int i = 0; i < goals.size(); i++) {
+            SearchResult r = trees.solve(grid, depot, goals.get(i));
+            expanded += r.getNodesExpanded();
+            if (Math.abs(r.getCost() - expected[i]) > 1e-9 * expected[i]) mismatches++;
+        }
+        double ms = (System.nanoTime() - t0) / 1e6;
+        ShortestPathTrees.Stats stats = trees.stats();
+        System.out.printf("  %d of %d goals already settled, tree %.1f MB%n",
+                stats.settled(), stats.queries(), stats.bytes() / 1e6);
+        return report(size, label, ms, expanded, mismatches);
+    }
+
+    private static BenchmarkHarness.Result report(int size, String label, double ms, long expanded, int mismatches) {
+        System.out.printf("%-26s %9.1f ms %10d expanded%s%n", label, ms, expanded,
+                mismatches > 0 ? ", " + mismatches + " cost mismatches" : "");
+        return new BenchmarkHarness.Result(size + "x" + size + " - " + label, ms, 0, 0, 0,
+                (int) Math.min(Integer.MAX_VALUE, expanded), 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code one_to_many_results.csv}.
+     *
+     * @param args Optional grid sizes (defaults to 300 and 1000)
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{300, 1000};
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        for (int size : sizes) results.addAll(run(size));
+        BenchmarkUtils.saveResultsToCSV(results, "one_to_many_results.csv");
+    }
+}
@@ -0,0 +1,135 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.util.*;
+
+/**
+ * Measures how hash-distributed parallel A* scales with the number of worker threads.
+ * <p>
+ * For each grid size, sequential A* is run as a baseline, followed by {@link HashDistributedAStar}
+ * with 1, 2, 4, ... workers up to the number of available processors. Runtimes and speedups
+ * relative to sequential A* are printed and saved to {@code parallel_scaling_results.csv}. The
+ * HDA* worker threads are started before the timed runs, so the times exclude thread startup.
+ * <p>
+ * After the timed runs, a stress check repeats HDA* {@value #STRESS_RUNS} times per worker count
+ * on each grid and compares every cost with sequential A*; a mismatch means termination was
+ * detected while work was still pending.
+ * <p>
+ * Large grids need a correspondingly large heap (a 4000x4000 grid has 16M nodes).
+ */
+public class ParallelScalingBenchmark {
+
+    /** Number of HDA* runs per worker count in the stress check. */
+    private static final int STRESS_RUNS = 50;
+
+    /**
+     * Runs the scaling benchmark on grids of the given sizes.
+     *
+     * @param sizes      Grid sizes (nodes per side) to test
+     * @param maxWorkers Largest worker count to test
+     * @param repeats    Number of runs per configuration
+     * @return Benchmark results, one per configuration and grid size
+     */
+    public static List<BenchmarkHarness.Result> run(int[] sizes, int maxWorkers, int repeats) {
+        List<BenchmarkHarness.Result> allResults = new ArrayList<>();
+
+        for (int size : sizes) {
+            Graph g = GridGraphGenerator.generateGrid(size, 0.2, true, false, 42);
+            Node start = g.getNode("0,0");
+            Node goal = g.getNode((size - 1) + "," + (size - 1));
+
+            List<SearchAlgorithm> algorithms = new ArrayList<>();
+            List<String> labels = new ArrayList<>();
+            algorithms.add(new AStarSearch(new EuclideanHeuristic()));
+            labels.add("A* (sequential)");
+            List<HashDistributedAStar> parallel = new ArrayList<>();
+            for (int workers : workerCounts(maxWorkers)) {
+                HashDistributedAStar hda = new HashDistributedAStar(new EuclideanHeuristic(), workers);
+                hda.prestartWorkers();
+                parallel.add(hda);
+                algorithms.add(hda);
+                labels.add("HDA* (" + workers + (workers == 1 ? " worker)" : " workers)"));
+            }
+
+            System.out.println("\n=== " + size + "x" + size + " grid ===");
+            // warm up the JIT so the first configuration is not penalized
+            BenchmarkHarness.runBenchmarks(g, start, goal, algorithms, 1, true);
+            List<BenchmarkHarness.Result> runResults =
+                    BenchmarkHarness.runBenchmarks(g, start, goal, algorithms, repeats, true);
+
+            double baseline = runResults.get(0).meanTimeMs();
+            for (int i = 0; i < runResults.size(); i++) {
+                BenchmarkHarness.Result r = runResults.get(i);
+                allResults.add(new BenchmarkHarness.Result(
+                        size + "x" + size + " - " + labels.get(i),
+                        r.meanTimeMs(), r.stdTimeMs(),
+                        r.meanMemKB(), r.stdMemKB(),
+                        r.nodesExpanded(), r.nodesGenerated(),
+                        r.maxFrontier(), r.solutionDepth(), r.pathCost(),
+                        r.heuristicCalls()
+                ));
+                double speedup = r.meanTimeMs() > 0 ? baseline / r.meanTimeMs() : 0;
+                System.out.printf("%-18s %.2f ms (speedup %.2fx), expanded %d, cost %.3f%n",
+                        labels.get(i), r.meanTimeMs(), speedup, r.nodesExpanded(), r.pathCost());
+            }
+            parallel.forEach(HashDistributedAStar::close);
+            stressCheck(g, start, goal, runResults.get(0).pathCost(), maxWorkers);
+        }
+        return allResults;
+    }
+
+    /**
+     * Runs HDA* {@value #STRESS_RUNS} times per worker count and reports runs whose cost differs
+     * from the sequential A* cost.
+     *
+     * @param g            The grid
+     * @param start        The start node
+     * @param goal         The goal node
+     * @param expectedCost Cost found by sequential A*
+     * @param maxWorkers   Largest worker count to test
+     * @return Number of mismatching runs
+     */
+    static int stressCheck(Graph g, Node start, Node goal, double expectedCost, int maxWorkers) {
+        int mismatches = 0;
+        for (int workers : workerCounts(Math.max(4, maxWorkers))) {
+            int failed = 0;
+            try (HashDistributedAStar hda = new HashDistributedAStar(new EuclideanHeuristic(), workers)) {
+                for (int run = 0; run < STRESS_RUNS; run++) {
+                    double cost = hda.solve(g, start, goal, null).getCost();
+                    if (Math.abs(cost - expectedCost) > 1e-9 * Math.max(1.0, expectedCost)) failed++;
+                }
+            }
+            System.out.printf("stress %-2d workers: %d/%d runs with a cost other than %.3f%n",
+                    workers, failed, STRESS_RUNS, expectedCost);
+            mismatches += failed;
+        }
+        return mismatches;
+    }
+
+    /**
+     * Returns the powers of two below {@code maxWorkers}, followed by {@code maxWorkers} itself.
+     */
+    private static List<Integer> workerCounts(int maxWorkers) {
+        List<Integer> counts = new ArrayList<>();
+        for (int w = 1; w < maxWorkers; w *= 2) counts.add(w);
+        counts.add(maxWorkers);
+        return counts;
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code parallel_scaling_results.csv}.
+     *
+     * @param args Optional grid sizes (defaults to 1000 and 4000)
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1000, 4000};
+        int maxWorkers = Runtime.getRuntime().availableProcessors();
+        List<BenchmarkHarness.Result> results = run(sizes, maxWorkers, 3);
+        BenchmarkUtils.saveResultsToCSV(results, "parallel_scaling_results.csv");
+    }
+}
@@ -0,0 +1,111 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Measures {@link SearchResultCache} on a skewed stream of repeated A* queries.
+ * <p>
+ * Queries are drawn from a fixed pool of random start/goal pairs with Zipf-distributed
+ * popularity (exponent {@value #ZIPF_EXPONENT}), so a few pairs are asked very often and most
+ * rarely, and the cache holds a tenth of the pool. The stream runs once without a cache and once
+ * through the cache; the benchmark reports the mean time per query, the hit rate and the
+ * evictions, and checks that every cached answer has the cost of the uncached one. Finally an edge
+ * is added to the graph to show that the next queries miss. Results are printed and saved to
+ * {@code query_cache_results.csv}.
+ */
+public class QueryCacheBenchmark {
+
+    private static final double ZIPF_EXPONENT = 1.0;
+    private static final int PAIRS = 2_000, QUERIES = 20_000, CAPACITY = PAIRS / 10;
+
+    /**
+     * Runs the comparison on one graph.
+     *
+     * @param label Dataset label
+     * @param graph The graph to query
+     * @return Uncached and cached query results
+     */
+    public static List<BenchmarkHarness.Result> run(String label, Graph graph) {
+        System.out.println("\n=== " + label + " (" + graph.nodeCount() + " nodes) ===");
+        Random rand = new Random(42);
+        int n = graph.nodeCount();
+        int[][] pairs = new int[PAIRS][];
+        for (int i = 0; i < PAIRS; i++) pairs[i] = new int[]{rand.nextInt(n), rand.nextInt(n)};
+        int[] stream = zipfStream(rand);
+
+        AStarSearch astar = new AStarSearch(new EuclideanHeuristic());
+        double[] costs = new double[PAIRS];
+        long t0 = System.nanoTime();
+        for (int q : stream) {
+            costs[q] = astar.solve(graph, graph.getNode(pairs[q][0]), graph.getNode(pairs[q][1]), null).getCost();
+        }
+        double uncachedMs = (System.nanoTime() - t0) / 1e6 / QUERIES;
+
+        SearchResultCache cache = SearchResultCache.ofSize(CAPACITY);
+        int mismatches = 0;
+        t0 = System.nanoTime();
+        for (int q : stream) {
+            double cost = cache.solve(astar, graph, graph.getNode(pairs[q][0]), graph.getNode(pairs[q][1])).getCost();
+            if (Double.compare(cost, costs[q]) != 0) mismatches++;
+        }
+        double cachedMs = (System.nanoTime() - t0) / 1e6 / QUERIES;
+        SearchResultCache.Stats stats = cache.stats();
+
+        System.out.printf("no cache   %8.4f ms/query%n", uncachedMs);
+        System.out.printf("cache      %8.4f ms/query  hit rate %.1f%%, %d evictions, %d entries, %d mismatches%n",
+                cachedMs, 100 * stats.hitRate(), stats.evictions(), stats.entries(), mismatches);
+
+        // a mutation makes the next lookup of a popular pair miss and drops the old entries
+        Node a = graph.getNode(pairs[0][0]), b = graph.getNode(pairs[0][1]);
+        graph.addEdge(a, b, Double.MAX_VALUE);
+        cache.solve(astar, graph, a, b);
+        SearchResultCache.Stats after = cache.stats();
+        System.out.printf("after addEdge: %d misses (+%d), %d invalidated%n",
+                after.misses(), after.misses() - stats.misses(), after.invalidations());
+
+        return List.of(
+                new BenchmarkHarness.Result(label + " - no cache", uncachedMs, 0, 0, 0, QUERIES, 0, 0, 0, 0, 0),
+                new BenchmarkHarness.Result(label + " - W-TinyLFU cache", cachedMs, 0, 0, 0,
+                        (int) stats.misses(), (int) stats.hits(), stats.entries(), 0, stats.hitRate(), 0));
+    }
+
+    /** Draws query indices with Zipf-distributed popularity; index 0 is the most popular. */
+    private static int[] zipfStream(Random rand) {
+        double[] cumulative = new double[PAIRS];
+        double sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += 1.0 / Math.pow(i + 1, ZIPF_EXPONENT);
+            cumulative[i] = sum;
+        }
+        int[] stream = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            int index = Arrays.binarySearch(cumulative, rand.nextDouble() * sum);
+            stream[i] = Math.min(PAIRS - 1, index < 0 ? -index - 1 : index);
+        }
+        return stream;
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code query_cache_results.csv}. The hit rate
+     * is stored in the path-cost column, the misses and hits in the expanded and generated columns.
+     *
+     * @param args Unused
+     * @throws IOException If a dataset cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        Path metro = Path.of("src/main/resources/KC_Metro_100_Cities___Nodes.csv");
+        if (Files.exists(metro)) {
+            results.addAll(run("KC Metro", GraphLoaderSet2.load(metro.toString())));
+        }
+        results.addAll(run("200x200 grid", GridGraphGenerator.generateGrid(200, 0.2, true, false, 42)));
+        BenchmarkUtils.saveResultsToCSV(results, "query_cache_results.csv");
+    }
+}
@@ -0,0 +1,100 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+
+import java.util.*;
+
+/**
+ * Compares {@link DirectionOptimizingBFS} with the {@link BFS} search algorithm on hop-count
+ * queries over large unweighted graphs.
+ * <p>
+ * Both answer the same random start/goal pairs on the graph's CSR snapshot; the BFS hop count is
+ * the length of its path. The first DO-BFS query also builds the transposed snapshot used by
+ * bottom-up levels, which is reported separately. Grids have a high diameter and small levels, so
+ * DO-BFS mostly runs top-down there; on low-diameter random graphs the frontier quickly covers a
+ * large share of the edges and the bottom-up levels skip most edge checks. Mismatching hop counts
+ * are reported; results are printed and saved to {@code reachability_results.csv}.
+ */
+public class ReachabilityBenchmark {
+
+    /**
+     * Runs the comparison on one graph.
+     *
+     * @param name    Label of the graph in the results
+     * @param graph   The graph to search
+     * @param queries Number of random start/goal pairs
+     * @return Benchmark results for BFS and DO-BFS
+     */
+    public static List<BenchmarkHarness.Result> run(String name, Graph graph, int queries) {
+        CsrGraph csr = graph.freeze();
+        System.out.println("\n=== " + name + " (" + csr.nodeCount() + " nodes, " + csr.edgeCount() + " edges) ===");
+
+        Random rand = new Random(42);
+        int[][] pairs = new int[queries][];
+        for (int i = 0; i < queries; i++) {
+            pairs[i] = new int[]{rand.nextInt(csr.nodeCount()), rand.nextInt(csr.nodeCount())};
+        }
+
+        long t0 = System.nanoTime();
+        csr.reverse();
+        double transposeMs = (System.nanoTime() - t0) / 1e6;
+
+        BFS bfs = new BFS();
+        int[] expected = new int[queries];
+        // warm up the JIT so neither side is penalized by the first queries
+        for (int i = 0; i < Math.min(queries, 5); i++) {
+            bfs.solve(csr, csr.getNode(pairs[i][0]), csr.getNode(pairs[i][1]), null);
+            DirectionOptimizingBFS.hopCount(csr, pairs[i][0], pairs[i][1], false);
+        }
+
+        double bfsMs = 0;
+        long totalHops = 0;
+        for (int i = 0; i < queries; i++) {
+            t0 = System.nanoTime();
+            SearchResult r = bfs.solve(csr, csr.getNode(pairs[i][0]), csr.getNode(pairs[i][1]), null);
+            bfsMs += (System.nanoTime() - t0) / 1e6;
+            expected[i] = r.getPath() == null ? -1 : r.getPath().size() - 1;
+            if (expected[i] > 0) totalHops += expected[i];
+        }
+
+        double doMs = 0;
+        int mismatches = 0;
+        for (int i = 0; i < queries; i++) {
+            t0 = System.nanoTime();
+            int hops = DirectionOptimizingBFS.hopCount(csr, pairs[i][0], pairs[i][1], false);
+            doMs += (System.nanoTime() - t0) / 1e6;
+            if (hops != expected[i]) mismatches++;
+        }
+
+        System.out.printf("%-8s %.3f ms/query, %.1f hops/query%n", "BFS", bfsMs / queries,
+                (double) totalHops / queries);
+        System.out.printf("%-8s %.3f ms/query (%.2fx BFS), transpose %.1f ms once%s%n", "DO-BFS",
+                doMs / queries, doMs > 0 ? bfsMs / doMs : 0.0, transposeMs,
+                mismatches > 0 ? ", " + mismatches + " hop count mismatches" : "");
+
+        return List.of(
+                new BenchmarkHarness.Result(name + " - BFS", bfsMs / queries, 0, 0, 0,
+                        0, 0, 0, (int) (totalHops / queries), 0, 0),
+                new BenchmarkHarness.Result(name + " - DO-BFS", doMs / queries, 0, 0, 0,
+                        0, 0, 0, (int) (totalHops / queries), 0, 0));
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code reachability_results.csv}.
+     *
+     * @param args Optional grid sizes (defaults to 500 and 1000)
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{500, 1000};
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        for (int size : sizes) {
+            Graph g = GridGraphGenerator.generateGrid(size, 0.2, true, false, 42);
+            results.addAll(run(size + "x" + size + " grid", g, 20));
+        }
+        results.addAll(run("Random graph", RandomGraphGenerator.generate(500_000, 8, 1, 10, 42), 20));
+        BenchmarkUtils.saveResultsToCSV(results, "reachability_results.csv");
+    }
+}
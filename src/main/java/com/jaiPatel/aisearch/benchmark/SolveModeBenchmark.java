@@ -0,0 +1,89 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+
+import java.util.*;
+
+/**
+ * Compares the stepwise {@code initialize()}/{@code step()} execution path with the
+ * non-instrumented {@code solve()} path for every algorithm.
+ * <p>
+ * Both paths run on the same grid instance; the speedup of {@code solve()} over stepping is
+ * printed per algorithm and grid size.
+ */
+public class SolveModeBenchmark {
+
+    /**
+     * Runs the comparison on grids of the given sizes.
+     *
+     * @param sizes   Grid sizes (nodes per side) to test
+     * @param repeats Number of runs per algorithm and mode
+     * @return Benchmark results, one per algorithm, mode and grid size
+     */
+    public static List<BenchmarkHarness.Result> run(int[] sizes, int repeats) {
+        List<BenchmarkHarness.Result> allResults = new ArrayList<>();
+
+        for (int size : sizes) {
+            Graph g = GridGraphGenerator.generateGrid(size, 0.2, true, true, 7);
+            Node start = g.getNode("0,0");
+            Node goal = g.getNode((size - 1) + "," + (size - 1));
+
+            List<SearchAlgorithm> algorithms = List.of(
+                    new BFS(),
+                    new DFS(),
+                    new IDDFS(),
+                    new BestFirstSearch(new EuclideanHeuristic()),
+                    new AStarSearch(new EuclideanHeuristic())
+            );
+
+            System.out.println("\n=== " + size + "x" + size + " grid ===");
+            // warm up both paths so neither is penalized by the JIT
+            BenchmarkHarness.runBenchmarks(g, start, goal, algorithms, 3, false);
+            BenchmarkHarness.runBenchmarks(g, start, goal, algorithms, 3, true);
+
+            List<BenchmarkHarness.Result> stepped =
+                    BenchmarkHarness.runBenchmarks(g, start, goal, algorithms, repeats, false);
+            List<BenchmarkHarness.Result> solved =
+                    BenchmarkHarness.runBenchmarks(g, start, goal, algorithms, repeats, true);
+
+            for (int i = 0; i < algorithms.size(); i++) {
+                BenchmarkHarness.Result s = stepped.get(i);
+                BenchmarkHarness.Result b = solved.get(i);
+                allResults.add(label(s, size + "x" + size + " - " + s.algorithm() + " (step)"));
+                allResults.add(label(b, size + "x" + size + " - " + b.algorithm() + " (solve)"));
+
+                double speedup = b.meanTimeMs() > 0 ? s.meanTimeMs() / b.meanTimeMs() : 0;
+                System.out.printf("%-16s step %.2f ms, solve %.2f ms (speedup %.2fx)%n",
+                        s.algorithm(), s.meanTimeMs(), b.meanTimeMs(), speedup);
+            }
+        }
+        return allResults;
+    }
+
+    /**
+     * Returns a copy of a result with a new label.
+     */
+    private static BenchmarkHarness.Result label(BenchmarkHarness.Result r, String label) {
+        return new BenchmarkHarness.Result(label,
+                r.meanTimeMs(), r.stdTimeMs(),
+                r.meanMemKB(), r.stdMemKB(),
+                r.nodesExpanded(), r.nodesGenerated(),
+                r.maxFrontier(), r.solutionDepth(), r.pathCost(),
+                r.heuristicCalls());
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code solve_mode_results.csv}.
+     *
+     * @param args Optional grid sizes (defaults to 50, 100 and 200)
+     */
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{50, 100, 200};
+        List<BenchmarkHarness.Result> results = run(sizes, 10);
+        BenchmarkUtils.saveResultsToCSV(results, "solve_mode_results.csv");
+    }
+}
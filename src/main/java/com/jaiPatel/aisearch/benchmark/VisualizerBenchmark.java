@@ -0,0 +1,159 @@
+package com.jaiPatel.aisearch.benchmark;
+
+import com.jaiPatel.aisearch.UI.GraphStreamVisualizer;
+import com.jaiPatel.aisearch.algorithms.*;
+import com.jaiPatel.aisearch.graph.*;
+import com.jaiPatel.aisearch.heuristics.*;
+import org.graphstream.graph.implementations.SingleGraph;
+
+import java.util.*;
+
+/**
+ * Measures the time per animation frame of restyling the GraphStream graph while a search runs.
+ * <p>
+ * A corner-to-corner Dijkstra search is stepped on a grid of about 100k nodes and every
+ * {@value #STEPS_PER_FRAME} steps form one frame. The incremental styling sets the state of the
+ * nodes each step touched by int id in {@link GraphStreamVisualizer} and flushes once per frame.
+ * The full styling does what the visualizer used to do on every update: it strips the class of
+ * every node and edge and tags all explored and frontier nodes again, looked up by name. The full
+ * styling is only timed for {@value #SAMPLE_FRAMES} frames at each checkpoint, since running it on
+ * every frame is quadratic. No viewer is attached, so the times cover the graph updates only.
+ * Results are printed and saved to {@code visualizer_results.csv}.
+ */
+public class VisualizerBenchmark {
+
+    private static final int STEPS_PER_FRAME = 64;
+    private static final int SAMPLE_FRAMES = 10;
+    private static final int[] CHECKPOINTS = {1_000, 10_000, 50_000, 95_000};
+
+    /** Styles a mirror of the graph the way the old visualizer did, by name and from scratch. */
+    private static final class FullStyling {
+        final SingleGraph gs = new SingleGraph("full");
+
+        FullStyling(Graph graph) {
+            for (Node n : graph.getNodes()) gs.addNode(n.getName());
+            for (Node from : graph.getNodes()) {
+                for (Edge e : graph.getEdgesFrom(from)) {
+                    String n1 = from.getName(), n2 = e.getTo().getName();
+                    String id = (n1.compareTo(n2) < 0) ? n1 + "-" + n2 : n2 + "-" + n1;
+                    if (gs.getEdge(id) == null) gs.addEdge(id, n1, n2, false);
+                }
+            }
+        }
+
+        void frame(Collection<Node> frontier, Collection<Node> visited, Node current, Node goal) {
+            for (org.graphstream.graph.Node gsNode : gs) gsNode.removeAttribute("ui.class");
+            for (org.graphstream.graph.Edge gsEdge : gs.edges().toArray(org.graphstream.graph.Edge[]::new))
+                gsEdge.removeAttribute("ui.class");
+            for (Node n : visited) gs.getNode(n.getName()).setAttribute("ui.class", "visited");
+            for (Node n : frontier) gs.getNode(n.getName()).setAttribute("ui.class", "frontier");
+            gs.getNode(current.getName()).setAttribute("ui.class", "current");
+            gs.getNode(goal.getName()).setAttribute("ui.class", "goal");
+        }
+    }
+
+    /** Steps the search into the visualizer and times the frames. */
+    private static final class FrameObserver implements SearchObserver {
+        final GraphStreamVisualizer visualizer;
+        final FullStyling full;
+        final Node goal;
+        final double[] incrementalMs = new double[CHECKPOINTS.length];
+        final double[] fullMs = new double[CHECKPOINTS.length];
+        final int[] incrementalFrames = new int[CHECKPOINTS.length];
+        final int[] fullFrames = new int[CHECKPOINTS.length];
+        final int[] restyled = new int[CHECKPOINTS.length];
+        int steps, lastCurrent = -1;
+        long frameNanos;
+
+        FrameObserver(GraphStreamVisualizer visualizer, FullStyling full, Node goal) {
+            this.visualizer = visualizer;
+            this.full = full;
+            this.goal = goal;
+        }
+
+        @Override
+        public void onStep(SearchStep step) {
+            long t0 = System.nanoTime();
+            if (lastCurrent >= 0) visualizer.setNodeState(lastCurrent, GraphStreamVisualizer.VISITED);
+            for (int id : step.addedIds()) visualizer.setNodeState(id, GraphStreamVisualizer.FRONTIER);
+            if (step.expandedId() >= 0) {
+                lastCurrent = step.expandedId();
+                visualizer.setNodeState(lastCurrent, GraphStreamVisualizer.CURRENT);
+            }
+            frameNanos += System.nanoTime() - t0;
+            if (++steps % STEPS_PER_FRAME != 0) return;
+
+            t0 = System.nanoTime();
+            visualizer.setNodeState(goal, GraphStreamVisualizer.GOAL);
+            int changed = visualizer.flush();
+            frameNanos += System.nanoTime() - t0;
+
+            int bucket = bucket(step.explored().size());
+            if (bucket >= 0 && incrementalFrames[bucket] < SAMPLE_FRAMES) {
+                incrementalMs[bucket] += frameNanos / 1e6;
+                restyled[bucket] += changed;
+                incrementalFrames[bucket]++;
+                t0 = System.nanoTime();
+                full.frame(step.frontier(), step.explored(), step.expanded(), goal);
+                fullMs[bucket] += (System.nanoTime() - t0) / 1e6;
+                fullFrames[bucket]++;
+            }
+            frameNanos = 0;
+        }
+
+        /** Returns the checkpoint an explored set size has reached, or -1 before the first one. */
+        private static int bucket(int explored) {
+            int bucket = -1;
+            for (int i = 0; i < CHECKPOINTS.length; i++) {
+                if (explored >= CHECKPOINTS[i]) bucket = i;
+            }
+            return bucket;
+        }
+    }
+
+    /**
+     * Runs the benchmark on one grid.
+     *
+     * @param size Grid size (nodes per side)
+     * @return One incremental and one full result per checkpoint
+     */
+    public static List<BenchmarkHarness.Result> run(int size) {
+        Graph graph = GridGraphGenerator.generateGrid(size, 0.0, false, false, 42);
+        Node start = graph.getNode("0,0"), goal = graph.getNode((size - 1) + "," + (size - 1));
+        System.out.println("\n=== " + size + "x" + size + " grid (" + graph.nodeCount() + " nodes), "
+                + STEPS_PER_FRAME + " steps/frame ===");
+
+        GraphStreamVisualizer visualizer = new GraphStreamVisualizer(graph);
+        FrameObserver observer = new FrameObserver(visualizer, new FullStyling(graph), goal);
+        AStarSearch dijkstra = new AStarSearch(new ZeroHeuristic());
+        dijkstra.initialize(graph, start, goal, observer);
+        while (dijkstra.step()) {
+            // frames are timed by the observer
+        }
+
+        List<BenchmarkHarness.Result> results = new ArrayList<>();
+        for (int i = 0; i < CHECKPOINTS.length; i++) {
+            if (observer.incrementalFrames[i] == 0) continue;
+            double incremental = observer.incrementalMs[i] / observer.incrementalFrames[i];
+            double fullFrame = observer.fullMs[i] / observer.fullFrames[i];
+            System.out.printf("explored >= %6d: incremental %7.3f ms/frame (%d nodes restyled), full %8.2f ms/frame%n",
+                    CHECKPOINTS[i], incremental, observer.restyled[i] / observer.incrementalFrames[i], fullFrame);
+            String label = size + "x" + size + " explored " + CHECKPOINTS[i];
+            results.add(new BenchmarkHarness.Result(label + " - incremental", incremental, 0, 0, 0,
+                    CHECKPOINTS[i], 0, 0, 0, 0, 0));
+            results.add(new BenchmarkHarness.Result(label + " - full", fullFrame, 0, 0, 0,
+                    CHECKPOINTS[i], 0, 0, 0, 0, 0));
+        }
+        return results;
+    }
+
+    /**
+     * Runs the benchmark and writes the results to {@code visualizer_results.csv}.
+     *
+     * @param args Optional grid size (defaults to 316, about 100k nodes)
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 316;
+        BenchmarkUtils.saveResultsToCSV(run(size), "visualizer_results.csv");
+    }
+}
@@ -0,0 +1,357 @@
+package com.jaiPatel.aisearch.graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable compressed-sparse-row (CSR) snapshot of a {@link Graph}.
+ * <p>
+ * Every node keeps the dense integer id in {@code [0, nodeCount())} it has in the source graph.
+ * The outgoing edges of node {@code u} occupy the index range {@code [edgeStart(u), edgeEnd(u))}
+ * of the flat {@code targets} and {@code costs} arrays, so a neighbor walk is a linear scan over
+ * two primitive arrays instead of a hash lookup followed by a list of {@link Edge} objects.
+ * Coordinates and the grid {@code blocked} flag are copied into primitive arrays as well.
+ * <p>
+ * Instances are created with {@link Graph#freeze()}, or built directly from edge arrays by
+ * {@link StreamingGraphLoader}, and never change afterwards.
+ */
+public final class CsrGraph implements GraphView {
+
+    /** Nodes indexed by their dense id. */
+    private final Node[] nodes;
+    /** Reverse mapping from node to dense id. */
+    private final Map<Node, Integer> ids;
+    /** Edge range start per node; {@code offsets[n]} equals the edge count. */
+    private final int[] offsets;
+    /** Target node id of every edge. */
+    private final int[] targets;
+    /** Cost of every edge. */
+    private final double[] costs;
+    /** X coordinate per node id. */
+    private final double[] xs;
+    /** Y coordinate per node id. */
+    private final double[] ys;
+    /** Bitset of nodes carrying {@code blocked=true}. */
+    private final long[] blocked;
+    /** Largest out-degree of any node. */
+    private final int maxDegree;
+
+    /** Lazily built transpose, see {@link #reverse()}. */
+    private volatile CsrGraph reverse;
+
+    /**
+     * Builds a snapshot of the given graph.
+     *
+     * @param graph The graph to copy
+     */
+    CsrGraph(Graph graph) {
+        int n = graph.nodeCount();
+
+        nodes = new Node[n];
+        for (int id = 0; id < n; id++) nodes[id] = graph.getNode(id);
+        ids = new HashMap<>(n * 2);
+        xs = new double[n];
+        ys = new double[n];
+        blocked = new long[(n + 63) >>> 6];
+
+        int edgeCount = 0;
+        for (int id = 0; id < n; id++) {
+            Node node = nodes[id];
+            ids.put(node, id);
+            xs[id] = node.getX();
+            ys[id] = node.getY();
+            if (Boolean.TRUE.equals(node.getAttribute("blocked"))) {
+                blocked[id >>> 6] |= 1L << id;
+            }
+            edgeCount += graph.getNeighbors(node).size();
+        }
+
+        offsets = new int[n + 1];
+        targets = new int[edgeCount];
+        costs = new double[edgeCount];
+
+        int e = 0;
+        for (int id = 0; id < n; id++) {
+            offsets[id] = e;
+            List<Edge> edges = graph.getNeighbors(nodes[id]);
+            for (Edge edge : edges) {
+                targets[e] = ids.get(edge.getTo());
+                costs[e] = edge.getCost();
+                e++;
+            }
+        }
+        offsets[n] = e;
+        maxDegree = computeMaxDegree();
+    }
+
+    /**
+     * Builds a snapshot directly from CSR arrays, without a source {@link Graph}. The arrays are
+     * used as they are, not copied. Nodes with {@code blocked=true} are marked as obstacles.
+     *
+     * @param nodes   Nodes indexed by id; names must be distinct
+     * @param offsets Edge range start per node, {@code nodes.length + 1} entries
+     * @param targets Target node id of every edge
+     * @param costs   Cost of every edge
+     */
+    CsrGraph(Node[] nodes, int[] offsets, int[] targets, double[] costs) {
+        int n = nodes.length;
+        this.nodes = nodes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.costs = costs;
+        ids = new HashMap<>(n * 2);
+        xs = new double[n];
+        ys = new double[n];
+        blocked = new long[(n + 63) >>> 6];
+        for (int id = 0; id < n; id++) {
+            Node node = nodes[id];
+            ids.put(node, id);
+            xs[id] = node.getX();
+            ys[id] = node.getY();
+            if (Boolean.TRUE.equals(node.getAttribute("blocked"))) {
+                blocked[id >>> 6] |= 1L << id;
+            }
+        }
+        maxDegree = computeMaxDegree();
+    }
+
+    /**
+     * Builds the transpose of the given snapshot. Node ids, coordinates and blocked flags are
+     * shared with {@code forward}; only the edge arrays are rebuilt with every edge reversed.
+     *
+     * @param forward The snapshot to transpose
+     */
+    private CsrGraph(CsrGraph forward) {
+        int n = forward.nodeCount();
+        nodes = forward.nodes;
+        ids = forward.ids;
+        xs = forward.xs;
+        ys = forward.ys;
+        blocked = forward.blocked;
+        reverse = forward;
+
+        // counting sort of the edges by target
+        offsets = new int[n + 1];
+        for (int target : forward.targets) offsets[target + 1]++;
+        for (int id = 0; id < n; id++) offsets[id + 1] += offsets[id];
+
+        targets = new int[forward.targets.length];
+        costs = new double[forward.costs.length];
+        int[] next = Arrays.copyOf(offsets, n);
+        for (int from = 0; from < n; from++) {
+            for (int e = forward.offsets[from], end = forward.offsets[from + 1]; e < end; e++) {
+                int slot = next[forward.targets[e]]++;
+                targets[slot] = from;
+                costs[slot] = forward.costs[e];
+            }
+        }
+        maxDegree = computeMaxDegree();
+    }
+
+    private int computeMaxDegree() {
+        int max = 0;
+        for (int id = 0; id < nodes.length; id++) max = Math.max(max, degree(id));
+        return max;
+    }
+
+    /**
+     * Returns the transpose of this snapshot: the same nodes and ids, with every edge
+     * {@code u -> v} replaced by {@code v -> u} at the same cost. Used by backward searches.
+     * The transpose is built on first use and cached.
+     *
+     * @return The reversed snapshot
+     */
+    @Override
+    public CsrGraph reverse() {
+        CsrGraph r = reverse;
+        if (r == null) {
+            r = new CsrGraph(this);
+            reverse = r;
+        }
+        return r;
+    }
+
+    /**
+     * Returns the number of nodes in the snapshot.
+     * @return Node count
+     */
+    @Override
+    public int nodeCount() {
+        return nodes.length;
+    }
+
+    /**
+     * Returns the number of directed edges in the snapshot.
+     * @return Edge count
+     */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Returns the node with the given dense id.
+     *
+     * @param id The node id
+     * @return The node
+     */
+    @Override
+    public Node getNode(int id) {
+        return nodes[id];
+    }
+
+    /**
+     * Returns the dense id of the given node.
+     *
+     * @param node The node to look up
+     * @return The node id, or -1 if the node is not part of this snapshot
+     */
+    @Override
+    public int idOf(Node node) {
+        Integer id = ids.get(node);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the index of the first outgoing edge of a node.
+     *
+     * @param id The node id
+     * @return Inclusive start of the node's edge range
+     */
+    public int edgeStart(int id) {
+        return offsets[id];
+    }
+
+    /**
+     * Returns the index one past the last outgoing edge of a node.
+     *
+     * @param id The node id
+     * @return Exclusive end of the node's edge range
+     */
+    public int edgeEnd(int id) {
+        return offsets[id + 1];
+    }
+
+    /**
+     * Returns the out-degree of a node.
+     *
+     * @param id The node id
+     * @return Number of outgoing edges
+     */
+    public int degree(int id) {
+        return offsets[id + 1] - offsets[id];
+    }
+
+    @Override
+    public int maxDegree() {
+        return maxDegree;
+    }
+
+    @Override
+    public int neighbors(int id, int[] targets, double[] costs) {
+        int start = offsets[id], degree = offsets[id + 1] - start;
+        System.arraycopy(this.targets, start, targets, 0, degree);
+        System.arraycopy(this.costs, start, costs, 0, degree);
+        return degree;
+    }
+
+    /**
+     * Returns the target node id of an edge.
+     *
+     * @param edge The edge index
+     * @return Target node id
+     */
+    public int edgeTarget(int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * Returns the cost of an edge.
+     *
+     * @param edge The edge index
+     * @return Edge cost
+     */
+    public double edgeCost(int edge) {
+        return costs[edge];
+    }
+
+    /**
+     * Returns the cost of the cheapest edge from one node to another.
+     *
+     * @param from The source node id
+     * @param to   The target node id
+     * @return The edge cost, or {@link Double#POSITIVE_INFINITY} if no such edge exists
+     */
+    public double edgeCost(int from, int to) {
+        double best = Double.POSITIVE_INFINITY;
+        for (int e = offsets[from], end = offsets[from + 1]; e < end; e++) {
+            if (targets[e] == to && costs[e] < best) best = costs[e];
+        }
+        return best;
+    }
+
+    /**
+     * Returns the x-coordinate of a node.
+     *
+     * @param id The node id
+     * @return The x-coordinate
+     */
+    @Override
+    public double getX(int id) {
+        return xs[id];
+    }
+
+    /**
+     * Returns the y-coordinate of a node.
+     *
+     * @param id The node id
+     * @return The y-coordinate
+     */
+    @Override
+    public double getY(int id) {
+        return ys[id];
+    }
+
+    /**
+     * Checks whether a node was marked as blocked when the snapshot was taken.
+     *
+     * @param id The node id
+     * @return True if the node carries {@code blocked=true}
+     */
+    @Override
+    public boolean isBlocked(int id) {
+        return (blocked[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Hashes the node names and edges of this snapshot. Structures precomputed for a graph and
+     * stored on disk keep the fingerprint, so they are never applied to a graph whose ids or
+     * edges differ from the one they were built for.
+     *
+     * @return Fingerprint of the node order and edge list
+     */
+    @Override
+    public long fingerprint() {
+        long h = 1125899906842597L;
+        for (int id = 0; id < nodes.length; id++) {
+            h = 31 * h + nodes[id].getName().hashCode();
+            for (int e = offsets[id], end = offsets[id + 1]; e < end; e++) {
+                h = 31 * h + targets[e];
+                h = 31 * h + Double.doubleToLongBits(costs[e]);
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Returns the approximate heap footprint of the primitive arrays in this snapshot.
+     * Node objects and the id map are shared with the source graph and not counted.
+     *
+     * @return Approximate size in bytes
+     */
+    public long arrayBytes() {
+        return 4L * offsets.length + 4L * targets.length + 8L * costs.length
+                + 8L * xs.length + 8L * ys.length + 8L * blocked.length;
+    }
+}
@@ -0,0 +1,338 @@
+package com.jaiPatel.aisearch.graph;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Level-synchronous, direction-optimizing breadth-first search over a {@link CsrGraph}, for
+ * reachability and hop-count queries on large unweighted graphs.
+ * <p>
+ * Each level is expanded either top-down (every frontier node scans its out-edges and claims
+ * unvisited neighbors) or bottom-up (every unvisited node scans its in-edges until it finds a
+ * parent in the frontier). Following Beamer et al., the search switches to bottom-up once the
+ * frontier's out-edges exceed {@code 1/ALPHA} of the still unexplored edges, and back to top-down
+ * once the frontier stops growing and holds fewer than {@code 1/BETA} of the nodes.
+ * <p>
+ * The visited set is a {@code long[]} bitset. Top-down levels keep the frontier as a dense id queue
+ * and claim neighbors with an atomic bitwise OR; bottom-up levels keep the frontier as a bitset and
+ * partition the visited words between tasks, so no atomics are needed. Both directions split
+ * their work with fork-join across the common pool; small graphs run on the calling thread.
+ */
+public final class DirectionOptimizingBFS {
+
+    /** Top-down to bottom-up switch threshold on frontier out-edges versus unexplored edges. */
+    private static final int ALPHA = 14;
+    /** Bottom-up to top-down switch threshold on frontier size versus node count. */
+    private static final int BETA = 24;
+
+    /** Frontier entries processed per top-down fork-join leaf. */
+    private static final int TOP_DOWN_GRAIN = 2048;
+    /** Bitset words (64 nodes each) processed per bottom-up fork-join leaf. */
+    private static final int BOTTOM_UP_GRAIN = 128;
+
+    /** Atomic access to bitset words. */
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final CsrGraph graph;
+    private final CsrGraph reverse;
+    private final int nodeCount;
+
+    /** Visited set; blocked nodes are pre-marked when blocked nodes are skipped. */
+    private final long[] visited;
+    /** Frontier and next frontier as bitsets, used by bottom-up levels. */
+    private long[] frontierBits, nextBits;
+    /** Frontier and next frontier as id queues, used by top-down levels. */
+    private int[] queue, nextQueue;
+    private int queueSize;
+    private final AtomicInteger nextQueueSize = new AtomicInteger();
+
+    /** Hop count per node, or null when only reachability is needed. */
+    private final int[] levels;
+    /** Level currently being discovered. */
+    private int depth;
+
+    /** Nodes discovered in the current level and the sum of their out-degrees. */
+    private final LongAdder discovered = new LongAdder();
+    private final LongAdder discoveredEdges = new LongAdder();
+
+    private DirectionOptimizingBFS(CsrGraph graph, int source, boolean skipBlocked, boolean trackLevels) {
+        this.graph = graph;
+        this.reverse = graph.reverse();
+        this.nodeCount = graph.nodeCount();
+        int words = (nodeCount + 63) >>> 6;
+
+        visited = new long[words];
+        if (skipBlocked) {
+            for (int id = 0; id < nodeCount; id++) {
+                if (graph.isBlocked(id)) visited[id >>> 6] |= 1L << id;
+            }
+        }
+        visited[source >>> 6] |= 1L << source;
+
+        queue = new int[nodeCount];
+        nextQueue = new int[nodeCount];
+        queue[0] = source;
+        queueSize = 1;
+
+        if (trackLevels) {
+            levels = new int[nodeCount];
+            Arrays.fill(levels, -1);
+            levels[source] = 0;
+        } else {
+            levels = null;
+        }
+    }
+
+    /**
+     * Computes the hop count from a source node to every node.
+     *
+     * @param graph       The graph to search
+     * @param source      The source node id
+     * @param skipBlocked True to treat nodes marked {@code blocked} as impassable
+     * @return Hop count per node id, -1 for unreachable nodes
+     */
+    public static int[] levels(CsrGraph graph, int source, boolean skipBlocked) {
+        DirectionOptimizingBFS bfs = new DirectionOptimizingBFS(graph, source, skipBlocked, true);
+        bfs.run(-1);
+        return bfs.levels;
+    }
+
+    /**
+     * Computes the minimum number of edges on a path from source to target.
+     * The search stops at the level that reaches the target.
+     *
+     * @param graph       The graph to search
+     * @param source      The source node id
+     * @param target      The target node id
+     * @param skipBlocked True to treat nodes marked {@code blocked} as impassable
+     * @return The hop count, or -1 if the target is unreachable
+     */
+    public static int hopCount(CsrGraph graph, int source, int target, boolean skipBlocked) {
+        if (source == target) return 0;
+        if (skipBlocked && graph.isBlocked(target)) return -1;
+        return new DirectionOptimizingBFS(graph, source, skipBlocked, false).run(target);
+    }
+
+    /**
+     * Checks whether target is reachable from source.
+     *
+     * @param graph       The graph to search
+     * @param source      The source node id
+     * @param target      The target node id
+     * @param skipBlocked True to treat nodes marked {@code blocked} as impassable
+     * @return True if a path exists
+     */
+    public static boolean isReachable(CsrGraph graph, int source, int target, boolean skipBlocked) {
+        return hopCount(graph, source, target, skipBlocked) >= 0;
+    }
+
+    /**
+     * Runs the level loop until the frontier is exhausted or the target is discovered.
+     * <p>
+     * Both directions subtract the frontier's out-edges from the unexplored edges before expanding
+     * it and report the out-edges of the nodes they discover, so the alpha test always compares
+     * the current frontier with the edges not yet explored, as in Beamer et al.
+     *
+     * @param target Node id to stop at, or -1 to visit every reachable node
+     * @return Level of the target, or -1 if it was not reached
+     */
+    private int run(int target) {
+        long unexploredEdges = graph.edgeCount();
+        long frontierEdges = graph.degree(queue[0]);
+
+        while (queueSize > 0) {
+            if (frontierEdges > unexploredEdges / ALPHA) {
+                queueToBits();
+                long awake = queueSize;
+                long previous;
+                do {
+                    previous = awake;
+                    unexploredEdges -= frontierEdges;
+                    awake = bottomUpLevel();
+                    frontierEdges = discoveredEdges.sum();
+                    if (target >= 0 && isVisited(target)) return depth;
+                } while (awake > 0 && (awake >= previous || awake > nodeCount / BETA));
+                bitsToQueue();
+            } else {
+                unexploredEdges -= frontierEdges;
+                frontierEdges = topDownLevel();
+                if (target >= 0 && isVisited(target)) return depth;
+            }
+        }
+        return -1;
+    }
+
+    /** Checks the visited bit of a node. */
+    private boolean isVisited(int id) {
+        return (visited[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Expands the queued frontier top-down into the next queue.
+     *
+     * @return Sum of the out-degrees of the discovered nodes
+     */
+    private long topDownLevel() {
+        depth++;
+        nextQueueSize.set(0);
+        discoveredEdges.reset();
+        new TopDownTask(0, queueSize).invoke();
+
+        int[] swap = queue;
+        queue = nextQueue;
+        nextQueue = swap;
+        queueSize = nextQueueSize.get();
+        return discoveredEdges.sum();
+    }
+
+    /**
+     * Expands the frontier bitset bottom-up into the next bitset. The out-degree sum of the
+     * discovered nodes is left in {@link #discoveredEdges}.
+     *
+     * @return Number of discovered nodes
+     */
+    private long bottomUpLevel() {
+        depth++;
+        discovered.reset();
+        discoveredEdges.reset();
+        new BottomUpTask(0, visited.length).invoke();
+
+        long[] swap = frontierBits;
+        frontierBits = nextBits;
+        nextBits = swap;
+        return discovered.sum();
+    }
+
+    /** Converts the queued frontier into a bitset. */
+    private void queueToBits() {
+        if (frontierBits == null) {
+            frontierBits = new long[visited.length];
+            nextBits = new long[visited.length];
+        } else {
+            Arrays.fill(frontierBits, 0L);
+        }
+        for (int i = 0; i < queueSize; i++) {
+            int id = queue[i];
+            frontierBits[id >>> 6] |= 1L << id;
+        }
+    }
+
+    /** Converts the frontier bitset back into a queue. */
+    private void bitsToQueue() {
+        int size = 0;
+        for (int w = 0; w < frontierBits.length; w++) {
+            for (long word = frontierBits[w]; word != 0; word &= word - 1) {
+                queue[size++] = (w << 6) | Long.numberOfTrailingZeros(word);
+            }
+        }
+        queueSize = size;
+    }
+
+    /**
+     * Top-down expansion of a range of the frontier queue. Neighbors are claimed with an atomic OR
+     * on the visited word; discovered ids are buffered locally and appended to the next queue in
+     * one block.
+     */
+    private final class TopDownTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from, to;
+
+        TopDownTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > TOP_DOWN_GRAIN) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new TopDownTask(from, mid), new TopDownTask(mid, to));
+                return;
+            }
+
+            int[] found = new int[Math.min(nodeCount, 4 * (to - from) + 16)];
+            int count = 0;
+            long edges = 0;
+            for (int i = from; i < to; i++) {
+                int u = queue[i];
+                for (int e = graph.edgeStart(u), end = graph.edgeEnd(u); e < end; e++) {
+                    int v = graph.edgeTarget(e);
+                    int word = v >>> 6;
+                    long mask = 1L << v;
+                    // Cheap racy pre-check; the atomic OR decides which task claims the node
+                    if ((visited[word] & mask) != 0) continue;
+                    long previous = (long) WORDS.getAndBitwiseOr(visited, word, mask);
+                    if ((previous & mask) != 0) continue;
+
+                    if (levels != null) levels[v] = depth;
+                    if (count == found.length) found = Arrays.copyOf(found, count * 2);
+                    found[count++] = v;
+                    edges += graph.degree(v);
+                }
+            }
+            if (count > 0) {
+                int base = nextQueueSize.getAndAdd(count);
+                System.arraycopy(found, 0, nextQueue, base, count);
+                discoveredEdges.add(edges);
+            }
+        }
+    }
+
+    /**
+     * Bottom-up expansion of a range of bitset words. Each task owns the visited and next-frontier
+     * words in its range, so they are written without atomics.
+     */
+    private final class BottomUpTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from, to;
+
+        BottomUpTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BOTTOM_UP_GRAIN) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new BottomUpTask(from, mid), new BottomUpTask(mid, to));
+                return;
+            }
+
+            long awake = 0, edges = 0;
+            int lastWord = visited.length - 1;
+            for (int w = from; w < to; w++) {
+                long candidates = ~visited[w];
+                if (w == lastWord && (nodeCount & 63) != 0) {
+                    candidates &= (1L << nodeCount) - 1;
+                }
+
+                long hit = 0;
+                for (; candidates != 0; candidates &= candidates - 1) {
+                    int bit = Long.numberOfTrailingZeros(candidates);
+                    int v = (w << 6) | bit;
+                    for (int e = reverse.edgeStart(v), end = reverse.edgeEnd(v); e < end; e++) {
+                        int u = reverse.edgeTarget(e);
+                        if ((frontierBits[u >>> 6] & (1L << u)) != 0) {
+                            hit |= 1L << bit;
+                            edges += graph.degree(v);
+                            if (levels != null) levels[v] = depth;
+                            break;
+                        }
+                    }
+                }
+                visited[w] |= hit;
+                nextBits[w] = hit;
+                awake += Long.bitCount(hit);
+            }
+            discovered.add(awake);
+            discoveredEdges.add(edges);
+        }
+    }
+}
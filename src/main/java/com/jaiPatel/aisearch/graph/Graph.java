@@ -7,13 +7,29 @@ import java.util.*;
  * <p>
  * Provides methods to add nodes and edges, retrieve neighbors, edge weights, and nodes by name.
  * Internally uses adjacency lists for efficient graph operations.
+ * <p>
+ * As a {@link GraphView}, nodes are numbered in the order they were added, and neighbor ids are
+ * looked up in a hash map edge by edge. The {@link #freeze() CSR snapshot} uses the same ids and
+ * is much faster to search; {@code SearchAlgorithm} searches it whenever it is passed a
+ * {@code Graph}, so the hash maps are only searched when the graph is passed as a
+ * {@code GraphView}.
  */
-public class Graph {
+public class Graph implements GraphView {
 
     /** Maps each node to its list of outgoing edges (adjacency list). */
     private final Map<Node, List<Edge>> adjacencyList = new HashMap<>();
     /** Maps node names to Node objects for fast lookup. */
     private final Map<String, Node> nameToNode = new HashMap<>();
+    /** Nodes in insertion order; the index of a node is its id. */
+    private final List<Node> nodesById = new ArrayList<>();
+    /** Maps each node to its id. */
+    private final Map<Node, Integer> ids = new HashMap<>();
+    /** Largest number of outgoing edges of any node. */
+    private int maxDegree;
+    /** Cached CSR snapshot; cleared whenever the graph structure changes. */
+    private CsrGraph frozen;
+    /** Structural modification counter, see {@link #version()}. */
+    private volatile long version;
 
     /**
      * Adds a node to the graph. If the node already exists, does nothing.
@@ -22,7 +38,12 @@ public class Graph {
      * @param node The node to add
      */
     public void addNode(Node node) {
-        adjacencyList.putIfAbsent(node, new ArrayList<>());
+        if (adjacencyList.putIfAbsent(node, new ArrayList<>()) == null) {
+            ids.put(node, nodesById.size());
+            nodesById.add(node);
+            frozen = null;
+            version++;
+        }
         nameToNode.put(node.getName(), node);
     }
 
@@ -37,7 +58,11 @@ public class Graph {
     public void addEdge(Node from, Node to, double weight) {
         addNode(from);
         addNode(to);
-        adjacencyList.get(from).add(new Edge(from, to, weight));
+        List<Edge> edges = adjacencyList.get(from);
+        edges.add(new Edge(from, to, weight));
+        maxDegree = Math.max(maxDegree, edges.size());
+        frozen = null;
+        version++;
     }
 
     /**
@@ -98,4 +123,91 @@ public class Graph {
     public Collection<Node> getNodes() {
         return adjacencyList.keySet();
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns an immutable compressed-sparse-row snapshot of this graph with dense int node ids.
+     * <p>
+     * The snapshot is cached and reused until the next call to {@link #addNode} that adds a new
+     * node or to {@link #addEdge}, so repeated searches on an unchanged graph share one copy.
+     *
+     * @return The CSR snapshot of the current graph
+     */
+    public CsrGraph freeze() {
+        CsrGraph snapshot = frozen;
+        if (snapshot == null) {
+            snapshot = new CsrGraph(this);
+            frozen = snapshot;
+        }
+        return snapshot;
+    }
+
+    // === GraphView ===
+
+    /**
+     * Returns a counter that increases whenever a node or edge is added, so results computed
+     * for an earlier version can be recognized as stale.
+     *
+     * @return The current structural version
+     */
+    @Override
+    public long version() {
+        return version;
+    }
+
+    @Override
+    public int nodeCount() {
+        return nodesById.size();
+    }
+
+    @Override
+    public Node getNode(int id) {
+        return nodesById.get(id);
+    }
+
+    @Override
+    public int idOf(Node node) {
+        Integer id = ids.get(node);
+        return id == null ? -1 : id;
+    }
+
+    @Override
+    public int maxDegree() {
+        return maxDegree;
+    }
+
+    @Override
+    public int neighbors(int id, int[] targets, double[] costs) {
+        List<Edge> edges = adjacencyList.get(nodesById.get(id));
+        for (int i = 0; i < edges.size(); i++) {
+            Edge edge = edges.get(i);
+            targets[i] = ids.get(edge.getTo());
+            costs[i] = edge.getCost();
+        }
+        return edges.size();
+    }
+
+    @Override
+    public double getX(int id) {
+        return nodesById.get(id).getX();
+    }
+
+    @Override
+    public double getY(int id) {
+        return nodesById.get(id).getY();
+    }
+
+    @Override
+    public boolean isBlocked(int id) {
+        return Boolean.TRUE.equals(nodesById.get(id).getAttribute("blocked"));
+    }
+
+    /**
+     * Returns the transpose of the {@link #freeze() CSR snapshot}, which shares this graph's ids.
+     *
+     * @return The reversed graph
+     */
+    @Override
+    public GraphView reverse() {
+        return freeze().reverse();
+    }
+}
@@ -0,0 +1,118 @@
+package com.jaiPatel.aisearch.graph;
+
+/**
+ * Read-only view of a directed, weighted graph with dense integer node ids, as searched by the
+ * algorithms.
+ * <p>
+ * Nodes are identified by ids in {@code [0, nodeCount())}. Neighbors are copied into primitive
+ * buffers owned by the caller, so an implementation may store its edges in any form (CSR arrays,
+ * arithmetic on grid coordinates) and a search allocates nothing per expansion. {@link Node}
+ * objects are only needed at the boundary: to resolve the start and goal and to report paths and
+ * search state. Implementations may create them on demand, so they must be compared with
+ * {@code equals}, not by identity.
+ */
+public interface GraphView {
+
+    /**
+     * Returns the number of nodes.
+     * @return Node count
+     */
+    int nodeCount();
+
+    /**
+     * Returns the node with the given id.
+     *
+     * @param id The node id
+     * @return The node
+     */
+    Node getNode(int id);
+
+    /**
+     * Returns the id of the given node.
+     *
+     * @param node The node to look up
+     * @return The node id, or -1 if the node is not part of this graph
+     */
+    int idOf(Node node);
+
+    /**
+     * Returns an upper bound on the out-degree of any node, i.e. the buffer length needed by
+     * {@link #neighbors}.
+     *
+     * @return Maximum number of outgoing edges of a node
+     */
+    int maxDegree();
+
+    /**
+     * Copies the outgoing edges of a node into the given buffers.
+     *
+     * @param id      The node id
+     * @param targets Receives the target id of every edge; at least {@link #maxDegree()} long
+     * @param costs   Receives the cost of every edge; at least {@link #maxDegree()} long
+     * @return The number of edges written
+     */
+    int neighbors(int id, int[] targets, double[] costs);
+
+    /**
+     * Returns the x-coordinate of a node.
+     *
+     * @param id The node id
+     * @return The x-coordinate
+     */
+    double getX(int id);
+
+    /**
+     * Returns the y-coordinate of a node.
+     *
+     * @param id The node id
+     * @return The y-coordinate
+     */
+    double getY(int id);
+
+    /**
+     * Checks whether a node is an obstacle.
+     *
+     * @param id The node id
+     * @return True if the node carries {@code blocked=true}
+     */
+    boolean isBlocked(int id);
+
+    /**
+     * Returns the transpose of this graph: the same nodes and ids, with every edge
+     * {@code u -> v} replaced by {@code v -> u} at the same cost. Used by backward searches.
+     *
+     * @return The reversed graph
+     */
+    GraphView reverse();
+
+    /**
+     * Returns a counter that changes whenever the graph's nodes or edges change. Results cached
+     * for a graph are only valid for the version they were computed on.
+     *
+     * @return The structural version; always 0 for immutable graphs
+     */
+    default long version() {
+        return 0;
+    }
+
+    /**
+     * Hashes the node names and edges of this graph. Structures precomputed for a graph and
+     * stored on disk keep the fingerprint, so they are never applied to a graph whose ids or
+     * edges differ from the one they were built for.
+     *
+     * @return Fingerprint of the node order and edge list
+     */
+    default long fingerprint() {
+        int[] targets = new int[maxDegree()];
+        double[] costs = new double[targets.length];
+        long h = 1125899906842597L;
+        for (int id = 0, n = nodeCount(); id < n; id++) {
+            h = 31 * h + getNode(id).getName().hashCode();
+            for (int i = 0, degree = neighbors(id, targets, costs); i < degree; i++) {
+                h = 31 * h + targets[i];
+                h = 31 * h + Double.doubleToLongBits(costs[i]);
+            }
+        }
+        return h;
+    }
+}
@@ -0,0 +1,288 @@
+package com.jaiPatel.aisearch.graph;
+
+import java.util.SplittableRandom;
+
+/**
+ * Implicit grid graph: cells are never materialized as {@link Node} or {@link Edge} objects.
+ * <p>
+ * The cell at {@code (x, y)} has id {@code y * width + x}. Obstacles are a bitset with one bit per
+ * cell, and an optional per-cell cost array turns the grid into a weighted one. Neighbors are
+ * computed from the coordinates: an unblocked cell has an edge to every unblocked cell among its
+ * 4 (or 8, with diagonal moves) neighbors. Moving into a cell costs 1 for straight and
+ * {@code sqrt(2)} for diagonal moves, multiplied by the cost of the entered cell on weighted grids.
+ * As in {@link GridGraphGenerator}, diagonal moves between two blocked cells are allowed.
+ * <p>
+ * {@link #getNode} creates a new node on every call, named {@code "x,y"} like the nodes of
+ * {@link GridGraphGenerator}, with {@code blocked=true} set on obstacles. Nodes equal by name, so
+ * they can be compared and used as map keys, but not by identity.
+ */
+public final class GridGraph implements GraphView {
+
+    private static final double DIAGONAL = Math.sqrt(2);
+
+    private static final int[] DX = {1, -1, 0, 0, 1, -1, 1, -1};
+    private static final int[] DY = {0, 0, 1, -1, 1, 1, -1, -1};
+
+    private final int width, height;
+    private final boolean diagonal;
+    /** Bitset of blocked cells, indexed by cell id. */
+    private final long[] blocked;
+    /** Cost of entering each cell, or null for a unit-cost grid. */
+    private final float[] costs;
+    /** True for the transpose of a weighted grid, which charges the cost of the cell left. */
+    private final boolean reversed;
+
+    /** Lazily built transpose of a weighted grid, see {@link #reverse()}. */
+    private volatile GridGraph reverse;
+
+    /**
+     * Creates a grid over the given obstacle bitset and cell costs. The arrays are used as they
+     * are, not copied.
+     *
+     * @param width    Number of columns
+     * @param height   Number of rows
+     * @param diagonal True to allow diagonal moves
+     * @param blocked  Bitset of blocked cells indexed by cell id, at least {@code ceil(width * height / 64)} words
+     * @param costs    Cost of entering each cell (positive), or null for unit costs
+     */
+    public GridGraph(int width, int height, boolean diagonal, long[] blocked, float[] costs) {
+        this(width, height, diagonal, blocked, costs, false);
+        if (width < 1 || height < 1 || (long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid grid size: " + width + "x" + height);
+        }
+        if (blocked.length < (int) (((long) width * height + 63) >>> 6)) {
+            throw new IllegalArgumentException("Blocked bitset too short for " + width + "x" + height + " cells");
+        }
+        if (costs != null && costs.length != width * height) {
+            throw new IllegalArgumentException("Expected " + width * height + " cell costs, got " + costs.length);
+        }
+    }
+
+    private GridGraph(int width, int height, boolean diagonal, long[] blocked, float[] costs, boolean reversed) {
+        this.width = width;
+        this.height = height;
+        this.diagonal = diagonal;
+        this.blocked = blocked;
+        this.costs = costs;
+        this.reversed = reversed;
+    }
+
+    /**
+     * Generates a random grid. Every cell is blocked with probability {@code obstacleDensity},
+     * except the corners {@code (0, 0)} and {@code (width - 1, height - 1)}; on weighted grids the
+     * cost of entering a cell is uniform in {@code [1, 10)}. Unlike
+     * {@link GridGraphGenerator#generateGrid}, the generator does not retry until the corners are
+     * connected, since checking that costs a full search on large grids.
+     *
+     * @param width           Number of columns
+     * @param height          Number of rows
+     * @param obstacleDensity Probability that a cell is blocked
+     * @param diagonal        True to allow diagonal moves
+     * @param weighted        True for random cell costs, false for unit costs
+     * @param seed            Random seed
+     * @return The generated grid
+     */
+    public static GridGraph generate(int width, int height, double obstacleDensity,
+                                     boolean diagonal, boolean weighted, long seed) {
+        if (width < 1 || height < 1 || (long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid grid size: " + width + "x" + height);
+        }
+        int n = width * height;
+        SplittableRandom rand = new SplittableRandom(seed);
+        long[] blocked = new long[(n + 63) >>> 6];
+        if (obstacleDensity > 0) {
+            for (int id = 0; id < n; id++) {
+                if (rand.nextDouble() < obstacleDensity) blocked[id >>> 6] |= 1L << id;
+            }
+            blocked[0] &= ~1L;
+            blocked[(n - 1) >>> 6] &= ~(1L << (n - 1));
+        }
+        float[] costs = null;
+        if (weighted) {
+            costs = new float[n];
+            for (int id = 0; id < n; id++) costs[id] = (float) (1.0 + rand.nextDouble() * 9.0);
+        }
+        return new GridGraph(width, height, diagonal, blocked, costs);
+    }
+
+    /**
+     * Returns the number of columns.
+     * @return Grid width
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Returns the number of rows.
+     * @return Grid height
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Checks whether diagonal moves are allowed.
+     * @return True for an 8-connected grid, false for a 4-connected one
+     */
+    public boolean isDiagonal() {
+        return diagonal;
+    }
+
+    /**
+     * Checks whether the grid has per-cell costs.
+     * @return True if moves are weighted by the entered cell's cost
+     */
+    public boolean isWeighted() {
+        return costs != null;
+    }
+
+    /**
+     * Returns the id of the cell at the given coordinates.
+     *
+     * @param x Column
+     * @param y Row
+     * @return The cell id, or -1 if the coordinates lie outside the grid
+     */
+    public int nodeAt(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return -1;
+        return y * width + x;
+    }
+
+    @Override
+    public int nodeCount() {
+        return width * height;
+    }
+
+    @Override
+    public Node getNode(int id) {
+        int x = id % width, y = id / width;
+        Node node = new Node(x + "," + y, x, y);
+        if (isBlocked(id)) node.setAttribute("blocked", true);
+        return node;
+    }
+
+    @Override
+    public int idOf(Node node) {
+        double x = node.getX(), y = node.getY();
+        if (x != Math.rint(x) || y != Math.rint(y)) return -1;
+        int id = nodeAt((int) x, (int) y);
+        if (id < 0 || !node.getName().equals((int) x + "," + (int) y)) return -1;
+        return id;
+    }
+
+    @Override
+    public int maxDegree() {
+        return diagonal ? 8 : 4;
+    }
+
+    @Override
+    public int neighbors(int id, int[] targets, double[] costs) {
+        if (isBlocked(id)) return 0;
+        int y = id / width, x = id - y * width;
+        boolean interior = x > 0 && y > 0 && x < width - 1 && y < height - 1;
+        int count = 0;
+        for (int d = 0, directions = maxDegree(); d < directions; d++) {
+            if (!interior) {
+                int nx = x + DX[d], ny = y + DY[d];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+            }
+            int target = id + DY[d] * width + DX[d];
+            if (isBlocked(target)) continue;
+            double cost = d < 4 ? 1.0 : DIAGONAL;
+            if (this.costs != null) cost *= this.costs[reversed ? id : target];
+            targets[count] = target;
+            costs[count] = cost;
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public double getX(int id) {
+        return id % width;
+    }
+
+    @Override
+    public double getY(int id) {
+        return id / width;
+    }
+
+    @Override
+    public boolean isBlocked(int id) {
+        return (blocked[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns the transpose of this grid. Unit-cost grids are symmetric and return themselves;
+     * the transpose of a weighted grid shares the bitset and costs and charges the cost of the
+     * cell a move leaves instead of the cell it enters.
+     *
+     * @return The reversed grid
+     */
+    @Override
+    public GridGraph reverse() {
+        if (costs == null) return this;
+        GridGraph r = reverse;
+        if (r == null) {
+            r = new GridGraph(width, height, diagonal, blocked, costs, !reversed);
+            r.reverse = this;
+            reverse = r;
+        }
+        return r;
+    }
+
+    /**
+     * Hashes the grid's dimensions, obstacles and cell costs, without creating a node per cell.
+     * Differs from the fingerprint of a {@link CsrGraph} with the same edges.
+     *
+     * @return Fingerprint of the grid layout
+     */
+    @Override
+    public long fingerprint() {
+        long h = 1125899906842597L;
+        h = 31 * h + width;
+        h = 31 * h + height;
+        h = 31 * h + (diagonal ? 1 : 0);
+        h = 31 * h + (reversed ? 1 : 0);
+        for (long word : blocked) h = 31 * h + word;
+        if (costs != null) {
+            for (float cost : costs) h = 31 * h + Float.floatToIntBits(cost);
+        }
+        return h;
+    }
+
+    /**
+     * Materializes this grid as a {@link Graph} with one node per cell and one edge per move.
+     * Node ids in the graph equal the cell ids, so results can be compared with searches on the
+     * grid itself. Only feasible for grids small enough to visualize.
+     *
+     * @return A graph with the same nodes, ids and edges
+     */
+    public Graph toGraph() {
+        Graph graph = new Graph();
+        int n = nodeCount();
+        Node[] nodes = new Node[n];
+        for (int id = 0; id < n; id++) {
+            nodes[id] = getNode(id);
+            graph.addNode(nodes[id]);
+        }
+        int[] targets = new int[maxDegree()];
+        double[] edgeCosts = new double[targets.length];
+        for (int id = 0; id < n; id++) {
+            for (int i = 0, degree = neighbors(id, targets, edgeCosts); i < degree; i++) {
+                graph.addEdge(nodes[id], nodes[targets[i]], edgeCosts[i]);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Returns the approximate heap footprint of the obstacle bitset and cell costs.
+     *
+     * @return Approximate size in bytes
+     */
+    public long arrayBytes() {
+        return 8L * blocked.length + (costs == null ? 0 : 4L * costs.length);
+    }
+}
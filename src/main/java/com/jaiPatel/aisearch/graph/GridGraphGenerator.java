@@ -29,7 +29,7 @@ public class GridGraphGenerator {
                 for (int x = 0; x < size; x++) {
                     Node n = new Node(x + "," + y, x, y);
                     boolean blocked = rand.nextDouble() < obstacleDensity;
-                    n.setAttribute("blocked", blocked);
+                    if (blocked) n.setAttribute("blocked", true);
                     nodes[x][y] = n;
                     graph.addNode(n);
                 }
@@ -78,7 +78,8 @@ public class GridGraphGenerator {
     /**
      * Checks if there is a path from start to goal in the graph, considering connectivity.
      * <p>
-     * Uses BFS to determine reachability, ignoring blocked attributes.
+     * Uses BFS to determine reachability, ignoring blocked attributes. It searches the adjacency
+     * lists directly and stops at the goal.
      *
      * @param g        The graph to search
      * @param start    The start node
@@ -87,7 +88,7 @@ public class GridGraphGenerator {
      * @return True if goal is reachable from start, false otherwise
      */
     private static boolean isReachable(Graph g, Node start, Node goal, boolean diagonal) {
-        Queue<Node> q = new LinkedList<>();
+        ArrayDeque<Node> q = new ArrayDeque<>();
         Set<Node> visited = new HashSet<>();
         q.add(start);
         visited.add(start);
@@ -97,8 +98,7 @@ public class GridGraphGenerator {
             if (current.equals(goal)) return true;
             for (var e : g.getNeighbors(current)) {
                 Node n = e.getTo();
-                if (!visited.contains(n)) {
-                    visited.add(n);
+                if (visited.add(n)) {
                     q.add(n);
                 }
             }
@@ -109,7 +109,8 @@ public class GridGraphGenerator {
     /**
      * Checks if there is a valid, unblocked path from start to goal in the graph.
      * <p>
-     * Uses BFS and respects the 'blocked' attribute on nodes.
+     * Uses an early-exit BFS on the adjacency lists and respects the live 'blocked' attribute on
+     * nodes.
      *
      * @param g     The graph to search
      * @param start The start node
@@ -118,7 +119,7 @@ public class GridGraphGenerator {
      */
     public static boolean isSolvable(Graph g, Node start, Node goal) {
         Set<Node> visited = new HashSet<>();
-        Queue<Node> queue = new LinkedList<>();
+        ArrayDeque<Node> queue = new ArrayDeque<>();
         queue.add(start);
         visited.add(start);
 
@@ -0,0 +1,496 @@
+package com.jaiPatel.aisearch.graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Graph stored in a binary file and searched directly on memory-mapped buffers.
+ * <p>
+ * {@link #write} stores any {@link GraphView} in a versioned little-endian format: a fixed header
+ * (magic, version, counts, fingerprint and the file position of every section), followed by the
+ * CSR edge arrays, the coordinates, the {@code blocked} bitset, the node table (name offsets), a
+ * hash index from names to ids, and the UTF-8 names blob. {@link #open} maps each section
+ * read-only with {@link FileChannel#map} and does no parsing, so opening takes the same time for
+ * any graph size and the operating system pages edges in as searches touch them. The page cache is
+ * shared between processes opening the same file.
+ * <p>
+ * Node ids, edge order and costs are those of the written graph. Like {@link GridGraph},
+ * {@link #getNode} creates a new node on every call, named and placed like the original and with
+ * {@code blocked=true} on obstacles. The transpose used by backward searches is built on the heap
+ * on first use.
+ */
+public final class MappedGraph implements GraphView {
+
+    /** File header, "AGRF". */
+    private static final int MAGIC = 0x41475246;
+    /** Format version written by {@link #write}; files of other versions are rejected. */
+    public static final int VERSION = 1;
+
+    /** Header size in bytes; sections start after it, each aligned to 8 bytes. */
+    private static final int HEADER_BYTES = 128;
+    /** Largest edge count whose cost section can be mapped as one buffer (2 GB). */
+    private static final int MAX_EDGES = Integer.MAX_VALUE / 8;
+    /** Number of sections whose positions are stored in the header. */
+    private static final int SECTIONS = 9;
+    private static final int OFFSETS = 0, TARGETS = 1, COSTS = 2, XS = 3, YS = 4, BLOCKED = 5,
+            NAME_OFFSETS = 6, NAME_INDEX = 7, NAMES = 8;
+
+    private final Path file;
+    private final int nodeCount, edgeCount, maxDegree;
+    private final long fingerprint;
+
+    private final IntBuffer offsets, targets;
+    private final DoubleBuffer costs, xs, ys;
+    private final LongBuffer blocked;
+    private final IntBuffer nameOffsets;
+    /** Open-addressing table of {@code id + 1} per slot, 0 for empty slots; see {@link #slot}. */
+    private final IntBuffer nameIndex;
+    private final ByteBuffer names;
+
+    /** Lazily built transpose, see {@link #reverse()}. */
+    private volatile Transpose reverse;
+
+    private MappedGraph(Path file, int nodeCount, int edgeCount, int maxDegree, long fingerprint,
+                        ByteBuffer[] sections) {
+        this.file = file;
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+        this.maxDegree = maxDegree;
+        this.fingerprint = fingerprint;
+        offsets = sections[OFFSETS].asIntBuffer();
+        targets = sections[TARGETS].asIntBuffer();
+        costs = sections[COSTS].asDoubleBuffer();
+        xs = sections[XS].asDoubleBuffer();
+        ys = sections[YS].asDoubleBuffer();
+        blocked = sections[BLOCKED].asLongBuffer();
+        nameOffsets = sections[NAME_OFFSETS].asIntBuffer();
+        nameIndex = sections[NAME_INDEX].asIntBuffer();
+        names = sections[NAMES];
+    }
+
+    // === reading ===
+
+    /**
+     * Maps a graph file written by {@link #write}.
+     *
+     * @param file The file to open
+     * @return The mapped graph
+     * @throws IOException If reading fails, the file is not a graph file, or its version is not supported
+     */
+    public static MappedGraph open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Truncated graph file: " + file);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // read the whole header
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a graph file: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported graph file version " + version + " in " + file
+                        + " (expected " + VERSION + ")");
+            }
+            int nodeCount = header.getInt();
+            int edgeCount = header.getInt();
+            int maxDegree = header.getInt();
+            int nameIndexSize = header.getInt();
+            long fingerprint = header.getLong();
+            long namesBytes = header.getLong();
+            long[] positions = new long[SECTIONS];
+            for (int i = 0; i < SECTIONS; i++) positions[i] = header.getLong();
+
+            long[] lengths = new long[SECTIONS];
+            lengths[OFFSETS] = 4L * (nodeCount + 1);
+            lengths[TARGETS] = 4L * edgeCount;
+            lengths[COSTS] = 8L * edgeCount;
+            lengths[XS] = 8L * nodeCount;
+            lengths[YS] = 8L * nodeCount;
+            lengths[BLOCKED] = 8L * ((nodeCount + 63) >>> 6);
+            lengths[NAME_OFFSETS] = 4L * (nodeCount + 1);
+            lengths[NAME_INDEX] = 4L * nameIndexSize;
+            lengths[NAMES] = namesBytes;
+
+            ByteBuffer[] sections = new ByteBuffer[SECTIONS];
+            for (int i = 0; i < SECTIONS; i++) {
+                if (positions[i] < HEADER_BYTES || lengths[i] > Integer.MAX_VALUE || lengths[i] < 0
+                        || positions[i] + lengths[i] > size) {
+                    throw new IOException("Truncated graph file: " + file);
+                }
+                sections[i] = channel.map(FileChannel.MapMode.READ_ONLY, positions[i], lengths[i])
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new MappedGraph(file, nodeCount, edgeCount, maxDegree, fingerprint, sections);
+        }
+    }
+
+    /**
+     * Returns the file this graph was mapped from.
+     * @return The graph file
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Returns the number of directed edges.
+     * @return Edge count
+     */
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Returns the node with the given name.
+     *
+     * @param name The node name
+     * @return The node, or null if no node has this name
+     */
+    public Node getNode(String name) {
+        int id = idOf(name);
+        return id < 0 ? null : getNode(id);
+    }
+
+    /**
+     * Looks up a node id in the name index.
+     *
+     * @param name The node name
+     * @return The node id, or -1 if no node has this name
+     */
+    public int idOf(String name) {
+        byte[] key = name.getBytes(StandardCharsets.UTF_8);
+        int mask = nameIndex.capacity() - 1;
+        for (int slot = slot(name, mask); ; slot = (slot + 1) & mask) {
+            int entry = nameIndex.get(slot);
+            if (entry == 0) return -1;
+            int id = entry - 1;
+            int start = nameOffsets.get(id), length = nameOffsets.get(id + 1) - start;
+            if (length == key.length && nameEquals(start, key)) return id;
+        }
+    }
+
+    /** Compares the name bytes stored at the given offset with a key. */
+    private boolean nameEquals(int start, byte[] key) {
+        for (int i = 0; i < key.length; i++) {
+            if (names.get(start + i) != key[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public Node getNode(int id) {
+        int start = nameOffsets.get(id);
+        byte[] bytes = new byte[nameOffsets.get(id + 1) - start];
+        names.get(start, bytes);
+        Node node = new Node(new String(bytes, StandardCharsets.UTF_8), xs.get(id), ys.get(id));
+        if (isBlocked(id)) node.setAttribute("blocked", true);
+        return node;
+    }
+
+    @Override
+    public int idOf(Node node) {
+        return idOf(node.getName());
+    }
+
+    @Override
+    public int maxDegree() {
+        return maxDegree;
+    }
+
+    @Override
+    public int neighbors(int id, int[] targets, double[] costs) {
+        int start = offsets.get(id), degree = offsets.get(id + 1) - start;
+        this.targets.get(start, targets, 0, degree);
+        this.costs.get(start, costs, 0, degree);
+        return degree;
+    }
+
+    @Override
+    public double getX(int id) {
+        return xs.get(id);
+    }
+
+    @Override
+    public double getY(int id) {
+        return ys.get(id);
+    }
+
+    @Override
+    public boolean isBlocked(int id) {
+        return (blocked.get(id >>> 6) & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns the transpose of this graph, built on the heap from the mapped edges on first use.
+     *
+     * @return The reversed graph
+     */
+    @Override
+    public GraphView reverse() {
+        Transpose r = reverse;
+        if (r == null) {
+            synchronized (this) {
+                r = reverse;
+                if (r == null) {
+                    r = new Transpose(this);
+                    reverse = r;
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Returns the fingerprint of the written graph, stored in the header.
+     *
+     * @return Fingerprint of the node order and edge list
+     */
+    @Override
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    // === writing ===
+
+    /**
+     * Writes a graph in the binary format read by {@link #open}.
+     *
+     * @param graph The graph to write
+     * @param file  The file to create or replace
+     * @throws IOException If writing fails
+     */
+    public static void write(GraphView graph, Path file) throws IOException {
+        int n = graph.nodeCount();
+        int[] targets = new int[graph.maxDegree()];
+        double[] costs = new double[targets.length];
+
+        // Hash index over the names, probed linearly; at most half full
+        int nameIndexSize = Integer.highestOneBit(Math.max(1, n) * 2 - 1) << 1;
+        int[] nameIndex = new int[nameIndexSize];
+        byte[][] nameBytes = new byte[n][];
+        long namesBytes = 0;
+        for (int id = 0; id < n; id++) {
+            String name = graph.getNode(id).getName();
+            nameBytes[id] = name.getBytes(StandardCharsets.UTF_8);
+            namesBytes += nameBytes[id].length;
+            int slot = slot(name, nameIndexSize - 1);
+            while (nameIndex[slot] != 0) slot = (slot + 1) & (nameIndexSize - 1);
+            nameIndex[slot] = id + 1;
+        }
+        if (namesBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Node names exceed 2 GB: " + namesBytes + " bytes");
+        }
+
+        long[] positions = new long[SECTIONS];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             Output out = new Output(channel)) {
+            out.skip(HEADER_BYTES);
+
+            positions[OFFSETS] = out.align();
+            long edgeCount = 0;
+            for (int id = 0; id < n; id++) {
+                out.putInt((int) edgeCount);
+                edgeCount += graph.neighbors(id, targets, costs);
+                if (edgeCount > MAX_EDGES) {
+                    throw new IllegalArgumentException("Graph has more than " + MAX_EDGES + " edges");
+                }
+            }
+            out.putInt((int) edgeCount);
+
+            positions[TARGETS] = out.align();
+            for (int id = 0; id < n; id++) {
+                for (int i = 0, degree = graph.neighbors(id, targets, costs); i < degree; i++) out.putInt(targets[i]);
+            }
+            positions[COSTS] = out.align();
+            for (int id = 0; id < n; id++) {
+                for (int i = 0, degree = graph.neighbors(id, targets, costs); i < degree; i++) out.putDouble(costs[i]);
+            }
+
+            positions[XS] = out.align();
+            for (int id = 0; id < n; id++) out.putDouble(graph.getX(id));
+            positions[YS] = out.align();
+            for (int id = 0; id < n; id++) out.putDouble(graph.getY(id));
+            positions[BLOCKED] = out.align();
+            long[] blocked = new long[(n + 63) >>> 6];
+            for (int id = 0; id < n; id++) {
+                if (graph.isBlocked(id)) blocked[id >>> 6] |= 1L << id;
+            }
+            for (long word : blocked) out.putLong(word);
+
+            positions[NAME_OFFSETS] = out.align();
+            int nameOffset = 0;
+            for (int id = 0; id < n; id++) {
+                out.putInt(nameOffset);
+                nameOffset += nameBytes[id].length;
+            }
+            out.putInt(nameOffset);
+            positions[NAME_INDEX] = out.align();
+            for (int entry : nameIndex) out.putInt(entry);
+            positions[NAMES] = out.align();
+            for (byte[] bytes : nameBytes) out.put(bytes);
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(n).putInt((int) edgeCount)
+                    .putInt(graph.maxDegree()).putInt(nameIndexSize)
+                    .putLong(graph.fingerprint()).putLong(namesBytes);
+            for (long position : positions) header.putLong(position);
+            header.rewind();
+            channel.position(0);
+            while (header.hasRemaining()) channel.write(header);
+        }
+    }
+
+    /** Home slot of a name in the name index. */
+    private static int slot(String name, int mask) {
+        int h = name.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Buffered little-endian writer over a file channel that tracks the file position.
+     */
+    private static final class Output implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        private long flushed;
+
+        Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        long position() {
+            return flushed + buffer.position();
+        }
+
+        /** Pads with zeros to the next multiple of 8 and returns the new position. */
+        long align() throws IOException {
+            while ((position() & 7) != 0) put((byte) 0);
+            return position();
+        }
+
+        void skip(int bytes) throws IOException {
+            for (int i = 0; i < bytes; i++) put((byte) 0);
+        }
+
+        void put(byte value) throws IOException {
+            ensure(1);
+            buffer.put(value);
+        }
+
+        void put(byte[] values) throws IOException {
+            for (int offset = 0; offset < values.length; ) {
+                ensure(1);
+                int length = Math.min(buffer.remaining(), values.length - offset);
+                buffer.put(values, offset, length);
+                offset += length;
+            }
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(8);
+            buffer.putLong(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            ensure(8);
+            buffer.putDouble(value);
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) flush();
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) flushed += channel.write(buffer);
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * Heap-resident transpose of a mapped graph; nodes, coordinates and blocked flags are read
+     * from the mapped graph.
+     */
+    private static final class Transpose implements GraphView {
+        private final MappedGraph forward;
+        private final int[] offsets, sources;
+        private final double[] costs;
+        private final int maxDegree;
+
+        Transpose(MappedGraph forward) {
+            this.forward = forward;
+            int n = forward.nodeCount;
+            int[] targets = new int[forward.maxDegree];
+            double[] edgeCosts = new double[targets.length];
+
+            // counting sort of the edges by target
+            offsets = new int[n + 1];
+            for (int e = 0; e < forward.edgeCount; e++) offsets[forward.targets.get(e) + 1]++;
+            int max = 0;
+            for (int id = 0; id < n; id++) {
+                max = Math.max(max, offsets[id + 1]);
+                offsets[id + 1] += offsets[id];
+            }
+            maxDegree = max;
+
+            sources = new int[forward.edgeCount];
+            costs = new double[forward.edgeCount];
+            int[] next = Arrays.copyOf(offsets, n);
+            for (int from = 0; from < n; from++) {
+                for (int i = 0, degree = forward.neighbors(from, targets, edgeCosts); i < degree; i++) {
+                    int slot = next[targets[i]]++;
+                    sources[slot] = from;
+                    costs[slot] = edgeCosts[i];
+                }
+            }
+        }
+
+        @Override public int nodeCount() { return forward.nodeCount(); }
+        @Override public Node getNode(int id) { return forward.getNode(id); }
+        @Override public int idOf(Node node) { return forward.idOf(node); }
+        @Override public int maxDegree() { return maxDegree; }
+        @Override public double getX(int id) { return forward.getX(id); }
+        @Override public double getY(int id) { return forward.getY(id); }
+        @Override public boolean isBlocked(int id) { return forward.isBlocked(id); }
+        @Override public GraphView reverse() { return forward; }
+
+        @Override
+        public int neighbors(int id, int[] targets, double[] costs) {
+            int start = offsets[id], degree = offsets[id + 1] - start;
+            System.arraycopy(sources, start, targets, 0, degree);
+            System.arraycopy(this.costs, start, costs, 0, degree);
+            return degree;
+        }
+    }
+}
@@ -18,8 +18,11 @@ public class Node {
     /** The y-coordinate of the node (optional, -1 if not set). */
     private final double y;
 
-    /** Optional attributes (for grid, heuristic, or random graph metadata). */
-    private final Map<String, Object> attributes = new HashMap<>();
+    /**
+     * Optional attributes (for grid, heuristic, or random graph metadata); allocated on the first
+     * {@link #setAttribute}, since most nodes of large graphs carry none.
+     */
+    private Map<String, Object> attributes;
 
     /**
      * Constructs a node with no coordinates.
@@ -76,6 +79,7 @@ public class Node {
      * @param value The attribute value
      */
     public void setAttribute(String key, Object value) {
+        if (attributes == null) attributes = new HashMap<>(4);
         attributes.put(key, value);
     }
 
@@ -86,7 +90,7 @@ public class Node {
      * @return The attribute value, or null if not set
      */
     public Object getAttribute(String key) {
-        return attributes.get(key);
+        return attributes == null ? null : attributes.get(key);
     }
 
     /**
@@ -96,7 +100,7 @@ public class Node {
      * @return True if the attribute exists, false otherwise
      */
     public boolean hasAttribute(String key) {
-        return attributes.containsKey(key);
+        return attributes != null && attributes.containsKey(key);
     }
 
     /**
@@ -0,0 +1,686 @@
+package com.jaiPatel.aisearch.graph;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Loads the datasets read by {@link GraphLoaderSet1} and {@link GraphLoaderSet2} straight into a
+ * {@link CsrGraph}, for files far larger than the bundled ones.
+ * <p>
+ * Each file is split at line boundaries into chunks that are memory-mapped and parsed in parallel
+ * on the common fork-join pool. Fields are located byte by byte and numbers parsed in place, so
+ * no line strings, {@code split} arrays or number strings are created; the only strings are the
+ * city names themselves. Names are resolved through an open-addressing index over the name
+ * characters, and the JSON {@code connections} column of Set 2 is read token by token with a
+ * streaming Jackson {@link JsonParser}. The graph is then built in bulk: every road becomes two
+ * directed edges (as in the original loaders, with the same node ids and edge order), sorted into
+ * CSR arrays by a counting sort, with Haversine costs computed in parallel.
+ * <p>
+ * Unlike the original loaders, nothing is printed per row. Malformed rows, duplicate cities and
+ * roads to unknown cities are counted in {@link Result#skipped()} instead, and a single summary
+ * line reports the throughput and peak heap. Quoted fields must not contain line breaks.
+ */
+public final class StreamingGraphLoader {
+
+    /** Chunks are at most this large, so each one fits a single mapped buffer. */
+    private static final long MAX_CHUNK_BYTES = 256L << 20;
+    /** Files are not split into chunks smaller than this. */
+    private static final long MIN_CHUNK_BYTES = 1L << 20;
+
+    /** Powers of ten that are exact doubles, for the fast path of {@link #parseDouble}. */
+    private static final double[] POW10 = new double[23];
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) POW10[i] = POW10[i - 1] * 10;
+    }
+
+    /** Thread-safe factory for the per-row connection parsers. */
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private StreamingGraphLoader() {
+    }
+
+    /**
+     * Outcome of a load.
+     *
+     * @param graph         The loaded graph
+     * @param rows          Number of non-empty rows read, over all files
+     * @param skipped       Malformed rows, duplicate cities and roads to unknown cities that were skipped
+     * @param millis        Wall-clock load time in milliseconds
+     * @param peakHeapBytes Peak heap use during the load (sum of the per-pool peaks, so an upper bound)
+     */
+    public record Result(CsrGraph graph, long rows, long skipped, double millis, long peakHeapBytes) {
+
+        /**
+         * Returns the load throughput.
+         * @return Rows read per second
+         */
+        public double rowsPerSecond() {
+            return rows / (millis / 1000.0);
+        }
+    }
+
+    /**
+     * Loads a Set 1 dataset: a coordinates file with {@code name,lat,lon} rows and an
+     * adjacencies file with two whitespace-separated city names per road.
+     *
+     * @param coordinatesFile Path to the coordinates CSV file (no header)
+     * @param adjacenciesFile Path to the adjacencies text file
+     * @return The graph and load statistics
+     * @throws IOException If reading a file fails or a coordinate is not a number
+     */
+    public static Result loadSet1(Path coordinatesFile, Path adjacenciesFile) throws IOException {
+        resetPeakHeap();
+        long t0 = System.nanoTime();
+
+        Chunk[] cities = split(coordinatesFile, false);
+        forEachChunk(cities, StreamingGraphLoader::parseCoordinates);
+        Cities index = Cities.merge(cities);
+
+        Chunk[] roads = split(adjacenciesFile, false);
+        forEachChunk(roads, chunk -> parseAdjacencies(chunk, index));
+
+        return finish(index, roads, t0, coordinatesFile.getFileName() + ", " + adjacenciesFile.getFileName(),
+                cities, roads);
+    }
+
+    /**
+     * Loads a Set 2 dataset: a CSV file with a header and {@code city,lat,lon,connections} rows,
+     * where {@code connections} is a JSON array of objects whose {@code to} field names a city.
+     *
+     * @param file Path to the CSV file
+     * @return The graph and load statistics
+     * @throws IOException If reading the file fails or a coordinate is not a number
+     */
+    public static Result loadSet2(Path file) throws IOException {
+        resetPeakHeap();
+        long t0 = System.nanoTime();
+
+        Chunk[] rows = split(file, true);
+        forEachChunk(rows, StreamingGraphLoader::parseCityRows);
+        Cities index = Cities.merge(rows);
+        forEachChunk(rows, chunk -> parseConnections(chunk, index));
+
+        return finish(index, rows, t0, file.getFileName().toString(), rows);
+    }
+
+    // === chunking ===
+
+    /** A line-aligned slice of a file and what was parsed from it. */
+    private static final class Chunk {
+        final ByteBuffer buffer;
+        final long position;
+        long rows, skipped;
+
+        // cities, in file order
+        final List<String> names = new ArrayList<>();
+        final DoubleList lats = new DoubleList(), lons = new DoubleList();
+        /** Node id per city row, assigned by {@link Cities#merge}. */
+        int[] rowIds;
+        /** Set 2: start and end of the raw connections field per city row. */
+        final IntList connections = new IntList();
+
+        /** Roads as pairs of node ids, in file order. */
+        final IntList roads = new IntList();
+
+        /** Per-task scratch space for names and JSON. */
+        byte[] bytes = new byte[256];
+        char[] chars = new char[256];
+
+        Chunk(ByteBuffer buffer, long position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        byte[] bytes(int length) {
+            if (bytes.length < length) bytes = new byte[Math.max(length, bytes.length * 2)];
+            return bytes;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkParser {
+        void parse(Chunk chunk) throws IOException;
+    }
+
+    /** Runs a parser over all chunks in parallel. */
+    private static void forEachChunk(Chunk[] chunks, ChunkParser parser) throws IOException {
+        try {
+            IntStream.range(0, chunks.length).parallel().forEach(i -> {
+                try {
+                    parser.parse(chunks[i]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Splits a file into line-aligned chunks and maps each of them.
+     *
+     * @param file       The file to split
+     * @param skipHeader True to leave out the first line
+     * @return The mapped chunks, in file order
+     */
+    private static Chunk[] split(Path file, boolean skipHeader) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long from = skipHeader ? nextLine(channel, 0, size) : 0;
+            long bytes = size - from;
+            int parallelism = ForkJoinPool.getCommonPoolParallelism();
+            int count = (int) Math.max(1, Math.max(Math.min(4L * parallelism, bytes / MIN_CHUNK_BYTES),
+                    (bytes + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES));
+
+            long[] bounds = new long[count + 1];
+            bounds[0] = from;
+            bounds[count] = size;
+            for (int i = 1; i < count; i++) {
+                long nominal = from + bytes * i / count;
+                bounds[i] = Math.max(bounds[i - 1], nextLine(channel, nominal - 1, size));
+            }
+
+            Chunk[] chunks = new Chunk[count];
+            for (int i = 0; i < count; i++) {
+                chunks[i] = new Chunk(channel.map(FileChannel.MapMode.READ_ONLY, bounds[i],
+                        bounds[i + 1] - bounds[i]), bounds[i]);
+            }
+            return chunks;
+        }
+    }
+
+    /** Returns the position after the first line break at or after {@code position}. */
+    private static long nextLine(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < 0) break;
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') return position + i + 1;
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    // === parsing ===
+
+    /** Parses {@code name,lat,lon} rows. */
+    private static void parseCoordinates(Chunk chunk) throws IOException {
+        ByteBuffer buf = chunk.buffer;
+        for (int start = 0, limit = buf.limit(); start < limit; ) {
+            int end = lineEnd(buf, start, limit);
+            int from = skipBlanks(buf, start, end);
+            if (from < end) {
+                chunk.rows++;
+                int c1 = indexOf(buf, ',', from, end);
+                int c2 = c1 < 0 ? -1 : indexOf(buf, ',', c1 + 1, end);
+                if (c2 < 0) {
+                    chunk.skipped++;
+                } else {
+                    int c3 = indexOf(buf, ',', c2 + 1, end);
+                    addCity(chunk, from, c1, c1 + 1, c2, c2 + 1, c3 < 0 ? end : c3);
+                }
+            }
+            start = end + 1;
+        }
+    }
+
+    /** Parses Set 2 rows up to the connections field, which is only located. */
+    private static void parseCityRows(Chunk chunk) throws IOException {
+        ByteBuffer buf = chunk.buffer;
+        int[] fields = new int[8];
+        for (int start = 0, limit = buf.limit(); start < limit; ) {
+            int end = lineEnd(buf, start, limit);
+            if (skipBlanks(buf, start, end) < end) {
+                chunk.rows++;
+                if (csvFields(buf, start, end, fields) < 4) {
+                    chunk.skipped++;
+                } else {
+                    addCity(chunk, fields[0], fields[1], fields[2], fields[3], fields[4], fields[5]);
+                    chunk.connections.add(fields[6]);
+                    chunk.connections.add(fields[7]);
+                }
+            }
+            start = end + 1;
+        }
+    }
+
+    /** Parses a city name (quotes removed, trimmed) and its coordinates from the given ranges. */
+    private static void addCity(Chunk chunk, int nameFrom, int nameTo, int latFrom, int latTo,
+                                int lonFrom, int lonTo) throws IOException {
+        ByteBuffer buf = chunk.buffer;
+        byte[] bytes = chunk.bytes(nameTo - nameFrom);
+        int length = 0;
+        for (int i = nameFrom; i < nameTo; i++) {
+            byte b = buf.get(i);
+            if (b != '"') bytes[length++] = b;
+        }
+        int first = 0;
+        while (first < length && (bytes[first] & 0xFF) <= ' ') first++;
+        while (length > first && (bytes[length - 1] & 0xFF) <= ' ') length--;
+        try {
+            double lat = parseDouble(buf, latFrom, latTo);
+            double lon = parseDouble(buf, lonFrom, lonTo);
+            chunk.names.add(new String(bytes, first, length - first, StandardCharsets.UTF_8));
+            chunk.lats.add(lat);
+            chunk.lons.add(lon);
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed coordinate at byte " + (chunk.position + latFrom) + ": " + e.getMessage());
+        }
+    }
+
+    /** Parses roads given as two whitespace-separated city names per line. */
+    private static void parseAdjacencies(Chunk chunk, Cities cities) {
+        ByteBuffer buf = chunk.buffer;
+        for (int start = 0, limit = buf.limit(); start < limit; ) {
+            int end = lineEnd(buf, start, limit);
+            int from1 = skipBlanks(buf, start, end);
+            if (from1 < end) {
+                chunk.rows++;
+                int to1 = skipName(buf, from1, end);
+                int from2 = skipBlanks(buf, to1, end);
+                int to2 = skipName(buf, from2, end);
+                int a = from2 < end ? cities.lookup(chunk, from1, to1) : -1;
+                int b = a >= 0 ? cities.lookup(chunk, from2, to2) : -1;
+                if (b >= 0) {
+                    chunk.roads.add(a);
+                    chunk.roads.add(b);
+                } else {
+                    chunk.skipped++;
+                }
+            }
+            start = end + 1;
+        }
+    }
+
+    /** Reads the {@code to} field of every connection of every Set 2 row with a streaming parser. */
+    private static void parseConnections(Chunk chunk, Cities cities) throws IOException {
+        ByteBuffer buf = chunk.buffer;
+        for (int row = 0, rows = chunk.rowIds.length; row < rows; row++) {
+            int from = chunk.rowIds[row];
+            int start = chunk.connections.get(2 * row), end = chunk.connections.get(2 * row + 1);
+
+            // undo the CSV quote escaping ("" -> ")
+            byte[] json = chunk.bytes(end - start);
+            int length = 0;
+            for (int i = start; i < end; i++) {
+                byte b = buf.get(i);
+                json[length++] = b;
+                if (b == '"' && i + 1 < end && buf.get(i + 1) == '"') i++;
+            }
+            int first = 0;
+            while (first < length && (json[first] & 0xFF) <= ' ') first++;
+            if (first == length) continue;
+
+            try (JsonParser parser = JSON.createParser(json, first, length - first)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    chunk.skipped++;
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    int to = -1;
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        boolean isTo = "to".equals(parser.currentName());
+                        if (parser.nextToken() == JsonToken.VALUE_STRING && isTo) {
+                            to = cities.lookup(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    if (to >= 0) {
+                        chunk.roads.add(from);
+                        chunk.roads.add(to);
+                    } else {
+                        chunk.skipped++;
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                // as in GraphLoaderSet2, connections read before the error are kept
+                chunk.skipped++;
+            }
+        }
+    }
+
+    /**
+     * Locates the first four fields of a CSV row. Quoted fields are returned without their
+     * quotes, with {@code ""} escapes left in place.
+     *
+     * @return The number of fields found, at most 4
+     */
+    private static int csvFields(ByteBuffer buf, int p, int end, int[] fields) {
+        int count = 0;
+        while (count < 4) {
+            int fieldEnd;
+            if (p < end && buf.get(p) == '"') {
+                int q = p + 1;
+                while (q < end && (buf.get(q) != '"' || (q + 1 < end && buf.get(q + 1) == '"'))) {
+                    q += buf.get(q) == '"' ? 2 : 1;
+                }
+                fields[2 * count] = p + 1;
+                fields[2 * count + 1] = q;
+                fieldEnd = q;
+                int comma = indexOf(buf, ',', q, end);
+                p = comma < 0 ? end : comma;
+            } else {
+                int comma = indexOf(buf, ',', p, end);
+                fieldEnd = comma < 0 ? end : comma;
+                fields[2 * count] = p;
+                fields[2 * count + 1] = fieldEnd;
+                p = fieldEnd;
+            }
+            count++;
+            if (p >= end) break;
+            p++;
+        }
+        return count;
+    }
+
+    private static int lineEnd(ByteBuffer buf, int p, int limit) {
+        while (p < limit && buf.get(p) != '\n') p++;
+        return p;
+    }
+
+    private static int skipBlanks(ByteBuffer buf, int p, int end) {
+        while (p < end && (buf.get(p) & 0xFF) <= ' ') p++;
+        return p;
+    }
+
+    private static int skipName(ByteBuffer buf, int p, int end) {
+        while (p < end && (buf.get(p) & 0xFF) > ' ') p++;
+        return p;
+    }
+
+    private static int indexOf(ByteBuffer buf, char c, int p, int end) {
+        for (; p < end; p++) {
+            if (buf.get(p) == c) return p;
+        }
+        return -1;
+    }
+
+    /**
+     * Parses a decimal number in place. Numbers with at most 15 significant digits and a small
+     * exponent, such as coordinates, are computed exactly from the digits; anything else falls
+     * back to {@link Double#parseDouble}, so the result always equals that method's.
+     *
+     * @throws NumberFormatException If the range does not hold a number
+     */
+    static double parseDouble(ByteBuffer buf, int from, int to) {
+        while (from < to && (buf.get(from) & 0xFF) <= ' ') from++;
+        while (to > from && (buf.get(to - 1) & 0xFF) <= ' ') to--;
+        int i = from;
+        boolean negative = false;
+        if (i < to && (buf.get(i) == '-' || buf.get(i) == '+')) negative = buf.get(i++) == '-';
+        long mantissa = 0;
+        int significant = 0, exponent = 0, digits = 0;
+        boolean fraction = false;
+        for (; i < to; i++) {
+            byte b = buf.get(i);
+            if (b == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            if (b < '0' || b > '9') break;
+            digits++;
+            if (mantissa != 0 || b != '0') {
+                if (++significant > 15) break;
+                mantissa = mantissa * 10 + (b - '0');
+            }
+            if (fraction) exponent--;
+        }
+        if (i == to && digits > 0 && exponent >= -22) {
+            double value = exponent < 0 ? mantissa / POW10[-exponent] : mantissa;
+            return negative ? -value : value;
+        }
+        byte[] bytes = new byte[to - from];
+        buf.get(from, bytes);
+        return Double.parseDouble(new String(bytes, StandardCharsets.ISO_8859_1));
+    }
+
+    // === building ===
+
+    /** City names, coordinates and the name index, merged from all chunks in file order. */
+    private static final class Cities {
+        final Node[] nodes;
+        final double[] lats, lons;
+        /** Open-addressing table of {@code id + 1} per slot, 0 for empty slots. */
+        final int[] table;
+        long duplicates;
+
+        private Cities(Node[] nodes, double[] lats, double[] lons, int[] table) {
+            this.nodes = nodes;
+            this.lats = lats;
+            this.lons = lons;
+            this.table = table;
+        }
+
+        /**
+         * Assigns node ids in file order; later rows naming an existing city get its id and are
+         * otherwise ignored, as in the original loaders.
+         */
+        static Cities merge(Chunk[] chunks) {
+            int rows = 0;
+            for (Chunk chunk : chunks) rows += chunk.names.size();
+            int[] table = new int[Integer.highestOneBit(Math.max(1, rows) * 2 - 1) << 1];
+            Node[] nodes = new Node[rows];
+            double[] lats = new double[rows], lons = new double[rows];
+            Cities cities = new Cities(nodes, lats, lons, table);
+
+            int n = 0;
+            for (Chunk chunk : chunks) {
+                chunk.rowIds = new int[chunk.names.size()];
+                for (int row = 0; row < chunk.rowIds.length; row++) {
+                    String name = chunk.names.get(row);
+                    int slot = slot(name.hashCode(), table.length - 1);
+                    int id = -1;
+                    for (; table[slot] != 0; slot = (slot + 1) & (table.length - 1)) {
+                        if (nodes[table[slot] - 1].getName().equals(name)) {
+                            id = table[slot] - 1;
+                            break;
+                        }
+                    }
+                    if (id < 0) {
+                        id = n++;
+                        table[slot] = id + 1;
+                        lats[id] = chunk.lats.get(row);
+                        lons[id] = chunk.lons.get(row);
+                        nodes[id] = new Node(name, lats[id], lons[id]);
+                    } else {
+                        cities.duplicates++;
+                    }
+                    chunk.rowIds[row] = id;
+                }
+                chunk.names.clear();
+            }
+            if (n == rows) return cities;
+            Cities merged = new Cities(Arrays.copyOf(nodes, n), lats, lons, table);
+            merged.duplicates = cities.duplicates;
+            return merged;
+        }
+
+        /** Looks up a name given as characters; returns -1 if unknown. */
+        int lookup(char[] chars, int offset, int length) {
+            int h = 0;
+            for (int i = 0; i < length; i++) h = 31 * h + chars[offset + i];
+            for (int slot = slot(h, table.length - 1); table[slot] != 0; slot = (slot + 1) & (table.length - 1)) {
+                String name = nodes[table[slot] - 1].getName();
+                if (name.length() == length && regionEquals(name, chars, offset)) return table[slot] - 1;
+            }
+            return -1;
+        }
+
+        /** Looks up a name stored as UTF-8 bytes in a chunk; returns -1 if unknown. */
+        int lookup(Chunk chunk, int from, int to) {
+            int length = to - from;
+            if (chunk.chars.length < length) chunk.chars = new char[Math.max(length, chunk.chars.length * 2)];
+            for (int i = 0; i < length; i++) {
+                byte b = chunk.buffer.get(from + i);
+                if (b < 0) {
+                    // non-ASCII name: decode it properly
+                    byte[] bytes = new byte[length];
+                    chunk.buffer.get(from, bytes);
+                    char[] chars = new String(bytes, StandardCharsets.UTF_8).toCharArray();
+                    return lookup(chars, 0, chars.length);
+                }
+                chunk.chars[i] = (char) b;
+            }
+            return lookup(chunk.chars, 0, length);
+        }
+
+        private static boolean regionEquals(String name, char[] chars, int offset) {
+            for (int i = 0; i < name.length(); i++) {
+                if (name.charAt(i) != chars[offset + i]) return false;
+            }
+            return true;
+        }
+
+        private static int slot(int hash, int mask) {
+            int h = hash * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+
+    /**
+     * Builds the CSR graph from the roads of all chunks and prints the summary line.
+     *
+     * @param files The chunks of every file read, for the row counts
+     */
+    private static Result finish(Cities cities, Chunk[] roadChunks, long t0, String source,
+                                 Chunk[]... files) throws IOException {
+        int n = cities.nodes.length;
+        long roads = 0;
+        for (Chunk chunk : roadChunks) roads += chunk.roads.size() / 2;
+        if (2 * roads > Integer.MAX_VALUE) {
+            throw new IOException("Too many roads: " + roads);
+        }
+
+        // counting sort of both directions of every road by source, keeping file order
+        int[] offsets = new int[n + 1];
+        for (Chunk chunk : roadChunks) {
+            for (int i = 0, size = chunk.roads.size(); i < size; i++) offsets[chunk.roads.get(i) + 1]++;
+        }
+        for (int id = 0; id < n; id++) offsets[id + 1] += offsets[id];
+        int[] targets = new int[(int) (2 * roads)];
+        int[] next = Arrays.copyOf(offsets, n);
+        for (Chunk chunk : roadChunks) {
+            for (int i = 0, size = chunk.roads.size(); i < size; i += 2) {
+                int a = chunk.roads.get(i), b = chunk.roads.get(i + 1);
+                targets[next[a]++] = b;
+                targets[next[b]++] = a;
+            }
+        }
+
+        double[] costs = new double[targets.length];
+        double[] lats = cities.lats, lons = cities.lons;
+        IntStream.range(0, n).parallel().forEach(u -> {
+            for (int e = offsets[u], end = offsets[u + 1]; e < end; e++) {
+                costs[e] = haversine(lats[u], lons[u], lats[targets[e]], lons[targets[e]]);
+            }
+        });
+        CsrGraph graph = new CsrGraph(cities.nodes, offsets, targets, costs);
+
+        long rows = 0, skipped = cities.duplicates;
+        for (Chunk[] chunks : files) {
+            for (Chunk chunk : chunks) {
+                rows += chunk.rows;
+                skipped += chunk.skipped;
+            }
+        }
+        Result result = new Result(graph, rows, skipped, (System.nanoTime() - t0) / 1e6, peakHeap());
+        System.out.printf("Loaded %s: %d cities, %d edges, %d rows in %.1f ms (%.0f rows/s, peak heap %.1f MB, %d skipped)%n",
+                source, n, targets.length, rows, result.millis(), result.rowsPerSecond(),
+                result.peakHeapBytes() / 1e6, skipped);
+        return result;
+    }
+
+    /**
+     * Calculates the great-circle distance between two coordinates using the Haversine formula.
+     *
+     * @param lat1 Latitude of the first point
+     * @param lon1 Longitude of the first point
+     * @param lat2 Latitude of the second point
+     * @param lon2 Longitude of the second point
+     * @return Distance in kilometers
+     */
+    private static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        final double R = 6371.0; // Earth radius in km
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                        Math.sin(dLon / 2) * Math.sin(dLon / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return R * c;
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peak += pool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+
+    // === growable primitive lists ===
+
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    private static final class DoubleList {
+        private double[] values = new double[16];
+        private int size;
+
+        void add(double value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        double get(int index) {
+            return values[index];
+        }
+    }
+}
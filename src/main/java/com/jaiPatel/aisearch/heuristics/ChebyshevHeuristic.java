@@ -1,5 +1,6 @@
 package com.jaiPatel.aisearch.heuristics;
 
+import com.jaiPatel.aisearch.graph.GraphView;
 import com.jaiPatel.aisearch.graph.Node;
 
 /**
@@ -21,4 +22,18 @@ public class ChebyshevHeuristic implements Heuristic {
         return Math.max(Math.abs(current.getX() - goal.getX()),
                 Math.abs(current.getY() - goal.getY()));
     }
+
+    /**
+     * Computes the Chebyshev distance from the node coordinates of the graph.
+     *
+     * @param graph   The graph being searched
+     * @param current The current node id
+     * @param goal    The goal node id
+     * @return The Chebyshev distance between current and goal
+     */
+    @Override
+    public double estimate(GraphView graph, int current, int goal) {
+        return Math.max(Math.abs(graph.getX(current) - graph.getX(goal)),
+                Math.abs(graph.getY(current) - graph.getY(goal)));
+    }
 }
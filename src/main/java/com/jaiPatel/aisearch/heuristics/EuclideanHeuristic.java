@@ -1,5 +1,6 @@
 package com.jaiPatel.aisearch.heuristics;
 
+import com.jaiPatel.aisearch.graph.GraphView;
 import com.jaiPatel.aisearch.graph.Node;
 
 /**
@@ -22,4 +23,19 @@ public class EuclideanHeuristic implements Heuristic {
         double dy = current.getY() - goal.getY();
         return Math.sqrt(dx * dx + dy * dy);
     }
+
+    /**
+     * Computes the Euclidean distance from the node coordinates of the graph.
+     *
+     * @param graph   The graph being searched
+     * @param current The current node id
+     * @param goal    The goal node id
+     * @return The Euclidean distance between current and goal
+     */
+    @Override
+    public double estimate(GraphView graph, int current, int goal) {
+        double dx = graph.getX(current) - graph.getX(goal);
+        double dy = graph.getY(current) - graph.getY(goal);
+        return Math.sqrt(dx * dx + dy * dy);
+    }
 }
@@ -1,5 +1,6 @@
 package com.jaiPatel.aisearch.heuristics;
 
+import com.jaiPatel.aisearch.graph.GraphView;
 import com.jaiPatel.aisearch.graph.Node;
 
 /**
@@ -17,4 +18,18 @@ public interface Heuristic {
      * @return Estimated cost from current to goal
      */
     double estimate(Node current, Node goal);
+
+    /**
+     * Estimates the cost between two nodes of a graph, identified by their dense ids.
+     * Search algorithms call this variant; heuristics override it to read coordinates or per-node
+     * tables without looking up (or, on implicit graphs, creating) the nodes.
+     *
+     * @param graph   The graph being searched
+     * @param current The current node id
+     * @param goal    The goal node id
+     * @return Estimated cost from current to goal
+     */
+    default double estimate(GraphView graph, int current, int goal) {
+        return estimate(graph.getNode(current), graph.getNode(goal));
+    }
 }
@@ -0,0 +1,112 @@
+package com.jaiPatel.aisearch.heuristics;
+
+import com.jaiPatel.aisearch.graph.GraphView;
+import com.jaiPatel.aisearch.graph.Node;
+
+/**
+ * Heuristic function using landmark distance tables (ALT).
+ * <p>
+ * The estimate is the triangle-inequality lower bound of a {@link LandmarkTable}. Unlike the
+ * coordinate-based heuristics it is measured in the graph's own edge costs, so it stays
+ * admissible and tight on road networks whose coordinates are degrees but whose costs are
+ * kilometres.
+ * <p>
+ * The table can be passed in (e.g. read from disk); otherwise it is built on the first estimate
+ * and rebuilt only when a different graph is searched. Estimates are thread-safe.
+ */
+public class LandmarkHeuristic implements Heuristic {
+
+    /** Landmark count used by the no-argument constructor. */
+    public static final int DEFAULT_LANDMARKS = 16;
+
+    // Number of landmarks to select when building a table
+    private final int landmarkCount;
+
+    // Table used for estimates; built lazily when absent or stale
+    private volatile LandmarkTable table;
+
+    /**
+     * Constructs a landmark heuristic that builds a table of {@value #DEFAULT_LANDMARKS} landmarks
+     * on first use.
+     */
+    public LandmarkHeuristic() {
+        this(DEFAULT_LANDMARKS);
+    }
+
+    /**
+     * Constructs a landmark heuristic that builds its table on first use.
+     *
+     * @param landmarkCount Number of landmarks to select
+     */
+    public LandmarkHeuristic(int landmarkCount) {
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException("Landmark count must be at least 1: " + landmarkCount);
+        }
+        this.landmarkCount = landmarkCount;
+    }
+
+    /**
+     * Constructs a landmark heuristic on a precomputed table.
+     *
+     * @param table The landmark table of the graph to be searched
+     */
+    public LandmarkHeuristic(LandmarkTable table) {
+        this.landmarkCount = Math.max(1, table.landmarkCount());
+        this.table = table;
+    }
+
+    /**
+     * Returns the table used by the last estimate.
+     *
+     * @return The landmark table, or null before the first estimate
+     */
+    public LandmarkTable getTable() { return table; }
+
+    /**
+     * Estimates the cost between two nodes of a graph from the landmark table,
+     * building the table first if none matches the graph.
+     *
+     * @param graph   The graph being searched
+     * @param current The current node id
+     * @param goal    The goal node id
+     * @return Lower bound on the cost from current to goal
+     */
+    @Override
+    public double estimate(GraphView graph, int current, int goal) {
+        return tableFor(graph).lowerBound(current, goal);
+    }
+
+    /**
+     * Estimates the cost from the current node to the goal node. Nodes are looked up in the
+     * graph the table was last used with; without one, or for unknown nodes, the estimate is 0.
+     *
+     * @param current The current node
+     * @param goal    The goal node
+     * @return Lower bound on the cost from current to goal
+     */
+    @Override
+    public double estimate(Node current, Node goal) {
+        LandmarkTable t = table;
+        GraphView graph = t == null ? null : t.graph();
+        if (graph == null) return 0.0;
+        int from = graph.idOf(current);
+        int to = graph.idOf(goal);
+        return from < 0 || to < 0 ? 0.0 : t.lowerBound(from, to);
+    }
+
+    /**
+     * Returns a table matching the graph, building one if necessary.
+     */
+    private LandmarkTable tableFor(GraphView graph) {
+        LandmarkTable t = table;
+        if (t != null && t.isBuiltFor(graph)) return t;
+        synchronized (this) {
+            t = table;
+            if (t == null || !t.isBuiltFor(graph)) {
+                t = LandmarkTable.build(graph, landmarkCount);
+                table = t;
+            }
+            return t;
+        }
+    }
+}
@@ -0,0 +1,447 @@
+package com.jaiPatel.aisearch.heuristics;
+
+import com.jaiPatel.aisearch.algorithms.IndexedMinHeap;
+import com.jaiPatel.aisearch.graph.GraphView;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Precomputed landmark distance tables for the ALT (A*, landmarks, triangle inequality) heuristic.
+ * <p>
+ * For every landmark {@code L} and node {@code v} the table stores {@code d(L, v)} and
+ * {@code d(v, L)}. By the triangle inequality, {@code d(v, t) >= d(L, t) - d(L, v)} and
+ * {@code d(v, t) >= d(v, L) - d(t, L)}; {@link #lowerBound} returns the largest of these bounds
+ * over all landmarks. The bound holds for any non-negative edge costs, independently of the node
+ * coordinates. On exact distances it is also consistent; the stored bound is not exactly, see
+ * below.
+ * <p>
+ * Landmarks are chosen by farthest selection: starting from a node far away from a random seed,
+ * each new landmark is the node whose distance to the nearest chosen landmark is largest. The
+ * forward searches drive the selection; the backward search of every chosen landmark runs on the
+ * common fork-join pool while the selection continues. Distances are stored as floats in
+ * node-major order, so the entries of all landmarks of a node share a cache line, and the bound
+ * subtracts the float rounding error. That keeps it admissible, but consistent only up to the
+ * rounding error; searches using it must reopen closed nodes, as {@code AStarSearch} does.
+ * <p>
+ * A table holds at most {@value #MAX_ENTRIES} entries per direction (nodes times landmarks).
+ * Files are written and read through a file channel in chunks, so no buffer of the file's size
+ * is allocated.
+ */
+public final class LandmarkTable {
+
+    /** File header, "ALT1". */
+    private static final int MAGIC = 0x414C5431;
+
+    /** Upper bound on the relative rounding error of a distance stored as float. */
+    private static final double FLOAT_ERROR = 0x1p-23;
+
+    /** Largest number of entries in one distance table: the largest safe Java array length. */
+    public static final int MAX_ENTRIES = Integer.MAX_VALUE - 8;
+
+    /** Bytes of the file header: magic, node count, edge count, fingerprint and landmark count. */
+    private static final int HEADER_BYTES = 3 * Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    /** Size of the buffer used to write and read the distance tables. */
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    private final int nodeCount;
+    private final int edgeCount;
+    private final long fingerprint;
+    private final int[] landmarks;
+
+    /** {@code fromLandmark[v * k + i]} is the distance from landmark i to node v. */
+    private final float[] fromLandmark;
+    /** {@code toLandmark[v * k + i]} is the distance from node v to landmark i. */
+    private final float[] toLandmark;
+
+    /** Last graph confirmed to match this table; also used to map nodes to ids. */
+    private volatile GraphView verified;
+
+    /** Result of the last {@link #isBuiltFor} check, valid while the graph keeps its version. */
+    private volatile Check lastCheck;
+
+    private record Check(GraphView graph, long version, boolean matches) {
+    }
+
+    private LandmarkTable(int nodeCount, int edgeCount, long fingerprint, int[] landmarks,
+                          float[] fromLandmark, float[] toLandmark) {
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+        this.fingerprint = fingerprint;
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    /**
+     * Selects landmarks and computes their distance tables.
+     *
+     * @param graph         The graph to preprocess
+     * @param landmarkCount Number of landmarks to select; fewer are used if the graph has fewer
+     *                      connected nodes
+     * @return The landmark table
+     */
+    public static LandmarkTable build(GraphView graph, int landmarkCount) {
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException("Landmark count must be at least 1: " + landmarkCount);
+        }
+        int n = graph.nodeCount();
+        GraphView reverse = graph.reverse();
+
+        // Candidates are unblocked nodes with at least one edge; isolated nodes make useless landmarks
+        int[] targets = new int[Math.max(graph.maxDegree(), reverse.maxDegree())];
+        double[] costs = new double[targets.length];
+        int[] candidates = new int[n];
+        int candidateCount = 0, edgeCount = 0;
+        for (int id = 0; id < n; id++) {
+            int degree = graph.neighbors(id, targets, costs);
+            edgeCount += degree;
+            if (!graph.isBlocked(id) && (degree > 0 || reverse.neighbors(id, targets, costs) > 0)) {
+                candidates[candidateCount++] = id;
+            }
+        }
+        int k = Math.min(landmarkCount, candidateCount);
+        int entries = entries(n, k);
+        int[] landmarks = new int[k];
+        float[] from = new float[entries];
+        float[] to = new float[entries];
+        if (k == 0) {
+            LandmarkTable empty = new LandmarkTable(n, edgeCount, graph.fingerprint(), landmarks, from, to);
+            empty.markVerified(graph);
+            return empty;
+        }
+
+        double[] nearest = new double[n];
+        Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+        ForkJoinTask<?>[] backward = new ForkJoinTask<?>[k];
+
+        // Start from the node farthest away from a random seed, which lies on the graph's periphery
+        int seed = candidates[new Random(42).nextInt(candidateCount)];
+        int next = farthest(distances(graph, seed), candidates, candidateCount);
+        for (int i = 0; i < k; i++) {
+            int landmark = next;
+            int column = i;
+            landmarks[i] = landmark;
+            backward[i] = ForkJoinPool.commonPool().submit(
+                    () -> store(distances(reverse, landmark), to, column, k));
+
+            double[] forward = distances(graph, landmark);
+            store(forward, from, column, k);
+            for (int v = 0; v < n; v++) {
+                if (forward[v] < nearest[v]) nearest[v] = forward[v];
+            }
+            next = farthest(nearest, candidates, candidateCount);
+        }
+        for (ForkJoinTask<?> task : backward) task.join();
+
+        LandmarkTable table = new LandmarkTable(n, edgeCount, graph.fingerprint(), landmarks, from, to);
+        table.markVerified(graph);
+        return table;
+    }
+
+    /**
+     * Returns the number of entries of a table of n nodes and k landmarks.
+     *
+     * @throws IllegalArgumentException If the table would hold more than {@link #MAX_ENTRIES} entries
+     */
+    private static int entries(int n, int k) {
+        long entries = (long) n * k;
+        if (entries > MAX_ENTRIES) {
+            throw new IllegalArgumentException("Landmark table of " + n + " nodes and " + k
+                    + " landmarks exceeds " + MAX_ENTRIES + " entries; use fewer landmarks");
+        }
+        return (int) entries;
+    }
+
+    /**
+     * Reads a table from a file if it exists and matches the graph and landmark count;
+     * otherwise builds the table and writes it to the file, so later runs skip preprocessing.
+     *
+     * @param file          The table file
+     * @param graph         The graph the table will be used on
+     * @param landmarkCount Number of landmarks to select when building
+     * @return The landmark table
+     * @throws IOException If a newly built table cannot be written
+     */
+    public static LandmarkTable loadOrBuild(Path file, GraphView graph, int landmarkCount) throws IOException {
+        if (Files.exists(file)) {
+            try {
+                LandmarkTable table = read(file, graph);
+                if (table.landmarkCount() == landmarkCount) return table;
+            } catch (IOException stale) {
+                // Built for another graph or unreadable: rebuild below
+            }
+        }
+        LandmarkTable table = build(graph, landmarkCount);
+        table.write(file);
+        return table;
+    }
+
+    /**
+     * Single-source Dijkstra over a graph.
+     *
+     * @return Distance per node id, infinity for unreachable nodes
+     */
+    private static double[] distances(GraphView graph, int source) {
+        int n = graph.nodeCount();
+        double[] dist = new double[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        IndexedMinHeap open = new IndexedMinHeap(n);
+        int[] targets = new int[graph.maxDegree()];
+        double[] costs = new double[targets.length];
+        dist[source] = 0.0;
+        open.add(source, 0.0);
+        while (!open.isEmpty()) {
+            int u = open.poll();
+            double d = dist[u];
+            for (int i = 0, degree = graph.neighbors(u, targets, costs); i < degree; i++) {
+                int v = targets[i];
+                double candidate = d + costs[i];
+                if (candidate < dist[v]) {
+                    dist[v] = candidate;
+                    open.addOrDecrease(v, candidate);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /** Copies a distance array into one column of a node-major float table. */
+    private static void store(double[] dist, float[] table, int column, int k) {
+        for (int v = 0; v < dist.length; v++) {
+            table[v * k + column] = (float) dist[v];
+        }
+    }
+
+    /**
+     * Returns the candidate with the largest finite distance; unreachable nodes are ignored, so
+     * landmarks stay in the component of the first one.
+     */
+    private static int farthest(double[] dist, int[] candidates, int candidateCount) {
+        int best = candidates[0];
+        double bestDist = -1;
+        for (int i = 0; i < candidateCount; i++) {
+            int v = candidates[i];
+            double d = dist[v];
+            if (d > bestDist && d < Double.POSITIVE_INFINITY) {
+                bestDist = d;
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    // === queries ===
+
+    /**
+     * Checks whether this table was built for a graph with the same nodes and edges.
+     *
+     * @param graph The graph to check
+     * @return True if the table's ids and distances apply to the graph
+     */
+    public boolean isBuiltFor(GraphView graph) {
+        long version = graph.version();
+        Check check = lastCheck;
+        if (check != null && check.graph() == graph && check.version() == version) {
+            return check.matches();
+        }
+        // the fingerprint reads every edge, so it is only recomputed when the graph changes
+        boolean matches = graph.nodeCount() == nodeCount && graph.fingerprint() == fingerprint;
+        lastCheck = new Check(graph, version, matches);
+        if (matches) verified = graph;
+        return matches;
+    }
+
+    /** Records that a graph matches this table, e.g. the graph it was built from. */
+    private void markVerified(GraphView graph) {
+        lastCheck = new Check(graph, graph.version(), true);
+        verified = graph;
+    }
+
+    /**
+     * Returns the graph this table was last verified against.
+     *
+     * @return The graph used to map nodes to ids, or null if the table was read and not yet checked
+     */
+    public GraphView graph() {
+        return verified;
+    }
+
+    /**
+     * Returns the number of landmarks.
+     * @return Landmark count
+     */
+    public int landmarkCount() {
+        return landmarks.length;
+    }
+
+    /**
+     * Returns the node id of a landmark.
+     *
+     * @param index The landmark index
+     * @return The landmark's node id
+     */
+    public int landmark(int index) {
+        return landmarks[index];
+    }
+
+    /**
+     * Returns the largest triangle-inequality lower bound on the distance between two nodes.
+     *
+     * @param from The source node id
+     * @param to   The target node id
+     * @return A lower bound on {@code d(from, to)}, at least 0
+     */
+    public double lowerBound(int from, int to) {
+        int k = landmarks.length;
+        int f = from * k, t = to * k;
+        double best = 0.0;
+        for (int i = 0; i < k; i++) {
+            // d(L, to) - d(L, from)
+            double lt = fromLandmark[t + i], lf = fromLandmark[f + i];
+            if (lt < Float.POSITIVE_INFINITY && lf < Float.POSITIVE_INFINITY) {
+                double bound = lt - lf - FLOAT_ERROR * (lt + lf);
+                if (bound > best) best = bound;
+            }
+            // d(from, L) - d(to, L)
+            double fl = toLandmark[f + i], tl = toLandmark[t + i];
+            if (fl < Float.POSITIVE_INFINITY && tl < Float.POSITIVE_INFINITY) {
+                double bound = fl - tl - FLOAT_ERROR * (fl + tl);
+                if (bound > best) best = bound;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the approximate heap footprint of the distance tables.
+     *
+     * @return Approximate size in bytes
+     */
+    public long arrayBytes() {
+        return 4L * fromLandmark.length + 4L * toLandmark.length + 4L * landmarks.length;
+    }
+
+    // === persistence ===
+
+    /**
+     * Writes this table to a file.
+     *
+     * @param file The file to write
+     * @throws IOException If writing fails
+     */
+    public void write(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES);
+            buffer.putInt(MAGIC).putInt(nodeCount).putInt(edgeCount).putLong(fingerprint).putInt(landmarks.length);
+            for (int landmark : landmarks) {
+                if (buffer.remaining() < Integer.BYTES) drain(channel, buffer);
+                buffer.putInt(landmark);
+            }
+            drain(channel, buffer);
+            writeFloats(channel, buffer, fromLandmark);
+            writeFloats(channel, buffer, toLandmark);
+        }
+    }
+
+    /** Writes the buffer's contents to the channel and clears it. */
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    /** Writes a float array through the buffer, one chunk at a time. */
+    private static void writeFloats(FileChannel channel, ByteBuffer buffer, float[] values) throws IOException {
+        int perChunk = buffer.capacity() / Float.BYTES;
+        for (int offset = 0; offset < values.length; offset += perChunk) {
+            int length = Math.min(perChunk, values.length - offset);
+            buffer.asFloatBuffer().put(values, offset, length);
+            buffer.position(length * Float.BYTES);
+            drain(channel, buffer);
+        }
+    }
+
+    /**
+     * Reads a table written by {@link #write} and checks that it belongs to the given graph.
+     *
+     * @param file  The file to read
+     * @param graph The graph the table will be used on
+     * @return The landmark table
+     * @throws IOException If reading fails, the file is not a landmark table, or it was built for another graph
+     */
+    public static LandmarkTable read(Path file, GraphView graph) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES);
+            fill(channel, buffer, HEADER_BYTES);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a landmark table file: " + file);
+            }
+            int nodeCount = buffer.getInt();
+            int edgeCount = buffer.getInt();
+            long fingerprint = buffer.getLong();
+            int k = buffer.getInt();
+            if (nodeCount < 0 || k < 0) {
+                throw new IOException("Corrupt landmark table file: " + file);
+            }
+            long expected = HEADER_BYTES + (long) Integer.BYTES * k + 2L * Float.BYTES * nodeCount * k;
+            if (channel.size() != expected) {
+                throw new IOException("Truncated landmark table file: " + file);
+            }
+            int entries;
+            try {
+                entries = entries(nodeCount, k);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Landmark table file " + file + " is too large", e);
+            }
+
+            int[] landmarks = new int[k];
+            for (int i = 0; i < k; i++) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    fill(channel, buffer, Math.min(CHUNK_BYTES, Integer.BYTES * (k - i)));
+                }
+                landmarks[i] = buffer.getInt();
+            }
+            float[] from = new float[entries];
+            float[] to = new float[entries];
+            readFloats(channel, buffer, from);
+            readFloats(channel, buffer, to);
+
+            LandmarkTable table = new LandmarkTable(nodeCount, edgeCount, fingerprint, landmarks, from, to);
+            if (!table.isBuiltFor(graph)) {
+                throw new IOException("Landmark table " + file + " was built for a different graph");
+            }
+            return table;
+        }
+    }
+
+    /** Reads the next bytes of the channel into the buffer and flips it for reading. */
+    private static void fill(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        buffer.clear().limit(bytes);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) throw new EOFException("Unexpected end of landmark table file");
+        }
+        buffer.flip();
+    }
+
+    /** Reads a float array through the buffer, one chunk at a time. */
+    private static void readFloats(FileChannel channel, ByteBuffer buffer, float[] values) throws IOException {
+        int perChunk = buffer.capacity() / Float.BYTES;
+        for (int offset = 0; offset < values.length; offset += perChunk) {
+            int length = Math.min(perChunk, values.length - offset);
+            fill(channel, buffer, length * Float.BYTES);
+            buffer.asFloatBuffer().get(values, offset, length);
+        }
+    }
+}
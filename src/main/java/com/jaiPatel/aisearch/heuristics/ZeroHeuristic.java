@@ -1,5 +1,6 @@
 package com.jaiPatel.aisearch.heuristics;
 
+import com.jaiPatel.aisearch.graph.GraphView;
 import com.jaiPatel.aisearch.graph.Node;
 
 /**
@@ -21,4 +22,17 @@ public class ZeroHeuristic implements Heuristic {
     public double estimate(Node current, Node goal) {
         return 0.0;
     }
+
+    /**
+     * Always returns zero.
+     *
+     * @param graph   The graph being searched
+     * @param current The current node id
+     * @param goal    The goal node id
+     * @return Always 0.0
+     */
+    @Override
+    public double estimate(GraphView graph, int current, int goal) {
+        return 0.0;
+    }
 }
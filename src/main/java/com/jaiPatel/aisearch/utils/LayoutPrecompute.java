@@ -0,0 +1,124 @@
+package com.jaiPatel.aisearch.utils;
+
+import com.jaiPatel.aisearch.UI.GraphLayout;
+import com.jaiPatel.aisearch.UI.GraphStreamVisualizer;
+import com.jaiPatel.aisearch.graph.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Command-line tool that fills the layout cache used by {@link GraphStreamVisualizer}.
+ * <p>
+ * For every dataset given on the command line the graph is loaded, laid out headlessly with the
+ * same force-directed layout the UI runs, and the positions are stored as a {@link GraphLayout} in
+ * the cache directory. The UI then shows those graphs immediately, without running the layout.
+ * Datasets whose layout is already cached, and graphs the UI places by their coordinates, are
+ * skipped.
+ * <p>
+ * Usage: {@code LayoutPrecompute [--cache DIR] [--steps N] DATASET...}, where a dataset is
+ * {@code set1}, {@code set2}, {@code set1:COORDINATES:ADJACENCIES}, {@code set2:FILE} or
+ * {@code random:NODES:BRANCHING:MIN_WEIGHT:MAX_WEIGHT:SEED}. Without datasets, both presets are
+ * laid out.
+ */
+public class LayoutPrecompute {
+
+    /** Default upper bound on layout iterations per graph. */
+    private static final int DEFAULT_STEPS = 5_000;
+
+    /**
+     * Main entry point.
+     *
+     * @param args Options and datasets, see the class description
+     * @throws IOException If a dataset cannot be loaded or the cache cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path cacheDir = GraphLayout.defaultCacheDir();
+        int maxSteps = DEFAULT_STEPS;
+        int first = 0;
+        while (first < args.length && args[first].startsWith("--")) {
+            if (first + 1 >= args.length) usage("Missing value for " + args[first]);
+            switch (args[first]) {
+                case "--cache" -> cacheDir = Path.of(args[first + 1]);
+                case "--steps" -> maxSteps = Integer.parseInt(args[first + 1]);
+                default -> usage("Unknown option " + args[first]);
+            }
+            first += 2;
+        }
+        String[] datasets = first < args.length
+                ? Arrays.copyOfRange(args, first, args.length)
+                : new String[]{"set1", "set2"};
+
+        System.out.println("Layout cache: " + cacheDir.toAbsolutePath());
+        for (String dataset : datasets) {
+            precompute(dataset, load(dataset), cacheDir, maxSteps);
+        }
+    }
+
+    private static void precompute(String dataset, Graph graph, Path cacheDir, int maxSteps) throws IOException {
+        GraphStreamVisualizer visualizer = new GraphStreamVisualizer(graph);
+        if (!visualizer.usesAutoLayout()) {
+            System.out.printf("%-24s %,9d nodes  placed by coordinates, no layout needed%n",
+                    dataset, graph.nodeCount());
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean cached = GraphLayout.load(cacheDir, graph) != null;
+        double loadMs = (System.nanoTime() - start) / 1e6;
+        if (cached) {
+            System.out.printf("%-24s %,9d nodes  already cached (load %.1f ms)%n",
+                    dataset, graph.nodeCount(), loadMs);
+            return;
+        }
+
+        start = System.nanoTime();
+        GraphLayout layout = visualizer.computeLayout(maxSteps);
+        double layoutMs = (System.nanoTime() - start) / 1e6;
+        Path file = layout.save(cacheDir);
+
+        start = System.nanoTime();
+        GraphLayout.load(cacheDir, graph);
+        loadMs = (System.nanoTime() - start) / 1e6;
+        System.out.printf("%-24s %,9d nodes  layout %.0f ms, reload %.1f ms -> %s%n",
+                dataset, graph.nodeCount(), layoutMs, loadMs, file.getFileName());
+    }
+
+    private static Graph load(String dataset) throws IOException {
+        String[] parts = dataset.split(":");
+        switch (parts[0]) {
+            case "set1" -> {
+                if (parts.length == 1) {
+                    return GraphLoaderSet1.load("src/main/resources/coordinates.csv",
+                            "src/main/resources/Adjacencies.txt");
+                }
+                if (parts.length == 3) return GraphLoaderSet1.load(parts[1], parts[2]);
+            }
+            case "set2" -> {
+                if (parts.length == 1) {
+                    return GraphLoaderSet2.load("src/main/resources/KC_Metro_100_Cities___Nodes.csv");
+                }
+                if (parts.length == 2) return GraphLoaderSet2.load(parts[1]);
+            }
+            case "random" -> {
+                if (parts.length == 6) {
+                    return RandomGraphGenerator.generate(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                            Integer.parseInt(parts[3]), Integer.parseInt(parts[4]), Long.parseLong(parts[5]));
+                }
+            }
+            default -> {
+            }
+        }
+        usage("Unknown dataset " + dataset);
+        return null;
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: LayoutPrecompute [--cache DIR] [--steps N] DATASET...");
+        System.err.println("  DATASET: set1 | set2 | set1:COORDINATES:ADJACENCIES | set2:FILE"
+                + " | random:NODES:BRANCHING:MIN_WEIGHT:MAX_WEIGHT:SEED");
+        System.exit(2);
+    }
+}
@@ -5,14 +5,16 @@ import com.jaiPatel.aisearch.graph.*;
 import com.jaiPatel.aisearch.heuristics.*;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 
 /**
  * Command-line application for running AI search algorithms on various graph datasets.
  * <p>
- * Allows users to select a graph source (preset or random), choose start and goal nodes,
+ * Allows users to select a graph source (preset, random, or a binary graph file written by
+ * {@link MappedGraph#write}), choose start and goal nodes,
  * select a search algorithm, and view search results including path, cost, and metrics.
- * Supports BFS, DFS, IDDFS, Greedy Best-First Search, and A* algorithms.
+ * Supports BFS, DFS, IDDFS, Greedy Best-First Search, A*, and bidirectional Dijkstra/A* algorithms.
  */
 public class SearchApp {
 
@@ -34,10 +36,12 @@ public class SearchApp {
         System.out.println("1. Preset Graph Set 1 (Kansas towns)");
         System.out.println("2. Preset Graph Set 2 (KC Metro 100 cities)");
         System.out.println("3. Random Graph Generator");
+        System.out.println("4. Binary graph file (memory-mapped)");
 
         int choice = Integer.parseInt(sc.nextLine());
 
         Graph graph;
+        MappedGraph mapped = null;
         if (choice == 1) {
             graph = GraphLoaderSet1.load(
                     "src/main/resources/coordinates.csv",
@@ -47,14 +51,28 @@ public class SearchApp {
             graph = GraphLoaderSet2.load(
                     "src/main/resources/KC_Metro_100_Cities___Nodes.csv"
             );
+        } else if (choice == 4) {
+            System.out.println("Enter graph file path:");
+            mapped = MappedGraph.open(Path.of(sc.nextLine()));
+            graph = null;
         } else {
             graph = createRandomGraph();
         }
 
-        System.out.println("\n✅ Graph loaded. Total cities: " + graph.getNodes().size());
-        System.out.println("Available cities:");
-        for (Node node : graph.getNodes()) {
-            System.out.print(node.getName() + " ");
+        if (mapped != null) {
+            // a mapped graph may have millions of nodes; list only the first few
+            System.out.println("\n✅ Graph mapped. Total nodes: " + mapped.nodeCount()
+                    + ", edges: " + mapped.edgeCount());
+            System.out.println("First nodes:");
+            for (int id = 0; id < Math.min(20, mapped.nodeCount()); id++) {
+                System.out.print(mapped.getNode(id).getName() + " ");
+            }
+        } else {
+            System.out.println("\n✅ Graph loaded. Total cities: " + graph.getNodes().size());
+            System.out.println("Available cities:");
+            for (Node node : graph.getNodes()) {
+                System.out.print(node.getName() + " ");
+            }
         }
         System.out.println("\n");
 
@@ -63,8 +81,8 @@ public class SearchApp {
         System.out.println("Enter goal city:");
         String goalName = sc.nextLine();
 
-        Node start = graph.getNode(startName);
-        Node goal = graph.getNode(goalName);
+        Node start = mapped != null ? mapped.getNode(startName) : graph.getNode(startName);
+        Node goal = mapped != null ? mapped.getNode(goalName) : graph.getNode(goalName);
 
         if (start == null || goal == null) {
             System.err.println("❌ Error: One of the cities was not found in this dataset.");
@@ -78,6 +96,11 @@ public class SearchApp {
         System.out.println("3. IDDFS");
         System.out.println("4. Greedy Best-First Search (GBFS)");
         System.out.println("5. A*");
+        System.out.println("6. Bidirectional Dijkstra");
+        System.out.println("7. Bidirectional A*");
+        System.out.println("8. Contraction Hierarchies");
+        System.out.println("9. A* with landmark heuristic (ALT)");
+        System.out.println("10. Jump Point Search (uniform grids)");
 
         int algoChoice = Integer.parseInt(sc.nextLine());
         SearchAlgorithm algo;
@@ -89,6 +112,11 @@ public class SearchApp {
             case 3 -> algo = new IDDFS();
             case 4 -> algo = new BestFirstSearch(heuristic);
             case 5 -> algo = new AStarSearch(heuristic);
+            case 6 -> algo = new BidirectionalDijkstra();
+            case 7 -> algo = new BidirectionalAStar(heuristic);
+            case 8 -> algo = new ContractionHierarchySearch();
+            case 9 -> algo = new AStarSearch(new LandmarkHeuristic());
+            case 10 -> algo = new JumpPointSearch(heuristic);
             default -> {
                 System.err.println("❌ Invalid choice.");
                 return;
@@ -97,7 +125,10 @@ public class SearchApp {
 
         // Run search
         SearchResult result;
-        if (algo instanceof AbstractSearchAlgorithm) {
+        if (mapped != null) {
+            // search the mapped buffers directly
+            result = algo.solve(mapped, start, goal, null);
+        } else if (algo instanceof AbstractSearchAlgorithm) {
             // use observer version
             result = ((AbstractSearchAlgorithm) algo).solve(graph, start, goal, null);
         } else {
@@ -0,0 +1,247 @@
+package com.jaiPatel.aisearch;
+
+import com.jaiPatel.aisearch.algorithms.AStarSearch;
+import com.jaiPatel.aisearch.algorithms.SearchOutcome;
+import com.jaiPatel.aisearch.algorithms.SearchResult;
+import com.jaiPatel.aisearch.graph.Graph;
+import com.jaiPatel.aisearch.graph.GraphView;
+import com.jaiPatel.aisearch.graph.GridGraph;
+import com.jaiPatel.aisearch.graph.Node;
+import com.jaiPatel.aisearch.heuristics.ZeroHeuristic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Graphs and queries shared by the tests that compare an algorithm against plain Dijkstra.
+ * <p>
+ * Every case mixes random queries with a query whose start equals its goal and queries whose goal
+ * cannot be reached: an isolated node and a one-way sink on the random directed graph, a blocked
+ * cell and a walled-in open cell on the grids.
+ */
+public final class TestGraphs {
+
+    /** Relative tolerance when comparing path costs summed in a different order. */
+    public static final double EPSILON = 1e-9;
+
+    /**
+     * A graph with the queries to run on it.
+     *
+     * @param name    Name shown in assertion messages
+     * @param graph   The graph
+     * @param queries Pairs of start and goal ids
+     */
+    public record Case(String name, GraphView graph, int[][] queries) {
+
+        /**
+         * Returns the start node of a query.
+         * @param query The query index
+         * @return The start node
+         */
+        public Node start(int query) {
+            return graph.getNode(queries[query][0]);
+        }
+
+        /**
+         * Returns the goal node of a query.
+         * @param query The query index
+         * @return The goal node
+         */
+        public Node goal(int query) {
+            return graph.getNode(queries[query][1]);
+        }
+
+        /**
+         * Describes a query for assertion messages.
+         * @param query The query index
+         * @return The case name with the start and goal ids
+         */
+        public String describe(int query) {
+            return name + " " + queries[query][0] + " -> " + queries[query][1];
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private TestGraphs() {
+    }
+
+    /**
+     * Returns a random directed graph and 4- and 8-connected grids, unit-cost and weighted.
+     *
+     * @return The cases
+     */
+    public static List<Case> all() {
+        List<Case> cases = new ArrayList<>();
+        cases.add(randomDirected(400, 4, 11));
+        cases.addAll(grids());
+        return cases;
+    }
+
+    /**
+     * Returns 4- and 8-connected grids, unit-cost and weighted.
+     *
+     * @return The cases
+     */
+    public static List<Case> grids() {
+        return List.of(
+                grid(32, 24, false, false, 21),
+                grid(32, 24, false, true, 22),
+                grid(32, 24, true, false, 23),
+                grid(32, 24, true, true, 24));
+    }
+
+    /**
+     * Builds a random directed graph with edge costs in {@code [1, 20)}. The node before last only
+     * has incoming edges and the last node has no edges at all.
+     *
+     * @param n              Number of nodes, at least 3
+     * @param maxOutDegree   Maximum number of outgoing edges per node
+     * @param seed           Random seed
+     * @return The case, searched on the graph's CSR snapshot
+     */
+    public static Case randomDirected(int n, int maxOutDegree, long seed) {
+        Random rand = new Random(seed);
+        Graph graph = new Graph();
+        Node[] nodes = new Node[n];
+        for (int i = 0; i < n; i++) {
+            nodes[i] = new Node("N" + i, rand.nextInt(1000), rand.nextInt(1000));
+            graph.addNode(nodes[i]);
+        }
+        int sink = n - 2, isolated = n - 1;
+        for (int i = 0; i < sink; i++) {
+            int edges = 1 + rand.nextInt(maxOutDegree);
+            for (int j = 0; j < edges; j++) {
+                int to = rand.nextInt(sink + 1);
+                if (to != i) graph.addEdge(nodes[i], nodes[to], 1.0 + rand.nextDouble() * 19.0);
+            }
+        }
+
+        GraphView view = graph.freeze();
+        List<int[]> queries = randomQueries(view.nodeCount() - 1, 40, rand);
+        queries.add(new int[]{0, 0});
+        queries.add(new int[]{0, isolated});
+        queries.add(new int[]{isolated, 0});
+        queries.add(new int[]{sink, 0});
+        return new Case("directed-" + n, view, queries.toArray(new int[0][]));
+    }
+
+    /**
+     * Builds a grid with 20% obstacles in which the open cell {@code (width - 1, height - 1)} is
+     * walled in.
+     *
+     * @param width    Number of columns, at least 3
+     * @param height   Number of rows, at least 3
+     * @param diagonal True for 8-connected, false for 4-connected moves
+     * @param weighted True for random cell costs, false for unit costs
+     * @param seed     Random seed
+     * @return The case
+     */
+    public static Case grid(int width, int height, boolean diagonal, boolean weighted, long seed) {
+        int n = width * height;
+        SplittableRandom rand = new SplittableRandom(seed);
+        long[] blocked = new long[(n + 63) >>> 6];
+        for (int id = 0; id < n; id++) {
+            if (rand.nextDouble() < 0.2) blocked[id >>> 6] |= 1L << id;
+        }
+        int walled = n - 1, wall = walled - width - 1;
+        for (int id : new int[]{walled - 1, walled - width, wall}) blocked[id >>> 6] |= 1L << id;
+        blocked[0] &= ~1L;
+        blocked[walled >>> 6] &= ~(1L << walled);
+        float[] costs = null;
+        if (weighted) {
+            costs = new float[n];
+            for (int id = 0; id < n; id++) costs[id] = (float) (1.0 + rand.nextDouble() * 9.0);
+        }
+        GridGraph grid = new GridGraph(width, height, diagonal, blocked, costs);
+
+        List<int[]> queries = randomQueries(walled, 40, new Random(seed));
+        queries.add(new int[]{0, 0});
+        queries.add(new int[]{0, walled});
+        queries.add(new int[]{0, wall});
+        return new Case((diagonal ? "grid8" : "grid4") + (weighted ? "-weighted" : ""), grid,
+                queries.toArray(new int[0][]));
+    }
+
+    private static List<int[]> randomQueries(int bound, int count, Random rand) {
+        List<int[]> queries = new ArrayList<>();
+        for (int i = 0; i < count; i++) queries.add(new int[]{rand.nextInt(bound), rand.nextInt(bound)});
+        return queries;
+    }
+
+    /**
+     * Runs plain Dijkstra (A* without a heuristic) on a query.
+     *
+     * @param c     The case
+     * @param query The query index
+     * @return The reference result
+     */
+    public static SearchResult dijkstra(Case c, int query) {
+        return new AStarSearch(new ZeroHeuristic()).solve(c.graph(), c.start(query), c.goal(query), null);
+    }
+
+    /**
+     * Checks that a result has the outcome and cost of the Dijkstra result of the same query.
+     *
+     * @param expected The Dijkstra result
+     * @param actual   The result to check
+     * @param message  Description of the query
+     */
+    public static void assertSameCost(SearchResult expected, SearchResult actual, String message) {
+        assertEquals(expected.getOutcome(), actual.getOutcome(), message);
+        assertSameCost(expected.getCost(), actual.getCost(), message);
+    }
+
+    /**
+     * Checks that two path costs are equal up to rounding, or both infinite.
+     *
+     * @param expected The Dijkstra cost
+     * @param actual   The cost to check
+     * @param message  Description of the query
+     */
+    public static void assertSameCost(double expected, double actual, String message) {
+        if (Double.isInfinite(expected)) {
+            assertEquals(expected, actual, message);
+        } else {
+            assertEquals(expected, actual, EPSILON * Math.max(1.0, expected), message);
+        }
+    }
+
+    /**
+     * Checks that a path found for a query starts and ends at the query's nodes, uses only edges
+     * of the graph, and costs what the result reports.
+     *
+     * @param c      The case
+     * @param query  The query index
+     * @param result The result to check
+     */
+    public static void assertValidPath(Case c, int query, SearchResult result) {
+        if (result.getOutcome() != SearchOutcome.FOUND) return;
+        GraphView g = c.graph();
+        List<Node> path = result.getPath();
+        String message = c.describe(query);
+        assertEquals(c.queries()[query][0], g.idOf(path.get(0)), message);
+        assertEquals(c.queries()[query][1], g.idOf(path.get(path.size() - 1)), message);
+
+        int[] targets = new int[g.maxDegree()];
+        double[] costs = new double[g.maxDegree()];
+        double total = 0;
+        for (int i = 1; i < path.size(); i++) {
+            int from = g.idOf(path.get(i - 1)), to = g.idOf(path.get(i));
+            int degree = g.neighbors(from, targets, costs);
+            double best = Double.POSITIVE_INFINITY;
+            for (int k = 0; k < degree; k++) if (targets[k] == to) best = Math.min(best, costs[k]);
+            assertTrue(best < Double.POSITIVE_INFINITY, message + ": no edge " + from + " -> " + to);
+            total += best;
+        }
+        assertSameCost(result.getCost(), total, message);
+    }
+}
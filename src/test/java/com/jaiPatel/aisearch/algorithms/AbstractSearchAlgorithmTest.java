@@ -0,0 +1,141 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.graph.GridGraph;
+import com.jaiPatel.aisearch.graph.Node;
+import com.jaiPatel.aisearch.heuristics.EuclideanHeuristic;
+import com.jaiPatel.aisearch.heuristics.ZeroHeuristic;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AbstractSearchAlgorithmTest {
+
+    private static final int SIZE = 100;
+
+    // An open 4-connected grid, searched from corner to corner
+    private final GridGraph grid = GridGraph.generate(SIZE, SIZE, 0.0, false, false, 1);
+    private final Node start = grid.getNode(0), goal = grid.getNode(SIZE * SIZE - 1);
+
+    private static List<AbstractSearchAlgorithm> algorithms() {
+        return List.of(new AStarSearch(new ZeroHeuristic()), new BFS(), new DFS(),
+                new BestFirstSearch(new ZeroHeuristic()), new BidirectionalDijkstra(),
+                new JumpPointSearch(new EuclideanHeuristic()));
+    }
+
+    @Test
+    void expansionBudgetStopsSearch() {
+        for (AbstractSearchAlgorithm search : algorithms()) {
+            search.setBudget(SearchBudget.UNLIMITED.withMaxExpansions(50));
+            SearchResult result = search.solve(grid, start, goal, null);
+            String name = search.getClass().getSimpleName();
+            assertEquals(SearchOutcome.BUDGET_EXCEEDED, result.getOutcome(), name);
+            assertTrue(result.getNodesExpanded() <= 50, name + " expanded " + result.getNodesExpanded());
+            assertTrue(result.getPath().isEmpty(), name);
+            assertEquals(Double.POSITIVE_INFINITY, result.getCost(), name);
+        }
+    }
+
+    @Test
+    void frontierBudgetStopsSearch() {
+        AStarSearch search = new AStarSearch(new ZeroHeuristic());
+        search.setBudget(SearchBudget.UNLIMITED.withMaxFrontierBytes(10L * SearchBudget.FRONTIER_ENTRY_BYTES));
+        SearchResult result = search.solve(grid, start, goal, null);
+        assertEquals(SearchOutcome.BUDGET_EXCEEDED, result.getOutcome());
+        assertTrue(result.getMaxFrontierSize() <= 11, "frontier " + result.getMaxFrontierSize());
+    }
+
+    @Test
+    void timeoutStopsSearch() {
+        AStarSearch search = new AStarSearch(new ZeroHeuristic());
+        search.setBudget(SearchBudget.UNLIMITED.withTimeout(Duration.ZERO));
+        SearchResult result = search.solve(grid, start, goal, null);
+        assertEquals(SearchOutcome.BUDGET_EXCEEDED, result.getOutcome());
+        assertTrue(result.getNodesExpanded() <= SearchBudget.CLOCK_INTERVAL);
+    }
+
+    @Test
+    void searchWithinBudgetFindsGoal() {
+        for (AbstractSearchAlgorithm search : algorithms()) {
+            search.setBudget(SearchBudget.UNLIMITED.withMaxExpansions(SIZE * SIZE));
+            assertEquals(SearchOutcome.FOUND, search.solve(grid, start, goal, null).getOutcome(),
+                    search.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void stopBeforeSolveCancelsOnlyThatSearch() {
+        for (AbstractSearchAlgorithm search : algorithms()) {
+            String name = search.getClass().getSimpleName();
+            search.stop();
+            SearchResult cancelled = search.solve(grid, start, goal, null);
+            assertEquals(SearchOutcome.CANCELLED, cancelled.getOutcome(), name);
+            assertEquals(0, cancelled.getNodesExpanded(), name);
+            // the next search gets a fresh token
+            assertEquals(SearchOutcome.FOUND, search.solve(grid, start, goal, null).getOutcome(), name);
+        }
+    }
+
+    @Test
+    void sharedTokenStaysCancelled() {
+        CancellationToken token = new CancellationToken();
+        AStarSearch search = new AStarSearch(new ZeroHeuristic());
+        search.setCancellationToken(token);
+        token.cancel();
+        assertEquals(SearchOutcome.CANCELLED, search.solve(grid, start, goal, null).getOutcome());
+        assertEquals(SearchOutcome.CANCELLED, search.solve(grid, start, goal, null).getOutcome());
+
+        search.setCancellationToken(null);
+        assertEquals(SearchOutcome.FOUND, search.solve(grid, start, goal, null).getOutcome());
+    }
+
+    @Test
+    void stopWhileSteppingFinishesSearch() {
+        AStarSearch search = new AStarSearch(new ZeroHeuristic());
+        search.initialize(grid, start, goal, null);
+        for (int i = 0; i < 10; i++) assertTrue(search.step());
+        search.stop();
+        assertFalse(search.step());
+        assertTrue(search.isFinished());
+        assertEquals(SearchOutcome.CANCELLED, search.getResult().getOutcome());
+        assertEquals(10, search.getResult().getNodesExpanded());
+    }
+
+    @Test
+    void pausedSearchWaitsForResume() throws InterruptedException {
+        AStarSearch search = new AStarSearch(new ZeroHeuristic());
+        search.pause();
+        AtomicReference<SearchResult> result = new AtomicReference<>();
+        Thread thread = new Thread(() -> result.set(search.solve(grid, start, goal, null)));
+        thread.start();
+
+        thread.join(200);
+        assertTrue(thread.isAlive(), "paused search finished");
+        assertEquals(0, search.getNodesExpanded());
+
+        search.resume();
+        thread.join(10_000);
+        assertFalse(thread.isAlive());
+        assertEquals(SearchOutcome.FOUND, result.get().getOutcome());
+    }
+
+    @Test
+    void cancelWakesPausedSearch() throws InterruptedException {
+        AStarSearch search = new AStarSearch(new ZeroHeuristic());
+        search.pause();
+        AtomicReference<SearchResult> result = new AtomicReference<>();
+        Thread thread = new Thread(() -> result.set(search.solve(grid, start, goal, null)));
+        thread.start();
+
+        thread.join(100);
+        search.stop();
+        thread.join(10_000);
+        assertFalse(thread.isAlive());
+        assertEquals(SearchOutcome.CANCELLED, result.get().getOutcome());
+    }
+}
@@ -0,0 +1,53 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.TestGraphs;
+import com.jaiPatel.aisearch.TestGraphs.Case;
+import com.jaiPatel.aisearch.heuristics.ChebyshevHeuristic;
+import com.jaiPatel.aisearch.heuristics.Heuristic;
+import com.jaiPatel.aisearch.heuristics.LandmarkHeuristic;
+import com.jaiPatel.aisearch.heuristics.ManhattanHeuristic;
+import com.jaiPatel.aisearch.graph.GridGraph;
+import org.junit.jupiter.api.Test;
+
+import static com.jaiPatel.aisearch.TestGraphs.assertSameCost;
+import static com.jaiPatel.aisearch.TestGraphs.assertValidPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BidirectionalSearchTest {
+
+    @Test
+    void bidirectionalDijkstraMatchesDijkstra() {
+        BidirectionalDijkstra search = new BidirectionalDijkstra();
+        for (Case c : TestGraphs.all()) assertMatchesDijkstra(c, search);
+    }
+
+    @Test
+    void bidirectionalAStarWithLandmarksMatchesDijkstra() {
+        for (Case c : TestGraphs.all()) assertMatchesDijkstra(c, new BidirectionalAStar(new LandmarkHeuristic(4)));
+    }
+
+    @Test
+    void bidirectionalAStarWithGridHeuristicMatchesDijkstra() {
+        for (Case c : TestGraphs.grids()) {
+            Heuristic h = ((GridGraph) c.graph()).isDiagonal() ? new ChebyshevHeuristic() : new ManhattanHeuristic();
+            assertMatchesDijkstra(c, new BidirectionalAStar(h));
+        }
+    }
+
+    @Test
+    void startEqualsGoalReturnsSingleNodePath() {
+        Case c = TestGraphs.randomDirected(50, 3, 5);
+        SearchResult result = new BidirectionalDijkstra().solve(c.graph(), c.start(0), c.start(0), null);
+        assertEquals(SearchOutcome.FOUND, result.getOutcome());
+        assertEquals(0.0, result.getCost());
+        assertEquals(1, result.getPath().size());
+    }
+
+    private static void assertMatchesDijkstra(Case c, SearchAlgorithm search) {
+        for (int q = 0; q < c.queries().length; q++) {
+            SearchResult result = search.solve(c.graph(), c.start(q), c.goal(q), null);
+            assertSameCost(TestGraphs.dijkstra(c, q), result, c.describe(q));
+            assertValidPath(c, q, result);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.TestGraphs;
+import com.jaiPatel.aisearch.TestGraphs.Case;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+
+import static com.jaiPatel.aisearch.TestGraphs.assertSameCost;
+import static com.jaiPatel.aisearch.TestGraphs.assertValidPath;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContractionHierarchySearchTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void matchesDijkstra() {
+        for (Case c : TestGraphs.all()) {
+            assertMatchesDijkstra(c, new ContractionHierarchySearch(ContractionHierarchy.build(c.graph())));
+        }
+    }
+
+    @Test
+    void buildsHierarchyOnFirstQuery() {
+        Case c = TestGraphs.randomDirected(300, 3, 17);
+        ContractionHierarchySearch search = new ContractionHierarchySearch();
+        assertMatchesDijkstra(c, search);
+        ContractionHierarchy hierarchy = search.getHierarchy();
+        assertTrue(hierarchy.isBuiltFor(c.graph()));
+
+        search.solve(c.graph(), c.start(1), c.goal(1), null);
+        assertSame(hierarchy, search.getHierarchy(), "hierarchy rebuilt for the same graph");
+    }
+
+    @Test
+    void readHierarchyAnswersLikeWrittenOne() throws IOException {
+        Case c = TestGraphs.grid(32, 24, true, true, 5);
+        ContractionHierarchy written = ContractionHierarchy.build(c.graph());
+        Path file = dir.resolve("grid.ch");
+        written.write(file);
+
+        ContractionHierarchy read = ContractionHierarchy.read(file, c.graph());
+        assertEquals(written.nodeCount(), read.nodeCount());
+        assertEquals(written.shortcutCount(), read.shortcutCount());
+        int[] writtenRanks = new int[written.nodeCount()], readRanks = new int[read.nodeCount()];
+        for (int id = 0; id < writtenRanks.length; id++) {
+            writtenRanks[id] = written.rank(id);
+            readRanks[id] = read.rank(id);
+        }
+        assertArrayEquals(writtenRanks, readRanks);
+        assertMatchesDijkstra(c, new ContractionHierarchySearch(read));
+    }
+
+    @Test
+    void readRejectsOtherGraph() throws IOException {
+        Case c = TestGraphs.grid(32, 24, false, false, 6);
+        Path file = dir.resolve("grid.ch");
+        ContractionHierarchy.build(c.graph()).write(file);
+
+        Case other = TestGraphs.grid(32, 24, false, false, 7);
+        assertThrows(IOException.class, () -> ContractionHierarchy.read(file, other.graph()));
+    }
+
+    @Test
+    void cancelledBuildThrows() {
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        Case c = TestGraphs.randomDirected(300, 3, 19);
+        assertThrows(CancellationException.class, () -> ContractionHierarchy.build(c.graph(), token));
+    }
+
+    @Test
+    void cancelledSearchStopsBuild() {
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        Case c = TestGraphs.randomDirected(300, 3, 19);
+        ContractionHierarchySearch search = new ContractionHierarchySearch();
+        search.setCancellationToken(token);
+
+        SearchResult result = search.solve(c.graph(), c.start(0), c.goal(0), null);
+        assertEquals(SearchOutcome.CANCELLED, result.getOutcome());
+        assertNull(search.getHierarchy());
+    }
+
+    private static void assertMatchesDijkstra(Case c, ContractionHierarchySearch search) {
+        for (int q = 0; q < c.queries().length; q++) {
+            SearchResult result = search.solve(c.graph(), c.start(q), c.goal(q), null);
+            assertSameCost(TestGraphs.dijkstra(c, q), result, c.describe(q));
+            assertValidPath(c, q, result);
+        }
+    }
+}
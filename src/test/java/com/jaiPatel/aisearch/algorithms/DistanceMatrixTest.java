@@ -0,0 +1,77 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.TestGraphs;
+import com.jaiPatel.aisearch.TestGraphs.Case;
+import com.jaiPatel.aisearch.graph.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.jaiPatel.aisearch.TestGraphs.assertSameCost;
+import static com.jaiPatel.aisearch.TestGraphs.assertValidPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistanceMatrixTest {
+
+    @Test
+    void costsAndPathsMatchDijkstra() {
+        for (Case c : TestGraphs.all()) {
+            int[][] queries = c.queries();
+            // the last queries hold the start == goal and unreachable cases
+            List<Node> sources = new ArrayList<>();
+            for (int q = 0; q < 6; q++) sources.add(c.start(q));
+            for (int q = queries.length - 4; q < queries.length; q++) sources.add(c.start(q));
+            List<Node> targets = new ArrayList<>();
+            for (int q = 0; q < queries.length; q++) targets.add(c.goal(q));
+
+            DistanceMatrix matrix = DistanceMatrix.compute(c.graph(), sources, targets, true);
+            assertEquals(sources.size(), matrix.rows());
+            assertEquals(targets.size(), matrix.columns());
+            for (int i = 0; i < sources.size(); i++) {
+                int source = c.graph().idOf(sources.get(i));
+                int[][] row = new int[targets.size()][];
+                for (int j = 0; j < row.length; j++) row[j] = new int[]{source, queries[j][1]};
+                Case fromSource = new Case(c.name(), c.graph(), row);
+
+                for (int j = 0; j < row.length; j++) {
+                    double expected = TestGraphs.dijkstra(fromSource, j).getCost();
+                    assertSameCost(expected, matrix.cost(i, j), fromSource.describe(j));
+                    List<Node> path = matrix.path(i, j);
+                    if (Double.isInfinite(expected)) {
+                        assertTrue(path.isEmpty(), fromSource.describe(j));
+                    } else {
+                        assertValidPath(fromSource, j, new SearchResult(path, matrix.cost(i, j), 0, 0, 0, 0,
+                                path.size() - 1, 0, 0, SearchOutcome.FOUND));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void matrixWithoutTargetsIsEmpty() {
+        Case c = TestGraphs.randomDirected(100, 3, 71);
+        DistanceMatrix matrix = DistanceMatrix.compute(c.graph(), List.of(c.start(0), c.start(1)), List.of(), false);
+        assertEquals(2, matrix.rows());
+        assertEquals(0, matrix.columns());
+        assertEquals(0, matrix.costs().length);
+    }
+
+    @Test
+    void pathsRequireWithPaths() {
+        Case c = TestGraphs.randomDirected(100, 3, 72);
+        DistanceMatrix matrix = DistanceMatrix.compute(c.graph(), List.of(c.start(0)), List.of(c.goal(0)), false);
+        assertThrows(IllegalStateException.class, () -> matrix.path(0, 0));
+    }
+
+    @Test
+    void rejectsNodesOutsideTheGraph() {
+        Case c = TestGraphs.randomDirected(100, 3, 73);
+        Node stranger = new Node("stranger", 0, 0);
+        assertThrows(IllegalArgumentException.class,
+                () -> DistanceMatrix.compute(c.graph(), List.of(c.start(0)), List.of(stranger), false));
+    }
+}
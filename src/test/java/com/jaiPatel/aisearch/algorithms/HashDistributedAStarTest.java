@@ -0,0 +1,74 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.TestGraphs;
+import com.jaiPatel.aisearch.TestGraphs.Case;
+import com.jaiPatel.aisearch.graph.GridGraph;
+import com.jaiPatel.aisearch.heuristics.ChebyshevHeuristic;
+import com.jaiPatel.aisearch.heuristics.ManhattanHeuristic;
+import com.jaiPatel.aisearch.heuristics.ZeroHeuristic;
+import org.junit.jupiter.api.Test;
+
+import static com.jaiPatel.aisearch.TestGraphs.assertSameCost;
+import static com.jaiPatel.aisearch.TestGraphs.assertValidPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HashDistributedAStarTest {
+
+    @Test
+    void matchesDijkstraWithoutHeuristic() {
+        try (HashDistributedAStar search = new HashDistributedAStar(new ZeroHeuristic(), 4)) {
+            for (Case c : TestGraphs.all()) assertMatchesDijkstra(c, search);
+        }
+    }
+
+    @Test
+    void matchesDijkstraWithGridHeuristic() {
+        for (Case c : TestGraphs.grids()) {
+            boolean diagonal = ((GridGraph) c.graph()).isDiagonal();
+            try (HashDistributedAStar search = new HashDistributedAStar(
+                    diagonal ? new ChebyshevHeuristic() : new ManhattanHeuristic(), 3)) {
+                assertMatchesDijkstra(c, search);
+            }
+        }
+    }
+
+    @Test
+    void singleWorkerMatchesDijkstra() {
+        try (HashDistributedAStar search = new HashDistributedAStar(new ZeroHeuristic(), 1)) {
+            assertMatchesDijkstra(TestGraphs.randomDirected(200, 3, 7), search);
+        }
+    }
+
+    @Test
+    void startsNewWorkersAfterClose() {
+        Case c = TestGraphs.grid(40, 40, true, false, 3);
+        HashDistributedAStar search = new HashDistributedAStar(new ChebyshevHeuristic(), 4);
+        search.prestartWorkers();
+        SearchResult first = search.solve(c.graph(), c.start(0), c.goal(0), null);
+        search.close();
+        // a closed instance starts a new pool on its next query
+        SearchResult second = search.solve(c.graph(), c.start(0), c.goal(0), null);
+        search.close();
+        assertEquals(first.getOutcome(), second.getOutcome());
+        assertSameCost(TestGraphs.dijkstra(c, 0), second, c.describe(0));
+    }
+
+    @Test
+    void stopsAtExpansionBudget() {
+        GridGraph grid = GridGraph.generate(60, 60, 0.0, false, true, 9);
+        try (HashDistributedAStar search = new HashDistributedAStar(new ZeroHeuristic(), 2)) {
+            search.setBudget(SearchBudget.UNLIMITED.withMaxExpansions(10));
+            SearchResult result = search.solve(grid, grid.getNode(0), grid.getNode(60 * 60 - 1), null);
+            assertEquals(SearchOutcome.BUDGET_EXCEEDED, result.getOutcome());
+            assertEquals(Double.POSITIVE_INFINITY, result.getCost());
+        }
+    }
+
+    private static void assertMatchesDijkstra(Case c, HashDistributedAStar search) {
+        for (int q = 0; q < c.queries().length; q++) {
+            SearchResult result = search.solve(c.graph(), c.start(q), c.goal(q), null);
+            assertSameCost(TestGraphs.dijkstra(c, q), result, c.describe(q));
+            assertValidPath(c, q, result);
+        }
+    }
+}
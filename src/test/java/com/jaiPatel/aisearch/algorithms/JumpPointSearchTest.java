@@ -0,0 +1,63 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.TestGraphs;
+import com.jaiPatel.aisearch.TestGraphs.Case;
+import com.jaiPatel.aisearch.graph.GraphView;
+import com.jaiPatel.aisearch.graph.GridGraph;
+import com.jaiPatel.aisearch.graph.GridGraphGenerator;
+import com.jaiPatel.aisearch.heuristics.EuclideanHeuristic;
+import com.jaiPatel.aisearch.heuristics.ZeroHeuristic;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.jaiPatel.aisearch.TestGraphs.assertSameCost;
+import static com.jaiPatel.aisearch.TestGraphs.assertValidPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JumpPointSearchTest {
+
+    @Test
+    void matchesDijkstraOnGrids() {
+        for (Case c : TestGraphs.grids()) {
+            JumpPointSearch search = new JumpPointSearch(new EuclideanHeuristic());
+            assertMatchesDijkstra(c, search);
+            GridGraph grid = (GridGraph) c.graph();
+            assertEquals(grid.isDiagonal() && !grid.isWeighted(), search.isUsingJumpPoints(), c.name());
+        }
+    }
+
+    @Test
+    void matchesDijkstraOnGeneratedGridGraph() {
+        // the same grid with materialized nodes and edges, searched through its CSR snapshot
+        GraphView graph = GridGraphGenerator.generateGrid(40, 0.25, true, false, 5).freeze();
+        Random rand = new Random(5);
+        int[][] queries = new int[40][];
+        for (int q = 0; q < queries.length; q++) {
+            queries[q] = new int[]{rand.nextInt(graph.nodeCount()), rand.nextInt(graph.nodeCount())};
+        }
+        Case c = new Case("generated-grid8", graph, queries);
+
+        JumpPointSearch search = new JumpPointSearch(new EuclideanHeuristic());
+        assertMatchesDijkstra(c, search);
+        assertTrue(search.isUsingJumpPoints());
+    }
+
+    @Test
+    void fallsBackToAStarOnOtherGraphs() {
+        Case c = TestGraphs.randomDirected(400, 4, 13);
+        JumpPointSearch search = new JumpPointSearch(new ZeroHeuristic());
+        assertMatchesDijkstra(c, search);
+        assertFalse(search.isUsingJumpPoints());
+    }
+
+    private static void assertMatchesDijkstra(Case c, JumpPointSearch search) {
+        for (int q = 0; q < c.queries().length; q++) {
+            SearchResult result = search.solve(c.graph(), c.start(q), c.goal(q), null);
+            assertSameCost(TestGraphs.dijkstra(c, q), result, c.describe(q));
+            assertValidPath(c, q, result);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.TestGraphs;
+import com.jaiPatel.aisearch.TestGraphs.Case;
+import com.jaiPatel.aisearch.graph.Graph;
+import com.jaiPatel.aisearch.graph.Node;
+import com.jaiPatel.aisearch.heuristics.ZeroHeuristic;
+import org.junit.jupiter.api.Test;
+
+import static com.jaiPatel.aisearch.TestGraphs.assertSameCost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchResultCacheTest {
+
+    @Test
+    void missesAndHitsMatchDijkstra() {
+        for (Case c : TestGraphs.all()) {
+            SearchResultCache cache = SearchResultCache.ofSize(1_000);
+            BidirectionalDijkstra search = new BidirectionalDijkstra();
+            for (int pass = 0; pass < 2; pass++) {
+                for (int q = 0; q < c.queries().length; q++) {
+                    SearchResult result = cache.solve(search, c.graph(), c.start(q), c.goal(q));
+                    assertSameCost(TestGraphs.dijkstra(c, q), result, c.describe(q));
+                }
+            }
+            SearchResultCache.Stats stats = cache.stats();
+            assertEquals(stats.misses(), stats.entries(), c.name());
+            assertEquals(2L * c.queries().length, stats.hits() + stats.misses(), c.name());
+            assertTrue(stats.hits() >= c.queries().length, c.name());
+        }
+    }
+
+    @Test
+    void hitReturnsCachedResult() {
+        Case c = TestGraphs.randomDirected(200, 3, 51);
+        SearchResultCache cache = SearchResultCache.ofSize(100);
+        AStarSearch search = new AStarSearch(new ZeroHeuristic());
+        SearchResult first = cache.solve(search, c.graph(), c.start(0), c.goal(0));
+        SearchResult second = cache.solve(search, c.graph(), c.start(0), c.goal(0));
+        assertSame(first, second);
+        assertThrows(UnsupportedOperationException.class, () -> second.getPath().clear());
+    }
+
+    @Test
+    void graphChangeInvalidatesEntries() {
+        Graph graph = new Graph();
+        Node a = new Node("a", 0, 0), b = new Node("b", 1, 0), c = new Node("c", 2, 0);
+        graph.addEdge(a, b, 5);
+        graph.addEdge(b, c, 5);
+        SearchResultCache cache = SearchResultCache.ofSize(100);
+        AStarSearch search = new AStarSearch(new ZeroHeuristic());
+        assertEquals(10.0, cache.solve(search, graph, a, c).getCost());
+
+        graph.addEdge(a, c, 3);
+        assertEquals(3.0, cache.solve(search, graph, a, c).getCost());
+        SearchResultCache.Stats stats = cache.stats();
+        assertEquals(1, stats.invalidations());
+        assertEquals(0, stats.hits());
+    }
+
+    @Test
+    void stoppedSearchesAreNotCached() {
+        Case c = TestGraphs.grid(32, 24, false, false, 52);
+        SearchResultCache cache = SearchResultCache.ofSize(100);
+        AStarSearch search = new AStarSearch(new ZeroHeuristic());
+        search.setBudget(SearchBudget.UNLIMITED.withMaxExpansions(1));
+        // from the corner to the walled-in cell, which takes more than one expansion to rule out
+        int q = c.queries().length - 2;
+        SearchResult stopped = cache.solve(search, c.graph(), c.start(q), c.goal(q));
+        assertEquals(SearchOutcome.BUDGET_EXCEEDED, stopped.getOutcome());
+        assertEquals(0, cache.stats().entries());
+
+        search.setBudget(SearchBudget.UNLIMITED);
+        assertEquals(SearchOutcome.NO_PATH, cache.solve(search, c.graph(), c.start(q), c.goal(q)).getOutcome());
+        assertEquals(1, cache.stats().entries());
+    }
+
+    @Test
+    void staysWithinCapacity() {
+        Case c = TestGraphs.grid(32, 24, true, true, 53);
+        SearchResultCache cache = SearchResultCache.ofSize(10);
+        AStarSearch search = new AStarSearch(new ZeroHeuristic());
+        for (int q = 0; q < c.queries().length; q++) {
+            SearchResult result = cache.solve(search, c.graph(), c.start(q), c.goal(q));
+            assertSameCost(TestGraphs.dijkstra(c, q), result, c.describe(q));
+        }
+        SearchResultCache.Stats stats = cache.stats();
+        assertTrue(stats.entries() <= 10, "entries: " + stats.entries());
+        assertTrue(stats.evictions() > 0);
+    }
+}
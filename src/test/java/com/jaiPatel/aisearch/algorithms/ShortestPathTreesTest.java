@@ -0,0 +1,93 @@
+package com.jaiPatel.aisearch.algorithms;
+
+import com.jaiPatel.aisearch.TestGraphs;
+import com.jaiPatel.aisearch.TestGraphs.Case;
+import com.jaiPatel.aisearch.graph.Graph;
+import com.jaiPatel.aisearch.graph.GridGraph;
+import com.jaiPatel.aisearch.graph.Node;
+import com.jaiPatel.aisearch.heuristics.ChebyshevHeuristic;
+import com.jaiPatel.aisearch.heuristics.ManhattanHeuristic;
+import org.junit.jupiter.api.Test;
+
+import static com.jaiPatel.aisearch.TestGraphs.assertSameCost;
+import static com.jaiPatel.aisearch.TestGraphs.assertValidPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ShortestPathTreesTest {
+
+    @Test
+    void dijkstraTreesMatchDijkstra() {
+        for (Case c : TestGraphs.all()) {
+            ShortestPathTrees trees = new ShortestPathTrees(Long.MAX_VALUE);
+            for (int source = 0; source < 3; source++) assertMatchesDijkstra(fromSource(c, source), trees);
+            ShortestPathTrees.Stats stats = trees.stats();
+            assertEquals(3, stats.trees(), c.name());
+            assertEquals(stats.queries() - 3, stats.reused(), c.name());
+        }
+    }
+
+    @Test
+    void aStarTreesMatchDijkstraWhenGoalsChange() {
+        for (Case c : TestGraphs.grids()) {
+            boolean diagonal = ((GridGraph) c.graph()).isDiagonal();
+            ShortestPathTrees trees = new ShortestPathTrees(
+                    diagonal ? new ChebyshevHeuristic() : new ManhattanHeuristic(), Long.MAX_VALUE);
+            for (int source = 0; source < 3; source++) assertMatchesDijkstra(fromSource(c, source), trees);
+        }
+    }
+
+    @Test
+    void settledGoalsAreAnsweredWithoutSearching() {
+        Case c = fromSource(TestGraphs.randomDirected(400, 4, 61), 0);
+        ShortestPathTrees trees = new ShortestPathTrees(Long.MAX_VALUE);
+        // the isolated goal settles every reachable node before the search gives up
+        int isolated = c.queries().length - 3;
+        trees.solve(c.graph(), c.start(isolated), c.goal(isolated));
+        for (int q = 0; q < c.queries().length; q++) {
+            SearchResult result = trees.solve(c.graph(), c.start(q), c.goal(q));
+            assertSameCost(TestGraphs.dijkstra(c, q), result, c.describe(q));
+            if (q != isolated) assertEquals(0, result.getNodesExpanded(), c.describe(q));
+        }
+    }
+
+    @Test
+    void evictsTreesOverBudget() {
+        Case c = TestGraphs.grid(32, 24, true, true, 62);
+        ShortestPathTrees trees = new ShortestPathTrees(1);
+        for (int source = 0; source < 4; source++) assertMatchesDijkstra(fromSource(c, source), trees);
+        ShortestPathTrees.Stats stats = trees.stats();
+        assertEquals(1, stats.trees());
+        assertEquals(3, stats.evictions());
+    }
+
+    @Test
+    void graphChangeDropsTrees() {
+        Graph graph = new Graph();
+        Node a = new Node("a", 0, 0), b = new Node("b", 1, 0), c = new Node("c", 2, 0);
+        graph.addEdge(a, b, 5);
+        graph.addEdge(b, c, 5);
+        ShortestPathTrees trees = new ShortestPathTrees(Long.MAX_VALUE);
+        assertEquals(10.0, trees.solve(graph, a, c).getCost());
+
+        graph.addEdge(a, c, 3);
+        assertEquals(3.0, trees.solve(graph, a, c).getCost());
+        assertEquals(1, trees.stats().trees());
+        assertEquals(0, trees.stats().reused());
+    }
+
+    /** Returns the case's goals queried from the start of one of its queries. */
+    private static Case fromSource(Case c, int query) {
+        int source = c.queries()[query][0];
+        int[][] queries = new int[c.queries().length][];
+        for (int q = 0; q < queries.length; q++) queries[q] = new int[]{source, c.queries()[q][1]};
+        return new Case(c.name() + " from " + source, c.graph(), queries);
+    }
+
+    private static void assertMatchesDijkstra(Case c, ShortestPathTrees trees) {
+        for (int q = 0; q < c.queries().length; q++) {
+            SearchResult result = trees.solve(c.graph(), c.start(q), c.goal(q));
+            assertSameCost(TestGraphs.dijkstra(c, q), result, c.describe(q));
+            assertValidPath(c, q, result);
+        }
+    }
+}
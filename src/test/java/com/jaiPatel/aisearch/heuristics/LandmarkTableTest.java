@@ -0,0 +1,107 @@
+package com.jaiPatel.aisearch.heuristics;
+
+import com.jaiPatel.aisearch.TestGraphs;
+import com.jaiPatel.aisearch.TestGraphs.Case;
+import com.jaiPatel.aisearch.algorithms.AStarSearch;
+import com.jaiPatel.aisearch.algorithms.SearchResult;
+import com.jaiPatel.aisearch.graph.GraphView;
+import com.jaiPatel.aisearch.graph.GridGraph;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.jaiPatel.aisearch.TestGraphs.assertSameCost;
+import static com.jaiPatel.aisearch.TestGraphs.assertValidPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LandmarkTableTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void altMatchesDijkstra() {
+        for (Case c : TestGraphs.all()) {
+            AStarSearch search = new AStarSearch(new LandmarkHeuristic(LandmarkTable.build(c.graph(), 6)));
+            for (int q = 0; q < c.queries().length; q++) {
+                SearchResult result = search.solve(c.graph(), c.start(q), c.goal(q), null);
+                assertSameCost(TestGraphs.dijkstra(c, q), result, c.describe(q));
+                assertValidPath(c, q, result);
+            }
+        }
+    }
+
+    @Test
+    void lowerBoundNeverExceedsDistance() {
+        for (Case c : TestGraphs.all()) {
+            LandmarkTable table = LandmarkTable.build(c.graph(), 6);
+            for (int q = 0; q < c.queries().length; q++) {
+                double distance = TestGraphs.dijkstra(c, q).getCost();
+                int from = c.queries()[q][0], to = c.queries()[q][1];
+                assertTrue(table.lowerBound(from, to) <= distance, c.describe(q));
+            }
+        }
+    }
+
+    @Test
+    void readTableMatchesWrittenOne() throws IOException {
+        // 40,000 nodes times 8 landmarks spans several write and read chunks per direction
+        GridGraph grid = GridGraph.generate(200, 200, 0.2, true, true, 31);
+        LandmarkTable written = LandmarkTable.build(grid, 8);
+        Path file = dir.resolve("grid.alt");
+        written.write(file);
+
+        LandmarkTable read = LandmarkTable.read(file, grid);
+        assertEquals(written.landmarkCount(), read.landmarkCount());
+        for (int i = 0; i < written.landmarkCount(); i++) assertEquals(written.landmark(i), read.landmark(i));
+        Random rand = new Random(1);
+        for (int i = 0; i < 10_000; i++) {
+            int from = rand.nextInt(grid.nodeCount()), to = rand.nextInt(grid.nodeCount());
+            assertEquals(written.lowerBound(from, to), read.lowerBound(from, to));
+        }
+    }
+
+    @Test
+    void readRejectsOtherGraph() throws IOException {
+        Case c = TestGraphs.randomDirected(200, 3, 41);
+        Path file = dir.resolve("random.alt");
+        LandmarkTable.build(c.graph(), 4).write(file);
+
+        GraphView other = TestGraphs.randomDirected(200, 3, 42).graph();
+        assertThrows(IOException.class, () -> LandmarkTable.read(file, other));
+    }
+
+    @Test
+    void readRejectsTruncatedFile() throws IOException {
+        Case c = TestGraphs.randomDirected(200, 3, 43);
+        Path file = dir.resolve("random.alt");
+        LandmarkTable.build(c.graph(), 4).write(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(IOException.class, () -> LandmarkTable.read(file, c.graph()));
+    }
+
+    @Test
+    void readRejectsOversizedHeader() throws IOException {
+        Case c = TestGraphs.randomDirected(200, 3, 44);
+        Path file = dir.resolve("huge.alt");
+        // the header claims more than MAX_ENTRIES entries per direction; nothing may be allocated
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(0x414C5431);
+            out.writeInt(Integer.MAX_VALUE);
+            out.writeInt(0);
+            out.writeLong(0L);
+            out.writeInt(64);
+        }
+        assertThrows(IOException.class, () -> LandmarkTable.read(file, c.graph()));
+    }
+}